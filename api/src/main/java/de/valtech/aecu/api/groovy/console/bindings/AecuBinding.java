@@ -47,4 +47,12 @@ public interface AecuBinding {
      */
     ValidateAccessRights validateAccessRights();
 
+    /**
+     * Returns if the running script was cancelled. AECU checks this in all loops and methods of the
+     * scripts it executes.
+     * 
+     * @return cancelled
+     */
+    boolean isCancelled();
+
 }
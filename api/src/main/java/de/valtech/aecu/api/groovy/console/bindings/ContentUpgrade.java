@@ -486,6 +486,27 @@ public interface ContentUpgrade {
      */
     ContentUpgrade doReplaceValueInPropertiesRegex(String searchRegex, String replacement, String[] propertyNames);
 
+    /**
+     * Replaces multiple substrings in all properties of the matching resource. All replacements
+     * are done in a single pass. If multiple old values match at the same position then the
+     * longest one is replaced. Only applies to String properties.
+     *
+     * @param replacements old value to new value
+     * @return upgrade object
+     */
+    ContentUpgrade doReplaceValuesInProperties(Map<String, String> replacements);
+
+    /**
+     * Replaces multiple substrings in specific properties of the matching resource. All
+     * replacements are done in a single pass. If multiple old values match at the same position
+     * then the longest one is replaced. Only applies to String properties.
+     *
+     * @param replacements  old value to new value
+     * @param propertyNames property names that should be checked
+     * @return upgrade object
+     */
+    ContentUpgrade doReplaceValuesInProperties(Map<String, String> replacements, String[] propertyNames);
+
     /**
      * Changes jcr:primaryType.
      *
@@ -713,6 +734,30 @@ public interface ContentUpgrade {
      */
     ContentUpgrade doCheckPageRendering(String textPresent, String textNotPresent);
 
+    /**
+     * Checks if the containing page renders with given status code. Pages are rendered in parallel
+     * and a summary with latency and response size statistics is printed at the end. Rendering
+     * uses the persisted content, i.e. uncommitted changes of the current run are not visible.
+     *
+     * @param threads number of parallel renderings
+     * @param code    status code
+     * @return upgrade object
+     */
+    ContentUpgrade doCheckPageRenderingParallel(int threads, int code);
+
+    /**
+     * Checks if the containing page renders with status code 200 and (not) contains given text.
+     * Pages are rendered in parallel and a summary with latency and response size statistics is
+     * printed at the end. Rendering uses the persisted content, i.e. uncommitted changes of the
+     * current run are not visible.
+     *
+     * @param threads        number of parallel renderings
+     * @param textPresent    page content must include this text (can be null)
+     * @param textNotPresent page content must not include this text (can be null)
+     * @return upgrade object
+     */
+    ContentUpgrade doCheckPageRenderingParallel(int threads, String textPresent, String textNotPresent);
+
 
     /**
      * Adds a mixin
@@ -18,6 +18,7 @@
  */
 package de.valtech.aecu.api.service;
 
+import java.io.OutputStream;
 import java.util.List;
 
 import org.osgi.annotation.versioning.ProviderType;
@@ -110,6 +111,27 @@ public interface AecuService {
      */
     ExecutionResult execute(String path, String data) throws AecuException;
 
+    /**
+     * Executes the script at the given position. The output of the script (including prechecks
+     * and fallback scripts) is written to the given stream while the script runs.
+     *
+     * @param path       path of script
+     * @param data       json object of script
+     * @param liveOutput receives the script output, the stream is not closed
+     * @return execution result
+     * @throws AecuException error during execution
+     */
+    ExecutionResult executeWithLiveOutput(String path, String data, OutputStream liveOutput) throws AecuException;
+
+    /**
+     * Cancels the running scripts at the given position. The scripts stop at their next loop
+     * iteration or method call and end with state {@link ExecutionState#CANCELLED}.
+     *
+     * @param path path of script or folder
+     * @return number of cancelled scripts
+     */
+    int cancel(String path);
+
     /**
      * Starts a new history entry.
      *
@@ -147,6 +169,26 @@ public interface AecuService {
      */
     List<HistoryEntry> getHistory(int startIndex, int count) throws AecuException;
 
+    /**
+     * Returns the summaries of the last history entries. The search starts at the newest entry. This
+     * is much faster than {@link #getHistory(int, int)} as no script results need to be read.
+     *
+     * @param startIndex start reading at this index (first is 0)
+     * @param count      number of entries to read
+     * @return history summaries (newest first)
+     * @throws AecuException error reading history
+     */
+    List<HistorySummary> getHistorySummaries(int startIndex, int count) throws AecuException;
+
+    /**
+     * Returns the summary of the latest run. The summary is kept in memory, only the first call reads
+     * the repository. This is intended for frequent status checks (e.g. health checks).
+     *
+     * @return summary, null if there was no run yet
+     * @throws AecuException error reading history
+     */
+    HistorySummary getLastRun() throws AecuException;
+
     /**
      * Executes the script(s) at the given position and taking install hook history into account.
      *
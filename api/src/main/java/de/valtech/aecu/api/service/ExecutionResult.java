@@ -33,6 +33,7 @@ public class ExecutionResult {
     private String result;
     private ExecutionResult fallbackResult;
     private String path;
+    private ResourceUsage resourceUsage;
 
     /**
      * Constructor
@@ -46,12 +47,29 @@ public class ExecutionResult {
      */
     public ExecutionResult(ExecutionState state, String time, String result, String output, ExecutionResult fallbackResult,
             String path) {
+        this(state, time, result, output, fallbackResult, path, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param state          execution state
+     * @param time           execution time
+     * @param result         result
+     * @param output         script output
+     * @param fallbackResult fallback script result
+     * @param path           script path
+     * @param resourceUsage  repository access of the script, may be null
+     */
+    public ExecutionResult(ExecutionState state, String time, String result, String output, ExecutionResult fallbackResult,
+            String path, ResourceUsage resourceUsage) {
         this.state = state;
         this.output = output;
         this.time = time;
         this.result = result;
         this.fallbackResult = fallbackResult;
         this.path = path;
+        this.resourceUsage = resourceUsage;
     }
 
     /**
@@ -108,6 +126,15 @@ public class ExecutionResult {
         return path;
     }
 
+    /**
+     * Returns the repository access of the script.
+     *
+     * @return resource usage, null if not recorded
+     */
+    public ResourceUsage getResourceUsage() {
+        return resourceUsage;
+    }
+
     /**
      * Returns the short script path (stripped by prefix) or the unmodified path in case the script
      * path does not start with {@link AecuService#AECU_VAR_PATH_PREFIX}.
@@ -130,7 +157,10 @@ public class ExecutionResult {
         if (StringUtils.isNotBlank(result)) {
             stringVal.append("\n" + "Result: " + result);
         }
-        stringVal.append("\n" + "Output: " + output);
+        if (resourceUsage != null) {
+            stringVal.append("\n" + "Repository access: " + resourceUsage);
+        }
+        stringVal.append("\n" + "Output: " + getOutput());
         if (fallbackResult != null) {
             stringVal.append("Fallback script executed:\n" + fallbackResult.toString());
         }
@@ -37,6 +37,10 @@ public enum ExecutionState {
     /**
      * Script was skipped because e.g. previous script failed.
      */
-    SKIPPED
+    SKIPPED,
+    /**
+     * Script was cancelled while running.
+     */
+    CANCELLED
 
 }
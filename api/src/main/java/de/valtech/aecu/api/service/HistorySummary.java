@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.api.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import de.valtech.aecu.api.service.HistoryEntry.RESULT;
+import de.valtech.aecu.api.service.HistoryEntry.STATE;
+
+/**
+ * Summary of a history entry. Unlike {@link HistoryEntry} this does not include the results and
+ * outputs of the single scripts.
+ *
+ * @author agent
+ */
+public class HistorySummary {
+
+    private String repositoryPath;
+    private Date start;
+    private Date end;
+    private STATE state;
+    private Map<ExecutionState, Integer> counts = new EnumMap<>(ExecutionState.class);
+    private List<String> failedScripts;
+
+    /**
+     * Constructor
+     *
+     * @param repositoryPath path of the history entry
+     * @param start          start time, may be null
+     * @param end            end time, null if not finished
+     * @param state          state of the run
+     * @param counts         number of scripts by execution state
+     * @param failedScripts  paths of the scripts that failed or were cancelled
+     */
+    public HistorySummary(String repositoryPath, Date start, Date end, STATE state, Map<ExecutionState, Integer> counts,
+            List<String> failedScripts) {
+        this.repositoryPath = repositoryPath;
+        this.start = (start == null) ? null : (Date) start.clone();
+        this.end = (end == null) ? null : (Date) end.clone();
+        this.state = state;
+        if (counts != null) {
+            this.counts.putAll(counts);
+        }
+        this.failedScripts = (failedScripts == null) ? new ArrayList<>() : new ArrayList<>(failedScripts);
+    }
+
+    /**
+     * Returns the path in repository where the history is stored.
+     *
+     * @return path
+     */
+    public String getRepositoryPath() {
+        return repositoryPath;
+    }
+
+    /**
+     * Returns the start time of the execution.
+     *
+     * @return start
+     */
+    public Date getStart() {
+        return (start == null) ? null : (Date) start.clone();
+    }
+
+    /**
+     * Returns the end time of the execution.
+     *
+     * @return end
+     */
+    public Date getEnd() {
+        return (end == null) ? null : (Date) end.clone();
+    }
+
+    /**
+     * Returns the duration of the execution.
+     *
+     * @return duration in ms, -1 if not finished
+     */
+    public long getDuration() {
+        if ((start == null) || (end == null)) {
+            return -1;
+        }
+        return end.getTime() - start.getTime();
+    }
+
+    /**
+     * Returns the current state of the run.
+     *
+     * @return state
+     */
+    public STATE getState() {
+        return state;
+    }
+
+    /**
+     * Returns the global result of the run.
+     *
+     * @return result
+     */
+    public RESULT getResult() {
+        if (getScriptCount() == 0) {
+            return RESULT.UNKNOWN;
+        }
+        if ((getCount(ExecutionState.FAILED) > 0) || (getCount(ExecutionState.CANCELLED) > 0)) {
+            return RESULT.FAILURE;
+        }
+        return RESULT.SUCCESS;
+    }
+
+    /**
+     * Returns the number of executed scripts.
+     *
+     * @return script count
+     */
+    public int getScriptCount() {
+        int count = 0;
+        for (Integer stateCount : counts.values()) {
+            count += stateCount;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of scripts with the given execution state.
+     *
+     * @param executionState execution state
+     * @return script count
+     */
+    public int getCount(ExecutionState executionState) {
+        Integer count = counts.get(executionState);
+        return (count == null) ? 0 : count;
+    }
+
+    /**
+     * Returns the paths of the scripts that failed or were cancelled.
+     *
+     * @return script paths
+     */
+    public List<String> getFailedScripts() {
+        return Collections.unmodifiableList(failedScripts);
+    }
+
+    @Override
+    public String toString() {
+        return "Path: " + repositoryPath + ", start: " + start + ", end: " + end + ", state: " + state + ", result: "
+                + getResult() + ", scripts: " + counts;
+    }
+
+}
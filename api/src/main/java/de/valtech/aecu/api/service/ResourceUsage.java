@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.api.service;
+
+/**
+ * Repository access of a script run.
+ *
+ * @author agent
+ */
+public class ResourceUsage {
+
+    private long nodesRead;
+    private long propertiesWritten;
+    private long queries;
+    private long queryResults;
+    private long commits;
+    private long commitTime;
+
+    /**
+     * Constructor
+     *
+     * @param nodesRead         number of resources read
+     * @param propertiesWritten number of properties set or removed
+     * @param queries           number of queries
+     * @param queryResults      number of query results that were read
+     * @param commits           number of commits
+     * @param commitTime        total time of commits in ms
+     */
+    public ResourceUsage(long nodesRead, long propertiesWritten, long queries, long queryResults, long commits,
+            long commitTime) {
+        this.nodesRead = nodesRead;
+        this.propertiesWritten = propertiesWritten;
+        this.queries = queries;
+        this.queryResults = queryResults;
+        this.commits = commits;
+        this.commitTime = commitTime;
+    }
+
+    /**
+     * Returns the number of resources read.
+     *
+     * @return nodes read
+     */
+    public long getNodesRead() {
+        return nodesRead;
+    }
+
+    /**
+     * Returns the number of properties that were set or removed.
+     *
+     * @return properties written
+     */
+    public long getPropertiesWritten() {
+        return propertiesWritten;
+    }
+
+    /**
+     * Returns the number of queries.
+     *
+     * @return queries
+     */
+    public long getQueries() {
+        return queries;
+    }
+
+    /**
+     * Returns the number of query results that were read.
+     *
+     * @return query results
+     */
+    public long getQueryResults() {
+        return queryResults;
+    }
+
+    /**
+     * Returns the number of commits.
+     *
+     * @return commits
+     */
+    public long getCommits() {
+        return commits;
+    }
+
+    /**
+     * Returns the total time of all commits.
+     *
+     * @return time in ms
+     */
+    public long getCommitTime() {
+        return commitTime;
+    }
+
+    @Override
+    public String toString() {
+        return nodesRead + " nodes read, " + propertiesWritten + " properties written, " + queries + " queries ("
+                + queryResults + " results), " + commits + " commits (" + commitTime + " ms)";
+    }
+
+}
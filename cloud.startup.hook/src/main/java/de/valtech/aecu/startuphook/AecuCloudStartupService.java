@@ -20,12 +20,11 @@ package de.valtech.aecu.startuphook;
 
 import de.valtech.aecu.api.service.AecuException;
 import de.valtech.aecu.api.service.AecuService;
-import de.valtech.aecu.api.service.HistoryEntry;
 import de.valtech.aecu.api.service.HistoryEntry.STATE;
+import de.valtech.aecu.api.service.HistorySummary;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
-import java.util.List;
 import javax.jcr.Session;
 import org.apache.sling.api.resource.LoginException;
 import org.apache.sling.api.resource.ResourceResolver;
@@ -106,11 +105,11 @@ public class AecuCloudStartupService {
      */
     protected boolean isMigrationInProgress() {
         try {
-            List<HistoryEntry> historyEntries = aecuService.getHistory(0, 1);
-            if (historyEntries.isEmpty() || (historyEntries.get(0).getState() == STATE.FINISHED)) {
+            HistorySummary lastRun = aecuService.getLastRun();
+            if ((lastRun == null) || (lastRun.getState() == STATE.FINISHED)) {
                 return false;
             }
-            Date startTime = historyEntries.get(0).getStart();
+            Date startTime = lastRun.getStart();
             Date limitTime = new Date(System.currentTimeMillis() - (MIGRATION_TIMEOUT * 1000));
             return limitTime.before(startTime);
         } catch (AecuException e) {
@@ -29,10 +29,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Date;
-import java.util.List;
 
 import javax.jcr.Session;
 
@@ -49,8 +46,8 @@ import org.mockito.quality.Strictness;
 
 import de.valtech.aecu.api.service.AecuException;
 import de.valtech.aecu.api.service.AecuService;
-import de.valtech.aecu.api.service.HistoryEntry;
 import de.valtech.aecu.api.service.HistoryEntry.STATE;
+import de.valtech.aecu.api.service.HistorySummary;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -69,7 +66,7 @@ public class AecuCloudStartupServiceTest {
     private Session session;
 
     @Mock
-    private HistoryEntry historyEntry;
+    private HistorySummary lastRun;
 
     @InjectMocks
     @Spy
@@ -111,39 +108,33 @@ public class AecuCloudStartupServiceTest {
 
     @Test
     public void migrationInProgress_noHistory() throws AecuException {
-        when(aecuService.getHistory(0, 1)).thenReturn(Collections.emptyList());
+        when(aecuService.getLastRun()).thenReturn(null);
 
         assertFalse(startupService.isMigrationInProgress());
     }
 
     @Test
     public void migrationInProgress_notRunning() throws AecuException {
-        when(historyEntry.getState()).thenReturn(STATE.FINISHED);
-        List<HistoryEntry> history = new ArrayList<>();
-        history.add(historyEntry);
-        when(aecuService.getHistory(0, 1)).thenReturn(history);
+        when(lastRun.getState()).thenReturn(STATE.FINISHED);
+        when(aecuService.getLastRun()).thenReturn(lastRun);
 
         assertFalse(startupService.isMigrationInProgress());
     }
 
     @Test
     public void migrationInProgress_runningOverLimit() throws AecuException {
-        when(historyEntry.getState()).thenReturn(STATE.RUNNING);
-        when(historyEntry.getStart()).thenReturn(new Date(System.currentTimeMillis() - (7200 * 1000)));
-        List<HistoryEntry> history = new ArrayList<>();
-        history.add(historyEntry);
-        when(aecuService.getHistory(0, 1)).thenReturn(history);
+        when(lastRun.getState()).thenReturn(STATE.RUNNING);
+        when(lastRun.getStart()).thenReturn(new Date(System.currentTimeMillis() - (7200 * 1000)));
+        when(aecuService.getLastRun()).thenReturn(lastRun);
 
         assertFalse(startupService.isMigrationInProgress());
     }
 
     @Test
     public void migrationInProgress_runningNotOverLimit() throws AecuException {
-        when(historyEntry.getState()).thenReturn(STATE.RUNNING);
-        when(historyEntry.getStart()).thenReturn(new Date(System.currentTimeMillis() - (100 * 1000)));
-        List<HistoryEntry> history = new ArrayList<>();
-        history.add(historyEntry);
-        when(aecuService.getHistory(0, 1)).thenReturn(history);
+        when(lastRun.getState()).thenReturn(STATE.RUNNING);
+        when(lastRun.getStart()).thenReturn(new Date(System.currentTimeMillis() - (100 * 1000)));
+        when(aecuService.getLastRun()).thenReturn(lastRun);
 
         assertTrue(startupService.isMigrationInProgress());
     }
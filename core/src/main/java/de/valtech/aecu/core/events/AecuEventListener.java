@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.events;
+
+import org.osgi.annotation.versioning.ConsumerType;
+
+import de.valtech.aecu.api.service.ExecutionState;
+import de.valtech.aecu.api.service.ResourceUsage;
+
+/**
+ * Receives low level events of AECU hot paths (e.g. to record them in JDK Flight Recorder). Listeners
+ * are called synchronously in the thread that does the work and must return quickly.
+ *
+ * @author agent
+ */
+@ConsumerType
+public interface AecuEventListener {
+
+    /**
+     * A script was executed.
+     *
+     * @param path     script path
+     * @param state    execution state
+     * @param duration duration in ms
+     * @param usage    repository access of the script
+     */
+    void scriptExecuted(String path, ExecutionState state, long duration, ResourceUsage usage);
+
+    /**
+     * A content upgrade batch was committed.
+     *
+     * @param script    script path
+     * @param resources number of resources in the batch
+     * @param duration  commit duration in ns
+     */
+    void batchCommitted(String script, long resources, long duration);
+
+    /**
+     * The actions of a content upgrade were applied on a resource.
+     *
+     * @param script   script path
+     * @param path     resource path
+     * @param duration duration of all actions in ns
+     */
+    void resourceProcessed(String script, String path, long duration);
+
+    /**
+     * A resource was replicated.
+     *
+     * @param script   script path
+     * @param path     resource path
+     * @param action   replication action (e.g. "activate")
+     * @param duration duration in ns
+     */
+    void replicated(String script, String path, String action, long duration);
+
+    /**
+     * A script result was written to the history.
+     *
+     * @param history  history entry path
+     * @param script   script path
+     * @param duration duration in ns
+     */
+    void historyWritten(String history, String script, long duration);
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.events;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
+import org.osgi.service.component.annotations.ReferencePolicyOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.valtech.aecu.api.service.ExecutionState;
+import de.valtech.aecu.api.service.ResourceUsage;
+
+/**
+ * Forwards AECU events to all registered {@link AecuEventListener}s. Without listeners the calls
+ * return immediately.
+ *
+ * @author agent
+ */
+@Component(service = AecuEvents.class)
+public class AecuEvents {
+
+    /**
+     * Events that are not forwarded (e.g. outside of OSGi).
+     */
+    public static final AecuEvents NOOP = new AecuEvents(Collections.emptyList());
+
+    private static final Logger LOG = LoggerFactory.getLogger(AecuEvents.class);
+
+    @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC,
+            policyOption = ReferencePolicyOption.GREEDY)
+    private volatile List<AecuEventListener> listeners = Collections.emptyList();
+
+    /**
+     * Constructor for OSGi
+     */
+    public AecuEvents() {
+        // listeners are injected
+    }
+
+    /**
+     * Constructor
+     *
+     * @param listeners listeners
+     */
+    protected AecuEvents(List<AecuEventListener> listeners) {
+        this.listeners = listeners;
+    }
+
+    /**
+     * Returns if any listener is registered. Callers can skip expensive preparation of event data if
+     * this is false.
+     *
+     * @return has listeners
+     */
+    public boolean isActive() {
+        return !listeners.isEmpty();
+    }
+
+    /**
+     * A script was executed.
+     *
+     * @param path     script path
+     * @param state    execution state
+     * @param duration duration in ms
+     * @param usage    repository access of the script
+     */
+    public void scriptExecuted(String path, ExecutionState state, long duration, ResourceUsage usage) {
+        for (AecuEventListener listener : listeners) {
+            try {
+                listener.scriptExecuted(path, state, duration, usage);
+            } catch (RuntimeException e) {
+                LOG.debug("Event listener failed", e);
+            }
+        }
+    }
+
+    /**
+     * A content upgrade batch was committed.
+     *
+     * @param script    script path
+     * @param resources number of resources in the batch
+     * @param duration  commit duration in ns
+     */
+    public void batchCommitted(String script, long resources, long duration) {
+        for (AecuEventListener listener : listeners) {
+            try {
+                listener.batchCommitted(script, resources, duration);
+            } catch (RuntimeException e) {
+                LOG.debug("Event listener failed", e);
+            }
+        }
+    }
+
+    /**
+     * The actions of a content upgrade were applied on a resource.
+     *
+     * @param script   script path
+     * @param path     resource path
+     * @param duration duration of all actions in ns
+     */
+    public void resourceProcessed(String script, String path, long duration) {
+        for (AecuEventListener listener : listeners) {
+            try {
+                listener.resourceProcessed(script, path, duration);
+            } catch (RuntimeException e) {
+                LOG.debug("Event listener failed", e);
+            }
+        }
+    }
+
+    /**
+     * A resource was replicated.
+     *
+     * @param script   script path
+     * @param path     resource path
+     * @param action   replication action (e.g. "activate")
+     * @param duration duration in ns
+     */
+    public void replicated(String script, String path, String action, long duration) {
+        for (AecuEventListener listener : listeners) {
+            try {
+                listener.replicated(script, path, action, duration);
+            } catch (RuntimeException e) {
+                LOG.debug("Event listener failed", e);
+            }
+        }
+    }
+
+    /**
+     * A script result was written to the history.
+     *
+     * @param history  history entry path
+     * @param script   script path
+     * @param duration duration in ns
+     */
+    public void historyWritten(String history, String script, long duration) {
+        for (AecuEventListener listener : listeners) {
+            try {
+                listener.historyWritten(history, script, duration);
+            } catch (RuntimeException e) {
+                LOG.debug("Event listener failed", e);
+            }
+        }
+    }
+
+}
@@ -42,4 +42,27 @@ public interface Action {
      */
     String doAction(@Nonnull Resource resource) throws PersistenceException, AecuException;
 
+    /**
+     * Prepares the action before the traversal starts. This is called once per run and allows
+     * actions to validate their input and resolve shared data upfront.
+     * 
+     * @throws PersistenceException error reading from JCR
+     * @throws AecuException        invalid action setup
+     */
+    default void prepare() throws PersistenceException, AecuException {
+        // nothing to prepare by default
+    }
+
+    /**
+     * Finishes the action after the traversal ended. This is called once per run and allows
+     * actions to complete pending work and to print a summary.
+     * 
+     * @return output message
+     * @throws PersistenceException error saving to JCR
+     * @throws AecuException        other errors
+     */
+    default String finish() throws PersistenceException, AecuException {
+        return null;
+    }
+
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.groovy.console.bindings.actions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.sling.api.resource.ModifiableValueMap;
+import org.apache.sling.api.resource.PersistenceException;
+import org.apache.sling.api.resource.Resource;
+
+import de.valtech.aecu.api.service.AecuException;
+
+/**
+ * Runs a sequence of property actions with the same target as one change set. The target resource
+ * is resolved and adapted only once per resource and the output equals running the actions one by
+ * one.
+ * 
+ * @author agent
+ */
+public class FusedPropertyAction implements Action {
+
+    private final List<PropertyAction> actions;
+    private final String subNodePath;
+
+    /**
+     * Constructor
+     * 
+     * @param actions property actions that all have the same subnode path
+     */
+    public FusedPropertyAction(@Nonnull List<PropertyAction> actions) {
+        this.actions = new ArrayList<>(actions);
+        this.subNodePath = actions.get(0).getSubNodePath();
+    }
+
+    /**
+     * Creates the execution plan for the given actions. Adjacent property actions with the same
+     * subnode path are combined to a single action. The order of the actions is not changed.
+     * 
+     * @param actions actions as added by the script
+     * @return execution plan
+     */
+    public static List<Action> fuse(@Nonnull List<Action> actions) {
+        List<Action> plan = new ArrayList<>();
+        List<PropertyAction> group = new ArrayList<>();
+        for (Action action : actions) {
+            if ((action instanceof PropertyAction) && (group.isEmpty()
+                    || Objects.equals(group.get(0).getSubNodePath(), ((PropertyAction) action).getSubNodePath()))) {
+                group.add((PropertyAction) action);
+                continue;
+            }
+            addGroup(plan, group);
+            group.clear();
+            if (action instanceof PropertyAction) {
+                group.add((PropertyAction) action);
+            } else {
+                plan.add(action);
+            }
+        }
+        addGroup(plan, group);
+        return plan;
+    }
+
+    /**
+     * Adds the group of property actions to the plan.
+     * 
+     * @param plan  execution plan
+     * @param group property actions with the same target
+     */
+    private static void addGroup(List<Action> plan, List<PropertyAction> group) {
+        if (group.size() == 1) {
+            plan.add(group.get(0));
+        } else if (group.size() > 1) {
+            plan.add(new FusedPropertyAction(group));
+        }
+    }
+
+    /**
+     * Returns the fused actions.
+     * 
+     * @return actions
+     */
+    public List<PropertyAction> getActions() {
+        return Collections.unmodifiableList(actions);
+    }
+
+    @Override
+    public void prepare() throws PersistenceException, AecuException {
+        for (PropertyAction action : actions) {
+            action.prepare();
+        }
+    }
+
+    @Override
+    public String doAction(@Nonnull Resource resource) throws PersistenceException, AecuException {
+        Resource operatingResource = resource;
+        if (subNodePath != null) {
+            operatingResource = resource.getChild(subNodePath);
+        }
+        ModifiableValueMap properties = (operatingResource != null) ? operatingResource.adaptTo(ModifiableValueMap.class) : null;
+        List<String> output = new ArrayList<>();
+        for (PropertyAction action : actions) {
+            // missing targets are handled by each action (e.g. creation of subnodes or warnings)
+            String actionOutput =
+                    (properties != null) ? action.doAction(operatingResource, properties) : action.doAction(resource);
+            if (StringUtils.isNotBlank(actionOutput)) {
+                output.add(actionOutput);
+            }
+        }
+        return String.join("\n", output);
+    }
+
+    @Override
+    public String finish() throws PersistenceException, AecuException {
+        List<String> output = new ArrayList<>();
+        for (PropertyAction action : actions) {
+            String actionOutput = action.finish();
+            if (StringUtils.isNotBlank(actionOutput)) {
+                output.add(actionOutput);
+            }
+        }
+        return String.join("\n", output);
+    }
+
+}
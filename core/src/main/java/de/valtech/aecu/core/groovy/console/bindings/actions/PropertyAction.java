@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.groovy.console.bindings.actions;
+
+import javax.annotation.Nonnull;
+
+import org.apache.sling.api.resource.ModifiableValueMap;
+import org.apache.sling.api.resource.PersistenceException;
+import org.apache.sling.api.resource.Resource;
+import org.osgi.annotation.versioning.ProviderType;
+
+import de.valtech.aecu.api.service.AecuException;
+
+/**
+ * Action that only changes the properties of a resource or one of its subnodes. Adjacent property
+ * actions with the same target are fused so that the target is resolved and adapted only once.
+ * 
+ * @author agent
+ */
+@ProviderType
+public interface PropertyAction extends Action {
+
+    /**
+     * Returns the relative path of the subnode whose properties are changed.
+     * 
+     * @return subnode path, null if the properties of the resource itself are changed
+     */
+    String getSubNodePath();
+
+    /**
+     * Runs the action on the already adapted properties of the target resource.
+     * 
+     * @param operatingResource target resource (the subnode if a subnode path is set)
+     * @param properties        properties of the target resource
+     * @return output message
+     * @throws PersistenceException error saving to JCR
+     * @throws AecuException        other errors
+     */
+    String doAction(@Nonnull Resource operatingResource, @Nonnull ModifiableValueMap properties)
+            throws PersistenceException, AecuException;
+
+}
@@ -31,18 +31,22 @@ import org.apache.sling.api.resource.ModifiableValueMap;
 import org.apache.sling.api.resource.PersistenceException;
 import org.apache.sling.api.resource.Resource;
 
-import de.valtech.aecu.core.groovy.console.bindings.actions.Action;
+import de.valtech.aecu.core.groovy.console.bindings.actions.PropertyAction;
+import de.valtech.aecu.core.groovy.console.bindings.actions.util.PropertyValueUtil;
+import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
 
 /**
  * @author Roxana Muresan
  */
-public class AddMultiValues implements Action {
+public class AddMultiValues implements PropertyAction {
 
     private String name;
     private String[] values;
+    private BindingContext context;
 
-    public AddMultiValues(@Nonnull String name, @Nonnull String[] values) {
+    public AddMultiValues(@Nonnull String name, @Nonnull String[] values, @Nonnull BindingContext context) {
         this.name = name;
+        this.context = context;
         this.values = Arrays.stream(values).filter(Objects::nonNull).collect(Collectors.toList()).toArray(new String[] {});
     }
 
@@ -50,17 +54,32 @@ public class AddMultiValues implements Action {
     public String doAction(@Nonnull Resource resource) throws PersistenceException {
         ModifiableValueMap properties = resource.adaptTo(ModifiableValueMap.class);
         if (properties != null) {
-            String[] currentValues = properties.get(name, String[].class);
-            List<String> valuesList = new ArrayList<>();
-            if (currentValues != null && currentValues.length > 0) {
-                Collections.addAll(valuesList, currentValues);
-            }
-            Collections.addAll(valuesList, values);
-            properties.put(name, valuesList.toArray(new String[] {}));
-
-            return "Adding values " + Arrays.toString(values) + " to multi-value property " + name + ": "
-                    + Arrays.toString(currentValues) + " results in " + valuesList + " for resource " + resource.getPath();
+            return doAction(resource, properties);
         }
         return "WARNING: could not get ModifiableValueMap for resource " + resource.getPath();
     }
+
+    @Override
+    public String getSubNodePath() {
+        return null;
+    }
+
+    @Override
+    public String doAction(@Nonnull Resource resource, @Nonnull ModifiableValueMap properties) {
+        String[] currentValues = properties.get(name, String[].class);
+        List<String> valuesList = new ArrayList<>();
+        if (currentValues != null && currentValues.length > 0) {
+            Collections.addAll(valuesList, currentValues);
+        }
+        Collections.addAll(valuesList, values);
+        String[] newValues = valuesList.toArray(new String[] {});
+        if (PropertyValueUtil.hasValue(properties, name, newValues)) {
+            context.getStatistics().addSkippedWrite();
+            return "No values to add to multi-value property " + name + " for resource " + resource.getPath();
+        }
+        properties.put(name, newValues);
+
+        return "Adding values " + Arrays.toString(values) + " to multi-value property " + name + ": "
+                + Arrays.toString(currentValues) + " results in " + valuesList + " for resource " + resource.getPath();
+    }
 }
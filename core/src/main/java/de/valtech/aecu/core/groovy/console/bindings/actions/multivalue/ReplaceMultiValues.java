@@ -31,19 +31,24 @@ import org.apache.sling.api.resource.ModifiableValueMap;
 import org.apache.sling.api.resource.PersistenceException;
 import org.apache.sling.api.resource.Resource;
 
-import de.valtech.aecu.core.groovy.console.bindings.actions.Action;
+import de.valtech.aecu.core.groovy.console.bindings.actions.PropertyAction;
+import de.valtech.aecu.core.groovy.console.bindings.actions.util.PropertyValueUtil;
+import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
 
 /**
  * @author Roxana Muresan
  */
-public class ReplaceMultiValues implements Action {
+public class ReplaceMultiValues implements PropertyAction {
 
     private String name;
     private String[] oldValues;
     private String[] newValues;
+    private BindingContext context;
 
-    public ReplaceMultiValues(@Nonnull String name, @Nonnull String[] oldValues, @Nonnull String[] newValues) {
+    public ReplaceMultiValues(@Nonnull String name, @Nonnull String[] oldValues, @Nonnull String[] newValues,
+            @Nonnull BindingContext context) {
         this.name = name;
+        this.context = context;
         this.oldValues = Arrays.stream(oldValues).filter(Objects::nonNull).collect(Collectors.toList()).toArray(new String[] {});
         this.newValues = Arrays.stream(newValues).filter(Objects::nonNull).collect(Collectors.toList()).toArray(new String[] {});
     }
@@ -52,26 +57,42 @@ public class ReplaceMultiValues implements Action {
     public String doAction(@Nonnull Resource resource) throws PersistenceException {
         ModifiableValueMap properties = resource.adaptTo(ModifiableValueMap.class);
         if (properties != null) {
-            String[] currentValues = properties.get(name, String[].class);
-            List<String> valuesList = new ArrayList<>();
-            if (currentValues != null && currentValues.length > 0) {
-                Collections.addAll(valuesList, currentValues);
-            }
+            return doAction(resource, properties);
+        }
+        return "WARNING: could not get ModifiableValueMap for resource " + resource.getPath();
+    }
 
-            String warning = (oldValues.length != newValues.length)
-                    ? ("WARNING: old values and new values length mismatch (old: " + Arrays.toString(oldValues) + " , new: "
-                            + Arrays.toString(newValues) + ")" + " -> the smaller length will be considered\n")
-                    : "";
+    @Override
+    public String getSubNodePath() {
+        return null;
+    }
 
-            for (int i = 0; i < oldValues.length && i < newValues.length; i++) {
-                Collections.replaceAll(valuesList, oldValues[i], newValues[i]);
-            }
-            properties.put(name, valuesList.toArray(new String[] {}));
+    @Override
+    public String doAction(@Nonnull Resource resource, @Nonnull ModifiableValueMap properties) {
+        String[] currentValues = properties.get(name, String[].class);
+        List<String> valuesList = new ArrayList<>();
+        if (currentValues != null && currentValues.length > 0) {
+            Collections.addAll(valuesList, currentValues);
+        }
+
+        String warning = (oldValues.length != newValues.length)
+                ? ("WARNING: old values and new values length mismatch (old: " + Arrays.toString(oldValues) + " , new: "
+                        + Arrays.toString(newValues) + ")" + " -> the smaller length will be considered\n")
+                : "";
 
-            return warning + "Replacing values " + Arrays.toString(oldValues) + " with values " + Arrays.toString(newValues)
-                    + " for multi-value property " + name + ": " + Arrays.toString(currentValues) + " results in " + valuesList
+        for (int i = 0; i < oldValues.length && i < newValues.length; i++) {
+            Collections.replaceAll(valuesList, oldValues[i], newValues[i]);
+        }
+        String[] resultValues = valuesList.toArray(new String[] {});
+        if (PropertyValueUtil.hasValue(properties, name, resultValues)) {
+            context.getStatistics().addSkippedWrite();
+            return warning + "Multi-value property " + name + " needs no replacement of values " + Arrays.toString(oldValues)
                     + " for resource " + resource.getPath();
         }
-        return "WARNING: could not get ModifiableValueMap for resource " + resource.getPath();
+        properties.put(name, resultValues);
+
+        return warning + "Replacing values " + Arrays.toString(oldValues) + " with values " + Arrays.toString(newValues)
+                + " for multi-value property " + name + ": " + Arrays.toString(currentValues) + " results in " + valuesList
+                + " for resource " + resource.getPath();
     }
 }
@@ -24,6 +24,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.sling.api.resource.PersistenceException;
 import org.apache.sling.api.resource.Resource;
 
@@ -32,6 +33,7 @@ import com.day.cq.tagging.TagManager;
 import com.day.cq.wcm.api.Page;
 
 import de.valtech.aecu.core.groovy.console.bindings.actions.Action;
+import de.valtech.aecu.core.groovy.console.bindings.actions.util.TagCache;
 import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
 
 /**
@@ -43,6 +45,7 @@ public class AddPageTagsAction implements Action {
 
     private BindingContext context;
     private String[] tags;
+    private List<Tag> resolvedTags;
 
     /**
      * Constructor
@@ -55,18 +58,27 @@ public class AddPageTagsAction implements Action {
         this.tags = tags.clone();
     }
 
+    @Override
+    public void prepare() throws PersistenceException {
+        getTags();
+    }
+
     @Override
     public String doAction(Resource resource) throws PersistenceException {
-        Page page = context.getPageManager().getContainingPage(resource);
+        Page page = context.getPageCache().getContainingPage(resource);
         if (page == null) {
             return "Unable to find a page for resource " + resource.getPath();
         }
+        if (!context.getPageCache().markProcessed(this, page)) {
+            context.getStatistics().addSkippedPageAction();
+            return StringUtils.EMPTY;
+        }
         Tag[] oldTags = page.getTags();
         List<Tag> tagsToAdd = getTagsToAdd(oldTags);
         if (tagsToAdd.isEmpty()) {
             return "No missing tags to add";
         }
-        String successMessage = "Added page tags on " + page.getPath() + ": " + getTagListAsString(tagsToAdd);
+        String successMessage = "Added page tags on " + page.getPath() + ": " + TagCache.getTagListAsString(tagsToAdd);
         if (context.isDryRun()) {
             return successMessage;
         }
@@ -89,13 +101,8 @@ public class AddPageTagsAction implements Action {
         for (Tag oldTag : oldTags) {
             oldTagPaths.add(oldTag.getPath());
         }
-        TagManager tagManager = context.getTagManager();
         List<Tag> toAdd = new ArrayList<>();
-        for (String newTagName : tags) {
-            Tag tag = tagManager.resolve(newTagName);
-            if (tag == null) {
-                throw new PersistenceException("Tag " + newTagName + " does not exist.\n");
-            }
+        for (Tag tag : getTags()) {
             if (!oldTagPaths.contains(tag.getPath())) {
                 toAdd.add(tag);
             }
@@ -103,12 +110,17 @@ public class AddPageTagsAction implements Action {
         return toAdd;
     }
 
-    private String getTagListAsString(List<Tag> tags) {
-        List<String> tagIds = new ArrayList<>();
-        for (Tag tag : tags) {
-            tagIds.add(tag.getTagID());
+    /**
+     * Returns the resolved tags. Tags are resolved only once per action.
+     * 
+     * @return tags
+     * @throws PersistenceException invalid tag found
+     */
+    private List<Tag> getTags() throws PersistenceException {
+        if (resolvedTags == null) {
+            resolvedTags = context.getTagCache().resolve(tags);
         }
-        return String.join(", ", tagIds);
+        return resolvedTags;
     }
 
 }
@@ -18,6 +18,7 @@
  */
 package de.valtech.aecu.core.groovy.console.bindings.actions.page;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.sling.api.resource.PersistenceException;
 import org.apache.sling.api.resource.Resource;
 
@@ -47,16 +48,21 @@ public class DeletePageAction implements Action {
 
     @Override
     public String doAction(Resource resource) throws PersistenceException {
-        Page page = context.getPageManager().getContainingPage(resource);
+        Page page = context.getPageCache().getContainingPage(resource);
         if (page == null) {
             return "Unable to find a page for resource " + resource.getPath();
         }
+        if (!context.getPageCache().markProcessed(this, page)) {
+            context.getStatistics().addSkippedPageAction();
+            return StringUtils.EMPTY;
+        }
         String successMessage = "Deleted page " + page.getPath();
         if (context.isDryRun()) {
             return successMessage;
         }
         try {
             context.getPageManager().delete(page, false);
+            context.getPageCache().invalidate(page.getPath());
         } catch (WCMException e) {
             throw new PersistenceException("Unable to delete " + page.getPath());
         }
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.groovy.console.bindings.actions.page;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.sling.api.resource.LoginException;
+import org.apache.sling.api.resource.PersistenceException;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+
+import com.day.cq.wcm.api.Page;
+
+import de.valtech.aecu.api.service.AecuException;
+import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
+
+/**
+ * Checks the rendering of a page of a given resource using a pool of worker threads. Each worker
+ * renders with its own clone of the resolver, so only persisted content is rendered. A summary
+ * with latency and response size statistics is printed when the traversal is finished.
+ * 
+ * @author agent
+ */
+public class ParallelRenderPageAction extends RenderPageAction {
+
+    /**
+     * Number of pending renderings per thread before the traversal waits for the workers.
+     */
+    private static final int QUEUE_SIZE_PER_THREAD = 4;
+
+    private BindingContext context;
+    private int threads;
+    private ExecutorService executor;
+    private Semaphore pendingRenderings;
+    private final ThreadLocal<ResourceResolver> workerResolvers = new ThreadLocal<>();
+    private final Queue<ResourceResolver> openResolvers = new ConcurrentLinkedQueue<>();
+    private final Object resolverLock = new Object();
+    private RenderStatistics statistics = new RenderStatistics();
+
+    /**
+     * Constructor
+     * 
+     * @param context        binding context
+     * @param threads        number of worker threads
+     * @param statusCode     expected status code
+     * @param textPresent    text that must be present
+     * @param textNotPresent text that must not be present
+     */
+    public ParallelRenderPageAction(BindingContext context, int threads, int statusCode, String textPresent,
+            String textNotPresent) {
+        super(context, statusCode, textPresent, textNotPresent);
+        this.context = context;
+        this.threads = Math.max(1, threads);
+    }
+
+    @Override
+    public String doAction(Resource resource) throws PersistenceException, AecuException {
+        Page page = getPage(resource);
+        if (!context.getPageCache().markProcessed(this, page)) {
+            context.getStatistics().addSkippedPageAction();
+            return StringUtils.EMPTY;
+        }
+        if (executor == null) {
+            startWorkers();
+        }
+        String pagePath = page.getPath();
+        try {
+            pendingRenderings.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AecuException("Interrupted while waiting for page rendering", e);
+        }
+        executor.execute(() -> renderAndVerify(pagePath));
+        return StringUtils.EMPTY;
+    }
+
+    /**
+     * Starts the worker pool. Services are looked up here to avoid concurrent initialization in the
+     * workers.
+     */
+    private void startWorkers() {
+        context.getRequestResponseFactory();
+        context.getSlingRequestProcessor();
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads,
+                runnable -> new Thread(runnable, "aecu-render-check-" + threadCount.incrementAndGet()));
+        pendingRenderings = new Semaphore(threads * QUEUE_SIZE_PER_THREAD);
+    }
+
+    /**
+     * Renders the page and records the result. Runs in a worker thread.
+     * 
+     * @param pagePath page path
+     */
+    private void renderAndVerify(String pagePath) {
+        try {
+            RenderResult result = render(pagePath, getWorkerResolver());
+            statistics.addResult(result);
+            verify(result);
+        } catch (AecuException e) {
+            statistics.addFailure(e.getMessage());
+        } catch (PersistenceException | LoginException | RuntimeException e) {
+            statistics.addFailure("Unable to render " + pagePath + ": " + e.getMessage());
+        } finally {
+            pendingRenderings.release();
+        }
+    }
+
+    /**
+     * Returns the resolver of the current worker thread.
+     * 
+     * @return resolver
+     * @throws LoginException error cloning the resolver
+     */
+    private ResourceResolver getWorkerResolver() throws LoginException {
+        ResourceResolver resolver = workerResolvers.get();
+        if (resolver == null) {
+            synchronized (resolverLock) {
+                resolver = context.getResolver().clone(null);
+            }
+            workerResolvers.set(resolver);
+            openResolvers.add(resolver);
+        }
+        return resolver;
+    }
+
+    @Override
+    public String finish() throws AecuException {
+        if (executor == null) {
+            return null;
+        }
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                // wait for pending renderings
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new AecuException("Interrupted while waiting for page rendering", e);
+        } finally {
+            closeResolvers();
+            executor = null;
+        }
+        RenderStatistics finished = statistics;
+        statistics = new RenderStatistics();
+        String report = finished.getReport();
+        if (finished.hasFailures()) {
+            throw new AecuException(report);
+        }
+        return report;
+    }
+
+    /**
+     * Closes the resolvers of the worker threads.
+     */
+    private void closeResolvers() {
+        ResourceResolver resolver = openResolvers.poll();
+        while (resolver != null) {
+            resolver.close();
+            resolver = openResolvers.poll();
+        }
+    }
+
+}
@@ -23,6 +23,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.sling.api.resource.PersistenceException;
 import org.apache.sling.api.resource.Resource;
 
@@ -31,6 +32,7 @@ import com.day.cq.tagging.TagManager;
 import com.day.cq.wcm.api.Page;
 
 import de.valtech.aecu.core.groovy.console.bindings.actions.Action;
+import de.valtech.aecu.core.groovy.console.bindings.actions.util.TagCache;
 import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
 
 /**
@@ -42,6 +44,7 @@ public class RemovePageTagsAction implements Action {
 
     private BindingContext context;
     private String[] tags;
+    private Set<String> pathsToDelete;
 
     /**
      * Constructor
@@ -54,15 +57,27 @@ public class RemovePageTagsAction implements Action {
         this.tags = tags.clone();
     }
 
+    @Override
+    public void prepare() throws PersistenceException {
+        getPathsToDelete();
+    }
+
     @Override
     public String doAction(Resource resource) throws PersistenceException {
-        Page page = context.getPageManager().getContainingPage(resource);
+        Page page = context.getPageCache().getContainingPage(resource);
         if (page == null) {
             return "Unable to find a page for resource " + resource.getPath();
         }
+        if (!context.getPageCache().markProcessed(this, page)) {
+            context.getStatistics().addSkippedPageAction();
+            return StringUtils.EMPTY;
+        }
         Tag[] oldTags = page.getTags();
         List<Tag> tagsToSet = getTagsToSet(oldTags);
-        String successMessage = "Set page tags on " + page.getPath() + ": " + getTagListAsString(tagsToSet);
+        if (tagsToSet.size() == oldTags.length) {
+            return "No tags to remove on " + page.getPath();
+        }
+        String successMessage = "Set page tags on " + page.getPath() + ": " + TagCache.getTagListAsString(tagsToSet);
         if (context.isDryRun()) {
             return successMessage;
         }
@@ -80,29 +95,31 @@ public class RemovePageTagsAction implements Action {
      */
     private List<Tag> getTagsToSet(Tag[] oldTags) throws PersistenceException {
         List<Tag> tagsToSet = new ArrayList<>();
-        Set<String> pathsToDelete = new HashSet<>();
-        TagManager tagManager = context.getTagManager();
-        for (String toDelete : tags) {
-            Tag tag = tagManager.resolve(toDelete);
-            if (tag == null) {
-                throw new PersistenceException("Tag " + toDelete + " does not exist.\n");
-            }
-            pathsToDelete.add(tag.getPath());
-        }
+        Set<String> toDelete = getPathsToDelete();
         for (Tag oldTag : oldTags) {
-            if (!pathsToDelete.contains(oldTag.getPath())) {
+            if (!toDelete.contains(oldTag.getPath())) {
                 tagsToSet.add(oldTag);
             }
         }
         return tagsToSet;
     }
 
-    private String getTagListAsString(List<Tag> tags) {
-        List<String> tagIds = new ArrayList<>();
-        for (Tag tag : tags) {
-            tagIds.add(tag.getTagID());
+    /**
+     * Returns the paths of the tags to remove. Tags are resolved only once per action.
+     * 
+     * @return tag paths
+     * @throws PersistenceException invalid tag found
+     */
+    private Set<String> getPathsToDelete() throws PersistenceException {
+        if (pathsToDelete != null) {
+            return pathsToDelete;
+        }
+        Set<String> paths = new HashSet<>();
+        for (Tag tag : context.getTagCache().resolve(tags)) {
+            paths.add(tag.getPath());
         }
-        return String.join(", ", tagIds);
+        pathsToDelete = paths;
+        return pathsToDelete;
     }
 
 }
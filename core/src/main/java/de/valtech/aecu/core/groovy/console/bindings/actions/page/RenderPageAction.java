@@ -19,6 +19,8 @@
 package de.valtech.aecu.core.groovy.console.bindings.actions.page;
 
 import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
@@ -26,6 +28,7 @@ import javax.servlet.http.HttpServletRequest;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.sling.api.resource.PersistenceException;
 import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
 import org.apache.sling.api.servlets.HttpConstants;
 import org.apache.sling.engine.SlingRequestProcessor;
 
@@ -35,7 +38,9 @@ import com.day.cq.wcm.api.WCMMode;
 
 import de.valtech.aecu.api.service.AecuException;
 import de.valtech.aecu.core.groovy.console.bindings.actions.Action;
+import de.valtech.aecu.core.groovy.console.bindings.actions.util.AhoCorasick;
 import de.valtech.aecu.core.groovy.console.bindings.actions.util.MockHttpServletResponse;
+import de.valtech.aecu.core.groovy.console.bindings.actions.util.TextMatchingWriter;
 import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
 
 /**
@@ -45,10 +50,14 @@ import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
  */
 public class RenderPageAction implements Action {
 
+    private static final int TEXT_PRESENT = 0;
+    private static final int TEXT_NOT_PRESENT = 1;
+
     private BindingContext context;
     private int statusCode;
     private String textPresent;
     private String textNotPresent;
+    private AhoCorasick textMatcher;
 
     /**
      * Constructor
@@ -63,46 +72,181 @@ public class RenderPageAction implements Action {
         this.statusCode = statusCode;
         this.textPresent = textPresent;
         this.textNotPresent = textNotPresent;
+        this.textMatcher =
+                new AhoCorasick(Arrays.asList(StringUtils.defaultString(textPresent), StringUtils.defaultString(textNotPresent)));
     }
 
     @Override
     public String doAction(Resource resource) throws PersistenceException, AecuException {
-        Page page = context.getPageManager().getContainingPage(resource);
+        Page page = getPage(resource);
+        if (!context.getPageCache().markProcessed(this, page)) {
+            context.getStatistics().addSkippedPageAction();
+            return StringUtils.EMPTY;
+        }
+        RenderResult result = render(page.getPath(), context.getResolver());
+        verify(result);
+        return "Correct page rendering for " + page.getPath();
+    }
+
+    /**
+     * Returns the containing page of the resource.
+     * 
+     * @param resource resource
+     * @return page
+     * @throws AecuException no page found
+     */
+    protected Page getPage(Resource resource) throws AecuException {
+        Page page = context.getPageCache().getContainingPage(resource);
         if (page == null) {
             throw new AecuException("Unable to find a page for resource " + resource.getPath());
         }
-        String successMessage = "Correct page rendering for " + page.getPath();
+        return page;
+    }
+
+    /**
+     * Renders the given page. The output is checked for the texts while it is written and not
+     * stored.
+     * 
+     * @param pagePath page path
+     * @param resolver resolver to use for rendering
+     * @return rendering result
+     * @throws PersistenceException error during rendering
+     */
+    protected RenderResult render(String pagePath, ResourceResolver resolver) throws PersistenceException {
         RequestResponseFactory requestResponseFactory = context.getRequestResponseFactory();
         SlingRequestProcessor requestProcessor = context.getSlingRequestProcessor();
-        String requestPath = page.getPath() + ".html";
+        String requestPath = pagePath + ".html";
         HttpServletRequest req = requestResponseFactory.createRequest(HttpConstants.METHOD_GET, requestPath);
         WCMMode.DISABLED.toRequest(req);
-        MockHttpServletResponse resp = createResponse();
+        TextMatchingWriter writer = new TextMatchingWriter(textMatcher);
+        MockHttpServletResponse resp = createResponse(writer);
+        long start = System.currentTimeMillis();
         try {
-            requestProcessor.processRequest(req, resp, context.getResolver());
-            if (resp.getStatus() != statusCode) {
-                throw new AecuException(requestPath + " returned " + resp.getStatus() + " instead of " + statusCode);
-            }
-            String html = resp.getOutput().toString();
-            if (StringUtils.isNotBlank(textPresent) && !html.contains(textPresent)) {
-                throw new AecuException(requestPath + " did not include " + textPresent);
-            }
-            if (StringUtils.isNotBlank(textNotPresent) && html.contains(textNotPresent)) {
-                throw new AecuException(requestPath + " did include " + textNotPresent);
-            }
+            requestProcessor.processRequest(req, resp, resolver);
+            resp.getWriter().flush();
         } catch (ServletException | IOException e) {
             throw new PersistenceException("Unable to render " + requestPath);
         }
-        return successMessage;
+        long duration = System.currentTimeMillis() - start;
+        return new RenderResult(requestPath, resp.getStatus(), duration, writer.getSize(), writer.isFound(TEXT_PRESENT),
+                writer.isFound(TEXT_NOT_PRESENT));
+    }
+
+    /**
+     * Checks the rendering result against the expected status code and texts.
+     * 
+     * @param result rendering result
+     * @throws AecuException check failed
+     */
+    protected void verify(RenderResult result) throws AecuException {
+        String requestPath = result.getRequestPath();
+        if (result.getStatus() != statusCode) {
+            throw new AecuException(requestPath + " returned " + result.getStatus() + " instead of " + statusCode);
+        }
+        if (StringUtils.isNotBlank(textPresent) && !result.isTextPresentFound()) {
+            throw new AecuException(requestPath + " did not include " + textPresent);
+        }
+        if (StringUtils.isNotBlank(textNotPresent) && result.isTextNotPresentFound()) {
+            throw new AecuException(requestPath + " did include " + textNotPresent);
+        }
     }
 
     /**
      * Creates the mocked response. This is needed to get the status code.
      * 
+     * @param writer writer that receives the output
      * @return response
      */
-    protected MockHttpServletResponse createResponse() {
-        return new MockHttpServletResponse();
+    protected MockHttpServletResponse createResponse(Writer writer) {
+        return new MockHttpServletResponse(writer);
+    }
+
+    /**
+     * Result of a page rendering.
+     */
+    public static class RenderResult {
+
+        private final String requestPath;
+        private final int status;
+        private final long duration;
+        private final long size;
+        private final boolean textPresentFound;
+        private final boolean textNotPresentFound;
+
+        /**
+         * Constructor
+         * 
+         * @param requestPath         request path
+         * @param status              response status
+         * @param duration            rendering time in ms
+         * @param size                response size in bytes
+         * @param textPresentFound    text that must be present was found
+         * @param textNotPresentFound text that must not be present was found
+         */
+        public RenderResult(String requestPath, int status, long duration, long size, boolean textPresentFound,
+                boolean textNotPresentFound) {
+            this.requestPath = requestPath;
+            this.status = status;
+            this.duration = duration;
+            this.size = size;
+            this.textPresentFound = textPresentFound;
+            this.textNotPresentFound = textNotPresentFound;
+        }
+
+        /**
+         * Returns the request path.
+         * 
+         * @return path
+         */
+        public String getRequestPath() {
+            return requestPath;
+        }
+
+        /**
+         * Returns the response status.
+         * 
+         * @return status
+         */
+        public int getStatus() {
+            return status;
+        }
+
+        /**
+         * Returns the rendering time.
+         * 
+         * @return duration in ms
+         */
+        public long getDuration() {
+            return duration;
+        }
+
+        /**
+         * Returns the response size.
+         * 
+         * @return size in bytes
+         */
+        public long getSize() {
+            return size;
+        }
+
+        /**
+         * Returns if the text that must be present was found.
+         * 
+         * @return found
+         */
+        public boolean isTextPresentFound() {
+            return textPresentFound;
+        }
+
+        /**
+         * Returns if the text that must not be present was found.
+         * 
+         * @return found
+         */
+        public boolean isTextNotPresentFound() {
+            return textNotPresentFound;
+        }
+
     }
 
 }
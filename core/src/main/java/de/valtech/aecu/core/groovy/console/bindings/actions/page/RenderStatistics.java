@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.groovy.console.bindings.actions.page;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import de.valtech.aecu.core.groovy.console.bindings.actions.page.RenderPageAction.RenderResult;
+
+/**
+ * Collects the results of page renderings and creates a summary with latency and response size
+ * statistics. This class is thread-safe.
+ * 
+ * @author agent
+ */
+public class RenderStatistics {
+
+    private static final int SLOWEST_PAGES = 10;
+    private static final int MAX_FAILURES = 100;
+    private static final double[] PERCENTILES = {50, 90, 95, 99};
+
+    private final List<RenderResult> results = new ArrayList<>();
+    private final List<String> failures = new ArrayList<>();
+
+    /**
+     * Adds a rendering result.
+     * 
+     * @param result result
+     */
+    public synchronized void addResult(RenderResult result) {
+        results.add(result);
+    }
+
+    /**
+     * Adds a failed page check.
+     * 
+     * @param message failure message
+     */
+    public synchronized void addFailure(String message) {
+        failures.add(message);
+    }
+
+    /**
+     * Returns if any check failed.
+     * 
+     * @return has failures
+     */
+    public synchronized boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    /**
+     * Creates the summary report.
+     * 
+     * @return report
+     */
+    public synchronized String getReport() {
+        StringBuilder report = new StringBuilder();
+        report.append("Page rendering check finished for " + results.size() + " pages (" + failures.size() + " failed)\n");
+        if (!results.isEmpty()) {
+            List<RenderResult> byDuration = new ArrayList<>(results);
+            Collections.sort(byDuration, Comparator.comparingLong(RenderResult::getDuration));
+            report.append("Latency in ms:");
+            for (double percentile : PERCENTILES) {
+                report.append(" p" + (int) percentile + "=" + getPercentile(byDuration, percentile).getDuration());
+            }
+            report.append(" max=" + byDuration.get(byDuration.size() - 1).getDuration() + "\n");
+            long minSize = Long.MAX_VALUE;
+            long maxSize = 0;
+            long totalSize = 0;
+            for (RenderResult result : results) {
+                minSize = Math.min(minSize, result.getSize());
+                maxSize = Math.max(maxSize, result.getSize());
+                totalSize += result.getSize();
+            }
+            report.append("Response size in bytes: min=" + minSize + " avg=" + (totalSize / results.size()) + " max=" + maxSize
+                    + "\n");
+            report.append("Slowest pages:\n");
+            for (int i = byDuration.size() - 1; i >= Math.max(0, byDuration.size() - SLOWEST_PAGES); i--) {
+                RenderResult result = byDuration.get(i);
+                report.append("  " + result.getRequestPath() + ": " + result.getDuration() + " ms\n");
+            }
+        }
+        if (!failures.isEmpty()) {
+            report.append("Failed pages:\n");
+            for (String failure : failures.subList(0, Math.min(failures.size(), MAX_FAILURES))) {
+                report.append("  " + failure + "\n");
+            }
+            if (failures.size() > MAX_FAILURES) {
+                report.append("  ... and " + (failures.size() - MAX_FAILURES) + " more\n");
+            }
+        }
+        return report.toString();
+    }
+
+    /**
+     * Returns the entry for the given percentile (nearest rank).
+     * 
+     * @param sorted     results sorted ascending
+     * @param percentile percentile
+     * @return result
+     */
+    private RenderResult getPercentile(List<RenderResult> sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile / 100 * sorted.size());
+        return sorted.get(Math.max(0, rank - 1));
+    }
+
+}
@@ -20,6 +20,7 @@ package de.valtech.aecu.core.groovy.console.bindings.actions.page;
 
 import javax.jcr.Session;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.sling.api.resource.PersistenceException;
 import org.apache.sling.api.resource.Resource;
 
@@ -29,6 +30,7 @@ import com.day.cq.wcm.api.Page;
 
 import de.valtech.aecu.core.groovy.console.bindings.actions.Action;
 import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
+import de.valtech.aecu.core.service.ExecutionTrace;
 
 /**
  * Replicates the page of a given resource.
@@ -53,10 +55,14 @@ public class ReplicatePageAction implements Action {
 
     @Override
     public String doAction(Resource resource) throws PersistenceException {
-        Page page = context.getPageManager().getContainingPage(resource);
+        Page page = context.getPageCache().getContainingPage(resource);
         if (page == null) {
             return "Unable to find a page for resource " + resource.getPath();
         }
+        if (!context.getPageCache().markProcessed(this, page)) {
+            context.getStatistics().addSkippedPageAction();
+            return StringUtils.EMPTY;
+        }
         String action = activate ? "activate" : "deactivate";
         String successMessage = "Replicated page " + page.getPath() + " with action " + action;
         if (context.isDryRun()) {
@@ -64,7 +70,12 @@ public class ReplicatePageAction implements Action {
         }
         try {
             ReplicationActionType type = activate ? ReplicationActionType.ACTIVATE : ReplicationActionType.DEACTIVATE;
+            long start = ExecutionTrace.now();
             context.getReplicator().replicate(context.getResolver().adaptTo(Session.class), type, page.getPath());
+            context.getTrace().addDetailSpan("replicate", ExecutionTrace.CATEGORY_CONTENT_UPGRADE, start, page.getPath());
+            context.getMetrics().replicated();
+            context.getEvents().replicated(context.getProgress().getScript(), page.getPath(), action,
+                    ExecutionTrace.now() - start);
         } catch (ReplicationException e) {
             throw new PersistenceException("Unable to replicate " + page.getPath());
         }
@@ -18,9 +18,11 @@
  */
 package de.valtech.aecu.core.groovy.console.bindings.actions.page;
 
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.sling.api.resource.PersistenceException;
 import org.apache.sling.api.resource.Resource;
 
@@ -29,6 +31,7 @@ import com.day.cq.tagging.TagManager;
 import com.day.cq.wcm.api.Page;
 
 import de.valtech.aecu.core.groovy.console.bindings.actions.Action;
+import de.valtech.aecu.core.groovy.console.bindings.actions.util.TagCache;
 import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
 
 /**
@@ -40,6 +43,9 @@ public class SetPageTagsAction implements Action {
 
     private BindingContext context;
     private String[] tags;
+    private List<Tag> tagsToSet;
+    private Set<String> tagPathsToSet;
+    private String tagList;
 
     /**
      * Constructor
@@ -52,47 +58,69 @@ public class SetPageTagsAction implements Action {
         this.tags = tags.clone();
     }
 
+    @Override
+    public void prepare() throws PersistenceException {
+        getTagsToSet();
+    }
+
     @Override
     public String doAction(Resource resource) throws PersistenceException {
-        Page page = context.getPageManager().getContainingPage(resource);
+        Page page = context.getPageCache().getContainingPage(resource);
         if (page == null) {
             return "Unable to find a page for resource " + resource.getPath();
         }
-        List<Tag> tagsToSet = getTagsToSet();
-        String successMessage = "Set page tags on " + page.getPath() + ": " + getTagListAsString(tagsToSet);
+        if (!context.getPageCache().markProcessed(this, page)) {
+            context.getStatistics().addSkippedPageAction();
+            return StringUtils.EMPTY;
+        }
+        List<Tag> newTags = getTagsToSet();
+        if (hasTags(page.getTags())) {
+            return "Page tags already set on " + page.getPath();
+        }
+        String successMessage = "Set page tags on " + page.getPath() + ": " + tagList;
         if (context.isDryRun()) {
             return successMessage;
         }
         TagManager tagManager = context.getTagManager();
-        tagManager.setTags(page.getContentResource(), tagsToSet.toArray(new Tag[tagsToSet.size()]));
+        tagManager.setTags(page.getContentResource(), newTags.toArray(new Tag[newTags.size()]));
         return successMessage;
     }
 
     /**
-     * Returns the tags that need to be added.
+     * Returns the tags that need to be set. Tags are resolved only once per action.
      * 
-     * @return tags to add
+     * @return tags to set
      * @throws PersistenceException invalid tag found
      */
     private List<Tag> getTagsToSet() throws PersistenceException {
-        TagManager tagManager = context.getTagManager();
-        List<Tag> toSet = new ArrayList<>();
-        for (String newTagName : tags) {
-            Tag tag = tagManager.resolve(newTagName);
-            if (tag == null) {
-                throw new PersistenceException("Tag " + newTagName + " does not exist.\n");
-            }
-            toSet.add(tag);
+        if (tagsToSet != null) {
+            return tagsToSet;
         }
-        return toSet;
+        List<Tag> resolved = context.getTagCache().resolve(tags);
+        tagPathsToSet = new HashSet<>();
+        for (Tag tag : resolved) {
+            tagPathsToSet.add(tag.getPath());
+        }
+        tagList = TagCache.getTagListAsString(resolved);
+        tagsToSet = resolved;
+        return tagsToSet;
     }
 
-    private String getTagListAsString(List<Tag> tags) {
-        List<String> tagIds = new ArrayList<>();
-        for (Tag tag : tags) {
-            tagIds.add(tag.getTagID());
+    /**
+     * Checks if the page already has exactly the tags to set.
+     * 
+     * @param oldTags existing tags
+     * @return tags are already set
+     */
+    private boolean hasTags(Tag[] oldTags) {
+        if (oldTags == null || oldTags.length != tagsToSet.size()) {
+            return false;
+        }
+        Set<String> oldTagPaths = new HashSet<>();
+        for (Tag oldTag : oldTags) {
+            oldTagPaths.add(oldTag.getPath());
         }
-        return String.join(", ", tagIds);
+        return oldTagPaths.equals(tagPathsToSet);
     }
 
 }
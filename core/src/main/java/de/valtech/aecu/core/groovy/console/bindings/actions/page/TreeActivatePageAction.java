@@ -22,6 +22,7 @@ import java.util.Iterator;
 
 import javax.jcr.Session;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.sling.api.resource.PersistenceException;
 import org.apache.sling.api.resource.Resource;
 
@@ -33,6 +34,7 @@ import com.day.cq.wcm.api.Page;
 import de.valtech.aecu.api.service.AecuException;
 import de.valtech.aecu.core.groovy.console.bindings.actions.Action;
 import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
+import de.valtech.aecu.core.service.ExecutionTrace;
 
 /**
  * Performs a tree activation.
@@ -58,10 +60,14 @@ public class TreeActivatePageAction implements Action {
 
     @Override
     public String doAction(Resource resource) throws PersistenceException, AecuException {
-        Page page = context.getPageManager().getContainingPage(resource);
+        Page page = context.getPageCache().getContainingPage(resource);
         if (page == null) {
             return "Unable to find a page for resource " + resource.getPath();
         }
+        if (!context.getPageCache().markProcessed(this, page)) {
+            context.getStatistics().addSkippedPageAction();
+            return StringUtils.EMPTY;
+        }
         String skip = skipDeactivated ? "skipping" : "not skipping";
         try {
             performActivation(page);
@@ -103,7 +109,12 @@ public class TreeActivatePageAction implements Action {
             return;
         }
         Session session = context.getResolver().adaptTo(Session.class);
+        long start = ExecutionTrace.now();
         context.getReplicator().replicate(session, ReplicationActionType.ACTIVATE, page.getPath());
+        context.getTrace().addDetailSpan("replicate", ExecutionTrace.CATEGORY_CONTENT_UPGRADE, start, page.getPath());
+        context.getMetrics().replicated();
+        context.getEvents().replicated(context.getProgress().getScript(), page.getPath(), "activate",
+                ExecutionTrace.now() - start);
     }
 
 }
@@ -23,20 +23,23 @@ import javax.annotation.Nonnull;
 import org.apache.sling.api.resource.ModifiableValueMap;
 import org.apache.sling.api.resource.Resource;
 
-import de.valtech.aecu.core.groovy.console.bindings.actions.Action;
+import de.valtech.aecu.core.groovy.console.bindings.actions.PropertyAction;
+import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
 
 /**
  * @author Roxana Muresan
  * @author Roland Gruber
  */
-public class DeleteProperty implements Action {
+public class DeleteProperty implements PropertyAction {
 
     private String name;
     private String subNodePath;
+    private BindingContext context;
 
-    public DeleteProperty(@Nonnull String name, String subNodePath) {
+    public DeleteProperty(@Nonnull String name, String subNodePath, @Nonnull BindingContext context) {
         this.name = name;
         this.subNodePath = subNodePath;
+        this.context = context;
     }
 
     @Override
@@ -51,10 +54,24 @@ public class DeleteProperty implements Action {
         }
         ModifiableValueMap properties = operatingResource.adaptTo(ModifiableValueMap.class);
         if (properties != null) {
-            properties.remove(name);
-            return "Deleting property " + name + " for resource " + operatingResource.getPath();
+            return doAction(operatingResource, properties);
         }
         return "WARNING: could not get ModifiableValueMap for resource " + operatingResource.getPath();
     }
 
+    @Override
+    public String getSubNodePath() {
+        return subNodePath;
+    }
+
+    @Override
+    public String doAction(@Nonnull Resource operatingResource, @Nonnull ModifiableValueMap properties) {
+        if (!properties.containsKey(name)) {
+            context.getStatistics().addSkippedWrite();
+            return "Property " + name + " already absent for resource " + operatingResource.getPath();
+        }
+        properties.remove(name);
+        return "Deleting property " + name + " for resource " + operatingResource.getPath();
+    }
+
 }
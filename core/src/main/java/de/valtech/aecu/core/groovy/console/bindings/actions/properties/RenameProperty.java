@@ -23,22 +23,26 @@ import javax.annotation.Nonnull;
 import org.apache.sling.api.resource.ModifiableValueMap;
 import org.apache.sling.api.resource.Resource;
 
-import de.valtech.aecu.core.groovy.console.bindings.actions.Action;
+import de.valtech.aecu.core.groovy.console.bindings.actions.PropertyAction;
+import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
 
 /**
  * @author Roxana Muresan
  * @author Roland Gruber
  */
-public class RenameProperty implements Action {
+public class RenameProperty implements PropertyAction {
 
     private String oldName;
     private String newName;
     private String subNodePath;
+    private BindingContext context;
 
-    public RenameProperty(@Nonnull String oldName, @Nonnull String newName, String subNodePath) {
+    public RenameProperty(@Nonnull String oldName, @Nonnull String newName, String subNodePath,
+            @Nonnull BindingContext context) {
         this.oldName = oldName;
         this.newName = newName;
         this.subNodePath = subNodePath;
+        this.context = context;
     }
 
     @Override
@@ -55,9 +59,23 @@ public class RenameProperty implements Action {
         if (properties == null) {
             return "WARNING: could not get ModifiableValueMap for resource " + operatingResource.getPath();
         }
+        return doAction(operatingResource, properties);
+    }
+
+    @Override
+    public String getSubNodePath() {
+        return subNodePath;
+    }
+
+    @Override
+    public String doAction(@Nonnull Resource operatingResource, @Nonnull ModifiableValueMap properties) {
         if (!properties.containsKey(oldName)) {
             return "WARNING: property " + oldName + " does not exist on " + operatingResource.getPath();
         }
+        if (oldName.equals(newName)) {
+            context.getStatistics().addSkippedWrite();
+            return "Property " + oldName + " already has the target name for resource " + operatingResource.getPath();
+        }
         Object value = properties.remove(oldName);
         properties.put(newName, value);
         return "Renaming property " + oldName + " to " + newName + " for resource " + operatingResource.getPath();
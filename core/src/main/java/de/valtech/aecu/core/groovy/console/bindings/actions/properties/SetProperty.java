@@ -28,24 +28,29 @@ import org.apache.sling.api.resource.Resource;
 import com.day.cq.commons.jcr.JcrUtil;
 
 import de.valtech.aecu.api.groovy.console.bindings.GStringConverter;
-import de.valtech.aecu.core.groovy.console.bindings.actions.Action;
+import de.valtech.aecu.core.groovy.console.bindings.actions.PropertyAction;
+import de.valtech.aecu.core.groovy.console.bindings.actions.util.PropertyValueUtil;
+import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
 
 /**
  * @author Roxana Muresan
  * @author Roland Gruber
  */
-public class SetProperty implements Action {
+public class SetProperty implements PropertyAction {
 
     protected String name;
     protected Object value;
     private String subNodePath;
     private String primaryType;
+    private BindingContext context;
 
-    public SetProperty(@Nonnull String name, Object value, String subNodePath, String primaryType) {
+    public SetProperty(@Nonnull String name, Object value, String subNodePath, String primaryType,
+            @Nonnull BindingContext context) {
         this.name = name;
         this.value = GStringConverter.convert(value);
         this.subNodePath = subNodePath;
         this.primaryType = primaryType;
+        this.context = context;
     }
 
     @Override
@@ -66,11 +71,25 @@ public class SetProperty implements Action {
         }
         ModifiableValueMap properties = operatingResource.adaptTo(ModifiableValueMap.class);
         if (properties != null) {
-            properties.put(name, value);
-            return "Setting " + value.getClass().getSimpleName() + " property " + name + "=" + value + " for resource "
-                    + operatingResource.getPath();
+            return doAction(operatingResource, properties);
         }
         return "WARNING: could not get ModifiableValueMap for resource " + operatingResource.getPath();
     }
 
+    @Override
+    public String getSubNodePath() {
+        return subNodePath;
+    }
+
+    @Override
+    public String doAction(@Nonnull Resource operatingResource, @Nonnull ModifiableValueMap properties) {
+        if (PropertyValueUtil.hasValue(properties, name, value)) {
+            context.getStatistics().addSkippedWrite();
+            return "Property " + name + "=" + value + " already set for resource " + operatingResource.getPath();
+        }
+        properties.put(name, value);
+        return "Setting " + value.getClass().getSimpleName() + " property " + name + "=" + value + " for resource "
+                + operatingResource.getPath();
+    }
+
 }
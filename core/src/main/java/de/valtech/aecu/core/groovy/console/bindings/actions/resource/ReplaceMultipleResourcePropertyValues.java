@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.groovy.console.bindings.actions.resource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.sling.api.resource.Resource;
+
+import de.valtech.aecu.core.groovy.console.bindings.actions.util.AhoCorasick;
+
+/**
+ * Replaces multiple strings in resource properties. All replacements are done in a single pass
+ * over each value. If multiple search strings match at the same position then the longest one
+ * wins.
+ * 
+ * @author agent
+ */
+public class ReplaceMultipleResourcePropertyValues extends ReplaceResourcePropertyValues {
+
+    private AhoCorasick automaton;
+    private List<String> replacements = new ArrayList<>();
+
+    /**
+     * Constructor
+     * 
+     * @param replacements  old value to new value
+     * @param propertyNames property names to check
+     */
+    public ReplaceMultipleResourcePropertyValues(@Nonnull Map<String, String> replacements,
+            @Nonnull List<String> propertyNames) {
+        super(StringUtils.EMPTY, StringUtils.EMPTY, propertyNames);
+        List<String> searchValues = new ArrayList<>();
+        for (Map.Entry<String, String> replacement : replacements.entrySet()) {
+            searchValues.add(replacement.getKey());
+            this.replacements.add(StringUtils.defaultString(replacement.getValue()));
+        }
+        this.automaton = new AhoCorasick(searchValues);
+    }
+
+    /**
+     * Matching and replacing is done in a single pass by {@link #getNewValue(String)}. Values
+     * without any match are returned unchanged and are not written.
+     */
+    @Override
+    protected boolean valueMatches(String value) {
+        return true;
+    }
+
+    @Override
+    protected String getNewValue(String propertyValue) {
+        return automaton.replaceAll(propertyValue, replacements);
+    }
+
+    @Override
+    protected String getUpdateMessage(Resource resource) {
+        return "Updated values in " + resource.getPath();
+    }
+
+}
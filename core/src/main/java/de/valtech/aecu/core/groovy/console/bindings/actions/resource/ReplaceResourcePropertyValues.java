@@ -69,9 +69,7 @@ public class ReplaceResourcePropertyValues implements Action {
         }
         boolean updated = false;
         try {
-            PropertyIterator propertyIterator = node.getProperties();
-            while (propertyIterator.hasNext()) {
-                Property property = propertyIterator.nextProperty();
+            for (Property property : getProperties(node)) {
                 if (doChangeProperty(property)) {
                     if (property.isMultiple()) {
                         boolean propUpdated = updateMulti(property);
@@ -86,11 +84,45 @@ public class ReplaceResourcePropertyValues implements Action {
             throw new PersistenceException("Replace failed for " + resource.getPath(), e);
         }
         if (updated) {
-            return "Updated values from " + oldValue + " to " + newValue + " in " + resource.getPath();
+            return getUpdateMessage(resource);
         }
         return StringUtils.EMPTY;
     }
 
+    /**
+     * Returns the output message for an updated resource.
+     * 
+     * @param resource resource
+     * @return message
+     */
+    protected String getUpdateMessage(@Nonnull Resource resource) {
+        return "Updated values from " + oldValue + " to " + newValue + " in " + resource.getPath();
+    }
+
+    /**
+     * Returns the properties to check. If property names are given then only these are read.
+     * 
+     * @param node node
+     * @return properties
+     * @throws RepositoryException error reading properties
+     */
+    private List<Property> getProperties(Node node) throws RepositoryException {
+        List<Property> properties = new ArrayList<>();
+        if (propertyNames.isEmpty()) {
+            PropertyIterator propertyIterator = node.getProperties();
+            while (propertyIterator.hasNext()) {
+                properties.add(propertyIterator.nextProperty());
+            }
+            return properties;
+        }
+        for (String propertyName : propertyNames) {
+            if (node.hasProperty(propertyName)) {
+                properties.add(node.getProperty(propertyName));
+            }
+        }
+        return properties;
+    }
+
     /**
      * Updates a single value property.
      * 
@@ -99,11 +131,12 @@ public class ReplaceResourcePropertyValues implements Action {
      * @throws RepositoryException error setting property
      */
     private boolean updateSingle(Property property) throws RepositoryException {
-        if (!valueMatches(property.getString())) {
+        String oldPropertyValue = property.getString();
+        if (!valueMatches(oldPropertyValue)) {
             return false;
         }
-        String newPropertyValue = getNewValue(property.getString());
-        if (property.getString().equals(newPropertyValue)) {
+        String newPropertyValue = getNewValue(oldPropertyValue);
+        if (oldPropertyValue.equals(newPropertyValue)) {
             return false;
         }
         property.setValue(newPropertyValue);
@@ -28,7 +28,6 @@ import java.util.regex.Pattern;
  */
 public class ReplaceResourcePropertyValuesRegex extends ReplaceResourcePropertyValues {
 
-    private String searchRegex;
     private String replacement;
     private Pattern searchPattern;
 
@@ -41,7 +40,6 @@ public class ReplaceResourcePropertyValuesRegex extends ReplaceResourcePropertyV
      */
     public ReplaceResourcePropertyValuesRegex(String searchRegex, String replacement, List<String> propertyNames) {
         super(searchRegex, replacement, propertyNames);
-        this.searchRegex = searchRegex;
         this.replacement = replacement;
         this.searchPattern = Pattern.compile(searchRegex);
     }
@@ -53,7 +51,7 @@ public class ReplaceResourcePropertyValuesRegex extends ReplaceResourcePropertyV
 
     @Override
     protected String getNewValue(String propertyValue) {
-        return propertyValue.replaceAll(searchRegex, replacement);
+        return searchPattern.matcher(propertyValue).replaceAll(replacement);
     }
 
 }
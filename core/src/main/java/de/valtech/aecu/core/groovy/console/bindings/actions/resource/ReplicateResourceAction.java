@@ -28,6 +28,7 @@ import com.day.cq.replication.ReplicationException;
 
 import de.valtech.aecu.core.groovy.console.bindings.actions.Action;
 import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
+import de.valtech.aecu.core.service.ExecutionTrace;
 
 /**
  * Replicates on resource level.
@@ -59,7 +60,12 @@ public class ReplicateResourceAction implements Action {
         }
         try {
             ReplicationActionType type = activate ? ReplicationActionType.ACTIVATE : ReplicationActionType.DEACTIVATE;
+            long start = ExecutionTrace.now();
             context.getReplicator().replicate(context.getResolver().adaptTo(Session.class), type, resource.getPath());
+            context.getTrace().addDetailSpan("replicate", ExecutionTrace.CATEGORY_CONTENT_UPGRADE, start, resource.getPath());
+            context.getMetrics().replicated();
+            context.getEvents().replicated(context.getProgress().getScript(), resource.getPath(), action,
+                    ExecutionTrace.now() - start);
         } catch (ReplicationException e) {
             throw new PersistenceException("Unable to replicate " + resource.getPath());
         }
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.groovy.console.bindings.actions.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Aho-Corasick automaton to search for multiple patterns in a single pass. The automaton is
+ * immutable after construction and can be shared between threads. Matching state is kept by the
+ * caller, which allows to feed text in chunks (e.g. while it is written to a stream).
+ * 
+ * @author agent
+ */
+public class AhoCorasick {
+
+    /**
+     * Start state of the automaton.
+     */
+    public static final int INITIAL_STATE = 0;
+
+    private static final int[] NO_MATCHES = new int[0];
+
+    private final String[] patterns;
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final int[] fail;
+    private final int[][] matches;
+
+    /**
+     * Constructor
+     * 
+     * @param patterns patterns to search for, empty patterns never match
+     */
+    public AhoCorasick(@Nonnull List<String> patterns) {
+        this.patterns = patterns.toArray(new String[patterns.size()]);
+        List<List<Integer>> terminals = new ArrayList<>();
+        transitions.add(new HashMap<>());
+        terminals.add(new ArrayList<>());
+        for (int i = 0; i < this.patterns.length; i++) {
+            String pattern = this.patterns[i];
+            if (pattern == null || pattern.isEmpty()) {
+                continue;
+            }
+            int state = INITIAL_STATE;
+            for (int pos = 0; pos < pattern.length(); pos++) {
+                Integer nextState = transitions.get(state).get(pattern.charAt(pos));
+                if (nextState == null) {
+                    nextState = transitions.size();
+                    transitions.add(new HashMap<>());
+                    terminals.add(new ArrayList<>());
+                    transitions.get(state).put(pattern.charAt(pos), nextState);
+                }
+                state = nextState;
+            }
+            terminals.get(state).add(i);
+        }
+        fail = new int[transitions.size()];
+        matches = new int[transitions.size()][];
+        buildFailureLinks(terminals);
+    }
+
+    /**
+     * Computes the failure links in breadth-first order and merges the matches of the fallback
+     * states.
+     * 
+     * @param terminals patterns that end in each state
+     */
+    private void buildFailureLinks(List<List<Integer>> terminals) {
+        Queue<Integer> queue = new ArrayDeque<>();
+        matches[INITIAL_STATE] = NO_MATCHES;
+        for (Integer child : transitions.get(INITIAL_STATE).values()) {
+            fail[child] = INITIAL_STATE;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            List<Integer> stateMatches = terminals.get(state);
+            for (int match : matches[fail[state]]) {
+                stateMatches.add(match);
+            }
+            matches[state] = toArray(stateMatches);
+            for (Map.Entry<Character, Integer> entry : transitions.get(state).entrySet()) {
+                int child = entry.getValue();
+                int fallback = fail[state];
+                while (fallback != INITIAL_STATE && !transitions.get(fallback).containsKey(entry.getKey())) {
+                    fallback = fail[fallback];
+                }
+                Integer target = transitions.get(fallback).get(entry.getKey());
+                fail[child] = (target == null || target == child) ? INITIAL_STATE : target;
+                queue.add(child);
+            }
+        }
+    }
+
+    private int[] toArray(List<Integer> values) {
+        if (values.isEmpty()) {
+            return NO_MATCHES;
+        }
+        int[] result = new int[values.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = values.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the state after reading the given character.
+     * 
+     * @param state current state
+     * @param c     next character
+     * @return new state
+     */
+    public int next(int state, char c) {
+        int current = state;
+        while (true) {
+            Integer nextState = transitions.get(current).get(c);
+            if (nextState != null) {
+                return nextState;
+            }
+            if (current == INITIAL_STATE) {
+                return INITIAL_STATE;
+            }
+            current = fail[current];
+        }
+    }
+
+    /**
+     * Returns the indices of the patterns that end at the given state.
+     * 
+     * @param state state
+     * @return pattern indices (empty if none)
+     */
+    public int[] getMatches(int state) {
+        return matches[state];
+    }
+
+    /**
+     * Replaces all occurrences of the patterns in a single pass. Matches do not overlap. If
+     * multiple patterns match at the same position then the longest one wins.
+     * 
+     * @param text         text
+     * @param replacements replacement for each pattern (same order as patterns)
+     * @return new text, the same instance if nothing matched
+     */
+    public String replaceAll(@Nonnull String text, @Nonnull List<String> replacements) {
+        int[] longestAtStart = null;
+        int[] patternAtStart = null;
+        int state = INITIAL_STATE;
+        for (int pos = 0; pos < text.length(); pos++) {
+            state = next(state, text.charAt(pos));
+            for (int match : matches[state]) {
+                if (longestAtStart == null) {
+                    longestAtStart = new int[text.length()];
+                    patternAtStart = new int[text.length()];
+                }
+                int length = patterns[match].length();
+                int start = pos - length + 1;
+                if (length > longestAtStart[start]) {
+                    longestAtStart[start] = length;
+                    patternAtStart[start] = match;
+                }
+            }
+        }
+        if (longestAtStart == null) {
+            return text;
+        }
+        StringBuilder result = new StringBuilder(text.length());
+        int pos = 0;
+        while (pos < text.length()) {
+            if (longestAtStart[pos] > 0) {
+                result.append(replacements.get(patternAtStart[pos]));
+                pos += longestAtStart[pos];
+            } else {
+                result.append(text.charAt(pos));
+                pos++;
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Returns the number of patterns.
+     * 
+     * @return pattern count
+     */
+    public int getPatternCount() {
+        return patterns.length;
+    }
+
+    /**
+     * Returns the pattern with the given index.
+     * 
+     * @param index pattern index
+     * @return pattern
+     */
+    public String getPattern(int index) {
+        return patterns[index];
+    }
+
+}
@@ -21,6 +21,7 @@ package de.valtech.aecu.core.groovy.console.bindings.actions.util;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.Writer;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Locale;
@@ -41,13 +42,30 @@ public class MockHttpServletResponse implements HttpServletResponse {
     private String characterEncoding;
     private int status = HttpServletResponse.SC_OK;
     private Locale locale;
-    private ByteArrayOutputStream out = new ByteArrayOutputStream();
-    private PrintWriter printWriter = new PrintWriter(out);
+    private ByteArrayOutputStream out;
+    private PrintWriter printWriter;
+
+    /**
+     * Constructor that collects the output in memory.
+     */
+    public MockHttpServletResponse() {
+        out = new ByteArrayOutputStream();
+        printWriter = new PrintWriter(out);
+    }
+
+    /**
+     * Constructor that sends the output to the given writer.
+     * 
+     * @param writer target writer
+     */
+    public MockHttpServletResponse(Writer writer) {
+        printWriter = new PrintWriter(writer);
+    }
 
     /**
      * Returns the output stream.
      * 
-     * @return output
+     * @return output (null if a custom writer is used)
      */
     public ByteArrayOutputStream getOutput() {
         return out;
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.groovy.console.bindings.actions.util;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+
+import org.apache.jackrabbit.JcrConstants;
+import org.apache.sling.api.resource.Resource;
+
+import com.day.cq.wcm.api.Page;
+import com.day.cq.wcm.api.PageManager;
+
+import de.valtech.aecu.core.groovy.console.bindings.actions.Action;
+
+/**
+ * Caches the containing pages of resources and remembers which pages were already processed by an
+ * action for the whole content upgrade run.
+ * 
+ * @author agent
+ */
+public class PageCache {
+
+    private static final String JCR_CONTENT_PATH = "/" + JcrConstants.JCR_CONTENT;
+
+    private PageManager pageManager;
+    private Map<String, Page> pages = new HashMap<>();
+    private Map<Action, Set<String>> processedPages = new IdentityHashMap<>();
+
+    /**
+     * Constructor
+     * 
+     * @param pageManager page manager
+     */
+    public PageCache(PageManager pageManager) {
+        this.pageManager = pageManager;
+    }
+
+    /**
+     * Returns the containing page of the resource. All resources below the same jcr:content node
+     * share one lookup.
+     * 
+     * @param resource resource
+     * @return page or null if the resource is not part of a page
+     */
+    public Page getContainingPage(@Nonnull Resource resource) {
+        String key = getCacheKey(resource.getPath());
+        if (pages.containsKey(key)) {
+            return pages.get(key);
+        }
+        Page page = pageManager.getContainingPage(resource);
+        pages.put(key, page);
+        return page;
+    }
+
+    /**
+     * Marks the page as processed by the given action.
+     * 
+     * @param action action
+     * @param page   page
+     * @return true if the action did not process this page before in this run
+     */
+    public boolean markProcessed(@Nonnull Action action, @Nonnull Page page) {
+        return processedPages.computeIfAbsent(action, a -> new HashSet<>()).add(page.getPath());
+    }
+
+    /**
+     * Removes the cached lookups for the given page and its subpages. This is required if the page
+     * was deleted.
+     * 
+     * @param pagePath page path
+     */
+    public void invalidate(@Nonnull String pagePath) {
+        String prefix = pagePath + "/";
+        pages.keySet().removeIf(key -> key.equals(pagePath) || key.startsWith(prefix));
+    }
+
+    /**
+     * Returns the cache key for a resource path. This is the path up to the jcr:content node as
+     * all resources below it have the same containing page.
+     * 
+     * @param path resource path
+     * @return cache key
+     */
+    private String getCacheKey(String path) {
+        int contentIndex = path.indexOf(JCR_CONTENT_PATH + "/");
+        if (contentIndex < 0 && path.endsWith(JCR_CONTENT_PATH)) {
+            contentIndex = path.length() - JCR_CONTENT_PATH.length();
+        }
+        return (contentIndex > 0) ? path.substring(0, contentIndex) : path;
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.groovy.console.bindings.actions.util;
+
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+import org.apache.sling.api.resource.ValueMap;
+
+/**
+ * Utility class to check if a property write would change the stored value.
+ *
+ * @author agent
+ */
+public class PropertyValueUtil {
+
+    private PropertyValueUtil() {
+        throw new UnsupportedOperationException("Cannot instantiate PropertyValueUtil");
+    }
+
+    /**
+     * Checks if the property already has the given value. Numbers are compared the way JCR stores
+     * them (e.g. Integer as Long). If in doubt this returns false so that the value is written.
+     *
+     * @param properties properties
+     * @param name       property name
+     * @param value      new value (null means the property should not exist)
+     * @return property already has this value
+     */
+    public static boolean hasValue(@Nonnull ValueMap properties, @Nonnull String name, Object value) {
+        if (value == null) {
+            return !properties.containsKey(name);
+        }
+        Object current = properties.get(name);
+        if (current == null) {
+            return false;
+        }
+        return Objects.deepEquals(normalize(current), normalize(value));
+    }
+
+    /**
+     * Converts numbers to the types that JCR uses for storage.
+     *
+     * @param value value
+     * @return normalized value
+     */
+    private static Object normalize(Object value) {
+        if ((value instanceof Integer) || (value instanceof Short) || (value instanceof Byte)) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Float) {
+            return ((Float) value).doubleValue();
+        }
+        if (value instanceof Object[]) {
+            Object[] values = (Object[]) value;
+            Object[] normalized = new Object[values.length];
+            for (int i = 0; i < values.length; i++) {
+                normalized[i] = normalize(values[i]);
+            }
+            return normalized;
+        }
+        return value;
+    }
+
+}
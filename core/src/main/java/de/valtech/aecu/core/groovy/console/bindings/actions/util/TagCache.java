@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.groovy.console.bindings.actions.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+import org.apache.sling.api.resource.PersistenceException;
+
+import com.day.cq.tagging.Tag;
+import com.day.cq.tagging.TagManager;
+
+/**
+ * Resolves tag names to tags and caches the result for the whole content upgrade run.
+ * 
+ * @author agent
+ */
+public class TagCache {
+
+    private TagManager tagManager;
+    private Map<String, Tag> tags = new HashMap<>();
+
+    /**
+     * Constructor
+     * 
+     * @param tagManager tag manager
+     */
+    public TagCache(TagManager tagManager) {
+        this.tagManager = tagManager;
+    }
+
+    /**
+     * Resolves the given tag names.
+     * 
+     * @param names tag names or IDs
+     * @return tags in the same order as the names
+     * @throws PersistenceException tag does not exist
+     */
+    public List<Tag> resolve(@Nonnull String... names) throws PersistenceException {
+        List<Tag> resolved = new ArrayList<>();
+        for (String name : names) {
+            Tag tag = tags.get(name);
+            if (tag == null) {
+                tag = tagManager.resolve(name);
+                if (tag == null) {
+                    throw new PersistenceException("Tag " + name + " does not exist.\n");
+                }
+                tags.put(name, tag);
+            }
+            resolved.add(tag);
+        }
+        return resolved;
+    }
+
+    /**
+     * Returns the tag IDs as comma separated list.
+     * 
+     * @param tags tags
+     * @return tag IDs
+     */
+    public static String getTagListAsString(@Nonnull List<Tag> tags) {
+        List<String> tagIds = new ArrayList<>();
+        for (Tag tag : tags) {
+            tagIds.add(tag.getTagID());
+        }
+        return String.join(", ", tagIds);
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.groovy.console.bindings.actions.util;
+
+import java.io.Writer;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Writer that searches the written text for a set of patterns without storing it. It also counts
+ * the UTF-8 encoded size of the text.
+ * 
+ * @author agent
+ */
+public class TextMatchingWriter extends Writer {
+
+    private final AhoCorasick automaton;
+    private final boolean[] found;
+    private int state = AhoCorasick.INITIAL_STATE;
+    private char highSurrogate = 0;
+    private long size = 0;
+
+    /**
+     * Constructor
+     * 
+     * @param automaton automaton with patterns to search
+     */
+    public TextMatchingWriter(@Nonnull AhoCorasick automaton) {
+        this.automaton = automaton;
+        this.found = new boolean[automaton.getPatternCount()];
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) {
+        for (int i = off; i < off + len; i++) {
+            char c = cbuf[i];
+            size += getEncodedLength(c);
+            state = automaton.next(state, c);
+            for (int match : automaton.getMatches(state)) {
+                found[match] = true;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of UTF-8 bytes that the given character adds.
+     * 
+     * @param c character
+     * @return byte count
+     */
+    private int getEncodedLength(char c) {
+        if (c < 0x80) {
+            return 1;
+        }
+        if (c < 0x800) {
+            return 2;
+        }
+        if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+            return 0;
+        }
+        if (Character.isLowSurrogate(c) && highSurrogate != 0) {
+            highSurrogate = 0;
+            return 4;
+        }
+        return 3;
+    }
+
+    @Override
+    public void flush() {
+        // nothing buffered
+    }
+
+    @Override
+    public void close() {
+        // nothing to close
+    }
+
+    /**
+     * Returns if the pattern with the given index was found.
+     * 
+     * @param index pattern index
+     * @return found
+     */
+    public boolean isFound(int index) {
+        return found[index];
+    }
+
+    /**
+     * Returns the UTF-8 encoded size of the written text.
+     * 
+     * @return size in bytes
+     */
+    public long getSize() {
+        return size;
+    }
+
+}
@@ -20,7 +20,7 @@ package de.valtech.aecu.core.groovy.console.bindings.impl;
 
 import javax.jcr.RepositoryException;
 
-import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.api.resource.LoginException;
 import org.apache.sling.api.resource.ResourceResolverFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,6 +31,7 @@ import be.orbinson.aem.groovy.console.api.context.ScriptContext;
 import de.valtech.aecu.api.groovy.console.bindings.AecuBinding;
 import de.valtech.aecu.api.groovy.console.bindings.ContentUpgrade;
 import de.valtech.aecu.api.groovy.console.bindings.ValidateAccessRights;
+import de.valtech.aecu.core.service.AecuScriptContext;
 
 /**
  * Groovy Console Bindings for AEM Simple Content Update. This provides the "aecu" binding variable.
@@ -41,8 +42,11 @@ public class AecuBindingImpl implements AecuBinding {
 
     private static final Logger LOG = LoggerFactory.getLogger(AecuBindingImpl.class);
 
-    private ResourceResolver resourceResolver;
-    private ResourceResolver adminResourceResolver;
+    private static final String ERR_RESOLVER =
+            "Failed to get resource resolver for aecu-content-migrator or aecu-admin, make sure you all the configurations "
+                    + "needed for this system user are deployed.";
+
+    private BindingResolvers resolvers;
     private ResourceResolverFactory resourceResolverFactory;
     private ScriptContext scriptContext;
     private Replicator replicator;
@@ -50,16 +54,14 @@ public class AecuBindingImpl implements AecuBinding {
     /**
      * Constructor
      * 
-     * @param resourceResolver        resolver resolver with migration user
-     * @param adminResourceResolver   resolver with admin user
+     * @param resolvers               resolvers with migration and admin user, opened on first use
      * @param resourceResolverFactory resource resolver factory
      * @param replicator              page replicator
      * @param scriptContext           Groovy context
      */
-    public AecuBindingImpl(ResourceResolver resourceResolver, ResourceResolver adminResourceResolver,
-            ResourceResolverFactory resourceResolverFactory, Replicator replicator, ScriptContext scriptContext) {
-        this.resourceResolver = resourceResolver;
-        this.adminResourceResolver = adminResourceResolver;
+    public AecuBindingImpl(BindingResolvers resolvers, ResourceResolverFactory resourceResolverFactory, Replicator replicator,
+            ScriptContext scriptContext) {
+        this.resolvers = resolvers;
         this.resourceResolverFactory = resourceResolverFactory;
         this.replicator = replicator;
         this.scriptContext = scriptContext;
@@ -67,17 +69,35 @@ public class AecuBindingImpl implements AecuBinding {
 
     @Override
     public ContentUpgrade contentUpgradeBuilder() {
-        return new ContentUpgradeImpl(resourceResolver, scriptContext);
+        try {
+            return new ContentUpgradeImpl(resolvers.getContentMigratorResolver(), scriptContext);
+        } catch (LoginException e) {
+            LOG.error(ERR_RESOLVER, e);
+        }
+        return null;
     }
 
     @Override
     public ValidateAccessRights validateAccessRights() {
         try {
-            return new ValidateAccessRightsImpl(resourceResolverFactory, adminResourceResolver, replicator, scriptContext);
+            return new ValidateAccessRightsImpl(resourceResolverFactory, resolvers.getAdminResolver(), replicator, scriptContext);
         } catch (RepositoryException e) {
             LOG.error("Error setting up the access right validator", e);
+        } catch (LoginException e) {
+            LOG.error(ERR_RESOLVER, e);
         }
         return null;
     }
 
+    @Override
+    public boolean isCancelled() {
+        if (!(scriptContext instanceof AecuScriptContext)) {
+            return false;
+        }
+        AecuScriptContext aecuContext = (AecuScriptContext) scriptContext;
+        // the first check is done when the compiled script starts running
+        aecuContext.scriptStarted();
+        return aecuContext.isCancelled();
+    }
+
 }
@@ -18,6 +18,9 @@
  */
 package de.valtech.aecu.core.groovy.console.bindings.impl;
 
+import java.io.PrintStream;
+import java.util.function.BooleanSupplier;
+
 import org.apache.sling.api.resource.ResourceResolver;
 import org.apache.sling.engine.SlingRequestProcessor;
 import org.osgi.framework.Bundle;
@@ -29,6 +32,13 @@ import com.day.cq.replication.Replicator;
 import com.day.cq.tagging.TagManager;
 import com.day.cq.wcm.api.PageManager;
 
+import de.valtech.aecu.core.events.AecuEvents;
+import de.valtech.aecu.core.groovy.console.bindings.actions.util.PageCache;
+import de.valtech.aecu.core.groovy.console.bindings.actions.util.TagCache;
+import de.valtech.aecu.core.metrics.AecuMetrics;
+import de.valtech.aecu.core.service.ExecutionTrace;
+import de.valtech.aecu.core.service.ScriptProgress;
+
 /**
  * Context for binding.
  * 
@@ -39,10 +49,19 @@ public class BindingContext {
     private ResourceResolver resolver;
     private PageManager pageManager;
     private TagManager tagManager;
+    private TagCache tagCache;
+    private PageCache pageCache;
+    private RunStatistics statistics = new RunStatistics();
     private Replicator replicator;
     private boolean dryRun = true;
     private RequestResponseFactory requestResponseFactory;
     private SlingRequestProcessor slingRequestProcessor;
+    private PrintStream outputStream;
+    private BooleanSupplier cancellationCheck = () -> false;
+    private AecuMetrics metrics;
+    private AecuEvents events;
+    private ScriptProgress progress = new ScriptProgress("");
+    private ExecutionTrace trace = ExecutionTrace.NONE;
 
     /**
      * Constructor
@@ -88,6 +107,39 @@ public class BindingContext {
         return tagManager;
     }
 
+    /**
+     * Returns the tag cache that is shared by all actions of this run.
+     * 
+     * @return tag cache
+     */
+    public TagCache getTagCache() {
+        if (tagCache != null) {
+            return tagCache;
+        }
+        tagCache = new TagCache(getTagManager());
+        return tagCache;
+    }
+
+    /**
+     * Returns the page cache of the current run.
+     * 
+     * @return page cache
+     */
+    public PageCache getPageCache() {
+        if (pageCache != null) {
+            return pageCache;
+        }
+        pageCache = new PageCache(getPageManager());
+        return pageCache;
+    }
+
+    /**
+     * Resets the page cache for a new run.
+     */
+    public void resetPageCache() {
+        pageCache = null;
+    }
+
     /**
      * Returns the page replicator.
      * 
@@ -141,6 +193,66 @@ public class BindingContext {
         return slingRequestProcessor;
     }
 
+    /**
+     * Returns the AECU metrics. Falls back to a no-op implementation if the service is not available.
+     * 
+     * @return metrics
+     */
+    public AecuMetrics getMetrics() {
+        if (metrics != null) {
+            return metrics;
+        }
+        Bundle bundle = FrameworkUtil.getBundle(BindingContext.class);
+        if (bundle != null && bundle.getBundleContext() != null) {
+            ServiceReference<AecuMetrics> metricsReference = bundle.getBundleContext().getServiceReference(AecuMetrics.class);
+            if (metricsReference != null) {
+                metrics = bundle.getBundleContext().getService(metricsReference);
+            }
+        }
+        if (metrics == null) {
+            metrics = AecuMetrics.NOOP;
+        }
+        return metrics;
+    }
+
+    /**
+     * Returns the AECU events. Falls back to a no-op implementation if the service is not available.
+     * 
+     * @return events
+     */
+    public AecuEvents getEvents() {
+        if (events != null) {
+            return events;
+        }
+        Bundle bundle = FrameworkUtil.getBundle(BindingContext.class);
+        if (bundle != null && bundle.getBundleContext() != null) {
+            ServiceReference<AecuEvents> eventsReference = bundle.getBundleContext().getServiceReference(AecuEvents.class);
+            if (eventsReference != null) {
+                events = bundle.getBundleContext().getService(eventsReference);
+            }
+        }
+        if (events == null) {
+            events = AecuEvents.NOOP;
+        }
+        return events;
+    }
+
+    /**
+     * Returns the statistics of the current run.
+     * 
+     * @return statistics
+     */
+    public RunStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Resets the statistics for a new run.
+     */
+    public void resetStatistics() {
+        statistics = new RunStatistics();
+    }
+
     /**
      * Returns if this is a dry run.
      * 
@@ -159,4 +271,82 @@ public class BindingContext {
         this.dryRun = dryRun;
     }
 
+    /**
+     * Sets the stream that receives the output while the run is in progress.
+     * 
+     * @param outputStream output stream, may be null
+     */
+    public void setOutputStream(PrintStream outputStream) {
+        this.outputStream = outputStream;
+    }
+
+    /**
+     * Sets the check if the running script was cancelled.
+     * 
+     * @param cancellationCheck returns true if cancelled
+     */
+    public void setCancellationCheck(BooleanSupplier cancellationCheck) {
+        this.cancellationCheck = cancellationCheck;
+    }
+
+    /**
+     * Returns if the running script was cancelled.
+     * 
+     * @return cancelled
+     */
+    public boolean isCancelled() {
+        return cancellationCheck.getAsBoolean();
+    }
+
+    /**
+     * Sets the live progress of the running script.
+     * 
+     * @param progress progress
+     */
+    public void setProgress(ScriptProgress progress) {
+        this.progress = progress;
+    }
+
+    /**
+     * Returns the live progress of the running script.
+     * 
+     * @return progress
+     */
+    public ScriptProgress getProgress() {
+        return progress;
+    }
+
+    /**
+     * Sets the trace that records the spans of the running script.
+     * 
+     * @param trace trace
+     */
+    public void setTrace(ExecutionTrace trace) {
+        this.trace = trace;
+    }
+
+    /**
+     * Returns the trace that records the spans of the running script.
+     * 
+     * @return trace
+     */
+    public ExecutionTrace getTrace() {
+        return trace;
+    }
+
+    /**
+     * Writes the collected output to the output stream and clears the buffer. Nothing is done if
+     * there is no output stream.
+     * 
+     * @param output output buffer
+     */
+    public void flushOutput(StringBuilder output) {
+        if ((outputStream == null) || (output.length() == 0)) {
+            return;
+        }
+        outputStream.append(output);
+        outputStream.flush();
+        output.setLength(0);
+    }
+
 }
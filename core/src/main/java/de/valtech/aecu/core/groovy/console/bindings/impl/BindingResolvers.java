@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.groovy.console.bindings.impl;
+
+import java.io.Closeable;
+import java.util.function.UnaryOperator;
+
+import org.apache.sling.api.resource.LoginException;
+import org.apache.sling.api.resource.ResourceResolver;
+
+import de.valtech.aecu.core.serviceuser.ServiceResourceResolverService;
+
+/**
+ * Resource resolvers of the AECU binding. They are opened on first use and closed when the script
+ * context ends.
+ *
+ * @author agent
+ */
+public class BindingResolvers implements Closeable {
+
+    private ServiceResourceResolverService resolverService;
+    private UnaryOperator<ResourceResolver> wrapper;
+    private ResourceResolver contentMigratorResolver;
+    private ResourceResolver adminResolver;
+
+    /**
+     * Constructor
+     *
+     * @param resolverService resolver service
+     */
+    public BindingResolvers(ServiceResourceResolverService resolverService) {
+        this(resolverService, UnaryOperator.identity());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param resolverService resolver service
+     * @param wrapper         wraps the resolvers when they are opened (e.g. to count their access)
+     */
+    public BindingResolvers(ServiceResourceResolverService resolverService, UnaryOperator<ResourceResolver> wrapper) {
+        this.resolverService = resolverService;
+        this.wrapper = wrapper;
+    }
+
+    /**
+     * Returns the resolver with migration user.
+     *
+     * @return resolver
+     * @throws LoginException error opening resolver
+     */
+    public synchronized ResourceResolver getContentMigratorResolver() throws LoginException {
+        if (contentMigratorResolver == null) {
+            contentMigratorResolver = wrapper.apply(resolverService.getContentMigratorResourceResolver());
+        }
+        return contentMigratorResolver;
+    }
+
+    /**
+     * Returns the resolver with admin user.
+     *
+     * @return resolver
+     * @throws LoginException error opening resolver
+     */
+    public synchronized ResourceResolver getAdminResolver() throws LoginException {
+        if (adminResolver == null) {
+            adminResolver = wrapper.apply(resolverService.getAdminResourceResolver());
+        }
+        return adminResolver;
+    }
+
+    @Override
+    public synchronized void close() {
+        if ((contentMigratorResolver != null) && contentMigratorResolver.isLive()) {
+            contentMigratorResolver.close();
+        }
+        contentMigratorResolver = null;
+        if ((adminResolver != null) && adminResolver.isLive()) {
+            adminResolver.close();
+        }
+        adminResolver = null;
+    }
+
+}
@@ -18,6 +18,7 @@
  */
 package de.valtech.aecu.core.groovy.console.bindings.impl;
 
+import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -56,11 +57,13 @@ import de.valtech.aecu.api.groovy.console.bindings.filters.FilterByNodeRootPaths
 import de.valtech.aecu.api.groovy.console.bindings.filters.NOTFilter;
 import de.valtech.aecu.api.service.AecuException;
 import de.valtech.aecu.core.groovy.console.bindings.actions.Action;
+import de.valtech.aecu.core.groovy.console.bindings.actions.FusedPropertyAction;
 import de.valtech.aecu.core.groovy.console.bindings.actions.multivalue.AddMultiValues;
 import de.valtech.aecu.core.groovy.console.bindings.actions.multivalue.RemoveMultiValues;
 import de.valtech.aecu.core.groovy.console.bindings.actions.multivalue.ReplaceMultiValues;
 import de.valtech.aecu.core.groovy.console.bindings.actions.page.AddPageTagsAction;
 import de.valtech.aecu.core.groovy.console.bindings.actions.page.DeletePageAction;
+import de.valtech.aecu.core.groovy.console.bindings.actions.page.ParallelRenderPageAction;
 import de.valtech.aecu.core.groovy.console.bindings.actions.page.RemovePageTagsAction;
 import de.valtech.aecu.core.groovy.console.bindings.actions.page.RenderPageAction;
 import de.valtech.aecu.core.groovy.console.bindings.actions.page.ReplicatePageAction;
@@ -86,6 +89,7 @@ import de.valtech.aecu.core.groovy.console.bindings.actions.resource.MoveResourc
 import de.valtech.aecu.core.groovy.console.bindings.actions.resource.RemoveMixin;
 import de.valtech.aecu.core.groovy.console.bindings.actions.resource.RenameResource;
 import de.valtech.aecu.core.groovy.console.bindings.actions.resource.ReorderNode;
+import de.valtech.aecu.core.groovy.console.bindings.actions.resource.ReplaceMultipleResourcePropertyValues;
 import de.valtech.aecu.core.groovy.console.bindings.actions.resource.ReplaceResourcePropertyValues;
 import de.valtech.aecu.core.groovy.console.bindings.actions.resource.ReplaceResourcePropertyValuesRegex;
 import de.valtech.aecu.core.groovy.console.bindings.actions.resource.ReplicateResourceAction;
@@ -94,6 +98,8 @@ import de.valtech.aecu.core.groovy.console.bindings.traversers.ForDescendantReso
 import de.valtech.aecu.core.groovy.console.bindings.traversers.ForQuery;
 import de.valtech.aecu.core.groovy.console.bindings.traversers.ForResources;
 import de.valtech.aecu.core.groovy.console.bindings.traversers.TraversData;
+import de.valtech.aecu.core.service.AecuScriptContext;
+import de.valtech.aecu.core.service.ExecutionTrace;
 
 /**
  * Implements the content upgrade API.
@@ -368,19 +374,19 @@ public class ContentUpgradeImpl implements ContentUpgrade {
 
     @Override
     public ContentUpgrade doSetProperty(@Nonnull String name, Object value) {
-        actions.add(new SetProperty(name, value, null, "nt:unstructured"));
+        actions.add(new SetProperty(name, value, null, "nt:unstructured", context));
         return this;
     }
 
     @Override
     public ContentUpgrade doSetProperty(@Nonnull String name, Object value, String pathToSubnode) {
-        actions.add(new SetProperty(name, value, pathToSubnode, "nt:unstructured"));
+        actions.add(new SetProperty(name, value, pathToSubnode, "nt:unstructured", context));
         return this;
     }
 
     @Override
     public ContentUpgrade doSetProperty(@Nonnull String name, Object value, String pathToSubnode, String primaryType) {
-        actions.add(new SetProperty(name, value, pathToSubnode, primaryType));
+        actions.add(new SetProperty(name, value, pathToSubnode, primaryType, context));
         return this;
     }
 
@@ -404,25 +410,25 @@ public class ContentUpgradeImpl implements ContentUpgrade {
 
     @Override
     public ContentUpgrade doDeleteProperty(@Nonnull String name) {
-        actions.add(new DeleteProperty(name, null));
+        actions.add(new DeleteProperty(name, null, context));
         return this;
     }
 
     @Override
     public ContentUpgrade doDeleteProperty(@Nonnull String name, String pathToSubnode) {
-        actions.add(new DeleteProperty(name, pathToSubnode));
+        actions.add(new DeleteProperty(name, pathToSubnode, context));
         return this;
     }
 
     @Override
     public ContentUpgrade doRenameProperty(@Nonnull String oldName, @Nonnull String newName) {
-        actions.add(new RenameProperty(oldName, newName, null));
+        actions.add(new RenameProperty(oldName, newName, null, context));
         return this;
     }
 
     @Override
     public ContentUpgrade doRenameProperty(@Nonnull String oldName, @Nonnull String newName, String pathToSubnode) {
-        actions.add(new RenameProperty(oldName, newName, pathToSubnode));
+        actions.add(new RenameProperty(oldName, newName, pathToSubnode, context));
         return this;
     }
 
@@ -442,20 +448,20 @@ public class ContentUpgradeImpl implements ContentUpgrade {
 
     @Override
     public ContentUpgrade doAddValuesToMultiValueProperty(@Nonnull String name, @Nonnull String[] values) {
-        actions.add(new AddMultiValues(name, values));
+        actions.add(new AddMultiValues(name, values, context));
         return this;
     }
 
     @Override
     public ContentUpgrade doRemoveValuesOfMultiValueProperty(@Nonnull String name, @Nonnull String[] values) {
-        actions.add(new RemoveMultiValues(name, values));
+        actions.add(new RemoveMultiValues(name, values, context));
         return this;
     }
 
     @Override
     public ContentUpgrade doReplaceValuesOfMultiValueProperty(@Nonnull String name, @Nonnull String[] oldValues,
             @Nonnull String[] newValues) {
-        actions.add(new ReplaceMultiValues(name, oldValues, newValues));
+        actions.add(new ReplaceMultiValues(name, oldValues, newValues, context));
         return this;
     }
 
@@ -483,6 +489,18 @@ public class ContentUpgradeImpl implements ContentUpgrade {
         return this;
     }
 
+    @Override
+    public ContentUpgrade doReplaceValuesInProperties(Map<String, String> replacements) {
+        actions.add(new ReplaceMultipleResourcePropertyValues(replacements, Collections.emptyList()));
+        return this;
+    }
+
+    @Override
+    public ContentUpgrade doReplaceValuesInProperties(Map<String, String> replacements, String[] propertyNames) {
+        actions.add(new ReplaceMultipleResourcePropertyValues(replacements, Arrays.asList(propertyNames)));
+        return this;
+    }
+
     @Override
     public ContentUpgrade doChangePrimaryType(@Nonnull String newPrimaryType) {
         actions.add(new ChangePrimaryType(newPrimaryType));
@@ -651,6 +669,18 @@ public class ContentUpgradeImpl implements ContentUpgrade {
         return this;
     }
 
+    @Override
+    public ContentUpgrade doCheckPageRenderingParallel(int threads, int code) {
+        actions.add(new ParallelRenderPageAction(context, threads, code, null, null));
+        return this;
+    }
+
+    @Override
+    public ContentUpgrade doCheckPageRenderingParallel(int threads, String textPresent, String textNotPresent) {
+        actions.add(new ParallelRenderPageAction(context, threads, HttpServletResponse.SC_OK, textPresent, textNotPresent));
+        return this;
+    }
+
     @Override
     public ContentUpgrade doAddMixin(String mixinName) {
         actions.add(new AddMixin(mixinName));
@@ -699,15 +729,66 @@ public class ContentUpgradeImpl implements ContentUpgrade {
     @Override
     public void run(boolean dryRun) throws PersistenceException, AecuException {
         context.setDryRun(dryRun);
+        context.resetStatistics();
+        context.resetPageCache();
+        PrintStream printStream = scriptContext.getPrintStream();
+        // write progress while traversing to make it visible to live output listeners
+        context.setOutputStream(printStream);
+        context.setCancellationCheck(
+                () -> (scriptContext instanceof AecuScriptContext) && ((AecuScriptContext) scriptContext).isCancelled());
+        if (scriptContext instanceof AecuScriptContext) {
+            context.setProgress(((AecuScriptContext) scriptContext).getProgress());
+            context.setTrace(((AecuScriptContext) scriptContext).getTrace());
+        }
+        List<Action> plan = FusedPropertyAction.fuse(actions);
+        for (Action action : plan) {
+            action.prepare();
+        }
         StringBuilder output = new StringBuilder("Running content upgrade " + (dryRun ? "DRY" : "") + "...\n");
-        for (TraversData traversal : traversals) {
-            traversal.traverse(context, filter, actions, output, dryRun);
+        try {
+            for (TraversData traversal : traversals) {
+                long traversalStart = ExecutionTrace.now();
+                traversal.traverse(context, filter, plan, output, dryRun);
+                context.getTrace().addSpan("traversal " + traversal.getClass().getSimpleName(),
+                        ExecutionTrace.CATEGORY_CONTENT_UPGRADE, traversalStart);
+            }
+        } catch (PersistenceException | AecuException | RuntimeException e) {
+            for (Action action : plan) {
+                try {
+                    action.finish();
+                } catch (PersistenceException | AecuException | RuntimeException finishException) {
+                    e.addSuppressed(finishException);
+                }
+            }
+            throw e;
+        }
+        for (Action action : plan) {
+            String actionOutput = action.finish();
+            if (StringUtils.isNotBlank(actionOutput)) {
+                output.append(actionOutput + "\n");
+            }
+        }
+        long skippedWrites = context.getStatistics().getSkippedWrites();
+        if (skippedWrites > 0) {
+            output.append("Skipped " + skippedWrites + " writes of values that were already up-to-date\n");
+        }
+        long skippedPageActions = context.getStatistics().getSkippedPageActions();
+        if (skippedPageActions > 0) {
+            output.append("Skipped " + skippedPageActions + " page actions on pages that were already processed\n");
         }
         if (!dryRun) {
+            long commitStart = ExecutionTrace.now();
             context.getResolver().commit();
+            context.getTrace().addSpan("commit", ExecutionTrace.CATEGORY_CONTENT_UPGRADE, commitStart);
+            long pendingSaves = 0;
+            for (TraversData traversal : traversals) {
+                pendingSaves += traversal.getPendingSaves();
+            }
+            context.getEvents().batchCommitted(context.getProgress().getScript(), pendingSaves,
+                    ExecutionTrace.now() - commitStart);
         }
         output.append("\n\n");
-        scriptContext.getPrintStream().append(output);
+        printStream.append(output);
     }
 
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.groovy.console.bindings.impl;
+
+/**
+ * Statistics of a content upgrade run.
+ *
+ * @author agent
+ */
+public class RunStatistics {
+
+    private long skippedWrites = 0;
+    private long skippedPageActions = 0;
+
+    /**
+     * Counts a write that was skipped because the value was already up-to-date.
+     */
+    public void addSkippedWrite() {
+        skippedWrites++;
+    }
+
+    /**
+     * Returns the number of writes that were skipped because the value was already up-to-date.
+     *
+     * @return skipped writes
+     */
+    public long getSkippedWrites() {
+        return skippedWrites;
+    }
+
+    /**
+     * Counts a page action that was skipped because the page was already processed in this run.
+     */
+    public void addSkippedPageAction() {
+        skippedPageActions++;
+    }
+
+    /**
+     * Returns the number of page actions that were skipped because the page was already processed.
+     *
+     * @return skipped page actions
+     */
+    public long getSkippedPageActions() {
+        return skippedPageActions;
+    }
+
+}
@@ -18,15 +18,16 @@
  */
 package de.valtech.aecu.core.groovy.console.bindings.provider;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import org.apache.sling.api.resource.LoginException;
 import org.apache.sling.api.resource.ResourceResolverFactory;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import com.day.cq.replication.Replicator;
 import be.orbinson.aem.groovy.console.api.BindingExtensionProvider;
@@ -35,6 +36,8 @@ import be.orbinson.aem.groovy.console.api.context.ScriptContext;
 
 import de.valtech.aecu.api.groovy.console.bindings.AecuBinding;
 import de.valtech.aecu.core.groovy.console.bindings.impl.AecuBindingImpl;
+import de.valtech.aecu.core.groovy.console.bindings.impl.BindingResolvers;
+import de.valtech.aecu.core.service.AecuScriptContext;
 import de.valtech.aecu.core.serviceuser.ServiceResourceResolverService;
 
 /**
@@ -45,8 +48,6 @@ import de.valtech.aecu.core.serviceuser.ServiceResourceResolverService;
 @Component(immediate = true, service = {BindingExtensionProvider.class, AecuBindingExtensionProvider.class})
 public class AecuBindingExtensionProvider implements BindingExtensionProvider {
 
-    private static final Logger LOG = LoggerFactory.getLogger(AecuBindingExtensionProvider.class);
-
     @Reference
     private BindingExtensionProvider defaultBindingExtensionProvider;
     @Reference
@@ -56,21 +57,53 @@ public class AecuBindingExtensionProvider implements BindingExtensionProvider {
     @Reference
     private Replicator replicator;
 
+    /**
+     * Resolvers of Groovy Console script contexts, closed once the context was garbage collected
+     */
+    private final Map<WeakReference<ScriptContext>, BindingResolvers> openResolvers = new ConcurrentHashMap<>();
+    private final ReferenceQueue<ScriptContext> endedContexts = new ReferenceQueue<>();
 
     @Override
     public Map<String, BindingVariable> getBindingVariables(ScriptContext context) {
+        closeEndedContexts();
         Map<String, BindingVariable> variables = new HashMap<>();
-        try {
-            AecuBinding aecuBinding = new AecuBindingImpl(resourceResolverService.getContentMigratorResourceResolver(),
-                    resourceResolverService.getAdminResourceResolver(), resourceResolverFactory, replicator, context);
-            BindingVariable aecuVar =
-                    new BindingVariable(aecuBinding, AecuBinding.class, "https://github.com/valtech/aem-easy-content-upgrade");
-            variables.put(AecuBinding.BINDING_NAME, aecuVar);
-        } catch (LoginException e) {
-            LOG.error(
-                    "Failed to get resource resolver for aecu-content-migrator or aecu-admin, make sure you all the configurations needed for this system user are deployed.");
+        BindingResolvers resolvers;
+        if (context instanceof AecuScriptContext) {
+            AecuScriptContext aecuContext = (AecuScriptContext) context;
+            resolvers = new BindingResolvers(resourceResolverService, aecuContext::wrapResolver);
+            aecuContext.addCloseable(resolvers);
+        } else {
+            resolvers = new BindingResolvers(resourceResolverService);
+            openResolvers.put(new WeakReference<>(context, endedContexts), resolvers);
         }
+        AecuBinding aecuBinding = new AecuBindingImpl(resolvers, resourceResolverFactory, replicator, context);
+        BindingVariable aecuVar =
+                new BindingVariable(aecuBinding, AecuBinding.class, "https://github.com/valtech/aem-easy-content-upgrade");
+        variables.put(AecuBinding.BINDING_NAME, aecuVar);
         return variables;
     }
 
+    /**
+     * Closes the resolvers of script contexts that are no longer used.
+     */
+    protected void closeEndedContexts() {
+        for (Object ended = endedContexts.poll(); ended != null; ended = endedContexts.poll()) {
+            BindingResolvers resolvers = openResolvers.remove(ended);
+            if (resolvers != null) {
+                resolvers.close();
+            }
+        }
+    }
+
+    /**
+     * Closes all remaining resolvers.
+     */
+    @Deactivate
+    public void deactivate() {
+        for (BindingResolvers resolvers : openResolvers.values()) {
+            resolvers.close();
+        }
+        openResolvers.clear();
+    }
+
 }
@@ -58,7 +58,7 @@ public class ForChildResourcesOf extends TraversData {
             if (!isResourceValid(resource)) {
                 continue;
             }
-            applyActionsOnResource(resource, filter, actions, output, dryRun);
+            applyActionsOnResource(context, resource, filter, actions, output, dryRun);
         }
     }
 
@@ -53,14 +53,14 @@ public class ForDescendantResourcesOf extends TraversData {
         Resource parentResource = resourceResolver.getResource(path);
         if (parentResource != null) {
             if (includeRootResource) {
-                applyActionsOnResource(parentResource, filter, actions, output, dryRun);
+                applyActionsOnResource(context, parentResource, filter, actions, output, dryRun);
             }
-            traverseChildResourcesRecursive(resourceResolver, parentResource, filter, actions, output, dryRun);
+            traverseChildResourcesRecursive(context, parentResource, filter, actions, output, dryRun);
         }
     }
 
-    private void traverseChildResourcesRecursive(ResourceResolver resourceResolver, Resource resource, FilterBy filter,
-            List<Action> actions, StringBuilder output, boolean dryRun) throws PersistenceException, AecuException {
+    private void traverseChildResourcesRecursive(BindingContext context, Resource resource, FilterBy filter, List<Action> actions,
+            StringBuilder output, boolean dryRun) throws PersistenceException, AecuException {
         if (resource == null || !resource.hasChildren()) {
             return;
         }
@@ -70,8 +70,8 @@ public class ForDescendantResourcesOf extends TraversData {
             if (!isResourceValid(child)) {
                 continue;
             }
-            applyActionsOnResource(child, filter, actions, output, dryRun);
-            traverseChildResourcesRecursive(resourceResolver, child, filter, actions, output, dryRun);
+            applyActionsOnResource(context, child, filter, actions, output, dryRun);
+            traverseChildResourcesRecursive(context, child, filter, actions, output, dryRun);
         }
     }
 
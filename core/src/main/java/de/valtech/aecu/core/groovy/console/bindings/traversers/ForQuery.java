@@ -61,7 +61,7 @@ public class ForQuery extends TraversData {
         Iterator<Resource> queryResult = resourceResolver.findResources(query, queryType);
         while (queryResult.hasNext()) {
             Resource resource = queryResult.next();
-            applyActionsOnResource(resource, filter, actions, output, dryRun);
+            applyActionsOnResource(context, resource, filter, actions, output, dryRun);
         }
     }
 
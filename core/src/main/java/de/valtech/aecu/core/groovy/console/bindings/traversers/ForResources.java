@@ -46,6 +46,7 @@ public class ForResources extends TraversData {
     public void traverse(@Nonnull BindingContext context, FilterBy filter, @Nonnull List<Action> actions,
             @Nonnull StringBuilder output, boolean dryRun) throws PersistenceException, AecuException {
         ResourceResolver resourceResolver = context.getResolver();
+        context.getProgress().addExpected(paths.length);
         for (String path : paths) {
             if (path == null) {
                 continue;
@@ -55,7 +56,7 @@ public class ForResources extends TraversData {
                 output.append("WARNING: resource does not exist " + path + "\n");
                 continue;
             }
-            applyActionsOnResource(resource, filter, actions, output, dryRun);
+            applyActionsOnResource(context, resource, filter, actions, output, dryRun);
         }
     }
 
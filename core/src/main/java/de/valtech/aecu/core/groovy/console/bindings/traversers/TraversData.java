@@ -33,6 +33,7 @@ import de.valtech.aecu.api.groovy.console.bindings.filters.FilterBy;
 import de.valtech.aecu.api.service.AecuException;
 import de.valtech.aecu.core.groovy.console.bindings.actions.Action;
 import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
+import de.valtech.aecu.core.service.ExecutionTrace;
 
 /**
  * @author Roxana Muresan
@@ -42,6 +43,7 @@ public abstract class TraversData {
 
     private static final int SAVE_LIMIT = 1000;
     private int saveCount = 0;
+    private long batchStart = 0;
 
     /**
      * Traverses the resources and performs the filters and actions.
@@ -75,6 +77,7 @@ public abstract class TraversData {
     /**
      * Applies the actions on the given resource.
      * 
+     * @param context  binding context
      * @param resource resource
      * @param filter   filter
      * @param actions  list of actions
@@ -83,31 +86,73 @@ public abstract class TraversData {
      * @throws PersistenceException error during execution
      * @throws AecuException        other error
      */
-    protected void applyActionsOnResource(@Nonnull Resource resource, FilterBy filter, List<Action> actions, StringBuilder output,
-            boolean dryRun) throws PersistenceException, AecuException {
-        if (filter == null || filter.filter(resource, output)) {
+    protected void applyActionsOnResource(@Nonnull BindingContext context, @Nonnull Resource resource, FilterBy filter,
+            List<Action> actions, StringBuilder output, boolean dryRun) throws PersistenceException, AecuException {
+        ExecutionTrace trace = context.getTrace();
+        if (batchStart == 0) {
+            batchStart = ExecutionTrace.now();
+        }
+        long filterStart = ExecutionTrace.now();
+        boolean matches = (filter == null) || filter.filter(resource, output);
+        if (filter != null) {
+            trace.addDetailSpan("filter", ExecutionTrace.CATEGORY_CONTENT_UPGRADE, filterStart, resource.getPath());
+        }
+        if (matches) {
             ResourceResolver resolver = resource.getResourceResolver();
+            long actionsStart = ExecutionTrace.now();
             runActions(output, resource, actions);
-            if (!dryRun) {
-                save(resolver);
+            trace.addDetailSpan("actions", ExecutionTrace.CATEGORY_CONTENT_UPGRADE, actionsStart, resource.getPath());
+            if (context.getEvents().isActive()) {
+                context.getEvents().resourceProcessed(context.getProgress().getScript(), resource.getPath(),
+                        ExecutionTrace.now() - actionsStart);
             }
+            context.getMetrics().resourcesProcessed(1);
+            save(context, resolver, dryRun);
         }
+        context.getProgress().resourceProcessed(resource.getPath(), matches);
+        context.flushOutput(output);
     }
 
     /**
-     * Saves the changes after a defined number of calls.
+     * Saves the changes after a defined number of calls. The run stops at these batch boundaries if
+     * the script was cancelled.
      * 
+     * @param context          binding context
      * @param resourceResolver resolver
+     * @param dryRun           dry-run active
      * @throws PersistenceException error saving data
+     * @throws AecuException        script was cancelled
      */
-    private void save(ResourceResolver resourceResolver) throws PersistenceException {
+    private void save(BindingContext context, ResourceResolver resourceResolver, boolean dryRun)
+            throws PersistenceException, AecuException {
         saveCount++;
         if (saveCount > SAVE_LIMIT) {
-            resourceResolver.commit();
+            ExecutionTrace trace = context.getTrace();
+            trace.addSpan("batch", ExecutionTrace.CATEGORY_CONTENT_UPGRADE, batchStart);
+            batchStart = 0;
+            if (!dryRun) {
+                long commitStart = ExecutionTrace.now();
+                resourceResolver.commit();
+                trace.addSpan("commit", ExecutionTrace.CATEGORY_CONTENT_UPGRADE, commitStart);
+                context.getEvents().batchCommitted(context.getProgress().getScript(), saveCount,
+                        ExecutionTrace.now() - commitStart);
+            }
             saveCount = 0;
+            if (context.isCancelled()) {
+                throw new AecuException("Content upgrade was cancelled");
+            }
         }
     }
 
+    /**
+     * Returns the number of changed resources that were not yet committed by a batch.
+     * 
+     * @return number of resources
+     */
+    public int getPendingSaves() {
+        return saveCount;
+    }
+
     /**
      * Runs the given list of actions.
      * 
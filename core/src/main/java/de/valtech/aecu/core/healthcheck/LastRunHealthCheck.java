@@ -19,39 +19,66 @@
 package de.valtech.aecu.core.healthcheck;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.sling.hc.api.HealthCheck;
 import org.apache.sling.hc.api.Result;
 import org.apache.sling.hc.util.FormattingResultLog;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.metatype.annotations.Designate;
 
 import de.valtech.aecu.api.service.AecuException;
 import de.valtech.aecu.api.service.AecuService;
-import de.valtech.aecu.api.service.HistoryEntry;
+import de.valtech.aecu.api.service.HistorySummary;
+import de.valtech.aecu.core.service.ProgressRegistry;
+import de.valtech.aecu.core.service.ScriptProgress;
 
 /**
- * Checks if the last script run was ok.
+ * Checks if the last script run was ok. Running scripts that made no progress for the configured
+ * time are reported as warning.
  *
  * @author Roland Gruber
  */
 @Component(immediate = true, service = HealthCheck.class, property = {HealthCheck.TAGS + "=aecu",
         HealthCheck.TAGS + "=aecu-last-run", HealthCheck.NAME + "=AECU Last Run", HealthCheck.MBEAN_NAME + "=aecuLastRunHCmBean"})
+@Designate(ocd = LastRunHealthCheckConfiguration.class)
 public class LastRunHealthCheck implements HealthCheck {
 
+    protected static final int DEFAULT_STALL_MINUTES = 30;
+
     @Reference
     private AecuService aecuService;
 
+    @Reference
+    private ProgressRegistry progressRegistry;
+
+    private long stallTime = TimeUnit.MINUTES.toMillis(DEFAULT_STALL_MINUTES);
+
+    /**
+     * Activates the health check.
+     *
+     * @param config configuration
+     */
+    @Activate
+    @Modified
+    public void activate(LastRunHealthCheckConfiguration config) {
+        stallTime = TimeUnit.MINUTES.toMillis(Math.max(0, config.stallMinutes()));
+    }
+
     @Override
     public Result execute() {
         final FormattingResultLog resultLog = new FormattingResultLog();
+        boolean progressing = checkProgress(resultLog);
         try {
-            List<HistoryEntry> history = aecuService.getHistory(0, 1);
-            if (history.isEmpty()) {
+            // served from memory, no repository access
+            HistorySummary lastRun = aecuService.getLastRun();
+            if (lastRun == null) {
                 resultLog.info("No runs found");
             } else {
-                HistoryEntry entry = history.get(0);
-                switch (entry.getResult()) {
+                switch (lastRun.getResult()) {
                     case FAILURE:
                         resultLog.critical("Last execution failed");
                         break;
@@ -59,7 +86,11 @@ public class LastRunHealthCheck implements HealthCheck {
                         resultLog.info("Last run was successful");
                         break;
                     case UNKNOWN:
-                        resultLog.warn("Last execution is still running");
+                        if (progressing) {
+                            resultLog.info("Last execution is still running");
+                        } else {
+                            resultLog.warn("Last execution is still running");
+                        }
                         break;
                     default:
                         resultLog.warn("Last execution is still ongoing");
@@ -71,4 +102,26 @@ public class LastRunHealthCheck implements HealthCheck {
         return new Result(resultLog);
     }
 
+    /**
+     * Reports the progress of the running scripts and warns about scripts without progress.
+     *
+     * @param resultLog result log
+     * @return scripts are running and none of them is stalled
+     */
+    private boolean checkProgress(FormattingResultLog resultLog) {
+        long now = System.currentTimeMillis();
+        List<ScriptProgress> running = progressRegistry.getRunning();
+        boolean stalled = false;
+        for (ScriptProgress progress : running) {
+            long idle = progress.getIdleTime(now);
+            if ((stallTime > 0) && (idle > stallTime)) {
+                resultLog.warn("Script made no progress for {} minutes: {}", TimeUnit.MILLISECONDS.toMinutes(idle), progress);
+                stalled = true;
+            } else {
+                resultLog.info("Script is running: {}", progress);
+            }
+        }
+        return !running.isEmpty() && !stalled;
+    }
+
 }
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.history;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.jackrabbit.JcrConstants;
+import org.apache.sling.api.resource.ModifiableValueMap;
+import org.apache.sling.api.resource.PersistenceException;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.api.resource.ValueMap;
+
+import de.valtech.aecu.api.service.AecuException;
+
+/**
+ * Ordered index of the history entries. Each new entry gets the next position and its path is
+ * stored in a bucket node (positions / {@link #BUCKET_SIZE}). This allows to read a page of the
+ * history without walking the year/month/day folders.
+ * <p>
+ * The index starts with the first entry that was created after its introduction. Older entries are
+ * not part of it.
+ *
+ * @author agent
+ */
+class HistoryIndex {
+
+    /**
+     * Name of the index node below the history base, excluded from the aecuHistory Oak index
+     */
+    static final String NODE_NAME = "historyIndex";
+
+    /**
+     * Path of the index node
+     */
+    static final String PATH = HistoryUtil.HISTORY_BASE + "/" + NODE_NAME;
+
+    /**
+     * Next free position
+     */
+    static final String ATTR_NEXT = "next";
+
+    /**
+     * Position of the oldest entry that was not purged
+     */
+    static final String ATTR_FIRST = "first";
+
+    static final int BUCKET_SIZE = 1000;
+
+    private final ResourceResolver resolver;
+    private final long first;
+    private final long next;
+
+    private Resource bucket;
+    private long bucketNumber = -1;
+
+    /**
+     * Constructor
+     *
+     * @param resolver resource resolver
+     */
+    HistoryIndex(ResourceResolver resolver) {
+        this.resolver = resolver;
+        Resource index = resolver.getResource(PATH);
+        ValueMap values = (index == null) ? null : index.adaptTo(ValueMap.class);
+        if (values == null) {
+            first = 0;
+            next = 0;
+        } else {
+            first = getLong(values, ATTR_FIRST);
+            next = getLong(values, ATTR_NEXT);
+        }
+    }
+
+    /**
+     * Returns if the index contains any entries.
+     *
+     * @return is empty
+     */
+    boolean isEmpty() {
+        return next <= first;
+    }
+
+    /**
+     * Returns the number of indexed entries.
+     *
+     * @return size
+     */
+    long size() {
+        return Math.max(0, next - first);
+    }
+
+    /**
+     * Returns if older entries were purged from the index.
+     *
+     * @return purged
+     */
+    boolean isPurged() {
+        return first > 0;
+    }
+
+    /**
+     * Returns the position of the oldest entry.
+     *
+     * @return position
+     */
+    long getFirst() {
+        return first;
+    }
+
+    /**
+     * Returns the position of the newest entry.
+     *
+     * @return position
+     */
+    long getLast() {
+        return next - 1;
+    }
+
+    /**
+     * Adds a new history entry as newest one to the index. The change needs to be committed by the
+     * caller before the next entry is added.
+     *
+     * @param path path of history entry
+     * @throws AecuException error updating index
+     */
+    void add(String path) throws AecuException {
+        Resource index = getOrCreate(HistoryUtil.HISTORY_BASE, NODE_NAME);
+        Resource target = getOrCreate(PATH, String.valueOf(next / BUCKET_SIZE));
+        target.adaptTo(ModifiableValueMap.class).put(String.valueOf(next), path);
+        index.adaptTo(ModifiableValueMap.class).put(ATTR_NEXT, next + 1);
+    }
+
+    /**
+     * Returns the history entry at the given position.
+     *
+     * @param position position
+     * @return history entry resource or null if not existing (e.g. deleted manually)
+     */
+    Resource getEntry(long position) {
+        if ((position < first) || (position >= next)) {
+            return null;
+        }
+        long number = position / BUCKET_SIZE;
+        if (number != bucketNumber) {
+            bucket = resolver.getResource(PATH + "/" + number);
+            bucketNumber = number;
+        }
+        if (bucket == null) {
+            return null;
+        }
+        ValueMap values = bucket.adaptTo(ValueMap.class);
+        String path = (values == null) ? null : values.get(String.valueOf(position), String.class);
+        return (path == null) ? null : resolver.getResource(path);
+    }
+
+    /**
+     * Removes the entries at the beginning of the index whose history nodes were purged. This also
+     * deletes buckets that contain only purged entries.
+     *
+     * @throws PersistenceException error deleting buckets
+     */
+    void prune() throws PersistenceException {
+        Resource index = resolver.getResource(PATH);
+        if ((index == null) || isEmpty()) {
+            return;
+        }
+        long newFirst = first;
+        while ((newFirst < next) && (getEntry(newFirst) == null)) {
+            newFirst++;
+        }
+        if (newFirst == first) {
+            return;
+        }
+        index.adaptTo(ModifiableValueMap.class).put(ATTR_FIRST, newFirst);
+        Iterator<Resource> buckets = index.listChildren();
+        while (buckets.hasNext()) {
+            Resource candidate = buckets.next();
+            if (StringUtils.isNumeric(candidate.getName())
+                    && ((Long.parseLong(candidate.getName()) + 1) * BUCKET_SIZE <= newFirst)) {
+                resolver.delete(candidate);
+            }
+        }
+    }
+
+    /**
+     * Returns the child resource. It is created if not yet existing.
+     *
+     * @param parentPath parent path
+     * @param name       child name
+     * @return child
+     * @throws AecuException error creating node
+     */
+    private Resource getOrCreate(String parentPath, String name) throws AecuException {
+        Resource child = resolver.getResource(parentPath + "/" + name);
+        if (child != null) {
+            return child;
+        }
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(JcrConstants.JCR_PRIMARYTYPE, JcrConstants.NT_UNSTRUCTURED);
+        try {
+            return resolver.create(resolver.getResource(parentPath), name, properties);
+        } catch (PersistenceException e) {
+            throw new AecuException("Unable to create " + parentPath + "/" + name, e);
+        }
+    }
+
+    /**
+     * Reads a long value.
+     *
+     * @param values value map
+     * @param name   property name
+     * @return value, 0 if not set
+     */
+    private static long getLong(ValueMap values, String name) {
+        Long value = values.get(name, Long.class);
+        return (value == null) ? 0 : value;
+    }
+
+}
@@ -18,18 +18,36 @@
  */
 package de.valtech.aecu.core.history;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.EnumMap;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.jackrabbit.JcrConstants;
 import org.apache.jackrabbit.oak.spi.security.authorization.accesscontrol.AccessControlConstants;
+import org.apache.sling.api.resource.LoginException;
 import org.apache.sling.api.resource.ModifiableValueMap;
 import org.apache.sling.api.resource.PersistenceException;
 import org.apache.sling.api.resource.Resource;
@@ -39,6 +57,7 @@ import org.apache.sling.api.resource.ResourceUtil.BatchResourceRemover;
 import org.apache.sling.api.resource.ValueMap;
 import org.apache.sling.jcr.resource.api.JcrResourceConstants;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,7 +67,12 @@ import de.valtech.aecu.api.service.ExecutionState;
 import de.valtech.aecu.api.service.HistoryEntry;
 import de.valtech.aecu.api.service.HistoryEntry.RESULT;
 import de.valtech.aecu.api.service.HistoryEntry.STATE;
+import de.valtech.aecu.api.service.HistorySummary;
+import de.valtech.aecu.api.service.ResourceUsage;
+import de.valtech.aecu.core.metrics.AecuMetrics;
+import de.valtech.aecu.core.service.BoundedOutputStream;
 import de.valtech.aecu.core.service.HistoryEntryImpl;
+import de.valtech.aecu.core.serviceuser.ServiceResourceResolverService;
 
 /**
  * Reads and writes history entries.
@@ -67,21 +91,106 @@ public class HistoryUtil {
 
     public static final String NODE_FALLBACK = "fallback";
 
+    /**
+     * Node with the GZIP compressed output of scripts that exceed {@link #MAX_INLINE_OUTPUT}. Only used
+     * by older versions, outputs are now kept in the output store.
+     */
+    public static final String NODE_FULL_OUTPUT = "fullOutput";
+
+    /**
+     * Number of characters that are kept from start and end of outputs that are moved to the output
+     * store
+     */
+    public static final int OUTPUT_PREVIEW_SIZE = 8 * 1024;
+
+    /**
+     * Maximum output length that is stored directly as (full-text indexed) property
+     */
+    public static final int MAX_INLINE_OUTPUT = 2 * OUTPUT_PREVIEW_SIZE;
+
+    /**
+     * Outputs up to this size (bytes) are shown completely in the history details
+     */
+    public static final long MAX_DISPLAYED_OUTPUT = BoundedOutputStream.HEAD_SIZE + BoundedOutputStream.TAIL_SIZE;
+
     public static final String ATTR_PATH = "path";
     protected static final String ATTR_RUN_OUTPUT = "runOutput";
+    protected static final String ATTR_RUN_OUTPUT_SIZE = "runOutputSize";
+    /**
+     * SHA-256 hash of the output in the output store
+     */
+    protected static final String ATTR_RUN_OUTPUT_HASH = "runOutputHash";
     protected static final String ATTR_RUN_STATE = "runState";
     protected static final String ATTR_RUN_RESULT = "runResult";
     protected static final String ATTR_RUN_TIME = "runTime";
+    protected static final String ATTR_RUN_NODES_READ = "runNodesRead";
+    protected static final String ATTR_RUN_PROPERTIES_WRITTEN = "runPropertiesWritten";
+    protected static final String ATTR_RUN_QUERIES = "runQueries";
+    protected static final String ATTR_RUN_QUERY_RESULTS = "runQueryResults";
+    protected static final String ATTR_RUN_COMMITS = "runCommits";
+    protected static final String ATTR_RUN_COMMIT_TIME = "runCommitTime";
     protected static final String ATTR_RESULT = "result";
     protected static final String ATTR_STATE = "state";
     protected static final String ATTR_START = "start";
     protected static final String ATTR_END = "end";
+    /**
+     * GZIP compressed execution trace in Chrome trace-event format
+     */
+    protected static final String ATTR_TRACE = "trace";
+    /**
+     * Time when a background job started to execute the run
+     */
+    protected static final String ATTR_JOB_STARTED = "jobStarted";
+    /**
+     * Prefix of the summary attributes with the number of scripts per execution state
+     */
+    protected static final String ATTR_COUNT_PREFIX = "count";
+    /**
+     * Summary attribute with the paths of failed and cancelled scripts
+     */
+    protected static final String ATTR_FAILED_SCRIPTS = "failedScripts";
+    protected static final int MAX_CACHED_SUMMARIES = 200;
+    /**
+     * Time in milliseconds after which the summary of the latest run is read again from the repository.
+     * Runs of other cluster nodes only update the in-memory summary on reload.
+     */
+    protected static final long LAST_RUN_MAX_AGE = 60 * 1000L;
     private static final String NAME_INDEX = "oak:index";
 
     private Random random = new Random();
 
+    @Reference
+    private AecuMetrics metrics = AecuMetrics.NOOP;
+
+    @Reference
+    private ServiceResourceResolverService resolverService;
+
+    private final Map<String, HistorySummary> summaryCache = new LinkedHashMap<String, HistorySummary>(16, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, HistorySummary> eldest) {
+            return size() > MAX_CACHED_SUMMARIES;
+        }
+
+    };
+
+    private final Object lastRunLock = new Object();
+
     /**
-     * Starts a new history entry.
+     * Summary of the latest run, only valid if lastRunRefreshed is not older than LAST_RUN_MAX_AGE
+     */
+    private volatile HistorySummary lastRun;
+
+    /**
+     * Time of the last update of lastRun, 0 if not loaded
+     */
+    private volatile long lastRunRefreshed = 0;
+
+    /**
+     * Starts a new history entry. The entry is also added to the history index, the caller needs to
+     * commit before the next entry is created.
      *
      * @param resolver resource resolver
      * @return history entry
@@ -96,6 +205,7 @@ public class HistoryUtil {
         String nodePath = basePath + "/" + nodeName;
         createPath(basePath, resolver, JcrResourceConstants.NT_SLING_ORDERED_FOLDER);
         createPath(nodePath, resolver, JcrConstants.NT_UNSTRUCTURED);
+        new HistoryIndex(resolver).add(nodePath);
         Resource resource = resolver.getResource(nodePath);
         ModifiableValueMap values = resource.adaptTo(ModifiableValueMap.class);
         values.put(ATTR_START, start);
@@ -104,6 +214,10 @@ public class HistoryUtil {
         history.setStart(start.getTime());
         history.setRepositoryPath(nodePath);
         history.setState(STATE.RUNNING);
+        synchronized (lastRunLock) {
+            lastRun = new HistorySummary(nodePath, start.getTime(), null, STATE.RUNNING, null, null);
+            lastRunRefreshed = currentTimeMillis();
+        }
         return history;
     }
 
@@ -119,6 +233,17 @@ public class HistoryUtil {
             throws AecuException {
         String path = history.getRepositoryPath() + "/" + history.getSingleResults().size();
         saveExecutionResultInHistory(result, path, resolver);
+        invalidateSummary(history.getRepositoryPath());
+        synchronized (lastRunLock) {
+            HistorySummary current = lastRun;
+            if ((result != null) && (current != null) && current.getRepositoryPath().equals(history.getRepositoryPath())) {
+                Map<ExecutionState, Integer> counts = getCounts(current);
+                List<String> failedScripts = new ArrayList<>(current.getFailedScripts());
+                countResult(counts, failedScripts, result.getState(), result.getPath());
+                lastRun = new HistorySummary(current.getRepositoryPath(), current.getStart(), null, current.getState(), counts,
+                        failedScripts);
+            }
+        }
     }
 
     /**
@@ -134,8 +259,25 @@ public class HistoryUtil {
         values.put(ATTR_END, end);
         values.put(ATTR_STATE, STATE.FINISHED.name());
         values.put(ATTR_RESULT, history.getResult().name());
+        Map<ExecutionState, Integer> counts = new EnumMap<>(ExecutionState.class);
+        List<String> failedScripts = new ArrayList<>();
+        for (ExecutionResult result : history.getSingleResults()) {
+            countResult(counts, failedScripts, result.getState(), result.getPath());
+        }
+        for (ExecutionState state : ExecutionState.values()) {
+            values.put(getCountAttribute(state), counts.getOrDefault(state, 0).longValue());
+        }
+        values.put(ATTR_FAILED_SCRIPTS, failedScripts.toArray(new String[0]));
         ((HistoryEntryImpl) history).setEnd(end.getTime());
         ((HistoryEntryImpl) history).setState(STATE.FINISHED);
+        invalidateSummary(history.getRepositoryPath());
+        synchronized (lastRunLock) {
+            HistorySummary current = lastRun;
+            if ((current != null) && current.getRepositoryPath().equals(history.getRepositoryPath())) {
+                lastRun = new HistorySummary(current.getRepositoryPath(), current.getStart(), end.getTime(), STATE.FINISHED,
+                        counts, failedScripts);
+            }
+        }
     }
 
     /**
@@ -148,23 +290,124 @@ public class HistoryUtil {
      */
     public List<HistoryEntry> getHistory(int startIndex, int count, ResourceResolver resolver) {
         List<HistoryEntry> entries = new ArrayList<>();
+        for (Resource resource : getHistoryResources(startIndex, count, resolver)) {
+            entries.add(readHistoryEntry(resource));
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the summaries of the last history entries. The search starts at the newest entry.
+     *
+     * @param startIndex start reading at this index (first is 0)
+     * @param count      number of entries to read
+     * @param resolver   resource resolver
+     * @return history summaries (newest first)
+     */
+    public List<HistorySummary> getHistorySummaries(int startIndex, int count, ResourceResolver resolver) {
+        List<HistorySummary> summaries = new ArrayList<>();
+        for (Resource resource : getHistoryResources(startIndex, count, resolver)) {
+            summaries.add(readHistorySummary(resource));
+        }
+        return summaries;
+    }
+
+    /**
+     * Returns the summary of the latest run. The summary is kept in memory and updated when history
+     * entries are created, extended or finished on this instance. The repository is read again if the
+     * summary is older than {@link #LAST_RUN_MAX_AGE} to include runs of other cluster nodes.
+     *
+     * @return summary, null if there was no run yet
+     * @throws AecuException error reading history
+     */
+    public HistorySummary getLastRun() throws AecuException {
+        if (isLastRunValid()) {
+            return lastRun;
+        }
+        synchronized (lastRunLock) {
+            if (!isLastRunValid()) {
+                try (ResourceResolver resolver = resolverService.getServiceResourceResolver()) {
+                    List<HistorySummary> summaries = getHistorySummaries(0, 1, resolver);
+                    lastRun = summaries.isEmpty() ? null : summaries.get(0);
+                    lastRunRefreshed = currentTimeMillis();
+                } catch (LoginException e) {
+                    throw new AecuException("Unable to get service resource resolver", e);
+                }
+            }
+            return lastRun;
+        }
+    }
+
+    /**
+     * Checks if the in-memory summary of the latest run can be used.
+     *
+     * @return summary is loaded and not older than {@link #LAST_RUN_MAX_AGE}
+     */
+    private boolean isLastRunValid() {
+        long refreshed = lastRunRefreshed;
+        return (refreshed != 0) && ((currentTimeMillis() - refreshed) < LAST_RUN_MAX_AGE);
+    }
+
+    /**
+     * Returns the current time.
+     *
+     * @return time in milliseconds
+     */
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * Returns the resources of the last history entries. Entries are read from the history index,
+     * only entries that were created before the index was introduced require to walk the history
+     * folders.
+     *
+     * @param startIndex start reading at this index (first is 0)
+     * @param count      number of entries to read
+     * @param resolver   resource resolver
+     * @return history entry resources (newest first)
+     */
+    private List<Resource> getHistoryResources(int startIndex, int count, ResourceResolver resolver) {
+        List<Resource> entries = new ArrayList<>();
         if (count == 0) {
             return entries;
         }
         Resource base = resolver.getResource(HISTORY_BASE);
-        Resource current = getLatestHistoryEntry(base);
-        if (current == null) {
+        if (base == null) {
+            return entries;
+        }
+        HistoryIndex index = new HistoryIndex(resolver);
+        // number of existing entries before the start index
+        long skipped = 0;
+        for (long position = index.getLast(); (position >= index.getFirst()) && (entries.size() < count); position--) {
+            Resource entry = index.getEntry(position);
+            // entries that were deleted manually or purged do not count
+            if (entry == null) {
+                continue;
+            }
+            if (skipped < startIndex) {
+                skipped++;
+            } else {
+                entries.add(entry);
+            }
+        }
+        if ((entries.size() == count) || index.isPurged()) {
             return entries;
         }
+        // continue with entries that are older than the index
+        Resource current;
+        if (index.isEmpty()) {
+            current = getLatestHistoryEntry(base);
+        } else {
+            Resource oldestIndexed = index.getEntry(index.getFirst());
+            current = (oldestIndexed == null) ? null : getPreviousHistoryEntry(oldestIndexed);
+        }
         // skip up to start index
-        for (int i = 0; i < startIndex; i++) {
+        for (long i = skipped; (i < startIndex) && (current != null); i++) {
             current = getPreviousHistoryEntry(current);
         }
-        for (int i = 0; i < count; i++) {
-            if (current == null) {
-                break;
-            }
-            entries.add(readHistoryEntry(current));
+        while ((current != null) && (entries.size() < count)) {
+            entries.add(current);
             current = getPreviousHistoryEntry(current);
         }
         return entries;
@@ -242,7 +485,7 @@ public class HistoryUtil {
             if (sibling.getName().equals(resource.getName())) {
                 break;
             }
-            if (!sibling.getName().equals(AccessControlConstants.REP_POLICY) && !sibling.getName().equals(NAME_INDEX)) {
+            if (!isIgnoredNode(sibling)) {
                 previous = sibling;
             }
         }
@@ -276,13 +519,25 @@ public class HistoryUtil {
         Iterator<Resource> lastIterator = resource.listChildren();
         while (lastIterator.hasNext()) {
             Resource candidate = lastIterator.next();
-            if (!AccessControlConstants.REP_POLICY.equals(candidate.getName()) && !NAME_INDEX.equals(candidate.getName())) {
+            if (!isIgnoredNode(candidate)) {
                 last = candidate;
             }
         }
         return last;
     }
 
+    /**
+     * Checks if the node is no part of the history folders (e.g. ACL or indexes).
+     *
+     * @param resource resource
+     * @return ignored node
+     */
+    private boolean isIgnoredNode(Resource resource) {
+        String name = resource.getName();
+        return AccessControlConstants.REP_POLICY.equals(name) || NAME_INDEX.equals(name) || HistoryIndex.NODE_NAME.equals(name)
+                || OutputStore.NODE_NAME.equals(name);
+    }
+
     /**
      * Returns the base resource for a (fallback) script resource.
      * 
@@ -310,6 +565,7 @@ public class HistoryUtil {
      * @return history entry
      */
     public HistoryEntry readHistoryEntry(Resource resource) {
+        long start = System.currentTimeMillis();
         HistoryEntryImpl entry = new HistoryEntryImpl();
         entry.setRepositoryPath(resource.getPath());
         ValueMap values = resource.adaptTo(ValueMap.class);
@@ -326,6 +582,7 @@ public class HistoryUtil {
         for (Resource child : children) {
             entry.addSingleResult(readHistorySingleResult(child));
         }
+        metrics.historyRead(System.currentTimeMillis() - start);
         return entry;
     }
 
@@ -342,12 +599,321 @@ public class HistoryUtil {
             fallback = readHistorySingleResult(fallbackResource);
         }
         ValueMap values = resource.adaptTo(ValueMap.class);
-        String output = values.get(ATTR_RUN_OUTPUT, "");
         String time = values.get(ATTR_RUN_TIME, "");
         ExecutionState state = ExecutionState.valueOf(values.get(ATTR_RUN_STATE, ExecutionState.FAILED.name()));
         String runResult = values.get(ATTR_RUN_RESULT, "");
         String path = values.get(ATTR_PATH, "");
-        return new ExecutionResult(state, time, runResult, output, fallback, path);
+        ResourceUsage resourceUsage = readResourceUsage(values);
+        long outputSize = values.get(ATTR_RUN_OUTPUT_SIZE, 0L);
+        boolean stored = values.get(ATTR_RUN_OUTPUT_HASH, String.class) != null;
+        if ((resource.getChild(NODE_FULL_OUTPUT) != null) || (stored && (outputSize > MAX_DISPLAYED_OUTPUT))) {
+            String output = values.get(ATTR_RUN_OUTPUT, "");
+            return new TruncatedExecutionResult(state, time, runResult, output, fallback, path, resourceUsage, outputSize,
+                    null, resource.getPath());
+        }
+        return new LazyExecutionResult(state, time, runResult, () -> loadOutput(resource, values), fallback, path,
+                resourceUsage);
+    }
+
+    /**
+     * Reads the output of a single script run. If the resolver that read the history is already closed
+     * then the output is read with a new service resolver.
+     *
+     * @param resource script run resource
+     * @param values   properties of the script run
+     * @return output
+     */
+    private String loadOutput(Resource resource, ValueMap values) {
+        ResourceResolver resolver = resource.getResourceResolver();
+        try {
+            if ((resolver == null) || resolver.isLive()) {
+                return readFullOutput(resource, values);
+            }
+            try (ResourceResolver serviceResolver = resolverService.getServiceResourceResolver()) {
+                Resource current = serviceResolver.getResource(resource.getPath());
+                return (current == null) ? "" : readFullOutput(current, current.adaptTo(ValueMap.class));
+            }
+        } catch (LoginException | AecuException e) {
+            LOG.error("Unable to read output of " + resource.getPath(), e);
+            return "";
+        }
+    }
+
+    /**
+     * Reads the complete output of a single script run.
+     *
+     * @param resource script run resource
+     * @param values   properties of the script run
+     * @return output
+     * @throws AecuException error reading output
+     */
+    private String readFullOutput(Resource resource, ValueMap values) throws AecuException {
+        InputStream data = openFullOutput(resource);
+        if (data == null) {
+            return values.get(ATTR_RUN_OUTPUT, "");
+        }
+        try (Reader reader = new InputStreamReader(new GZIPInputStream(data), StandardCharsets.UTF_8)) {
+            StringBuilder output = new StringBuilder();
+            char[] buffer = new char[8192];
+            int read;
+            while ((read = reader.read(buffer)) >= 0) {
+                output.append(buffer, 0, read);
+            }
+            return output.toString();
+        } catch (IOException e) {
+            throw new AecuException("Unable to read output of " + resource.getPath(), e);
+        }
+    }
+
+    /**
+     * Reads the summary of a history entry. Summaries of finished entries are cached.
+     *
+     * @param resource history entry resource
+     * @return summary
+     */
+    public HistorySummary readHistorySummary(Resource resource) {
+        String repositoryPath = resource.getPath();
+        synchronized (summaryCache) {
+            HistorySummary cached = summaryCache.get(repositoryPath);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        ValueMap values = resource.adaptTo(ValueMap.class);
+        STATE state = values.containsKey(ATTR_STATE) ? STATE.valueOf(values.get(ATTR_STATE, String.class)) : null;
+        Calendar start = values.get(ATTR_START, Calendar.class);
+        Calendar end = values.get(ATTR_END, Calendar.class);
+        Map<ExecutionState, Integer> counts = new EnumMap<>(ExecutionState.class);
+        List<String> failedScripts = new ArrayList<>();
+        if (values.containsKey(getCountAttribute(ExecutionState.SUCCESS))) {
+            for (ExecutionState executionState : ExecutionState.values()) {
+                counts.put(executionState, values.get(getCountAttribute(executionState), 0L).intValue());
+            }
+            failedScripts.addAll(Arrays.asList(values.get(ATTR_FAILED_SCRIPTS, new String[0])));
+        } else {
+            // running or written by an older version, read only state and path of the scripts
+            for (Resource child : resource.getChildren()) {
+                ValueMap childValues = child.adaptTo(ValueMap.class);
+                ExecutionState executionState =
+                        ExecutionState.valueOf(childValues.get(ATTR_RUN_STATE, ExecutionState.FAILED.name()));
+                countResult(counts, failedScripts, executionState, childValues.get(ATTR_PATH, ""));
+            }
+        }
+        HistorySummary summary = new HistorySummary(repositoryPath, (start == null) ? null : start.getTime(),
+                (end == null) ? null : end.getTime(), state, counts, failedScripts);
+        if (STATE.FINISHED.equals(state)) {
+            synchronized (summaryCache) {
+                summaryCache.put(repositoryPath, summary);
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * Adds a script result to the summary counts.
+     *
+     * @param counts        counts by execution state
+     * @param failedScripts paths of failed and cancelled scripts
+     * @param state         execution state of script
+     * @param path          script path
+     */
+    private void countResult(Map<ExecutionState, Integer> counts, List<String> failedScripts, ExecutionState state,
+            String path) {
+        counts.merge(state, 1, Integer::sum);
+        if ((ExecutionState.FAILED == state) || (ExecutionState.CANCELLED == state)) {
+            failedScripts.add(path);
+        }
+    }
+
+    /**
+     * Returns the name of the summary attribute that counts the scripts with the given state.
+     *
+     * @param state execution state
+     * @return attribute name (e.g. countSuccess)
+     */
+    protected static String getCountAttribute(ExecutionState state) {
+        return ATTR_COUNT_PREFIX + StringUtils.capitalize(state.name().toLowerCase(Locale.ENGLISH));
+    }
+
+    /**
+     * Returns the script counts of the given summary.
+     *
+     * @param summary summary
+     * @return counts by execution state
+     */
+    private Map<ExecutionState, Integer> getCounts(HistorySummary summary) {
+        Map<ExecutionState, Integer> counts = new EnumMap<>(ExecutionState.class);
+        for (ExecutionState state : ExecutionState.values()) {
+            counts.put(state, summary.getCount(state));
+        }
+        return counts;
+    }
+
+    /**
+     * Removes the summary of the given history entry from the cache.
+     *
+     * @param repositoryPath path of history entry
+     */
+    private void invalidateSummary(String repositoryPath) {
+        synchronized (summaryCache) {
+            summaryCache.remove(repositoryPath);
+        }
+    }
+
+    /**
+     * Reads the repository access of a single script run.
+     *
+     * @param values properties of the script run
+     * @return resource usage, null if not recorded
+     */
+    private ResourceUsage readResourceUsage(ValueMap values) {
+        if (!values.containsKey(ATTR_RUN_NODES_READ)) {
+            return null;
+        }
+        return new ResourceUsage(values.get(ATTR_RUN_NODES_READ, 0L), values.get(ATTR_RUN_PROPERTIES_WRITTEN, 0L),
+                values.get(ATTR_RUN_QUERIES, 0L), values.get(ATTR_RUN_QUERY_RESULTS, 0L), values.get(ATTR_RUN_COMMITS, 0L),
+                values.get(ATTR_RUN_COMMIT_TIME, 0L));
+    }
+
+    /**
+     * Stores the execution trace of a run as GZIP compressed property of the history entry.
+     *
+     * @param history  history entry
+     * @param json     trace in Chrome trace-event JSON format
+     * @param resolver resource resolver
+     * @throws AecuException error saving trace
+     */
+    public void storeTrace(HistoryEntry history, String json, ResourceResolver resolver) throws AecuException {
+        Resource resource = resolver.getResource(history.getRepositoryPath());
+        if (resource == null) {
+            throw new AecuException("Unable to find history entry " + history.getRepositoryPath());
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(json.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new AecuException("Unable to compress trace of " + history.getRepositoryPath(), e);
+        }
+        ModifiableValueMap values = resource.adaptTo(ModifiableValueMap.class);
+        values.put(ATTR_TRACE, new ByteArrayInputStream(compressed.toByteArray()));
+    }
+
+    /**
+     * Marks that a background job started to execute the run of this history entry.
+     *
+     * @param resource history entry resource
+     */
+    public void markJobStarted(Resource resource) {
+        resource.adaptTo(ModifiableValueMap.class).put(ATTR_JOB_STARTED, new GregorianCalendar());
+    }
+
+    /**
+     * Returns if a background job already started to execute the run of this history entry.
+     *
+     * @param resource history entry resource
+     * @return job was started
+     */
+    public boolean isJobStarted(Resource resource) {
+        return resource.adaptTo(ValueMap.class).containsKey(ATTR_JOB_STARTED);
+    }
+
+    /**
+     * Returns if an execution trace is stored for the history entry.
+     *
+     * @param resource history entry resource
+     * @return trace exists
+     */
+    public boolean hasTrace(Resource resource) {
+        return resource.adaptTo(ValueMap.class).containsKey(ATTR_TRACE);
+    }
+
+    /**
+     * Opens the execution trace of the history entry.
+     *
+     * @param resource history entry resource
+     * @return uncompressed trace in Chrome trace-event JSON format, null if no trace is stored
+     * @throws AecuException error reading trace
+     */
+    public InputStream openTrace(Resource resource) throws AecuException {
+        InputStream data = resource.adaptTo(ValueMap.class).get(ATTR_TRACE, InputStream.class);
+        if (data == null) {
+            return null;
+        }
+        try {
+            return new GZIPInputStream(data);
+        } catch (IOException e) {
+            throw new AecuException("Unable to read trace of " + resource.getPath(), e);
+        }
+    }
+
+    /**
+     * Reads a part of the output of a single script run. The full output is read if the run output was
+     * truncated.
+     *
+     * @param resource resource of single script run
+     * @param offset   offset in characters
+     * @param length   maximum number of characters
+     * @return output part, empty if offset is after end of output
+     * @throws AecuException error reading output
+     */
+    public String readOutput(Resource resource, long offset, int length) throws AecuException {
+        InputStream data = openFullOutput(resource);
+        if (data == null) {
+            String output = resource.adaptTo(ValueMap.class).get(ATTR_RUN_OUTPUT, "");
+            if (offset >= output.length()) {
+                return StringUtils.EMPTY;
+            }
+            return output.substring((int) offset, (int) Math.min(output.length(), offset + length));
+        }
+        try (Reader reader = new InputStreamReader(new GZIPInputStream(data), StandardCharsets.UTF_8)) {
+            long toSkip = offset;
+            while (toSkip > 0) {
+                long skipped = reader.skip(toSkip);
+                if (skipped <= 0) {
+                    return StringUtils.EMPTY;
+                }
+                toSkip -= skipped;
+            }
+            char[] chars = new char[length];
+            int read = 0;
+            while (read < length) {
+                int current = reader.read(chars, read, length - read);
+                if (current < 0) {
+                    break;
+                }
+                read += current;
+            }
+            return new String(chars, 0, read);
+        } catch (IOException e) {
+            throw new AecuException("Unable to read output of " + resource.getPath(), e);
+        }
+    }
+
+    /**
+     * Opens the GZIP compressed full output of a single script run.
+     *
+     * @param resource resource of single script run
+     * @return data, null if the output is stored completely as property
+     * @throws AecuException output data not found
+     */
+    private InputStream openFullOutput(Resource resource) throws AecuException {
+        Resource fullOutput = resource.getChild(NODE_FULL_OUTPUT);
+        if (fullOutput != null) {
+            InputStream data = fullOutput.adaptTo(ValueMap.class).get(JcrConstants.JCR_DATA, InputStream.class);
+            if (data == null) {
+                throw new AecuException("No output data found at " + fullOutput.getPath());
+            }
+            return data;
+        }
+        String hash = resource.adaptTo(ValueMap.class).get(ATTR_RUN_OUTPUT_HASH, String.class);
+        if (hash == null) {
+            return null;
+        }
+        InputStream data = new OutputStore(resource.getResourceResolver()).open(hash);
+        if (data == null) {
+            throw new AecuException("No output data found for " + resource.getPath() + " in " + OutputStore.PATH);
+        }
+        return data;
     }
 
     private void saveExecutionResultInHistory(ExecutionResult result, String path, ResourceResolver resolver)
@@ -357,21 +923,136 @@ public class HistoryUtil {
         ModifiableValueMap values = entry.adaptTo(ModifiableValueMap.class);
         values.put(ATTR_RUN_STATE, result.getState().name());
         values.put(ATTR_PATH, result.getPath());
-        if (StringUtils.isNotBlank(result.getOutput())) {
-            values.put(ATTR_RUN_OUTPUT, result.getOutput());
-        }
+        saveOutputInHistory(result, entry, values, resolver);
         if (StringUtils.isNotBlank(result.getResult())) {
             values.put(ATTR_RUN_RESULT, result.getResult());
         }
         if (StringUtils.isNotBlank(result.getTime())) {
             values.put(ATTR_RUN_TIME, result.getTime());
         }
+        ResourceUsage resourceUsage = result.getResourceUsage();
+        if (resourceUsage != null) {
+            values.put(ATTR_RUN_NODES_READ, resourceUsage.getNodesRead());
+            values.put(ATTR_RUN_PROPERTIES_WRITTEN, resourceUsage.getPropertiesWritten());
+            values.put(ATTR_RUN_QUERIES, resourceUsage.getQueries());
+            values.put(ATTR_RUN_QUERY_RESULTS, resourceUsage.getQueryResults());
+            values.put(ATTR_RUN_COMMITS, resourceUsage.getCommits());
+            values.put(ATTR_RUN_COMMIT_TIME, resourceUsage.getCommitTime());
+        }
         if (result.getFallbackResult() != null) {
             String fallbackPath = path + "/" + NODE_FALLBACK;
             saveExecutionResultInHistory(result.getFallbackResult(), fallbackPath, resolver);
         }
     }
 
+    /**
+     * Stores the script output. Outputs that exceed {@link #MAX_INLINE_OUTPUT} are moved to the output
+     * store as compressed binary, only start and end of the output are saved as property.
+     *
+     * @param result   execution result
+     * @param entry    resource of the script run
+     * @param values   properties of the script run
+     * @param resolver resource resolver
+     * @throws AecuException error saving output
+     */
+    private void saveOutputInHistory(ExecutionResult result, Resource entry, ModifiableValueMap values,
+            ResourceResolver resolver) throws AecuException {
+        String output = result.getOutput();
+        Path fullOutputFile = null;
+        if (result instanceof TruncatedExecutionResult) {
+            fullOutputFile = ((TruncatedExecutionResult) result).getFullOutputFile();
+        }
+        if ((fullOutputFile != null) && Files.exists(fullOutputFile)) {
+            long outputSize = ((TruncatedExecutionResult) result).getOutputSize();
+            try {
+                String hash = getHash(fullOutputFile);
+                OutputStore store = new OutputStore(resolver);
+                if (!store.touch(hash)) {
+                    try (InputStream data = Files.newInputStream(fullOutputFile)) {
+                        store.add(hash, data);
+                    }
+                }
+                values.put(ATTR_RUN_OUTPUT_HASH, hash);
+            } catch (IOException e) {
+                throw new AecuException("Unable to read full output of " + result.getPath(), e);
+            } finally {
+                deleteFile(fullOutputFile);
+            }
+            values.put(ATTR_RUN_OUTPUT, getPreview(output, outputSize));
+            values.put(ATTR_RUN_OUTPUT_SIZE, outputSize);
+            return;
+        }
+        if (StringUtils.isBlank(output)) {
+            return;
+        }
+        if (output.length() <= MAX_INLINE_OUTPUT) {
+            values.put(ATTR_RUN_OUTPUT, output);
+            return;
+        }
+        byte[] bytes = output.getBytes(StandardCharsets.UTF_8);
+        String hash = OutputStore.getHash(bytes);
+        OutputStore store = new OutputStore(resolver);
+        if (!store.touch(hash)) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (OutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(bytes);
+            } catch (IOException e) {
+                throw new AecuException("Unable to compress output of " + result.getPath(), e);
+            }
+            store.add(hash, new ByteArrayInputStream(compressed.toByteArray()));
+        }
+        values.put(ATTR_RUN_OUTPUT_HASH, hash);
+        values.put(ATTR_RUN_OUTPUT, getPreview(output, bytes.length));
+        values.put(ATTR_RUN_OUTPUT_SIZE, (long) bytes.length);
+    }
+
+    /**
+     * Returns start and end of the output.
+     *
+     * @param output     output
+     * @param outputSize total size of the output in bytes
+     * @return preview
+     */
+    private String getPreview(String output, long outputSize) {
+        if (output.length() <= MAX_INLINE_OUTPUT) {
+            return output;
+        }
+        return output.substring(0, OUTPUT_PREVIEW_SIZE) + BoundedOutputStream.getOmissionMarker(outputSize)
+                + output.substring(output.length() - OUTPUT_PREVIEW_SIZE);
+    }
+
+    /**
+     * Computes the hash of the uncompressed content of a GZIP file.
+     *
+     * @param file GZIP file
+     * @return hash
+     * @throws IOException error reading file
+     */
+    private String getHash(Path file) throws IOException {
+        MessageDigest digest = OutputStore.createDigest();
+        try (InputStream data = new GZIPInputStream(Files.newInputStream(file))) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = data.read(buffer)) >= 0) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return OutputStore.toHex(digest.digest());
+    }
+
+    /**
+     * Deletes the given temporary file.
+     *
+     * @param file file
+     */
+    private void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOG.warn("Unable to delete {}: {}", file, e.getMessage());
+        }
+    }
+
     /**
      * Creates the folder at the given path if not yet existing.
      *
@@ -419,7 +1100,23 @@ public class HistoryUtil {
         Calendar calendar = new GregorianCalendar();
         calendar.add(Calendar.DAY_OF_MONTH, -daysToKeep);
         LOG.debug("Starting purge with limit {}", calendar.getTime());
+        long start = System.currentTimeMillis();
         deleteRecursive(base.listChildren(), calendar, new int[] {Calendar.YEAR, Calendar.MONTH, Calendar.DAY_OF_MONTH});
+        new HistoryIndex(resolver).prune();
+        // outputs that were last used before the oldest remaining day belong only to purged runs
+        Calendar unusedSince = new GregorianCalendar(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH),
+                calendar.get(Calendar.DAY_OF_MONTH));
+        int deletedOutputs = new OutputStore(resolver).purge(unusedSince);
+        LOG.debug("Deleted {} unused outputs", deletedOutputs);
+        synchronized (summaryCache) {
+            summaryCache.clear();
+        }
+        synchronized (lastRunLock) {
+            // the latest run might have been purged, read it again on next access
+            lastRunRefreshed = 0;
+            lastRun = null;
+        }
+        metrics.historyPurged(System.currentTimeMillis() - start);
     }
 
     /**
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.history;
+
+import java.util.function.Supplier;
+
+import de.valtech.aecu.api.service.ExecutionResult;
+import de.valtech.aecu.api.service.ExecutionState;
+import de.valtech.aecu.api.service.ResourceUsage;
+
+/**
+ * Execution result from history that reads its output only when it is requested.
+ *
+ * @author agent
+ */
+public class LazyExecutionResult extends ExecutionResult {
+
+    private Supplier<String> outputLoader;
+    private String output;
+
+    /**
+     * Constructor
+     *
+     * @param state          execution state
+     * @param time           execution time
+     * @param result         result
+     * @param outputLoader   reads the script output
+     * @param fallbackResult fallback script result
+     * @param path           script path
+     * @param resourceUsage  repository access of the script, may be null
+     */
+    public LazyExecutionResult(ExecutionState state, String time, String result, Supplier<String> outputLoader,
+            ExecutionResult fallbackResult, String path, ResourceUsage resourceUsage) {
+        super(state, time, result, null, fallbackResult, path, resourceUsage);
+        this.outputLoader = outputLoader;
+    }
+
+    @Override
+    public synchronized String getOutput() {
+        if (outputLoader != null) {
+            output = outputLoader.get();
+            outputLoader = null;
+        }
+        return output;
+    }
+
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.history;
+
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.apache.jackrabbit.JcrConstants;
+import org.apache.sling.api.resource.ModifiableValueMap;
+import org.apache.sling.api.resource.PersistenceException;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.api.resource.ValueMap;
+
+import de.valtech.aecu.api.service.AecuException;
+
+/**
+ * Content-addressed storage of script outputs. Each output is stored only once as GZIP compressed
+ * binary, keyed by the SHA-256 hash of its content. Script runs with the same output reference the
+ * same node.
+ * <p>
+ * Each output remembers when it was last referenced. Outputs that were not referenced since the
+ * history purge limit belong only to purged runs and are deleted.
+ *
+ * @author agent
+ */
+class OutputStore {
+
+    /**
+     * Name of the output store node below the history base, excluded from the aecuHistory Oak index
+     */
+    static final String NODE_NAME = "outputs";
+
+    /**
+     * Path of the output store node
+     */
+    static final String PATH = HistoryUtil.HISTORY_BASE + "/" + NODE_NAME;
+
+    /**
+     * Time when the output was last referenced by a script run
+     */
+    static final String ATTR_LAST_USED = "lastUsed";
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final ResourceResolver resolver;
+
+    /**
+     * Constructor
+     *
+     * @param resolver resource resolver
+     */
+    OutputStore(ResourceResolver resolver) {
+        this.resolver = resolver;
+    }
+
+    /**
+     * Creates a digest to compute the key of an output.
+     *
+     * @return digest
+     */
+    static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is supported by every JVM
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the key of the given output.
+     *
+     * @param output UTF-8 encoded output
+     * @return hash
+     */
+    static String getHash(byte[] output) {
+        return toHex(createDigest().digest(output));
+    }
+
+    /**
+     * Converts the digest to a hex string.
+     *
+     * @param digest digest
+     * @return hex string
+     */
+    static String toHex(byte[] digest) {
+        StringBuilder hex = new StringBuilder(digest.length * 2);
+        for (byte value : digest) {
+            hex.append(Character.forDigit((value >> 4) & 0xF, 16));
+            hex.append(Character.forDigit(value & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Marks an existing output as used now.
+     *
+     * @param hash hash of uncompressed output
+     * @return output exists, false if it needs to be added
+     */
+    boolean touch(String hash) {
+        Resource existing = resolver.getResource(getPath(hash));
+        if (existing == null) {
+            return false;
+        }
+        existing.adaptTo(ModifiableValueMap.class).put(ATTR_LAST_USED, new GregorianCalendar());
+        return true;
+    }
+
+    /**
+     * Adds a new output.
+     *
+     * @param hash hash of uncompressed output
+     * @param data GZIP compressed output
+     * @throws AecuException error storing output
+     */
+    void add(String hash, InputStream data) throws AecuException {
+        Resource folder = getOrCreate(getOrCreate(resolver.getResource(HistoryUtil.HISTORY_BASE), NODE_NAME),
+                hash.substring(0, 2));
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(JcrConstants.JCR_PRIMARYTYPE, JcrConstants.NT_UNSTRUCTURED);
+        properties.put(JcrConstants.JCR_MIMETYPE, "application/gzip");
+        properties.put(JcrConstants.JCR_DATA, data);
+        properties.put(ATTR_LAST_USED, new GregorianCalendar());
+        try {
+            resolver.create(folder, hash, properties);
+        } catch (PersistenceException e) {
+            throw new AecuException("Unable to store output " + hash, e);
+        }
+    }
+
+    /**
+     * Opens the GZIP compressed output.
+     *
+     * @param hash hash
+     * @return data, null if not existing
+     */
+    InputStream open(String hash) {
+        Resource output = resolver.getResource(getPath(hash));
+        if (output == null) {
+            return null;
+        }
+        return output.adaptTo(ValueMap.class).get(JcrConstants.JCR_DATA, InputStream.class);
+    }
+
+    /**
+     * Deletes all outputs that were not used since the given time.
+     *
+     * @param limit time limit
+     * @return number of deleted outputs
+     * @throws PersistenceException error deleting output
+     */
+    int purge(Calendar limit) throws PersistenceException {
+        Resource store = resolver.getResource(PATH);
+        if (store == null) {
+            return 0;
+        }
+        int deleted = 0;
+        Iterator<Resource> folders = store.listChildren();
+        while (folders.hasNext()) {
+            Resource folder = folders.next();
+            Iterator<Resource> outputs = folder.listChildren();
+            while (outputs.hasNext()) {
+                Resource output = outputs.next();
+                Calendar lastUsed = output.adaptTo(ValueMap.class).get(ATTR_LAST_USED, Calendar.class);
+                if ((lastUsed != null) && lastUsed.before(limit)) {
+                    resolver.delete(output);
+                    deleted++;
+                }
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Returns the path of the output with the given hash.
+     *
+     * @param hash hash
+     * @return path
+     */
+    private static String getPath(String hash) {
+        return PATH + "/" + hash.substring(0, 2) + "/" + hash;
+    }
+
+    /**
+     * Returns the child resource. It is created if not yet existing.
+     *
+     * @param parent parent
+     * @param name   child name
+     * @return child
+     * @throws AecuException error creating node
+     */
+    private Resource getOrCreate(Resource parent, String name) throws AecuException {
+        Resource child = parent.getChild(name);
+        if (child != null) {
+            return child;
+        }
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(JcrConstants.JCR_PRIMARYTYPE, JcrConstants.NT_UNSTRUCTURED);
+        try {
+            return resolver.create(parent, name, properties);
+        } catch (PersistenceException e) {
+            throw new AecuException("Unable to create " + parent.getPath() + "/" + name, e);
+        }
+    }
+
+}
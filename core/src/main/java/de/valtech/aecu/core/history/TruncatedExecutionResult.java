@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.history;
+
+import java.nio.file.Path;
+
+import de.valtech.aecu.api.service.ExecutionResult;
+import de.valtech.aecu.api.service.ExecutionState;
+import de.valtech.aecu.api.service.ResourceUsage;
+
+/**
+ * Execution result whose output only contains start and end of the script output. The full output is
+ * either in a temporary file (before it is stored) or in the history.
+ *
+ * @author agent
+ */
+public class TruncatedExecutionResult extends ExecutionResult {
+
+    private long outputSize;
+    private Path fullOutputFile;
+    private String historyPath;
+
+    /**
+     * Constructor
+     *
+     * @param state          execution state
+     * @param time           execution time
+     * @param result         result
+     * @param output         start and end of script output
+     * @param fallbackResult fallback script result
+     * @param path           script path
+     * @param resourceUsage  repository access of the script, may be null
+     * @param outputSize     size of the full output in bytes
+     * @param fullOutputFile GZIP file with the full output, null if read from history
+     * @param historyPath    path of the result in history, null if not yet stored
+     */
+    public TruncatedExecutionResult(ExecutionState state, String time, String result, String output,
+            ExecutionResult fallbackResult, String path, ResourceUsage resourceUsage, long outputSize, Path fullOutputFile,
+            String historyPath) {
+        super(state, time, result, output, fallbackResult, path, resourceUsage);
+        this.outputSize = outputSize;
+        this.fullOutputFile = fullOutputFile;
+        this.historyPath = historyPath;
+    }
+
+    /**
+     * Returns the size of the full output.
+     *
+     * @return size in bytes
+     */
+    public long getOutputSize() {
+        return outputSize;
+    }
+
+    /**
+     * Returns the GZIP file with the full output. It is deleted when the result is stored in history.
+     *
+     * @return file, null if read from history
+     */
+    public Path getFullOutputFile() {
+        return fullOutputFile;
+    }
+
+    /**
+     * Returns the path of the result in history.
+     *
+     * @return path, null if not yet stored
+     */
+    public String getHistoryPath() {
+        return historyPath;
+    }
+
+}
@@ -37,7 +37,7 @@ import de.valtech.aecu.api.service.AecuService;
 import de.valtech.aecu.api.service.ExecutionResult;
 import de.valtech.aecu.api.service.ExecutionState;
 import de.valtech.aecu.api.service.HistoryEntry;
-import de.valtech.aecu.api.service.HistoryEntry.RESULT;
+import de.valtech.aecu.core.service.StagedExecutionService;
 
 /**
  * InstallHook handling installation of groovy scripts. The InstallHook gathers groovy scripts
@@ -162,27 +162,56 @@ public class AecuInstallHook implements InstallHook {
 
     private HistoryEntry executeScripts(List<String> scriptsForExecution, AecuService aecuService, InstallContext installContext)
             throws AecuException {
+        ServiceReference<StagedExecutionService> stagedExecutionReference =
+                osgiServiceProvider.getServiceReference(StagedExecutionService.class);
+        StagedExecutionService stagedExecutionService = osgiServiceProvider.getService(stagedExecutionReference);
         HistoryEntry installationHistory = aecuService.createHistoryEntry();
         boolean stopExecution = false;
-        for (String groovyScriptPath : scriptsForExecution) {
-            HookExecutionHistory hookExecutionHistory = new HookExecutionHistory(installContext.getSession(), groovyScriptPath);
-            try {
+        try {
+            for (List<String> stage : stagedExecutionService.getExecutionStages(scriptsForExecution)) {
                 if (!stopExecution) {
-                    installationHistory = executeScript(aecuService, installationHistory, groovyScriptPath);
-                    if (RESULT.FAILURE.equals(installationHistory.getResult())) {
-                        // stop execution on first failed script run
-                        stopExecution = true;
-                    } else {
-                        hookExecutionHistory.setExecuted();
+                    List<ExecutionResult> results;
+                    try {
+                        for (String groovyScriptPath : stage) {
+                            listener.logMessage("Executing script " + groovyScriptPath);
+                        }
+                        results = stagedExecutionService.executeStage(stage, null, installationHistory);
+                    } catch (AecuException e) {
+                        // e.g. invalid parallel execution setup, none of the scripts was executed
+                        listener.logError("Error executing scripts " + stage, e);
+                        results = new ArrayList<>();
+                        for (String groovyScriptPath : stage) {
+                            results.add(new ExecutionResult(ExecutionState.FAILED, null, null, e.getMessage(), null,
+                                    groovyScriptPath));
+                        }
+                    }
+                    for (int i = 0; i < results.size(); i++) {
+                        String groovyScriptPath = stage.get(i);
+                        ExecutionResult result = results.get(i);
+                        installationHistory = storeResult(aecuService, installationHistory, groovyScriptPath, result);
+                        if (ExecutionState.SUCCESS == result.getState()) {
+                            new HookExecutionHistory(installContext.getSession(), groovyScriptPath).setExecuted();
+                        } else if ((ExecutionState.FAILED == result.getState())
+                                || (ExecutionState.CANCELLED == result.getState())) {
+                            // stop execution on first failed script run
+                            stopExecution = true;
+                        }
                     }
                 } else {
-                    installationHistory = skipScript(aecuService, installationHistory, groovyScriptPath);
+                    for (String groovyScriptPath : stage) {
+                        try {
+                            installationHistory = skipScript(aecuService, installationHistory, groovyScriptPath);
+                        } catch (AecuException e) {
+                            listener.logError("Error executing script " + groovyScriptPath, e);
+                        }
+                    }
                 }
-            } catch (AecuException e) {
-                listener.logError("Error executing script " + groovyScriptPath, e);
             }
+        } finally {
+            // also closes the execution session and commits its pending history writes
+            installationHistory = aecuService.finishHistoryEntry(installationHistory);
+            osgiServiceProvider.ungetService(stagedExecutionReference);
         }
-        installationHistory = aecuService.finishHistoryEntry(installationHistory);
         return installationHistory;
     }
 
@@ -203,10 +232,8 @@ public class AecuInstallHook implements InstallHook {
         return installationHistory;
     }
 
-    private HistoryEntry executeScript(AecuService aecuService, HistoryEntry installationHistory, String groovyScriptPath)
-            throws AecuException {
-        listener.logMessage("Executing script " + groovyScriptPath);
-        ExecutionResult result = aecuService.execute(groovyScriptPath);
+    private HistoryEntry storeResult(AecuService aecuService, HistoryEntry installationHistory, String groovyScriptPath,
+            ExecutionResult result) throws AecuException {
         installationHistory = aecuService.storeExecutionInHistory(installationHistory, result);
         listener.logMessage("Executed script " + groovyScriptPath + ", output: \n" + result.getOutput());
         return installationHistory;
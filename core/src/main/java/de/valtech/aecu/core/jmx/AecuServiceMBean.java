@@ -44,6 +44,14 @@ public interface AecuServiceMBean {
     @Description("Version")
     public String getVersion();
 
+    /**
+     * Returns the live progress of the running scripts.
+     *
+     * @return progress
+     */
+    @Description("Progress of running scripts")
+    String getProgress();
+
     /**
      * Returns a list of files that can be executed in the given path.
      *
@@ -97,4 +105,13 @@ public interface AecuServiceMBean {
     @Description("Executes a single file or all files of a folder structure. Additionally you can pass json data for the script context")
     String execute(@Name("Path") String path, @Name("Data") String data) throws AecuException;
 
+    /**
+     * Cancels the running scripts at the given position.
+     *
+     * @param path path of script/folder
+     * @return number of cancelled scripts
+     */
+    @Description("Cancels the running scripts of a single file or a folder structure")
+    String cancel(@Name("Path") @Description("Path to file/folder that should be cancelled") String path);
+
 }
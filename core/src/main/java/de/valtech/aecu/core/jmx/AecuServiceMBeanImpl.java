@@ -30,7 +30,11 @@ import com.adobe.granite.jmx.annotation.AnnotatedStandardMBean;
 import de.valtech.aecu.api.service.AecuException;
 import de.valtech.aecu.api.service.AecuService;
 import de.valtech.aecu.api.service.ExecutionResult;
+import de.valtech.aecu.api.service.ExecutionState;
 import de.valtech.aecu.api.service.HistoryEntry;
+import de.valtech.aecu.core.service.ProgressRegistry;
+import de.valtech.aecu.core.service.ScriptProgress;
+import de.valtech.aecu.core.service.StagedExecutionService;
 import de.valtech.aecu.core.serviceuser.ServiceResourceResolverService;
 
 @Component(service = {AecuServiceMBean.class}, immediate = true,
@@ -43,6 +47,12 @@ public class AecuServiceMBeanImpl extends AnnotatedStandardMBean implements Aecu
     @Reference
     private ServiceResourceResolverService serviceResourceResolver;
 
+    @Reference
+    private StagedExecutionService stagedExecutionService;
+
+    @Reference
+    private ProgressRegistry progressRegistry;
+
     /**
      * Constructor
      *
@@ -57,6 +67,19 @@ public class AecuServiceMBeanImpl extends AnnotatedStandardMBean implements Aecu
         return aecuService.getVersion();
     }
 
+    @Override
+    public String getProgress() {
+        List<ScriptProgress> running = progressRegistry.getRunning();
+        if (running.isEmpty()) {
+            return "No running scripts";
+        }
+        StringBuilder output = new StringBuilder();
+        for (ScriptProgress progress : running) {
+            output.append(progress.toString() + "\n");
+        }
+        return output.toString();
+    }
+
     @Override
     public List<String> getFiles(String path) throws AecuException {
         return aecuService.getFiles(path);
@@ -65,17 +88,28 @@ public class AecuServiceMBeanImpl extends AnnotatedStandardMBean implements Aecu
     @Override
     public String execute(String path) throws AecuException {
         HistoryEntry history = aecuService.createHistoryEntry();
-        List<String> files = aecuService.getFiles(path);
-        StringBuilder result = new StringBuilder("Found " + files.size() + " files to execute\n\n");
-        for (String file : files) {
-            result.append(file + "\n");
-            ExecutionResult singleResult = aecuService.execute(file);
-            aecuService.storeExecutionInHistory(history, singleResult);
-            result.append(singleResult.toString());
-            result.append("\n\n");
+        try {
+            List<String> files = aecuService.getFiles(path);
+            StringBuilder result = new StringBuilder("Found " + files.size() + " files to execute\n\n");
+            for (List<String> stage : stagedExecutionService.getExecutionStages(files)) {
+                List<ExecutionResult> results = stagedExecutionService.executeStage(stage, null, history);
+                boolean cancelled = false;
+                for (int i = 0; i < results.size(); i++) {
+                    ExecutionResult singleResult = results.get(i);
+                    result.append(stage.get(i) + "\n");
+                    aecuService.storeExecutionInHistory(history, singleResult);
+                    result.append(singleResult.toString());
+                    result.append("\n\n");
+                    cancelled |= singleResult.getState() == ExecutionState.CANCELLED;
+                }
+                if (cancelled) {
+                    break;
+                }
+            }
+            return result.toString();
+        } finally {
+            aecuService.finishHistoryEntry(history);
         }
-        aecuService.finishHistoryEntry(history);
-        return result.toString();
     }
 
     @Override
@@ -100,4 +134,10 @@ public class AecuServiceMBeanImpl extends AnnotatedStandardMBean implements Aecu
         return historyEntry.toString();
     }
 
+    @Override
+    public String cancel(String path) {
+        int count = aecuService.cancel(path);
+        return "Cancelled " + count + " running scripts";
+    }
+
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.metrics;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sling.commons.metrics.MetricsService;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+import de.valtech.aecu.api.service.ExecutionState;
+
+/**
+ * Publishes AECU metrics via Sling Metrics. The metrics are available via JMX (domain "metrics") and
+ * all reporters that are registered for Sling Metrics.
+ *
+ * @author agent
+ */
+@Component(service = AecuMetrics.class)
+public class AecuMetrics {
+
+    /**
+     * Metrics that are not published (e.g. outside of OSGi).
+     */
+    public static final AecuMetrics NOOP = new AecuMetrics(MetricsService.NOOP);
+
+    protected static final String PREFIX = "aecu.";
+    protected static final String SCRIPT_EXECUTIONS = PREFIX + "script.executions.";
+    protected static final String SCRIPT_DURATION = PREFIX + "script.duration";
+    protected static final String RESOURCES_PROCESSED = PREFIX + "contentupgrade.resources";
+    protected static final String COMMIT_DURATION = PREFIX + "commit.duration";
+    protected static final String REPLICATIONS = PREFIX + "replications";
+    protected static final String HISTORY_READ_DURATION = PREFIX + "history.read.duration";
+    protected static final String HISTORY_PURGE_DURATION = PREFIX + "history.purge.duration";
+
+    @Reference
+    private MetricsService metricsService;
+
+    /**
+     * Constructor for OSGi
+     */
+    public AecuMetrics() {
+        // metrics service is injected
+    }
+
+    /**
+     * Constructor
+     *
+     * @param metricsService metrics service
+     */
+    protected AecuMetrics(MetricsService metricsService) {
+        this.metricsService = metricsService;
+    }
+
+    /**
+     * A script was executed.
+     *
+     * @param state    execution state
+     * @param duration duration in ms
+     */
+    public void scriptExecuted(ExecutionState state, long duration) {
+        countExecution(state);
+        metricsService.timer(SCRIPT_DURATION).update(duration, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * A script was not executed (e.g. skipped because its prechecks failed).
+     *
+     * @param state execution state
+     */
+    public void scriptNotExecuted(ExecutionState state) {
+        countExecution(state);
+    }
+
+    /**
+     * Counts a script result by its state.
+     *
+     * @param state execution state
+     */
+    private void countExecution(ExecutionState state) {
+        metricsService.counter(SCRIPT_EXECUTIONS + state.name().toLowerCase(Locale.ENGLISH)).increment();
+    }
+
+    /**
+     * A content upgrade processed resources.
+     *
+     * @param count number of resources
+     */
+    public void resourcesProcessed(long count) {
+        metricsService.meter(RESOURCES_PROCESSED).mark(count);
+    }
+
+    /**
+     * A script committed its changes.
+     *
+     * @param duration duration in ms
+     */
+    public void committed(long duration) {
+        metricsService.timer(COMMIT_DURATION).update(duration, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * A content upgrade replicated a page or resource.
+     */
+    public void replicated() {
+        metricsService.counter(REPLICATIONS).increment();
+    }
+
+    /**
+     * A history entry was read.
+     *
+     * @param duration duration in ms
+     */
+    public void historyRead(long duration) {
+        metricsService.timer(HISTORY_READ_DURATION).update(duration, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * The history was purged.
+     *
+     * @param duration duration in ms
+     */
+    public void historyPurged(long duration) {
+        metricsService.timer(HISTORY_PURGE_DURATION).update(duration, TimeUnit.MILLISECONDS);
+    }
+
+}
@@ -29,9 +29,9 @@ import org.apache.sling.api.resource.Resource;
 import org.apache.sling.models.annotations.Model;
 import org.apache.sling.models.annotations.injectorspecific.SlingObject;
 
-import de.valtech.aecu.api.service.HistoryEntry;
 import de.valtech.aecu.api.service.HistoryEntry.RESULT;
 import de.valtech.aecu.api.service.HistoryEntry.STATE;
+import de.valtech.aecu.api.service.HistorySummary;
 
 /**
  * Model class for a single history item.
@@ -46,11 +46,11 @@ public class HistoryDataItem {
     @SlingObject
     private Resource resource;
 
-    protected HistoryEntry history = null;
+    protected HistorySummary history = null;
 
     @PostConstruct
     public void setup() {
-        history = resource.getValueMap().get(HistoryDataSource.ATTR_HISTORY, HistoryEntry.class);
+        history = resource.getValueMap().get(HistoryDataSource.ATTR_HISTORY, HistorySummary.class);
     }
 
     /**
@@ -130,10 +130,7 @@ public class HistoryDataItem {
      * @return script count
      */
     public int getScriptCount() {
-        if (history.getSingleResults() == null) {
-            return 0;
-        }
-        return history.getSingleResults().size();
+        return history.getScriptCount();
     }
 
 }
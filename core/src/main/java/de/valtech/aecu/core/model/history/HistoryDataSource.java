@@ -41,7 +41,7 @@ import com.adobe.granite.ui.components.ds.ValueMapResource;
 
 import de.valtech.aecu.api.service.AecuException;
 import de.valtech.aecu.api.service.AecuService;
-import de.valtech.aecu.api.service.HistoryEntry;
+import de.valtech.aecu.api.service.HistorySummary;
 import de.valtech.aecu.core.security.AccessValidationService;
 
 /**
@@ -95,11 +95,11 @@ public class HistoryDataSource {
             public Iterator<Resource> iterator() {
                 List<Resource> entries = new ArrayList<>();
                 try {
-                    List<HistoryEntry> historyEntries = aecuService.getHistory(offset, limit + 1);
-                    for (HistoryEntry historyEntry : historyEntries) {
+                    List<HistorySummary> summaries = aecuService.getHistorySummaries(offset, limit + 1);
+                    for (HistorySummary summary : summaries) {
                         ValueMap vm = new ValueMapDecorator(new HashMap<String, Object>());
-                        vm.put(ATTR_HISTORY, historyEntry);
-                        entries.add(new ValueMapResource(request.getResourceResolver(), historyEntry.getRepositoryPath(),
+                        vm.put(ATTR_HISTORY, summary);
+                        entries.add(new ValueMapResource(request.getResourceResolver(), summary.getRepositoryPath(),
                                 ITEM_TYPE, vm));
                     }
                 } catch (AecuException e) {
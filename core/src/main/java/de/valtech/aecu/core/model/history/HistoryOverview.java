@@ -63,6 +63,8 @@ public class HistoryOverview {
 
     private HistoryEntry historyEntry;
 
+    private boolean traceAvailable = false;
+
     private final DateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
 
     /**
@@ -83,6 +85,7 @@ public class HistoryOverview {
             return;
         }
         historyEntry = historyUtil.readHistoryEntry(historyResource);
+        traceAvailable = historyUtil.hasTrace(historyResource);
     }
 
     /**
@@ -94,6 +97,18 @@ public class HistoryOverview {
         return historyEntry;
     }
 
+    /**
+     * Returns the download URL of the execution trace.
+     *
+     * @return URL, null if no trace is available
+     */
+    public String getTraceUrl() {
+        if (!traceAvailable) {
+            return null;
+        }
+        return "/bin/public/valtech/aecu/historyTrace.json?path=" + historyEntry.getRepositoryPath();
+    }
+
     /**
      * Returns the start as formatted string.
      *
@@ -150,7 +165,8 @@ public class HistoryOverview {
         for (ExecutionResult result : historyEntry.getSingleResults()) {
             if (ExecutionState.SUCCESS.equals(result.getState())) {
                 countOk++;
-            } else if (ExecutionState.FAILED.equals(result.getState())) {
+            } else if (ExecutionState.FAILED.equals(result.getState())
+                    || ExecutionState.CANCELLED.equals(result.getState())) {
                 countFailed++;
             }
         }
@@ -1,8 +1,12 @@
 package de.valtech.aecu.core.service;
 
-import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintStream;
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.sling.api.resource.ResourceResolver;
 import org.slf4j.Logger;
@@ -11,19 +15,28 @@ import org.slf4j.LoggerFactory;
 import com.google.common.base.Charsets;
 import be.orbinson.aem.groovy.console.api.context.ScriptContext;
 
+import de.valtech.aecu.api.service.ResourceUsage;
+import de.valtech.aecu.core.metrics.AecuMetrics;
+
 /**
  * Script context to run Groovy Console scripts.
  *
  * @author Roland Gruber
  */
-public class AecuScriptContext implements ScriptContext {
+public class AecuScriptContext implements ScriptContext, Closeable {
 
     private static final Logger LOG = LoggerFactory.getLogger(AecuScriptContext.class);
 
     private String script;
     private ResourceResolver resolver;
     private String data;
-    private ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private BoundedOutputStream out;
+    private final List<Closeable> closeables = new ArrayList<>();
+    private volatile boolean cancelled = false;
+    private final ResourceUsageCounter resourceUsage;
+    private ScriptProgress progress = new ScriptProgress("");
+    private ExecutionTrace trace = ExecutionTrace.NONE;
+    private volatile long runStart = 0;
 
     /**
      * Constructor
@@ -33,9 +46,37 @@ public class AecuScriptContext implements ScriptContext {
      * @param resolver resolver
      */
     public AecuScriptContext(String script, ResourceResolver resolver, String data) {
+        this(script, resolver, data, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param script     script content
+     * @param resolver   resolver
+     * @param data       json data for scripts
+     * @param liveOutput receives the script output while the script runs, may be null
+     */
+    public AecuScriptContext(String script, ResourceResolver resolver, String data, OutputStream liveOutput) {
+        this(script, resolver, data, liveOutput, AecuMetrics.NOOP);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param script     script content
+     * @param resolver   resolver
+     * @param data       json data for scripts
+     * @param liveOutput receives the script output while the script runs, may be null
+     * @param metrics    metrics
+     */
+    public AecuScriptContext(String script, ResourceResolver resolver, String data, OutputStream liveOutput,
+            AecuMetrics metrics) {
+        this.resourceUsage = new ResourceUsageCounter(metrics);
         this.script = script;
-        this.resolver = resolver;
+        this.resolver = wrapResolver(resolver);
         this.data = data;
+        this.out = (liveOutput != null) ? new LiveOutputStream(liveOutput) : new BoundedOutputStream();
     }
 
     public AecuScriptContext(String script, ResourceResolver resolver) {
@@ -49,7 +90,7 @@ public class AecuScriptContext implements ScriptContext {
     }
 
     @Override
-    public ByteArrayOutputStream getOutputStream() {
+    public BoundedOutputStream getOutputStream() {
         return out;
     }
 
@@ -78,4 +119,172 @@ public class AecuScriptContext implements ScriptContext {
         return resolver.getUserID();
     }
 
+    /**
+     * Wraps the resolver to count its repository access as part of this script.
+     *
+     * @param resolver resolver
+     * @return counting resolver
+     */
+    public ResourceResolver wrapResolver(ResourceResolver resolver) {
+        if ((resolver == null) || (resolver instanceof CountingResourceResolver)) {
+            return resolver;
+        }
+        return new CountingResourceResolver(resolver, resourceUsage);
+    }
+
+    /**
+     * Returns the repository access of the script so far.
+     *
+     * @return resource usage
+     */
+    public ResourceUsage getResourceUsage() {
+        return resourceUsage.getUsage();
+    }
+
+    /**
+     * Returns the live progress of the script.
+     *
+     * @return progress
+     */
+    public ScriptProgress getProgress() {
+        return progress;
+    }
+
+    /**
+     * Sets the live progress of the script.
+     *
+     * @param progress progress
+     */
+    public void setProgress(ScriptProgress progress) {
+        this.progress = progress;
+    }
+
+    /**
+     * Returns the trace that records the spans of the script.
+     *
+     * @return trace
+     */
+    public ExecutionTrace getTrace() {
+        return trace;
+    }
+
+    /**
+     * Sets the trace that records the spans of the script.
+     *
+     * @param trace trace
+     */
+    public void setTrace(ExecutionTrace trace) {
+        this.trace = trace;
+    }
+
+    /**
+     * Marks that the compiled script started running. Only the first call is recorded.
+     */
+    public void scriptStarted() {
+        if (runStart == 0) {
+            runStart = ExecutionTrace.now();
+        }
+    }
+
+    /**
+     * Returns when the compiled script started running.
+     *
+     * @return start time (see {@link ExecutionTrace#now()}), 0 if not known
+     */
+    public long getRunStart() {
+        return runStart;
+    }
+
+    /**
+     * Cancels the script. The script stops at its next loop iteration or method call.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Returns if the script was cancelled.
+     *
+     * @return cancelled
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Registers a resource that is closed when the script ended.
+     *
+     * @param closeable resource
+     */
+    public synchronized void addCloseable(Closeable closeable) {
+        closeables.add(closeable);
+    }
+
+    /**
+     * Closes all registered resources. Called when the script ended.
+     */
+    @Override
+    public synchronized void close() {
+        for (Closeable closeable : closeables) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                LOG.warn("Unable to close script resource: {}", e.getMessage());
+            }
+        }
+        closeables.clear();
+    }
+
+    /**
+     * Collects the output and forwards it to a listener. The script continues if the listener fails
+     * (e.g. client disconnected), the output is then only collected.
+     */
+    private static class LiveOutputStream extends BoundedOutputStream {
+
+        private OutputStream liveOutput;
+
+        /**
+         * Constructor
+         *
+         * @param liveOutput receives the output
+         */
+        LiveOutputStream(OutputStream liveOutput) {
+            this.liveOutput = liveOutput;
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            super.write(b, off, len);
+            if (liveOutput != null) {
+                try {
+                    liveOutput.write(b, off, len);
+                } catch (IOException e) {
+                    disableLiveOutput(e);
+                }
+            }
+        }
+
+        @Override
+        public synchronized void flush() {
+            if (liveOutput != null) {
+                try {
+                    liveOutput.flush();
+                } catch (IOException e) {
+                    disableLiveOutput(e);
+                }
+            }
+        }
+
+        /**
+         * Stops forwarding after an error.
+         *
+         * @param e error
+         */
+        private void disableLiveOutput(IOException e) {
+            LOG.warn("Unable to forward script output, continuing without live output: {}", e.getMessage());
+            liveOutput = null;
+        }
+
+    }
+
 }
@@ -20,11 +20,21 @@ package de.valtech.aecu.core.service;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.jcr.Session;
 
@@ -35,16 +45,17 @@ import org.apache.sling.api.resource.LoginException;
 import org.apache.sling.api.resource.PersistenceException;
 import org.apache.sling.api.resource.Resource;
 import org.apache.sling.api.resource.ResourceResolver;
-import org.apache.sling.jcr.resource.api.JcrResourceConstants;
 import org.apache.sling.settings.SlingSettingsService;
 import org.osgi.framework.FrameworkUtil;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.metatype.annotations.Designate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import be.orbinson.aem.groovy.console.GroovyConsoleService;
-import be.orbinson.aem.groovy.console.api.context.ScriptContext;
 import be.orbinson.aem.groovy.console.response.RunScriptResponse;
 
 import de.valtech.aecu.api.service.AecuException;
@@ -52,10 +63,16 @@ import de.valtech.aecu.api.service.AecuService;
 import de.valtech.aecu.api.service.ExecutionResult;
 import de.valtech.aecu.api.service.ExecutionState;
 import de.valtech.aecu.api.service.HistoryEntry;
+import de.valtech.aecu.api.service.HistorySummary;
 import de.valtech.aecu.api.service.HistoryEntry.STATE;
+import de.valtech.aecu.api.service.ResourceUsage;
 import de.valtech.aecu.core.history.HistoryUtil;
+import de.valtech.aecu.core.history.TruncatedExecutionResult;
 import de.valtech.aecu.core.installhook.AecuTrackerListener;
 import de.valtech.aecu.core.installhook.HookExecutionHistory;
+import de.valtech.aecu.core.events.AecuEvents;
+import de.valtech.aecu.core.metrics.AecuMetrics;
+import de.valtech.aecu.core.service.ScriptIndex.ScriptFolder;
 import de.valtech.aecu.core.serviceuser.ServiceResourceResolverService;
 
 /**
@@ -63,14 +80,19 @@ import de.valtech.aecu.core.serviceuser.ServiceResourceResolverService;
  *
  * @author Roland Gruber
  */
-@Component(service = AecuService.class)
-public class AecuServiceImpl implements AecuService {
+@Component(service = {AecuService.class, StagedExecutionService.class})
+@Designate(ocd = ExecutionTraceConfiguration.class)
+public class AecuServiceImpl implements AecuService, StagedExecutionService {
 
     private static final String PRECHECKS_SELECTOR = ".prechecks.";
     private static final String FALLBACK_SELECTOR = ".fallback.";
     private static final String ERR_NO_RESOLVER = "Unable to get service resource resolver";
+    private static final long FOLDER_TIMEOUT_EXCEEDED = -1;
     protected static final String DIR_FALLBACK_SCRIPT = "fallback.groovy";
     protected static final String DIR_PRECHECKS_SCRIPT = "prechecks.groovy";
+    protected static final String DIR_PRECHECKS_ALWAYS_SCRIPT = "prechecks." + AecuTrackerListener.ALWAYS_SUFFIX;
+    protected static final int HISTORY_CREATE_ATTEMPTS = 5;
+    private static final long HISTORY_CREATE_RETRY_DELAY = 200;
 
     private static final Logger LOG = LoggerFactory.getLogger(AecuServiceImpl.class);
 
@@ -86,6 +108,44 @@ public class AecuServiceImpl implements AecuService {
     @Reference
     private HistoryUtil historyUtil;
 
+    @Reference
+    private ScriptIndex scriptIndex;
+
+    @Reference
+    private AecuMetrics metrics;
+
+    @Reference
+    private ProgressRegistry progressRegistry;
+
+    @Reference
+    private AecuEvents events;
+
+    private final Map<HistoryEntry, ExecutionSession> sessions = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<AecuScriptContext, String> runningScripts = new ConcurrentHashMap<>();
+
+    private final Map<ExecutionResult, ExecutionTrace> resultTraces = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<HistoryEntry, ExecutionTrace> historyTraces = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Object historyIndexLock = new Object();
+
+    private volatile boolean traceEnabled = false;
+
+    private volatile boolean traceDetailed = false;
+
+    /**
+     * Activates the service.
+     *
+     * @param config trace configuration
+     */
+    @Activate
+    @Modified
+    public void activate(ExecutionTraceConfiguration config) {
+        traceEnabled = config.enabled();
+        traceDetailed = config.detailed();
+    }
+
     @Override
     public String getVersion() {
         return FrameworkUtil.getBundle(AecuServiceImpl.class).getVersion().toString();
@@ -112,36 +172,44 @@ public class AecuServiceImpl implements AecuService {
         if (path == null) {
             throw new AecuException("Path is null");
         }
+        List<String> candidates = new ArrayList<>();
+        ScriptFolder folder = scriptIndex.getFolder(resolver, path);
+        if (folder != null) {
+            addCandidates(resolver, folder, candidates);
+            return candidates;
+        }
         Resource resource = resolver.getResource(path);
         if (resource == null) {
             throw new AecuException("Path is invalid");
         }
-        List<String> candidates = new ArrayList<>();
-        if (isFolder(resource) && matchesRunmodes(resource.getName())) {
-            List<String> childNames = new ArrayList<>();
-            for (Resource child : resource.getChildren()) {
-                childNames.add(child.getName());
-            }
-            childNames.sort(null);
-            for (String childName : childNames) {
-                candidates.addAll(findCandidates(resolver, resource.getChild(childName).getPath()));
-            }
-        } else if (isValidScriptName(resource.getName())) {
+        if (isValidScriptName(resource.getName())) {
             candidates.add(path);
         }
         return candidates;
     }
 
     /**
-     * Checks if the resource is a folder.
+     * Adds all scripts of the folder and its sub folders that match the run modes.
      *
-     * @param resource resource
-     * @return is folder
+     * @param resolver   service resource resolver
+     * @param folder     folder
+     * @param candidates candidate list
      */
-    private boolean isFolder(Resource resource) {
-        String type = resource.getValueMap().get(JcrConstants.JCR_PRIMARYTYPE, String.class);
-        return JcrResourceConstants.NT_SLING_FOLDER.equals(type) || JcrResourceConstants.NT_SLING_ORDERED_FOLDER.equals(type)
-                || JcrConstants.NT_FOLDER.equals(type);
+    private void addCandidates(ResourceResolver resolver, ScriptFolder folder, List<String> candidates) {
+        if (!matchesRunmodes(folder.getName())) {
+            return;
+        }
+        for (Map.Entry<String, Boolean> child : folder.getChildren().entrySet()) {
+            String childPath = folder.getPath() + "/" + child.getKey();
+            if (Boolean.TRUE.equals(child.getValue())) {
+                ScriptFolder childFolder = scriptIndex.getFolder(resolver, childPath);
+                if (childFolder != null) {
+                    addCandidates(resolver, childFolder, candidates);
+                }
+            } else if (isValidScriptName(child.getKey())) {
+                candidates.add(childPath);
+            }
+        }
     }
 
     @Override
@@ -167,7 +235,7 @@ public class AecuServiceImpl implements AecuService {
             return false;
         }
         return !name.contains(FALLBACK_SELECTOR) && !DIR_FALLBACK_SCRIPT.equals(name) && !name.contains(PRECHECKS_SELECTOR)
-                && !DIR_PRECHECKS_SCRIPT.equals(name);
+                && !DIR_PRECHECKS_SCRIPT.equals(name) && !DIR_PRECHECKS_ALWAYS_SCRIPT.equals(name);
     }
 
     @Override
@@ -177,7 +245,43 @@ public class AecuServiceImpl implements AecuService {
 
     @Override
     public ExecutionResult execute(String path, String data) throws AecuException {
-        try (ResourceResolver resolver = resolverService.getContentMigratorResourceResolver()) {
+        return execute(path, data, null);
+    }
+
+    @Override
+    public ExecutionResult executeWithLiveOutput(String path, String data, OutputStream liveOutput) throws AecuException {
+        return execute(path, data, null, liveOutput);
+    }
+
+    /**
+     * Executes the script.
+     *
+     * @param path    path
+     * @param data    json object of script
+     * @param session session of the current run, may be null
+     * @return result execution result
+     * @throws AecuException error running script
+     */
+    protected ExecutionResult execute(String path, String data, ExecutionSession session) throws AecuException {
+        return execute(path, data, session, null);
+    }
+
+    /**
+     * Executes the script.
+     *
+     * @param path       path
+     * @param data       json object of script
+     * @param session    session of the current run, may be null
+     * @param liveOutput receives the script output while the script runs, may be null
+     * @return result execution result
+     * @throws AecuException error running script
+     */
+    private ExecutionResult execute(String path, String data, ExecutionSession session, OutputStream liveOutput)
+            throws AecuException {
+        ResourceResolver resolver = null;
+        try {
+            resolver = (session != null) ? session.acquireMigratorResolver()
+                    : resolverService.getContentMigratorResourceResolver();
             Resource resource = resolver.getResource(path);
             if (resource == null) {
                 throw new AecuException("Path is invalid");
@@ -185,47 +289,154 @@ public class AecuServiceImpl implements AecuService {
             if (!isValidScriptName(resource.getName())) {
                 throw new AecuException("Invalid script name");
             }
-            return executeScript(resolver, path, data);
+            if (session != null) {
+                commitHistoryIfDue(session);
+            }
+            ExecutionTrace trace = createTrace();
+            ExecutionResult result = executeScript(resolver, path, data, session, liveOutput, trace);
+            resultTraces.put(result, trace);
+            return result;
         } catch (LoginException e) {
             throw new AecuException(ERR_NO_RESOLVER, e);
+        } finally {
+            if ((resolver != null) && (session != null)) {
+                session.releaseMigratorResolver(resolver);
+            } else if (resolver != null) {
+                resolver.close();
+            }
+        }
+    }
+
+    /**
+     * Creates a new trace. Nothing is recorded if traces are not enabled.
+     *
+     * @return trace
+     */
+    private ExecutionTrace createTrace() {
+        return traceEnabled ? new ExecutionTrace(ExecutionTrace.MAX_SPANS, traceDetailed) : ExecutionTrace.NONE;
+    }
+
+    /**
+     * Commits the pending history writes of the run if they are waiting for too long.
+     *
+     * @param session session of the current run
+     */
+    private void commitHistoryIfDue(ExecutionSession session) {
+        try {
+            session.commitHistoryIfDue();
+        } catch (PersistenceException e) {
+            // writes stay pending and are committed with the next batch
+            LOG.warn("Unable to commit history", e);
         }
     }
 
     /**
      * Executes the script.
      *
-     * @param resolver resource resolver
-     * @param path     path
+     * @param resolver   resource resolver
+     * @param path       path
+     * @param data       json object of script
+     * @param session    session of the current run, may be null
+     * @param liveOutput receives the script output while the script runs, may be null
+     * @param trace      trace that records the spans of the script
      * @return result execution result
      * @throws AecuException error running script
      */
-    private ExecutionResult executeScript(ResourceResolver resolver, String path, String data) throws AecuException {
+    private ExecutionResult executeScript(ResourceResolver resolver, String path, String data, ExecutionSession session,
+            OutputStream liveOutput, ExecutionTrace trace) throws AecuException {
         LOG.info("Executing script {}", path);
         String prechecksScript = getPrechecksScript(resolver, path);
         if (prechecksScript != null) {
-            ExecutionResult prechecksResult = executeScript(resolver, prechecksScript, data);
+            ExecutionResult prechecksResult;
+            long prechecksStart = ExecutionTrace.now();
+            // directory level prechecks results are shared by all scripts of the folder
+            boolean shared = (session != null) && prechecksScript.endsWith("/" + DIR_PRECHECKS_SCRIPT);
+            if (shared) {
+                prechecksResult = session.getPrechecksMemo().getResult(prechecksScript,
+                        p -> executeScript(resolver, p, data, session, liveOutput, trace));
+            } else {
+                prechecksResult = executeScript(resolver, prechecksScript, data, session, liveOutput, trace);
+            }
+            trace.addSpan("prechecks", ExecutionTrace.CATEGORY_SCRIPT, prechecksStart, prechecksScript);
             if (prechecksResult.getState() == ExecutionState.FAILED) {
                 LOG.info("Skipping {} as prechecks script failed", path);
-                return new ExecutionResult(ExecutionState.SKIPPED, prechecksResult.getTime(), prechecksResult.getResult(),
-                        prechecksResult.getOutput(), null, path);
+                metrics.scriptNotExecuted(ExecutionState.SKIPPED);
+                return createPrechecksResult(ExecutionState.SKIPPED, prechecksResult, path, shared);
+            }
+            if (prechecksResult.getState() == ExecutionState.CANCELLED) {
+                LOG.info("Skipping {} as prechecks script was cancelled", path);
+                metrics.scriptNotExecuted(ExecutionState.CANCELLED);
+                return createPrechecksResult(ExecutionState.CANCELLED, prechecksResult, path, shared);
+            }
+            if (!shared) {
+                // output of successful prechecks is not stored
+                deleteFullOutput(prechecksResult);
             }
         }
-        ScriptContext scriptContext = new AecuScriptContext(loadScript(path, resolver), resolver, data);
-        RunScriptResponse response = groovyConsoleService.runScript(scriptContext);
+        long timeout = getTimeout(resolver, path, session);
+        if (timeout == FOLDER_TIMEOUT_EXCEEDED) {
+            LOG.error("Skipping {} as time limit of its folder is exceeded", path);
+            metrics.scriptNotExecuted(ExecutionState.FAILED);
+            return new ExecutionResult(ExecutionState.FAILED, null, null, "Time limit of folder exceeded", null, path);
+        }
+        String script = ScriptInterrupts.decorate(loadScript(path, resolver), timeout);
+        AecuScriptContext scriptContext = new AecuScriptContext(script, resolver, data, liveOutput, metrics);
+        RunScriptResponse response;
+        runningScripts.put(scriptContext, path);
+        ScriptProgress progress = progressRegistry.start(path);
+        scriptContext.setProgress(progress);
+        scriptContext.setTrace(trace);
+        long start = System.currentTimeMillis();
+        long traceStart = ExecutionTrace.now();
+        try {
+            response = groovyConsoleService.runScript(scriptContext);
+        } finally {
+            runningScripts.remove(scriptContext);
+            progressRegistry.finish(progress);
+            scriptContext.close();
+        }
+        long duration = System.currentTimeMillis() - start;
+        addRunSpans(trace, path, traceStart, scriptContext.getRunStart());
+        ResourceUsage resourceUsage = scriptContext.getResourceUsage();
+        LOG.info("Repository access of script {}: {}", path, resourceUsage);
         boolean success = StringUtils.isBlank(response.getExceptionStackTrace());
+        boolean cancelled = !success && scriptContext.isCancelled();
         if (success) {
             LOG.info("Executed script {} with status OK", path);
+        } else if (cancelled) {
+            LOG.warn("Executed script {} with status CANCELLED", path);
         } else {
             LOG.error("Executed script {} with status FAILED", path);
         }
         String result = response.getResult();
         ExecutionResult fallbackResult = null;
-        if (!success && (getFallbackScript(resolver, path) != null)) {
-            fallbackResult = executeScript(resolver, getFallbackScript(resolver, path), data);
+        String fallbackScript = (success || cancelled) ? null : getFallbackScript(resolver, path);
+        if (fallbackScript != null) {
+            long fallbackStart = ExecutionTrace.now();
+            fallbackResult = executeScript(resolver, fallbackScript, data, session, liveOutput, trace);
+            trace.addSpan("fallback", ExecutionTrace.CATEGORY_SCRIPT, fallbackStart, fallbackScript);
         }
-        ExecutionState state = success ? ExecutionState.SUCCESS : ExecutionState.FAILED;
-        return new ExecutionResult(state, response.getRunningTime(), result,
-                response.getOutput() + response.getExceptionStackTrace(), fallbackResult, path);
+        ExecutionState state = ExecutionState.FAILED;
+        if (success) {
+            state = ExecutionState.SUCCESS;
+        } else if (cancelled) {
+            state = ExecutionState.CANCELLED;
+        }
+        metrics.scriptExecuted(state, duration);
+        events.scriptExecuted(path, state, duration, resourceUsage);
+        String output = response.getOutput() + response.getExceptionStackTrace();
+        BoundedOutputStream scriptOutput = scriptContext.getOutputStream();
+        if (scriptOutput.isTruncated()) {
+            // the stack trace is only part of the response, add it to the full output too
+            byte[] stackTrace = StringUtils.defaultString(response.getExceptionStackTrace()).getBytes(StandardCharsets.UTF_8);
+            scriptOutput.write(stackTrace, 0, stackTrace.length);
+            Path fullOutput = scriptOutput.getSpillFile();
+            if (fullOutput != null) {
+                return new TruncatedExecutionResult(state, response.getRunningTime(), result, output, fallbackResult, path,
+                        resourceUsage, scriptOutput.getTotalSize(), fullOutput, null);
+            }
+        }
+        return new ExecutionResult(state, response.getRunningTime(), result, output, fallbackResult, path, resourceUsage);
     }
 
     /**
@@ -236,7 +447,7 @@ public class AecuServiceImpl implements AecuService {
      * @return script content
      * @throws AecuException error reading script
      */
-    private String loadScript(String path, ResourceResolver resolver) throws AecuException {
+    protected String loadScript(String path, ResourceResolver resolver) throws AecuException {
         Resource resource = resolver.getResource(path + "/" + JcrConstants.JCR_CONTENT);
         // https://sling.apache.org/documentation/the-sling-engine/resources.html#binary-support
         try (InputStream inputStream = resource.adaptTo(InputStream.class)) {
@@ -250,6 +461,132 @@ public class AecuServiceImpl implements AecuService {
         }
     }
 
+    /**
+     * Creates the result of a script that was not executed because of its prechecks script. The full output
+     * of the prechecks script is handed over to be stored in history. Shared prechecks results get a copy of
+     * the output file as storing the result in history deletes the file.
+     *
+     * @param state           execution state
+     * @param prechecksResult result of the prechecks script
+     * @param path            script path
+     * @param shared          prechecks result is shared with other scripts
+     * @return result
+     */
+    private ExecutionResult createPrechecksResult(ExecutionState state, ExecutionResult prechecksResult, String path,
+            boolean shared) {
+        if (prechecksResult instanceof TruncatedExecutionResult) {
+            TruncatedExecutionResult truncated = (TruncatedExecutionResult) prechecksResult;
+            Path fullOutput = truncated.getFullOutputFile();
+            if ((fullOutput != null) && shared) {
+                fullOutput = copyFullOutput(fullOutput);
+            }
+            if (fullOutput != null) {
+                return new TruncatedExecutionResult(state, prechecksResult.getTime(), prechecksResult.getResult(),
+                        prechecksResult.getOutput(), null, path, null, truncated.getOutputSize(), fullOutput, null);
+            }
+        }
+        return new ExecutionResult(state, prechecksResult.getTime(), prechecksResult.getResult(), prechecksResult.getOutput(),
+                null, path);
+    }
+
+    /**
+     * Copies the temporary file with the full output of a result.
+     *
+     * @param file output file
+     * @return copy, null if the file could not be copied
+     */
+    private Path copyFullOutput(Path file) {
+        try {
+            Path copy = Files.createTempFile("aecu-output-", ".gz");
+            Files.copy(file, copy, StandardCopyOption.REPLACE_EXISTING);
+            return copy;
+        } catch (IOException e) {
+            LOG.warn("Unable to copy {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Deletes the temporary file with the full output of a result that is not stored in history.
+     *
+     * @param result execution result
+     */
+    private void deleteFullOutput(ExecutionResult result) {
+        if (!(result instanceof TruncatedExecutionResult)) {
+            return;
+        }
+        Path file = ((TruncatedExecutionResult) result).getFullOutputFile();
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOG.warn("Unable to delete {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Records the compile and run spans of a script. The compiled script marks its start with its first
+     * cancellation check. Scripts without this check (e.g. with package declaration) are recorded as
+     * single span.
+     *
+     * @param trace    trace
+     * @param path     script path
+     * @param start    start of the execution
+     * @param runStart start of the compiled script, 0 if unknown
+     */
+    private void addRunSpans(ExecutionTrace trace, String path, long start, long runStart) {
+        if (runStart == 0) {
+            trace.addSpan("compile and run", ExecutionTrace.CATEGORY_SCRIPT, start, path);
+            return;
+        }
+        trace.addSpan("compile", ExecutionTrace.CATEGORY_SCRIPT, start, runStart, path);
+        trace.addSpan("run", ExecutionTrace.CATEGORY_SCRIPT, runStart, path);
+    }
+
+    /**
+     * Returns the time limit of the script. The limit is reduced to the remaining time of its folder.
+     *
+     * @param resolver resource resolver
+     * @param path     script path
+     * @param session  session of the current run, may be null
+     * @return time limit in seconds, {@link ScriptTimeouts#UNLIMITED} or {@link #FOLDER_TIMEOUT_EXCEEDED}
+     * @throws AecuException invalid time limit settings
+     */
+    private long getTimeout(ResourceResolver resolver, String path, ExecutionSession session) throws AecuException {
+        String folder = StringUtils.substringBeforeLast(path, "/");
+        ScriptTimeouts timeouts = ScriptTimeouts.load(resolver, folder);
+        if (timeouts == null) {
+            return ScriptTimeouts.UNLIMITED;
+        }
+        long timeout = timeouts.getTimeout(StringUtils.substringAfterLast(path, "/"));
+        if (timeouts.getFolderTimeout() == ScriptTimeouts.UNLIMITED) {
+            return timeout;
+        }
+        long start = (session != null) ? session.getFolderStart(folder) : System.currentTimeMillis();
+        long remaining = timeouts.getFolderTimeout() - ((System.currentTimeMillis() - start) / 1000);
+        if (remaining <= 0) {
+            return FOLDER_TIMEOUT_EXCEEDED;
+        }
+        return (timeout == ScriptTimeouts.UNLIMITED) ? remaining : Math.min(timeout, remaining);
+    }
+
+    @Override
+    public int cancel(String path) {
+        String cancelPath = StringUtils.removeEnd(path, "/");
+        int count = 0;
+        for (Map.Entry<AecuScriptContext, String> entry : runningScripts.entrySet()) {
+            String scriptPath = entry.getValue();
+            if (scriptPath.equals(cancelPath) || scriptPath.startsWith(cancelPath + "/")) {
+                LOG.info("Cancelling script {}", scriptPath);
+                entry.getKey().cancel();
+                count++;
+            }
+        }
+        return count;
+    }
+
     /**
      * Returns the fallback script name if any exists.
      *
@@ -265,11 +602,11 @@ public class AecuServiceImpl implements AecuService {
         }
         String baseName = name.substring(0, name.indexOf('.'));
         String fallbackPath = path.substring(0, path.lastIndexOf('/') + 1) + baseName + FALLBACK_SELECTOR + "groovy";
-        if (resolver.getResource(fallbackPath) != null) {
+        if (scriptIndex.exists(resolver, fallbackPath)) {
             return fallbackPath;
         }
         String directoryFallbackPath = path.substring(0, path.lastIndexOf('/') + 1) + DIR_FALLBACK_SCRIPT;
-        if (resolver.getResource(directoryFallbackPath) != null) {
+        if (scriptIndex.exists(resolver, directoryFallbackPath)) {
             return directoryFallbackPath;
         }
         return null;
@@ -284,45 +621,89 @@ public class AecuServiceImpl implements AecuService {
      */
     protected String getPrechecksScript(ResourceResolver resolver, String path) {
         String name = path.substring(path.lastIndexOf('/') + 1);
-        if (name.contains(PRECHECKS_SELECTOR) || DIR_PRECHECKS_SCRIPT.equals(name)) {
+        if (name.contains(PRECHECKS_SELECTOR) || DIR_PRECHECKS_SCRIPT.equals(name) || DIR_PRECHECKS_ALWAYS_SCRIPT.equals(name)) {
             // skip if script is a prechecks script itself
             return null;
         }
         String baseName = name.substring(0, name.indexOf('.'));
         String prechecksPath = path.substring(0, path.lastIndexOf('/') + 1) + baseName + PRECHECKS_SELECTOR + "groovy";
-        if (resolver.getResource(prechecksPath) != null) {
+        if (scriptIndex.exists(resolver, prechecksPath)) {
             return prechecksPath;
         }
         String directoryPrechecksPath = path.substring(0, path.lastIndexOf('/') + 1) + DIR_PRECHECKS_SCRIPT;
-        if (resolver.getResource(directoryPrechecksPath) != null) {
+        if (scriptIndex.exists(resolver, directoryPrechecksPath)) {
             return directoryPrechecksPath;
         }
+        String directoryPrechecksAlwaysPath = path.substring(0, path.lastIndexOf('/') + 1) + DIR_PRECHECKS_ALWAYS_SCRIPT;
+        if (scriptIndex.exists(resolver, directoryPrechecksAlwaysPath)) {
+            return directoryPrechecksAlwaysPath;
+        }
         return null;
     }
 
     @Override
     public HistoryEntry createHistoryEntry() throws AecuException {
-        try (ResourceResolver resolver = resolverService.getServiceResourceResolver()) {
-            HistoryEntry entry = historyUtil.createHistoryEntry(resolver);
-            resolver.commit();
-            return entry;
-        } catch (PersistenceException e) {
-            throw new AecuException("Unable to create history", e);
-        } catch (LoginException e) {
-            throw new AecuException(ERR_NO_RESOLVER, e);
+        // entries are created one after the other as each one updates the history index
+        synchronized (historyIndexLock) {
+            try (ResourceResolver resolver = resolverService.getServiceResourceResolver()) {
+                for (int attempt = 1;; attempt++) {
+                    try {
+                        HistoryEntry entry = historyUtil.createHistoryEntry(resolver);
+                        resolver.commit();
+                        return entry;
+                    } catch (PersistenceException e) {
+                        if (attempt >= HISTORY_CREATE_ATTEMPTS) {
+                            throw new AecuException("Unable to create history", e);
+                        }
+                        // the lock only covers this instance, other cluster nodes may have updated the index
+                        LOG.info("Conflict while creating history entry, retrying: {}", e.getMessage());
+                        resolver.revert();
+                        waitForRetry(attempt);
+                        resolver.refresh();
+                    }
+                }
+            } catch (LoginException e) {
+                throw new AecuException(ERR_NO_RESOLVER, e);
+            }
+        }
+    }
+
+    /**
+     * Waits before the next attempt to create a history entry.
+     *
+     * @param attempt number of failed attempts
+     * @throws AecuException interrupted while waiting
+     */
+    private void waitForRetry(int attempt) throws AecuException {
+        try {
+            Thread.sleep(HISTORY_CREATE_RETRY_DELAY * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AecuException("Interrupted while creating history", e);
         }
     }
 
     @Override
     public HistoryEntry finishHistoryEntry(HistoryEntry history) throws AecuException {
-        try (ResourceResolver resolver = resolverService.getServiceResourceResolver()) {
+        ExecutionSession session = sessions.remove(history);
+        ExecutionTrace trace = historyTraces.remove(history);
+        try (ResourceResolver serviceResolver = (session == null) ? resolverService.getServiceResourceResolver() : null) {
+            ResourceResolver resolver = (session == null) ? serviceResolver : session.getServiceResolver();
             historyUtil.finishHistoryEntry(history, resolver);
+            if ((trace != null) && !trace.isEmpty()) {
+                historyUtil.storeTrace(history, trace.toJson(), resolver);
+            }
+            // also flushes the pending history writes of the session
             resolver.commit();
             return history;
         } catch (LoginException e) {
             throw new AecuException(ERR_NO_RESOLVER, e);
         } catch (PersistenceException e) {
             throw new AecuException("Unable to finish history " + history.getRepositoryPath(), e);
+        } finally {
+            if (session != null) {
+                session.close();
+            }
         }
     }
 
@@ -332,9 +713,32 @@ public class AecuServiceImpl implements AecuService {
             throw new AecuException("Invalid history entry.");
         }
         ((HistoryEntryImpl) history).addSingleResult(result);
-        try (ResourceResolver resolver = resolverService.getServiceResourceResolver()) {
-            historyUtil.storeExecutionInHistory(history, result, resolver);
-            resolver.commit();
+        ExecutionTrace trace = historyTraces.computeIfAbsent(history, h -> createTrace());
+        ExecutionTrace resultTrace = resultTraces.remove(result);
+        if (resultTrace != null) {
+            trace.addAll(resultTrace);
+        }
+        String scriptPath = (result == null) ? null : result.getPath();
+        long traceStart = ExecutionTrace.now();
+        ExecutionSession session = sessions.get(history);
+        try (ResourceResolver serviceResolver = (session == null) ? resolverService.getServiceResourceResolver() : null) {
+            if (session == null) {
+                historyUtil.storeExecutionInHistory(history, result, serviceResolver);
+                serviceResolver.commit();
+                trace.addSpan("history write", ExecutionTrace.CATEGORY_HISTORY, traceStart, scriptPath);
+                events.historyWritten(history.getRepositoryPath(), scriptPath, ExecutionTrace.now() - traceStart);
+                return history;
+            }
+            synchronized (session) {
+                historyUtil.storeExecutionInHistory(history, result, session.getServiceResolver());
+                session.historyChanged();
+                if ((result != null) && (ExecutionState.FAILED == result.getState())) {
+                    // make failures visible right away
+                    session.commitHistory();
+                }
+            }
+            trace.addSpan("history write", ExecutionTrace.CATEGORY_HISTORY, traceStart, scriptPath);
+            events.historyWritten(history.getRepositoryPath(), scriptPath, ExecutionTrace.now() - traceStart);
             return history;
         } catch (LoginException e) {
             throw new AecuException(ERR_NO_RESOLVER, e);
@@ -352,6 +756,20 @@ public class AecuServiceImpl implements AecuService {
         }
     }
 
+    @Override
+    public List<HistorySummary> getHistorySummaries(int startIndex, int count) throws AecuException {
+        try (ResourceResolver resolver = resolverService.getServiceResourceResolver()) {
+            return historyUtil.getHistorySummaries(startIndex, count, resolver);
+        } catch (LoginException e) {
+            throw new AecuException(ERR_NO_RESOLVER, e);
+        }
+    }
+
+    @Override
+    public HistorySummary getLastRun() throws AecuException {
+        return historyUtil.getLastRun();
+    }
+
     @Override
     public HistoryEntry executeWithInstallHookHistory(String path) throws AecuException {
         return executeWithInstallHookHistory(path, null);
@@ -360,35 +778,123 @@ public class AecuServiceImpl implements AecuService {
     @Override
     public HistoryEntry executeWithInstallHookHistory(String path, String data) throws AecuException {
         HistoryEntry history = createHistoryEntry();
-        List<String> files = getFiles(path);
         try (ResourceResolver resolver = resolverService.getAdminResourceResolver()) {
+            List<String> files = getFiles(path);
             Session session = resolver.adaptTo(Session.class);
-            boolean stopExecution = false;
+            Map<String, HookExecutionHistory> executionHistories = new LinkedHashMap<>();
             for (String file : files) {
                 HookExecutionHistory executionHistory = createHookExecutionHistory(session, file);
                 if (!file.endsWith(AecuTrackerListener.ALWAYS_SUFFIX) && executionHistory.hasBeenExecutedBefore()) {
                     continue;
                 }
-                ExecutionResult singleResult;
+                executionHistories.put(file, executionHistory);
+            }
+            boolean stopExecution = false;
+            for (List<String> stage : getExecutionStages(new ArrayList<>(executionHistories.keySet()))) {
+                List<ExecutionResult> results;
                 if (!stopExecution) {
-                    singleResult = execute(file, data);
+                    results = executeStage(stage, data, history);
                 } else {
-                    singleResult = new ExecutionResult(ExecutionState.SKIPPED, null, null, null, null, file);
+                    results = new ArrayList<>();
+                    for (String file : stage) {
+                        results.add(new ExecutionResult(ExecutionState.SKIPPED, null, null, null, null, file));
+                    }
                 }
-                if (singleResult.getState() == ExecutionState.SUCCESS) {
-                    executionHistory.setExecuted();
-                } else if (singleResult.getState() == ExecutionState.FAILED) {
-                    stopExecution = true;
+                for (int i = 0; i < results.size(); i++) {
+                    ExecutionResult singleResult = results.get(i);
+                    if (singleResult.getState() == ExecutionState.SUCCESS) {
+                        executionHistories.get(stage.get(i)).setExecuted();
+                    } else if ((singleResult.getState() == ExecutionState.FAILED)
+                            || (singleResult.getState() == ExecutionState.CANCELLED)) {
+                        stopExecution = true;
+                    }
+                    storeExecutionInHistory(history, singleResult);
                 }
-                storeExecutionInHistory(history, singleResult);
             }
         } catch (LoginException e) {
             throw new AecuException(e.getMessage(), e);
+        } finally {
+            // also closes the execution session and commits its pending history writes
+            finishHistoryEntry(history);
         }
-        finishHistoryEntry(history);
         return history;
     }
 
+    @Override
+    public List<List<String>> getExecutionStages(List<String> paths) throws AecuException {
+        List<List<String>> stages = new ArrayList<>();
+        try (ResourceResolver resolver = resolverService.getServiceResourceResolver()) {
+            Map<String, Boolean> parallelFolders = new HashMap<>();
+            String parallelFolder = null;
+            List<String> stage = null;
+            for (String path : paths) {
+                String folder = StringUtils.substringBeforeLast(path, "/");
+                if (!parallelFolders.containsKey(folder)) {
+                    parallelFolders.put(folder, ParallelExecution.load(resolver, folder) != null);
+                }
+                if ((stage == null) || !folder.equals(parallelFolder)) {
+                    stage = new ArrayList<>();
+                    stages.add(stage);
+                    parallelFolder = parallelFolders.get(folder) ? folder : null;
+                }
+                stage.add(path);
+            }
+        } catch (LoginException e) {
+            throw new AecuException(ERR_NO_RESOLVER, e);
+        }
+        return stages;
+    }
+
+    @Override
+    public List<ExecutionResult> executeStage(List<String> paths, String data, HistoryEntry history) throws AecuException {
+        ExecutionSession session =
+                (history != null) ? sessions.computeIfAbsent(history, h -> new ExecutionSession(resolverService)) : null;
+        ParallelExecution parallelExecution = null;
+        if (paths.size() > 1) {
+            parallelExecution = getParallelExecution(paths, session);
+        }
+        if (parallelExecution == null) {
+            List<ExecutionResult> results = new ArrayList<>();
+            for (String path : paths) {
+                results.add(execute(path, data, session));
+            }
+            return results;
+        }
+        LOG.info("Executing {} scripts in parallel", paths.size());
+        return parallelExecution.execute(paths, path -> execute(path, data, session));
+    }
+
+    /**
+     * Returns the parallel execution settings if all scripts are in the same parallel folder.
+     *
+     * @param paths   script paths
+     * @param session session of the current run, may be null
+     * @return parallel execution settings or null if the scripts need to run one after another
+     * @throws AecuException invalid parallel execution setup
+     */
+    private ParallelExecution getParallelExecution(List<String> paths, ExecutionSession session) throws AecuException {
+        String folder = StringUtils.substringBeforeLast(paths.get(0), "/");
+        for (String path : paths) {
+            if (!folder.equals(StringUtils.substringBeforeLast(path, "/"))) {
+                return null;
+            }
+        }
+        if (session != null) {
+            synchronized (session) {
+                try {
+                    return ParallelExecution.load(session.getServiceResolver(), folder);
+                } catch (LoginException e) {
+                    throw new AecuException(ERR_NO_RESOLVER, e);
+                }
+            }
+        }
+        try (ResourceResolver resolver = resolverService.getServiceResourceResolver()) {
+            return ParallelExecution.load(resolver, folder);
+        } catch (LoginException e) {
+            throw new AecuException(ERR_NO_RESOLVER, e);
+        }
+    }
+
     /**
      * Creates a hook history entry.
      *
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.sling.api.resource.LoginException;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.event.jobs.Job;
+import org.apache.sling.event.jobs.JobManager;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+import de.valtech.aecu.api.service.AecuException;
+import de.valtech.aecu.api.service.AecuService;
+import de.valtech.aecu.api.service.ExecutionResult;
+import de.valtech.aecu.api.service.HistoryEntry;
+import de.valtech.aecu.core.history.HistoryUtil;
+import de.valtech.aecu.core.service.ExecutionJobStatus.STATE;
+import de.valtech.aecu.core.serviceuser.ServiceResourceResolverService;
+
+/**
+ * Submits scripts for background execution as Sling jobs and provides their status.
+ *
+ * @author agent
+ */
+@Component(service = AsyncExecutionService.class)
+public class AsyncExecutionService {
+
+    @Reference
+    private JobManager jobManager;
+
+    @Reference
+    private AecuService aecuService;
+
+    @Reference
+    private HistoryUtil historyUtil;
+
+    @Reference
+    private ServiceResourceResolverService resolverService;
+
+    /**
+     * Submits the script or folder for execution. A new history entry is created that is updated
+     * while the job runs.
+     *
+     * @param path script or folder path
+     * @param data json object of script, may be null
+     * @return status of the new job
+     * @throws AecuException invalid path or job could not be created
+     */
+    public ExecutionJobStatus submit(String path, String data) throws AecuException {
+        // fail early for invalid paths
+        aecuService.getFiles(path);
+        HistoryEntry history = aecuService.createHistoryEntry();
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(ExecutionJob.PROPERTY_PATH, path);
+        properties.put(ExecutionJob.PROPERTY_HISTORY, history.getRepositoryPath());
+        if (data != null) {
+            properties.put(ExecutionJob.PROPERTY_DATA, data);
+        }
+        Job job = jobManager.addJob(ExecutionJob.TOPIC, properties);
+        if (job == null) {
+            aecuService.finishHistoryEntry(history);
+            throw new AecuException("Unable to create execution job for " + path);
+        }
+        return new ExecutionJobStatus(job.getId(), STATE.QUEUED, history.getRepositoryPath(), 0, 0, null);
+    }
+
+    /**
+     * Returns the status of the job. Finished jobs are removed by Sling and reported as not found,
+     * their results are available in history.
+     *
+     * @param jobId job id
+     * @return status
+     * @throws AecuException error reading history
+     */
+    public ExecutionJobStatus getStatus(String jobId) throws AecuException {
+        Job job = getJob(jobId);
+        if (job == null) {
+            return new ExecutionJobStatus(jobId, STATE.NOT_FOUND, null, 0, 0, null);
+        }
+        String historyEntryPath = job.getProperty(ExecutionJob.PROPERTY_HISTORY, String.class);
+        String[] log = job.getProgressLog();
+        ExecutionJobStatus status = new ExecutionJobStatus(jobId, getState(job), historyEntryPath,
+                Math.max(0, job.getProgressStepCount()), Math.max(0, job.getFinishedProgressStep()),
+                (log != null) ? Arrays.asList(log) : null);
+        HistoryEntry history = readHistoryEntry(historyEntryPath);
+        if (history != null) {
+            for (ExecutionResult result : history.getSingleResults()) {
+                status.count(result.getState());
+            }
+        }
+        return status;
+    }
+
+    /**
+     * Cancels the job. Queued jobs are removed. Running jobs cancel the scripts that are currently
+     * executed in the job's path and record the remaining scripts as skipped.
+     *
+     * @param jobId job id
+     * @return job was found
+     * @throws AecuException error finishing history
+     */
+    public boolean cancel(String jobId) throws AecuException {
+        Job job = getJob(jobId);
+        if (job == null) {
+            return false;
+        }
+        if ((job.getJobState() == Job.JobState.QUEUED) && jobManager.removeJobById(jobId)) {
+            HistoryEntry history = readHistoryEntry(job.getProperty(ExecutionJob.PROPERTY_HISTORY, String.class));
+            if (history != null) {
+                aecuService.finishHistoryEntry(history);
+            }
+            return true;
+        }
+        // stop first so that the job does not start the next stage after its current scripts were cancelled
+        jobManager.stopJobById(jobId);
+        String path = job.getProperty(ExecutionJob.PROPERTY_PATH, String.class);
+        if (path != null) {
+            aecuService.cancel(path);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the execution job with the given id.
+     *
+     * @param jobId job id
+     * @return job or null if no execution job with this id is queued or active
+     */
+    private Job getJob(String jobId) {
+        if (jobId == null) {
+            return null;
+        }
+        Job job = jobManager.getJobById(jobId);
+        if ((job == null) || !ExecutionJob.TOPIC.equals(job.getTopic())) {
+            return null;
+        }
+        return job;
+    }
+
+    /**
+     * Maps the Sling job state.
+     *
+     * @param job job
+     * @return state
+     */
+    private STATE getState(Job job) {
+        switch (job.getJobState()) {
+            case QUEUED:
+                return STATE.QUEUED;
+            case ACTIVE:
+                return STATE.ACTIVE;
+            case STOPPED:
+            case DROPPED:
+            case GIVEN_UP:
+                return STATE.CANCELLED;
+            default:
+                return STATE.FINISHED;
+        }
+    }
+
+    /**
+     * Reads the history entry.
+     *
+     * @param path history entry path
+     * @return history entry or null if not found
+     * @throws AecuException error getting resolver
+     */
+    private HistoryEntry readHistoryEntry(String path) throws AecuException {
+        if (path == null) {
+            return null;
+        }
+        try (ResourceResolver resolver = resolverService.getServiceResourceResolver()) {
+            Resource resource = resolver.getResource(path);
+            return (resource != null) ? historyUtil.readHistoryEntry(resource) : null;
+        } catch (LoginException e) {
+            throw new AecuException("Unable to get service resource resolver", e);
+        }
+    }
+
+}
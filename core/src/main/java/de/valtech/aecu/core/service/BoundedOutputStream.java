@@ -0,0 +1,290 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects script output with bounded memory usage. The first {@link #HEAD_SIZE} and the last
+ * {@link #TAIL_SIZE} bytes are kept in memory, everything in between is dropped from the in memory
+ * content. Once the head is full the complete output is additionally written to a GZIP compressed
+ * temporary file that can be stored in the history.
+ *
+ * @author agent
+ */
+public class BoundedOutputStream extends ByteArrayOutputStream {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BoundedOutputStream.class);
+
+    /**
+     * Number of bytes kept from the start of the output.
+     */
+    public static final int HEAD_SIZE = 256 * 1024;
+
+    /**
+     * Number of bytes kept from the end of the output.
+     */
+    public static final int TAIL_SIZE = 256 * 1024;
+
+    private final int headSize;
+    private final int tailSize;
+    private byte[] tail;
+    private int tailStart = 0;
+    private int tailCount = 0;
+    private long totalSize = 0;
+    private Path spillFile;
+    private OutputStream spill;
+    private boolean spillFailed = false;
+    private boolean spillFinished = false;
+
+    /**
+     * Constructor
+     */
+    public BoundedOutputStream() {
+        this(HEAD_SIZE, TAIL_SIZE);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param headSize number of bytes kept from the start of the output
+     * @param tailSize number of bytes kept from the end of the output
+     */
+    public BoundedOutputStream(int headSize, int tailSize) {
+        this.headSize = headSize;
+        this.tailSize = tailSize;
+    }
+
+    /**
+     * Returns the marker that replaces the omitted part of the output.
+     *
+     * @param totalSize size of the complete output in bytes
+     * @return marker
+     */
+    public static String getOmissionMarker(long totalSize) {
+        return "\n\n[... output truncated, showing start and end of " + totalSize
+                + " bytes, the full output is available in the history ...]\n\n";
+    }
+
+    @Override
+    public synchronized void write(int b) {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) {
+        int headPart = Math.max(0, Math.min(len, headSize - count));
+        if (headPart > 0) {
+            super.write(b, off, headPart);
+        }
+        totalSize += len;
+        int rest = len - headPart;
+        if (rest <= 0) {
+            return;
+        }
+        writeSpill(b, off + headPart, rest);
+        appendTail(b, off + headPart, rest);
+    }
+
+    /**
+     * Returns if parts of the output were omitted in memory.
+     *
+     * @return truncated
+     */
+    public synchronized boolean isTruncated() {
+        return totalSize > (count + tailCount);
+    }
+
+    /**
+     * Returns the size of the complete output.
+     *
+     * @return size in bytes
+     */
+    public synchronized long getTotalSize() {
+        return totalSize;
+    }
+
+    /**
+     * Finishes the compressed file with the complete output. The caller is responsible to delete the
+     * file.
+     *
+     * @return GZIP file or null if output was not truncated or file could not be written
+     */
+    public synchronized Path getSpillFile() {
+        closeSpill();
+        spillFinished = true;
+        if (!isTruncated() || spillFailed) {
+            discardSpill();
+            return null;
+        }
+        return spillFile;
+    }
+
+    @Override
+    public synchronized byte[] toByteArray() {
+        if (totalSize <= count) {
+            return super.toByteArray();
+        }
+        ByteArrayOutputStream summary = new ByteArrayOutputStream(count + tailCount + 200);
+        summary.write(buf, 0, count);
+        if (isTruncated()) {
+            byte[] marker = getOmissionMarker(totalSize).getBytes(StandardCharsets.UTF_8);
+            summary.write(marker, 0, marker.length);
+        }
+        if (tailCount > 0) {
+            int firstPart = Math.min(tailCount, tail.length - tailStart);
+            summary.write(tail, tailStart, firstPart);
+            summary.write(tail, 0, tailCount - firstPart);
+        }
+        return summary.toByteArray();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return new String(toByteArray(), Charset.defaultCharset());
+    }
+
+    @Override
+    public synchronized String toString(String charsetName) throws UnsupportedEncodingException {
+        return new String(toByteArray(), charsetName);
+    }
+
+    @Override
+    public synchronized int size() {
+        return toByteArray().length;
+    }
+
+    @Override
+    public synchronized void writeTo(OutputStream out) throws IOException {
+        out.write(toByteArray());
+    }
+
+    @Override
+    public synchronized void reset() {
+        super.reset();
+        tailStart = 0;
+        tailCount = 0;
+        totalSize = 0;
+        closeSpill();
+        discardSpill();
+        spillFailed = false;
+        spillFinished = false;
+    }
+
+    /**
+     * Writes the bytes after the head to the spill file. The file is started with the head on first
+     * call.
+     *
+     * @param b   data
+     * @param off offset
+     * @param len length
+     */
+    private void writeSpill(byte[] b, int off, int len) {
+        if (spillFailed || spillFinished) {
+            return;
+        }
+        try {
+            if (spill == null) {
+                spillFile = Files.createTempFile("aecu-output-", ".gz");
+                spill = new GZIPOutputStream(Files.newOutputStream(spillFile));
+                spill.write(buf, 0, count);
+            }
+            spill.write(b, off, len);
+        } catch (IOException e) {
+            LOG.warn("Unable to write full script output, keeping only start and end: {}", e.getMessage());
+            spillFailed = true;
+            closeSpill();
+            discardSpill();
+        }
+    }
+
+    /**
+     * Appends the bytes to the tail ring buffer. The buffer is only allocated once the output exceeds
+     * the head.
+     *
+     * @param b   data
+     * @param off offset
+     * @param len length
+     */
+    private void appendTail(byte[] b, int off, int len) {
+        if (tailSize == 0) {
+            return;
+        }
+        if (tail == null) {
+            tail = new byte[tailSize];
+        }
+        if (len >= tail.length) {
+            System.arraycopy(b, off + len - tail.length, tail, 0, tail.length);
+            tailStart = 0;
+            tailCount = tail.length;
+            return;
+        }
+        for (int i = off; i < off + len; i++) {
+            tail[(tailStart + tailCount) % tail.length] = b[i];
+            if (tailCount < tail.length) {
+                tailCount++;
+            } else {
+                tailStart = (tailStart + 1) % tail.length;
+            }
+        }
+    }
+
+    /**
+     * Closes the spill file stream if open.
+     */
+    private void closeSpill() {
+        if (spill == null) {
+            return;
+        }
+        try {
+            spill.close();
+        } catch (IOException e) {
+            LOG.warn("Unable to close full script output: {}", e.getMessage());
+            spillFailed = true;
+        }
+        spill = null;
+    }
+
+    /**
+     * Deletes the spill file if any.
+     */
+    private void discardSpill() {
+        if (spillFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(spillFile);
+        } catch (IOException e) {
+            LOG.warn("Unable to delete {}: {}", spillFile, e.getMessage());
+        }
+        spillFile = null;
+    }
+
+}
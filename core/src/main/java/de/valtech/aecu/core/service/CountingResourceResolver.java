@@ -0,0 +1,283 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+import javax.servlet.http.HttpServletRequest;
+
+import org.apache.sling.api.resource.ModifiableValueMap;
+import org.apache.sling.api.resource.NonExistingResource;
+import org.apache.sling.api.resource.PersistenceException;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.api.resource.ResourceWrapper;
+import org.apache.sling.api.wrappers.ModifiableValueMapDecorator;
+import org.apache.sling.api.wrappers.ResourceResolverWrapper;
+
+/**
+ * Resource resolver that counts the repository access of a script. Resources read through this
+ * resolver (including their children and parents) are counted as well as properties written via
+ * {@link ModifiableValueMap}, queries and commits.
+ *
+ * @author agent
+ */
+public class CountingResourceResolver extends ResourceResolverWrapper {
+
+    private final ResourceUsageCounter counter;
+
+    /**
+     * Constructor
+     *
+     * @param resolver resolver
+     * @param counter  counter
+     */
+    public CountingResourceResolver(ResourceResolver resolver, ResourceUsageCounter counter) {
+        super(resolver);
+        this.counter = counter;
+    }
+
+    @Override
+    public Resource resolve(HttpServletRequest request, String absPath) {
+        return read(super.resolve(request, absPath));
+    }
+
+    @Override
+    public Resource resolve(String absPath) {
+        return read(super.resolve(absPath));
+    }
+
+    @Override
+    public Resource getResource(String path) {
+        return read(super.getResource(path));
+    }
+
+    @Override
+    public Resource getResource(Resource base, String path) {
+        return read(super.getResource(base, path));
+    }
+
+    @Override
+    public Resource getParent(Resource child) {
+        return read(super.getParent(child));
+    }
+
+    @Override
+    public Iterator<Resource> listChildren(Resource parent) {
+        return new CountingIterator<>(super.listChildren(parent), this::read);
+    }
+
+    @Override
+    public Iterable<Resource> getChildren(Resource parent) {
+        return () -> listChildren(parent);
+    }
+
+    @Override
+    public Iterator<Resource> findResources(String query, String language) {
+        counter.query();
+        return new CountingIterator<>(super.findResources(query, language), resource -> {
+            counter.queryResult();
+            return read(resource);
+        });
+    }
+
+    @Override
+    public Iterator<Map<String, Object>> queryResources(String query, String language) {
+        counter.query();
+        return new CountingIterator<>(super.queryResources(query, language), row -> {
+            counter.queryResult();
+            return row;
+        });
+    }
+
+    @Override
+    public Resource create(Resource parent, String name, Map<String, Object> properties) throws PersistenceException {
+        Resource resource = super.create(parent, name, properties);
+        if (properties != null) {
+            counter.propertiesWritten(properties.size());
+        }
+        return wrap(resource);
+    }
+
+    @Override
+    public void commit() throws PersistenceException {
+        long start = System.currentTimeMillis();
+        try {
+            super.commit();
+        } finally {
+            counter.commit(System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * Counts a read resource.
+     *
+     * @param resource resource, may be null
+     * @return counting resource
+     */
+    private Resource read(Resource resource) {
+        if ((resource != null) && !(resource instanceof NonExistingResource)) {
+            counter.nodeRead();
+        }
+        return wrap(resource);
+    }
+
+    /**
+     * Wraps the resource to count access to its children, parent and properties.
+     *
+     * @param resource resource, may be null
+     * @return counting resource
+     */
+    private Resource wrap(Resource resource) {
+        if ((resource == null) || (resource instanceof NonExistingResource)) {
+            return resource;
+        }
+        return new CountingResource(resource, this);
+    }
+
+    /**
+     * Resource that navigates via the counting resolver and counts property changes.
+     */
+    private static class CountingResource extends ResourceWrapper {
+
+        private final CountingResourceResolver resolver;
+
+        /**
+         * Constructor
+         *
+         * @param resource resource
+         * @param resolver counting resolver
+         */
+        CountingResource(@Nonnull Resource resource, CountingResourceResolver resolver) {
+            super(resource);
+            this.resolver = resolver;
+        }
+
+        @Override
+        public ResourceResolver getResourceResolver() {
+            return resolver;
+        }
+
+        @Override
+        public Resource getParent() {
+            return resolver.getParent(this);
+        }
+
+        @Override
+        public Resource getChild(String relPath) {
+            return resolver.getResource(this, relPath);
+        }
+
+        @Override
+        public Iterator<Resource> listChildren() {
+            return resolver.listChildren(this);
+        }
+
+        @Override
+        public Iterable<Resource> getChildren() {
+            return resolver.getChildren(this);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T adaptTo(Class<T> type) {
+            T adapted = super.adaptTo(type);
+            if ((adapted != null) && (type == ModifiableValueMap.class)) {
+                return (T) new CountingValueMap((ModifiableValueMap) adapted, resolver.counter);
+            }
+            return adapted;
+        }
+
+    }
+
+    /**
+     * Value map that counts the written properties.
+     */
+    private static class CountingValueMap extends ModifiableValueMapDecorator {
+
+        private final ResourceUsageCounter counter;
+
+        /**
+         * Constructor
+         *
+         * @param values  values
+         * @param counter counter
+         */
+        CountingValueMap(ModifiableValueMap values, ResourceUsageCounter counter) {
+            super(values);
+            this.counter = counter;
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            counter.propertiesWritten(1);
+            return super.put(key, value);
+        }
+
+        @Override
+        public void putAll(Map<? extends String, ?> values) {
+            counter.propertiesWritten(values.size());
+            super.putAll(values);
+        }
+
+        @Override
+        public Object remove(Object key) {
+            counter.propertiesWritten(1);
+            return super.remove(key);
+        }
+
+    }
+
+    /**
+     * Iterator that converts each element.
+     *
+     * @param <T> element type
+     */
+    private static class CountingIterator<T> implements Iterator<T> {
+
+        private final Iterator<T> iterator;
+        private final Function<T, T> converter;
+
+        /**
+         * Constructor
+         *
+         * @param iterator  iterator
+         * @param converter called for each element
+         */
+        CountingIterator(Iterator<T> iterator, Function<T, T> converter) {
+            this.iterator = iterator;
+            this.converter = converter;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public T next() {
+            return converter.apply(iterator.next());
+        }
+
+    }
+
+}
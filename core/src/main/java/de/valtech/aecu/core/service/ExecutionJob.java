@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.sling.api.resource.LoginException;
+import org.apache.sling.api.resource.PersistenceException;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.event.jobs.Job;
+import org.apache.sling.event.jobs.consumer.JobExecutionContext;
+import org.apache.sling.event.jobs.consumer.JobExecutionResult;
+import org.apache.sling.event.jobs.consumer.JobExecutor;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.valtech.aecu.api.service.AecuException;
+import de.valtech.aecu.api.service.AecuService;
+import de.valtech.aecu.api.service.ExecutionResult;
+import de.valtech.aecu.api.service.ExecutionState;
+import de.valtech.aecu.api.service.HistoryEntry;
+import de.valtech.aecu.core.history.HistoryUtil;
+import de.valtech.aecu.core.serviceuser.ServiceResourceResolverService;
+
+/**
+ * Executes scripts in the background. Each finished script is stored in history and added to the
+ * progress log of the job.
+ *
+ * @author agent
+ */
+@Component(service = JobExecutor.class, property = {JobExecutor.PROPERTY_TOPICS + "=" + ExecutionJob.TOPIC})
+public class ExecutionJob implements JobExecutor {
+
+    public static final String TOPIC = "de/valtech/aecu/execute";
+
+    public static final String PROPERTY_PATH = "aecuScriptPath";
+    public static final String PROPERTY_DATA = "data";
+    public static final String PROPERTY_HISTORY = "historyEntryPath";
+
+    /**
+     * Maximum number of output characters per script in the progress log. The full output is
+     * available in history.
+     */
+    protected static final int MAX_LOG_OUTPUT = 10000;
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExecutionJob.class);
+
+    @Reference
+    private AecuService aecuService;
+
+    @Reference
+    private StagedExecutionService stagedExecutionService;
+
+    @Reference
+    private HistoryUtil historyUtil;
+
+    @Reference
+    private ServiceResourceResolverService resolverService;
+
+    @Override
+    public JobExecutionResult process(Job job, JobExecutionContext context) {
+        String path = job.getProperty(PROPERTY_PATH, String.class);
+        String data = job.getProperty(PROPERTY_DATA, String.class);
+        HistoryEntry history = null;
+        try {
+            history = readHistoryEntry(job.getProperty(PROPERTY_HISTORY, String.class));
+            if ((history.getState() != HistoryEntry.STATE.RUNNING) || !markStarted(history)) {
+                // Sling processes persisted jobs again after a restart, a partial run must not be repeated
+                LOG.warn("Not restarting interrupted execution of {}, see history entry {}", path,
+                        history.getRepositoryPath());
+                if (history.getState() == HistoryEntry.STATE.RUNNING) {
+                    aecuService.finishHistoryEntry(history);
+                }
+                return context.result().message("Execution of " + path + " was interrupted").cancelled();
+            }
+            List<String> files = aecuService.getFiles(path);
+            context.initProgress(files.size(), -1);
+            boolean stopped = false;
+            for (List<String> stage : stagedExecutionService.getExecutionStages(files)) {
+                stopped = stopped || context.isStopped();
+                List<ExecutionResult> results;
+                if (!stopped) {
+                    results = stagedExecutionService.executeStage(stage, data, history);
+                } else {
+                    results = new ArrayList<>();
+                    for (String file : stage) {
+                        results.add(new ExecutionResult(ExecutionState.SKIPPED, null, null, null, null, file));
+                    }
+                }
+                for (int i = 0; i < results.size(); i++) {
+                    ExecutionResult result = results.get(i);
+                    aecuService.storeExecutionInHistory(history, result);
+                    context.incrementProgressCount(1);
+                    // use a format argument as script output may contain format characters
+                    context.log("{0}", stage.get(i) + ": " + result.getState().name() + "\n"
+                            + StringUtils.abbreviate(StringUtils.defaultString(result.getOutput()), MAX_LOG_OUTPUT));
+                }
+            }
+            aecuService.finishHistoryEntry(history);
+            if (stopped) {
+                return context.result().message("Execution of " + path + " was cancelled").cancelled();
+            }
+            return context.result().message("Executed " + files.size() + " scripts").succeeded();
+        } catch (AecuException e) {
+            LOG.error("Unable to execute " + path, e);
+            finishHistoryEntry(history);
+            // no retries, a partial run must not be repeated automatically
+            return context.result().message("Execution failed with " + e.getMessage()).cancelled();
+        }
+    }
+
+    /**
+     * Marks the history entry as started by this job. The marker is committed before any script runs
+     * as results are stored in batches and may not be persisted when the instance stops.
+     *
+     * @param history history entry of the job
+     * @return false if the job was already started before, e.g. before an instance restart
+     * @throws AecuException error saving marker
+     */
+    private boolean markStarted(HistoryEntry history) throws AecuException {
+        try (ResourceResolver resolver = resolverService.getServiceResourceResolver()) {
+            Resource resource = resolver.getResource(history.getRepositoryPath());
+            if ((resource == null) || historyUtil.isJobStarted(resource)) {
+                return false;
+            }
+            historyUtil.markJobStarted(resource);
+            resolver.commit();
+            return true;
+        } catch (LoginException e) {
+            throw new AecuException("Unable to get service resource resolver", e);
+        } catch (PersistenceException e) {
+            throw new AecuException("Unable to mark history entry as started " + history.getRepositoryPath(), e);
+        }
+    }
+
+    /**
+     * Reads the history entry that was created when the job was submitted.
+     *
+     * @param path history entry path
+     * @return history entry
+     * @throws AecuException history entry not found
+     */
+    private HistoryEntry readHistoryEntry(String path) throws AecuException {
+        try (ResourceResolver resolver = resolverService.getServiceResourceResolver()) {
+            Resource resource = (path != null) ? resolver.getResource(path) : null;
+            if (resource == null) {
+                throw new AecuException("History entry not found: " + path);
+            }
+            return historyUtil.readHistoryEntry(resource);
+        } catch (LoginException e) {
+            throw new AecuException("Unable to get service resource resolver", e);
+        }
+    }
+
+    /**
+     * Finishes the history entry after an error.
+     *
+     * @param history history entry, may be null
+     */
+    private void finishHistoryEntry(HistoryEntry history) {
+        if (history == null) {
+            return;
+        }
+        try {
+            aecuService.finishHistoryEntry(history);
+        } catch (AecuException e) {
+            LOG.error("Unable to finish history entry " + history.getRepositoryPath(), e);
+        }
+    }
+
+}
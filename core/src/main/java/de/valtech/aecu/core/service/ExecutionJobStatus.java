@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import de.valtech.aecu.api.service.ExecutionState;
+
+/**
+ * Status of a background execution.
+ *
+ * @author agent
+ */
+public class ExecutionJobStatus {
+
+    /**
+     * State of the job.
+     */
+    public enum STATE {
+        /** Waiting for execution */
+        QUEUED,
+        /** Scripts are running */
+        ACTIVE,
+        /** Job ended, see history entry for results */
+        FINISHED,
+        /** Job was cancelled */
+        CANCELLED,
+        /** Unknown job or job already removed */
+        NOT_FOUND
+    }
+
+    private final String jobId;
+    private final STATE state;
+    private final String historyEntryPath;
+    private final int total;
+    private final int finished;
+    private final Map<ExecutionState, Integer> counters = new EnumMap<>(ExecutionState.class);
+    private final List<String> output;
+
+    /**
+     * Constructor
+     *
+     * @param jobId            job id
+     * @param state            job state
+     * @param historyEntryPath path of history entry
+     * @param total            number of scripts
+     * @param finished         number of finished scripts
+     * @param output           output of finished scripts
+     */
+    public ExecutionJobStatus(String jobId, STATE state, String historyEntryPath, int total, int finished,
+            List<String> output) {
+        this.jobId = jobId;
+        this.state = state;
+        this.historyEntryPath = historyEntryPath;
+        this.total = total;
+        this.finished = finished;
+        this.output = (output != null) ? output : Collections.emptyList();
+    }
+
+    /**
+     * Returns the job id.
+     *
+     * @return job id
+     */
+    public String getJobId() {
+        return jobId;
+    }
+
+    /**
+     * Returns the job state.
+     *
+     * @return state
+     */
+    public STATE getState() {
+        return state;
+    }
+
+    /**
+     * Returns the path of the history entry.
+     *
+     * @return path
+     */
+    public String getHistoryEntryPath() {
+        return historyEntryPath;
+    }
+
+    /**
+     * Returns the number of scripts to execute.
+     *
+     * @return total
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the number of finished scripts.
+     *
+     * @return finished
+     */
+    public int getFinished() {
+        return finished;
+    }
+
+    /**
+     * Returns the number of finished scripts per execution state.
+     *
+     * @return counters
+     */
+    public Map<ExecutionState, Integer> getCounters() {
+        return Collections.unmodifiableMap(counters);
+    }
+
+    /**
+     * Increments the counter for the given execution state.
+     *
+     * @param executionState execution state
+     */
+    protected void count(ExecutionState executionState) {
+        counters.merge(executionState, 1, Integer::sum);
+    }
+
+    /**
+     * Returns the output of the finished scripts.
+     *
+     * @return output
+     */
+    public List<String> getOutput() {
+        return output;
+    }
+
+}
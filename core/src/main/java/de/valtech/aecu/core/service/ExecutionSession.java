@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.sling.api.resource.LoginException;
+import org.apache.sling.api.resource.PersistenceException;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.valtech.aecu.core.serviceuser.ServiceResourceResolverService;
+
+/**
+ * Resources that are shared by all scripts of an execution run. Content migrator resolvers are reused
+ * for the scripts of the run (one per concurrently running script) and history writes are committed
+ * in batches.
+ *
+ * @author agent
+ */
+public class ExecutionSession {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExecutionSession.class);
+
+    /**
+     * Number of history writes after which the history is committed.
+     */
+    protected static final int COMMIT_INTERVAL = 10;
+
+    /**
+     * Time in ms after which pending history writes are committed.
+     */
+    protected static final long COMMIT_DELAY = 10000;
+
+    private final ServiceResourceResolverService resolverService;
+    private final PrechecksMemo prechecksMemo = new PrechecksMemo();
+    private final Deque<ResourceResolver> idleResolvers = new ArrayDeque<>();
+    private final List<ResourceResolver> migratorResolvers = new ArrayList<>();
+    private final Map<String, Long> folderStarts = new HashMap<>();
+    private ResourceResolver serviceResolver;
+    private int pendingWrites = 0;
+    private long lastCommit = System.currentTimeMillis();
+
+    /**
+     * Constructor
+     *
+     * @param resolverService resolver service
+     */
+    public ExecutionSession(ServiceResourceResolverService resolverService) {
+        this.resolverService = resolverService;
+    }
+
+    /**
+     * Returns the results of directory level prechecks scripts of this run.
+     *
+     * @return memo
+     */
+    public PrechecksMemo getPrechecksMemo() {
+        return prechecksMemo;
+    }
+
+    /**
+     * Returns the time when the first script of the given folder was started in this run.
+     *
+     * @param folder folder path
+     * @return start time in ms
+     */
+    public synchronized long getFolderStart(String folder) {
+        return folderStarts.computeIfAbsent(folder, f -> System.currentTimeMillis());
+    }
+
+    /**
+     * Returns a content migrator resolver for exclusive use by one script. The resolver must be given
+     * back with {@link #releaseMigratorResolver(ResourceResolver)}.
+     *
+     * @return resolver
+     * @throws LoginException error opening resolver
+     */
+    public synchronized ResourceResolver acquireMigratorResolver() throws LoginException {
+        while (!idleResolvers.isEmpty()) {
+            ResourceResolver resolver = idleResolvers.pop();
+            if (resolver.isLive()) {
+                return resolver;
+            }
+            migratorResolvers.remove(resolver);
+        }
+        ResourceResolver resolver = resolverService.getContentMigratorResourceResolver();
+        migratorResolvers.add(resolver);
+        return resolver;
+    }
+
+    /**
+     * Gives back a content migrator resolver. Uncommitted changes are discarded and the resolver is
+     * refreshed to see the changes of other scripts.
+     *
+     * @param resolver resolver
+     */
+    public synchronized void releaseMigratorResolver(ResourceResolver resolver) {
+        if (!resolver.isLive()) {
+            migratorResolvers.remove(resolver);
+            return;
+        }
+        if (resolver.hasChanges()) {
+            LOG.warn("Discarding uncommitted changes of script run");
+            resolver.revert();
+        }
+        resolver.refresh();
+        idleResolvers.push(resolver);
+    }
+
+    /**
+     * Returns the service resolver of this run that is used for history writes and reading settings.
+     *
+     * @return resolver
+     * @throws LoginException error opening resolver
+     */
+    public synchronized ResourceResolver getServiceResolver() throws LoginException {
+        if ((serviceResolver == null) || !serviceResolver.isLive()) {
+            serviceResolver = resolverService.getServiceResourceResolver();
+        }
+        return serviceResolver;
+    }
+
+    /**
+     * Notifies about a history write. Pending writes are committed every {@link #COMMIT_INTERVAL}
+     * writes or after {@link #COMMIT_DELAY} ms.
+     *
+     * @throws PersistenceException error committing history
+     */
+    public synchronized void historyChanged() throws PersistenceException {
+        pendingWrites++;
+        if ((pendingWrites >= COMMIT_INTERVAL) || ((System.currentTimeMillis() - lastCommit) >= COMMIT_DELAY)) {
+            commitHistory();
+        }
+    }
+
+    /**
+     * Commits the pending history writes if the last commit is older than {@link #COMMIT_DELAY} ms. This is
+     * called before each script starts so that the history of long running scripts gets visible in time.
+     *
+     * @throws PersistenceException error committing history
+     */
+    public synchronized void commitHistoryIfDue() throws PersistenceException {
+        if ((pendingWrites > 0) && ((System.currentTimeMillis() - lastCommit) >= COMMIT_DELAY)) {
+            commitHistory();
+        }
+    }
+
+    /**
+     * Commits all pending history writes.
+     *
+     * @throws PersistenceException error committing history
+     */
+    public synchronized void commitHistory() throws PersistenceException {
+        if ((serviceResolver != null) && serviceResolver.hasChanges()) {
+            serviceResolver.commit();
+        }
+        pendingWrites = 0;
+        lastCommit = System.currentTimeMillis();
+    }
+
+    /**
+     * Closes all resolvers and deletes the output files of the prechecks results. Uncommitted history
+     * writes are discarded.
+     */
+    public synchronized void close() {
+        prechecksMemo.close();
+        for (ResourceResolver resolver : migratorResolvers) {
+            if (resolver.isLive()) {
+                resolver.close();
+            }
+        }
+        migratorResolvers.clear();
+        idleResolvers.clear();
+        if ((serviceResolver != null) && serviceResolver.isLive()) {
+            serviceResolver.close();
+        }
+        serviceResolver = null;
+    }
+
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * Records spans of an execution run in Chrome trace-event format. The trace can be opened offline
+ * e.g. with Perfetto (ui.perfetto.dev) or chrome://tracing. Spans may be added by multiple threads.
+ * The number of recorded spans is limited to keep the memory usage low, further spans are only
+ * counted. Content upgrade spans may only use a part of the limit so that the spans of the script
+ * lifecycle (run, fallback, history write, ...) are always recorded. Spans per resource are only
+ * recorded for detailed traces.
+ *
+ * @author agent
+ */
+public class ExecutionTrace {
+
+    /**
+     * Default maximum number of spans.
+     */
+    public static final int MAX_SPANS = 100000;
+
+    /**
+     * Percentage of the maximum spans that is kept free for spans of other categories than content
+     * upgrade.
+     */
+    protected static final int LIFECYCLE_RESERVE_PERCENT = 10;
+
+    /**
+     * Trace that records nothing.
+     */
+    public static final ExecutionTrace NONE = new ExecutionTrace(0);
+
+    public static final String CATEGORY_SCRIPT = "script";
+    public static final String CATEGORY_CONTENT_UPGRADE = "contentupgrade";
+    public static final String CATEGORY_HISTORY = "history";
+
+    private static final long BASE_NANOS = System.nanoTime();
+    private static final long BASE_MICROS = System.currentTimeMillis() * 1000;
+
+    private final int maxSpans;
+    private final int maxContentUpgradeSpans;
+    private final boolean detailed;
+    private final List<Span> spans = new ArrayList<>();
+    private final Map<Long, String> threadNames = new HashMap<>();
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Constructor
+     */
+    public ExecutionTrace() {
+        this(MAX_SPANS);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param maxSpans maximum number of spans
+     */
+    public ExecutionTrace(int maxSpans) {
+        this(maxSpans, false);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param maxSpans maximum number of spans
+     * @param detailed record spans per resource
+     */
+    public ExecutionTrace(int maxSpans, boolean detailed) {
+        this.maxSpans = maxSpans;
+        this.maxContentUpgradeSpans = maxSpans - (maxSpans * LIFECYCLE_RESERVE_PERCENT / 100);
+        this.detailed = detailed;
+    }
+
+    /**
+     * Returns if spans per resource should be recorded.
+     *
+     * @return detailed trace
+     */
+    public boolean isDetailed() {
+        return detailed;
+    }
+
+    /**
+     * Returns the current time for the start of a span.
+     *
+     * @return time in ns
+     */
+    public static long now() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Adds a span that ends now.
+     *
+     * @param name     name
+     * @param category category
+     * @param start    start time (see {@link #now()})
+     */
+    public void addSpan(String name, String category, long start) {
+        addSpan(name, category, start, now(), null);
+    }
+
+    /**
+     * Adds a span that ends now.
+     *
+     * @param name     name
+     * @param category category
+     * @param start    start time (see {@link #now()})
+     * @param path     script or resource path, may be null
+     */
+    public void addSpan(String name, String category, long start, String path) {
+        addSpan(name, category, start, now(), path);
+    }
+
+    /**
+     * Adds a span for a single resource that ends now. It is only recorded for detailed traces.
+     *
+     * @param name     name
+     * @param category category
+     * @param start    start time (see {@link #now()})
+     * @param path     resource path
+     */
+    public void addDetailSpan(String name, String category, long start, String path) {
+        if (detailed) {
+            addSpan(name, category, start, now(), path);
+        }
+    }
+
+    /**
+     * Adds a span.
+     *
+     * @param name     name
+     * @param category category
+     * @param start    start time (see {@link #now()})
+     * @param end      end time (see {@link #now()})
+     * @param path     script or resource path, may be null
+     */
+    public void addSpan(String name, String category, long start, long end, String path) {
+        if (maxSpans == 0) {
+            return;
+        }
+        Thread thread = Thread.currentThread();
+        synchronized (this) {
+            if (!hasCapacity(category)) {
+                dropped.incrementAndGet();
+                return;
+            }
+            spans.add(new Span(name, category, toMicros(start), Math.max(0, (end - start) / 1000), thread.getId(), path));
+            threadNames.putIfAbsent(thread.getId(), thread.getName());
+        }
+    }
+
+    /**
+     * Adds the spans of another trace.
+     *
+     * @param other trace
+     */
+    public void addAll(ExecutionTrace other) {
+        if (other == this) {
+            return;
+        }
+        List<Span> otherSpans;
+        Map<Long, String> otherThreadNames;
+        synchronized (other) {
+            otherSpans = new ArrayList<>(other.spans);
+            otherThreadNames = new HashMap<>(other.threadNames);
+        }
+        synchronized (this) {
+            for (Span span : otherSpans) {
+                if (!hasCapacity(span.category)) {
+                    dropped.incrementAndGet();
+                } else {
+                    spans.add(span);
+                }
+            }
+            for (Map.Entry<Long, String> threadName : otherThreadNames.entrySet()) {
+                threadNames.putIfAbsent(threadName.getKey(), threadName.getValue());
+            }
+        }
+        dropped.addAndGet(other.getDropped());
+    }
+
+    /**
+     * Checks if a span of the given category may still be recorded.
+     *
+     * @param category category
+     * @return span can be added
+     */
+    private boolean hasCapacity(String category) {
+        int limit = CATEGORY_CONTENT_UPGRADE.equals(category) ? maxContentUpgradeSpans : maxSpans;
+        return spans.size() < limit;
+    }
+
+    /**
+     * Returns if no span was recorded.
+     *
+     * @return empty
+     */
+    public synchronized boolean isEmpty() {
+        return spans.isEmpty();
+    }
+
+    /**
+     * Returns the number of recorded spans.
+     *
+     * @return count
+     */
+    public synchronized int size() {
+        return spans.size();
+    }
+
+    /**
+     * Returns the number of spans that were not recorded because the limit was reached.
+     *
+     * @return count
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Returns the trace in Chrome trace-event JSON format.
+     *
+     * @return JSON
+     */
+    public synchronized String toJson() {
+        JsonArray events = new JsonArray();
+        for (Map.Entry<Long, String> threadName : threadNames.entrySet()) {
+            JsonObject event = new JsonObject();
+            event.addProperty("name", "thread_name");
+            event.addProperty("ph", "M");
+            event.addProperty("pid", 1);
+            event.addProperty("tid", threadName.getKey());
+            JsonObject args = new JsonObject();
+            args.addProperty("name", threadName.getValue());
+            event.add("args", args);
+            events.add(event);
+        }
+        for (Span span : spans) {
+            JsonObject event = new JsonObject();
+            event.addProperty("name", span.name);
+            event.addProperty("cat", span.category);
+            event.addProperty("ph", "X");
+            event.addProperty("ts", span.start);
+            event.addProperty("dur", span.duration);
+            event.addProperty("pid", 1);
+            event.addProperty("tid", span.thread);
+            if (span.path != null) {
+                JsonObject args = new JsonObject();
+                args.addProperty("path", span.path);
+                event.add("args", args);
+            }
+            events.add(event);
+        }
+        JsonObject json = new JsonObject();
+        json.add("traceEvents", events);
+        json.addProperty("displayTimeUnit", "ms");
+        JsonObject otherData = new JsonObject();
+        otherData.addProperty("droppedSpans", dropped.get());
+        json.add("otherData", otherData);
+        return json.toString();
+    }
+
+    /**
+     * Converts a time of {@link #now()} to microseconds since epoch.
+     *
+     * @param nanos time in ns
+     * @return time in microseconds
+     */
+    private static long toMicros(long nanos) {
+        return BASE_MICROS + (nanos - BASE_NANOS) / 1000;
+    }
+
+    /**
+     * A recorded span.
+     */
+    private static class Span {
+
+        private final String name;
+        private final String category;
+        private final long start;
+        private final long duration;
+        private final long thread;
+        private final String path;
+
+        /**
+         * Constructor
+         *
+         * @param name     name
+         * @param category category
+         * @param start    start in microseconds since epoch
+         * @param duration duration in microseconds
+         * @param thread   thread id
+         * @param path     path, may be null
+         */
+        Span(String name, String category, long start, long duration, long thread, String path) {
+            this.name = name;
+            this.category = category;
+            this.start = start;
+            this.duration = duration;
+            this.thread = thread;
+            this.path = path;
+        }
+
+    }
+
+}
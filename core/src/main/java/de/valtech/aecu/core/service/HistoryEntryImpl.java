@@ -81,7 +81,8 @@ public class HistoryEntryImpl implements HistoryEntry {
         }
         RESULT result = RESULT.SUCCESS;
         for (ExecutionResult singleResult : singleResults) {
-            if (ExecutionState.FAILED.equals(singleResult.getState())) {
+            if (ExecutionState.FAILED.equals(singleResult.getState())
+                    || ExecutionState.CANCELLED.equals(singleResult.getState())) {
                 result = RESULT.FAILURE;
                 break;
             }
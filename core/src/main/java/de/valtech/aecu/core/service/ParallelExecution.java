@@ -0,0 +1,309 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import de.valtech.aecu.api.service.AecuException;
+import de.valtech.aecu.api.service.ExecutionResult;
+import de.valtech.aecu.api.service.ExecutionState;
+
+/**
+ * Parallel execution of the scripts of a folder. A folder opts in by containing a file named
+ * "parallel.json". The file may be empty or contain the number of threads and the dependencies
+ * between the scripts:
+ * 
+ * <pre>
+ * {
+ *     "threads": 4,
+ *     "dependencies": {
+ *         "b.groovy": ["a.groovy"]
+ *     }
+ * }
+ * </pre>
+ * 
+ * Scripts run as soon as all scripts they depend on succeeded. If a dependency did not succeed the
+ * script is skipped.
+ *
+ * @author agent
+ */
+public class ParallelExecution {
+
+    /**
+     * Name of the file that marks a folder for parallel execution.
+     */
+    public static final String MARKER = "parallel.json";
+
+    protected static final int DEFAULT_THREADS = 4;
+
+    private static final String ATTR_THREADS = "threads";
+    private static final String ATTR_DEPENDENCIES = "dependencies";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelExecution.class);
+
+    private final String folderPath;
+    private final int threads;
+    private final Map<String, List<String>> dependencies;
+
+    /**
+     * Constructor
+     *
+     * @param folderPath   folder path
+     * @param threads      maximum number of parallel scripts
+     * @param dependencies script names and the names of the scripts they depend on
+     */
+    public ParallelExecution(String folderPath, int threads, Map<String, List<String>> dependencies) {
+        this.folderPath = folderPath;
+        this.threads = Math.max(1, threads);
+        this.dependencies = dependencies;
+    }
+
+    /**
+     * Reads the parallel execution settings of the given folder.
+     *
+     * @param resolver   resource resolver
+     * @param folderPath folder path
+     * @return settings or null if the folder is not marked for parallel execution
+     * @throws AecuException invalid marker file
+     */
+    public static ParallelExecution load(ResourceResolver resolver, String folderPath) throws AecuException {
+        Resource marker = resolver.getResource(folderPath + "/" + MARKER);
+        if (marker == null) {
+            return null;
+        }
+        String json;
+        try (InputStream inputStream = marker.adaptTo(InputStream.class)) {
+            json = (inputStream != null) ? IOUtils.toString(inputStream, StandardCharsets.UTF_8) : null;
+        } catch (IOException e) {
+            throw new AecuException("Unable to read " + marker.getPath(), e);
+        }
+        ParallelExecution execution = parse(folderPath, json);
+        execution.validate();
+        return execution;
+    }
+
+    /**
+     * Parses the content of the marker file.
+     *
+     * @param folderPath folder path
+     * @param json       content of marker file
+     * @return settings
+     * @throws AecuException invalid content
+     */
+    protected static ParallelExecution parse(String folderPath, String json) throws AecuException {
+        int threads = DEFAULT_THREADS;
+        Map<String, List<String>> dependencies = new HashMap<>();
+        if (StringUtils.isBlank(json)) {
+            return new ParallelExecution(folderPath, threads, dependencies);
+        }
+        try {
+            JsonObject root = JsonParser.parseString(json).getAsJsonObject();
+            if (root.has(ATTR_THREADS)) {
+                threads = root.get(ATTR_THREADS).getAsInt();
+            }
+            if (root.has(ATTR_DEPENDENCIES)) {
+                for (Map.Entry<String, JsonElement> entry : root.getAsJsonObject(ATTR_DEPENDENCIES).entrySet()) {
+                    List<String> names = new ArrayList<>();
+                    JsonArray array = entry.getValue().getAsJsonArray();
+                    for (JsonElement element : array) {
+                        names.add(element.getAsString());
+                    }
+                    dependencies.put(entry.getKey(), names);
+                }
+            }
+        } catch (JsonParseException | IllegalStateException | UnsupportedOperationException | ClassCastException
+                | NumberFormatException e) {
+            throw new AecuException("Invalid " + MARKER + " in " + folderPath, e);
+        }
+        return new ParallelExecution(folderPath, threads, dependencies);
+    }
+
+    /**
+     * Checks that the dependencies contain no cycles.
+     *
+     * @throws AecuException cyclic dependency found
+     */
+    public void validate() throws AecuException {
+        Set<String> finished = new HashSet<>();
+        for (String name : dependencies.keySet()) {
+            checkCycles(name, new HashSet<>(), finished);
+        }
+    }
+
+    /**
+     * Checks the dependencies of the given script for cycles.
+     *
+     * @param name     script name
+     * @param visiting scripts on the current dependency path
+     * @param finished scripts that were already checked
+     * @throws AecuException cyclic dependency found
+     */
+    private void checkCycles(String name, Set<String> visiting, Set<String> finished) throws AecuException {
+        if (finished.contains(name)) {
+            return;
+        }
+        if (!visiting.add(name)) {
+            throw new AecuException("Cyclic dependency for " + name + " in " + folderPath + "/" + MARKER);
+        }
+        for (String dependency : getDependencies(name)) {
+            checkCycles(dependency, visiting, finished);
+        }
+        visiting.remove(name);
+        finished.add(name);
+    }
+
+    /**
+     * Returns the names of the scripts that the given script depends on.
+     *
+     * @param name script name
+     * @return dependencies
+     */
+    private List<String> getDependencies(String name) {
+        return dependencies.getOrDefault(name, Collections.emptyList());
+    }
+
+    /**
+     * Executes the given scripts of the folder. Dependencies on scripts that are not part of the
+     * list are ignored.
+     *
+     * @param paths  script paths
+     * @param runner runs a single script
+     * @return results in the order of the given paths
+     */
+    public List<ExecutionResult> execute(List<String> paths, ScriptRunner runner) {
+        Map<String, String> pathsByName = new HashMap<>();
+        for (String path : paths) {
+            pathsByName.put(StringUtils.substringAfterLast(path, "/"), path);
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, paths.size()),
+                runnable -> new Thread(runnable, "aecu-script-" + threadCount.incrementAndGet()));
+        try {
+            Map<String, CompletableFuture<ExecutionResult>> futures = new HashMap<>();
+            for (String path : paths) {
+                schedule(path, pathsByName, runner, executor, futures);
+            }
+            List<ExecutionResult> results = new ArrayList<>();
+            for (String path : paths) {
+                results.add(futures.get(path).join());
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Schedules the script after the scripts it depends on.
+     *
+     * @param path        script path
+     * @param pathsByName script paths by name
+     * @param runner      runs a single script
+     * @param executor    executor
+     * @param futures     already scheduled scripts
+     * @return future for the script result
+     */
+    private CompletableFuture<ExecutionResult> schedule(String path, Map<String, String> pathsByName, ScriptRunner runner,
+            ExecutorService executor, Map<String, CompletableFuture<ExecutionResult>> futures) {
+        CompletableFuture<ExecutionResult> future = futures.get(path);
+        if (future != null) {
+            return future;
+        }
+        List<CompletableFuture<ExecutionResult>> dependencyFutures = new ArrayList<>();
+        for (String dependency : getDependencies(StringUtils.substringAfterLast(path, "/"))) {
+            String dependencyPath = pathsByName.get(dependency);
+            if (dependencyPath != null) {
+                dependencyFutures.add(schedule(dependencyPath, pathsByName, runner, executor, futures));
+            }
+        }
+        future = CompletableFuture.allOf(dependencyFutures.toArray(new CompletableFuture<?>[0])).thenApplyAsync(v -> {
+            for (CompletableFuture<ExecutionResult> dependencyFuture : dependencyFutures) {
+                ExecutionResult dependencyResult = dependencyFuture.join();
+                if (dependencyResult.getState() != ExecutionState.SUCCESS) {
+                    LOG.info("Skipping {} as dependency {} did not succeed", path, dependencyResult.getPath());
+                    return new ExecutionResult(ExecutionState.SKIPPED, null, null,
+                            "Skipped because dependency " + dependencyResult.getPath() + " did not succeed", null, path);
+                }
+            }
+            return run(path, runner);
+        }, executor);
+        futures.put(path, future);
+        return future;
+    }
+
+    /**
+     * Runs a single script. Errors are converted to a failed result.
+     *
+     * @param path   script path
+     * @param runner runs a single script
+     * @return result
+     */
+    private ExecutionResult run(String path, ScriptRunner runner) {
+        try {
+            return runner.run(path);
+        } catch (AecuException | RuntimeException e) {
+            LOG.error("Unable to execute " + path, e);
+            return new ExecutionResult(ExecutionState.FAILED, null, null, e.getMessage(), null, path);
+        }
+    }
+
+    /**
+     * Runs a single script.
+     */
+    @FunctionalInterface
+    public interface ScriptRunner {
+
+        /**
+         * Runs the script.
+         *
+         * @param path script path
+         * @return result
+         * @throws AecuException error during execution
+         */
+        ExecutionResult run(String path) throws AecuException;
+
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.valtech.aecu.api.service.AecuException;
+import de.valtech.aecu.api.service.ExecutionResult;
+import de.valtech.aecu.core.history.TruncatedExecutionResult;
+import de.valtech.aecu.core.service.ParallelExecution.ScriptRunner;
+
+/**
+ * Remembers the results of directory level prechecks scripts during a run. The results are shared
+ * by all scripts of the folder, their full output files are deleted on {@link #close()}.
+ *
+ * @author agent
+ */
+public class PrechecksMemo {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PrechecksMemo.class);
+
+    private final ConcurrentMap<String, FutureTask<ExecutionResult>> results = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the result of the prechecks script. The script is only executed on first call. Calls
+     * for the same script wait for the running execution, other prechecks scripts are not blocked.
+     *
+     * @param path   prechecks script path
+     * @param runner runs the prechecks script
+     * @return result
+     * @throws AecuException error running the script
+     */
+    public ExecutionResult getResult(String path, ScriptRunner runner) throws AecuException {
+        FutureTask<ExecutionResult> task = new FutureTask<>(() -> runner.run(path));
+        FutureTask<ExecutionResult> existing = results.putIfAbsent(path, task);
+        if (existing == null) {
+            existing = task;
+            task.run();
+        }
+        try {
+            return existing.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AecuException("Interrupted while waiting for prechecks script " + path, e);
+        } catch (ExecutionException e) {
+            // do not remember errors, the next script retries
+            results.remove(path, existing);
+            if (e.getCause() instanceof AecuException) {
+                throw (AecuException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new AecuException("Unable to run prechecks script " + path, e.getCause());
+        }
+    }
+
+    /**
+     * Returns the number of remembered results.
+     *
+     * @return result count
+     */
+    public int size() {
+        return results.size();
+    }
+
+    /**
+     * Deletes the temporary full output files of the remembered results.
+     */
+    public void close() {
+        for (FutureTask<ExecutionResult> task : results.values()) {
+            if (!task.isDone()) {
+                continue;
+            }
+            Path file = null;
+            try {
+                ExecutionResult result = task.get();
+                if (result instanceof TruncatedExecutionResult) {
+                    file = ((TruncatedExecutionResult) result).getFullOutputFile();
+                }
+                if (file != null) {
+                    Files.deleteIfExists(file);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                // no result, nothing to delete
+            } catch (IOException e) {
+                LOG.warn("Unable to delete {}: {}", file, e.getMessage());
+            }
+        }
+        results.clear();
+    }
+
+}
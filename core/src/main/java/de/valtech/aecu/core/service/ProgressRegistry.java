@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Keeps track of the progress of the scripts that are currently running.
+ *
+ * @author agent
+ */
+@Component(service = ProgressRegistry.class)
+public class ProgressRegistry {
+
+    private final Set<ScriptProgress> running = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Registers a script that starts running.
+     *
+     * @param script script path
+     * @return progress of the script
+     */
+    public ScriptProgress start(String script) {
+        ScriptProgress progress = new ScriptProgress(script);
+        running.add(progress);
+        return progress;
+    }
+
+    /**
+     * Removes a script that finished running.
+     *
+     * @param progress progress of the script
+     */
+    public void finish(ScriptProgress progress) {
+        running.remove(progress);
+    }
+
+    /**
+     * Returns the progress of all running scripts, oldest first.
+     *
+     * @return progress list
+     */
+    public List<ScriptProgress> getRunning() {
+        List<ScriptProgress> list = new ArrayList<>(running);
+        list.sort(Comparator.comparingLong(ScriptProgress::getStart));
+        return list;
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import de.valtech.aecu.api.service.ResourceUsage;
+import de.valtech.aecu.core.metrics.AecuMetrics;
+
+/**
+ * Counts the repository access of a script run. The counters may be updated by multiple threads.
+ *
+ * @author agent
+ */
+public class ResourceUsageCounter {
+
+    private final AtomicLong nodesRead = new AtomicLong();
+    private final AtomicLong propertiesWritten = new AtomicLong();
+    private final AtomicLong queries = new AtomicLong();
+    private final AtomicLong queryResults = new AtomicLong();
+    private final AtomicLong commits = new AtomicLong();
+    private final AtomicLong commitTime = new AtomicLong();
+    private final AecuMetrics metrics;
+
+    /**
+     * Constructor
+     */
+    public ResourceUsageCounter() {
+        this(AecuMetrics.NOOP);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param metrics metrics that receive the commit times
+     */
+    public ResourceUsageCounter(AecuMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * A resource was read.
+     */
+    public void nodeRead() {
+        nodesRead.incrementAndGet();
+    }
+
+    /**
+     * Properties were set or removed.
+     *
+     * @param count number of properties
+     */
+    public void propertiesWritten(long count) {
+        propertiesWritten.addAndGet(count);
+    }
+
+    /**
+     * A query was executed.
+     */
+    public void query() {
+        queries.incrementAndGet();
+    }
+
+    /**
+     * A query result was read.
+     */
+    public void queryResult() {
+        queryResults.incrementAndGet();
+    }
+
+    /**
+     * Changes were committed.
+     *
+     * @param time duration of the commit in ms
+     */
+    public void commit(long time) {
+        commits.incrementAndGet();
+        commitTime.addAndGet(time);
+        metrics.committed(time);
+    }
+
+    /**
+     * Returns the current values.
+     *
+     * @return resource usage
+     */
+    public ResourceUsage getUsage() {
+        return new ResourceUsage(nodesRead.get(), propertiesWritten.get(), queries.get(), queryResults.get(), commits.get(),
+                commitTime.get());
+    }
+
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.jackrabbit.JcrConstants;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.api.resource.observation.ExternalResourceChangeListener;
+import org.apache.sling.api.resource.observation.ResourceChange;
+import org.apache.sling.api.resource.observation.ResourceChangeListener;
+import org.apache.sling.jcr.resource.api.JcrResourceConstants;
+import org.osgi.service.component.annotations.Component;
+
+import de.valtech.aecu.api.service.AecuService;
+
+/**
+ * Index of the script folders. Each folder is read once and kept until a resource change event
+ * reports a modification of the folder or its direct children. Events of other cluster nodes are
+ * also processed. As events are delivered asynchronously, resources that are not found in an indexed
+ * folder are checked again in the repository.
+ *
+ * @author agent
+ */
+@Component(service = {ScriptIndex.class, ResourceChangeListener.class},
+        property = {ResourceChangeListener.PATHS + "=" + AecuService.AECU_CONF_PATH_PREFIX,
+                ResourceChangeListener.PATHS + "=" + AecuService.AECU_VAR_PATH_PREFIX,
+                ResourceChangeListener.PATHS + "=" + AecuService.AECU_APPS_PATH_PREFIX,
+                ResourceChangeListener.CHANGES + "=ADDED", ResourceChangeListener.CHANGES + "=CHANGED",
+                ResourceChangeListener.CHANGES + "=REMOVED"})
+public class ScriptIndex implements ExternalResourceChangeListener {
+
+    private final Map<String, ScriptFolder> folders = new ConcurrentHashMap<>();
+    private long generation = 0;
+
+    /**
+     * Returns the folder at the given path.
+     *
+     * @param resolver resource resolver
+     * @param path     folder path
+     * @return folder or null if there is no folder at this path
+     */
+    public ScriptFolder getFolder(ResourceResolver resolver, String path) {
+        ScriptFolder folder = folders.get(path);
+        if (folder != null) {
+            return folder;
+        }
+        long readGeneration = getGeneration();
+        Resource resource = resolver.getResource(path);
+        if ((resource == null) || !isFolder(resource)) {
+            return null;
+        }
+        folder = new ScriptFolder(path, resource);
+        synchronized (this) {
+            // do not store folders that were changed while reading them
+            if (readGeneration == generation) {
+                folders.put(path, folder);
+            }
+        }
+        return folder;
+    }
+
+    /**
+     * Checks if there is a resource at the given path. Uses the index of the parent folder if
+     * possible. Resources that are missing in the index are checked in the repository as the index may
+     * not yet know about new resources.
+     *
+     * @param resolver resource resolver
+     * @param path     resource path
+     * @return resource exists
+     */
+    public boolean exists(ResourceResolver resolver, String path) {
+        ScriptFolder folder = getFolder(resolver, StringUtils.substringBeforeLast(path, "/"));
+        if ((folder != null) && folder.contains(StringUtils.substringAfterLast(path, "/"))) {
+            return true;
+        }
+        boolean exists = resolver.getResource(path) != null;
+        if (exists && (folder != null)) {
+            // change event not yet received
+            invalidate(path);
+        }
+        return exists;
+    }
+
+    /**
+     * Checks if the resource is a folder.
+     *
+     * @param resource resource
+     * @return is folder
+     */
+    protected static boolean isFolder(Resource resource) {
+        String type = resource.getValueMap().get(JcrConstants.JCR_PRIMARYTYPE, String.class);
+        return JcrResourceConstants.NT_SLING_FOLDER.equals(type) || JcrResourceConstants.NT_SLING_ORDERED_FOLDER.equals(type)
+                || JcrConstants.NT_FOLDER.equals(type);
+    }
+
+    @Override
+    public void onChange(List<ResourceChange> changes) {
+        for (ResourceChange change : changes) {
+            invalidate(change.getPath());
+        }
+    }
+
+    /**
+     * Removes all folders from the index that are affected by a change of the given path.
+     *
+     * @param path changed path
+     */
+    protected synchronized void invalidate(String path) {
+        generation++;
+        String parent = StringUtils.substringBeforeLast(path, "/");
+        folders.keySet().removeIf(key -> key.equals(path) || key.equals(parent) || key.startsWith(path + "/"));
+    }
+
+    /**
+     * Returns the number of indexed folders.
+     *
+     * @return folder count
+     */
+    public int size() {
+        return folders.size();
+    }
+
+    /**
+     * Returns the number of invalidations so far.
+     *
+     * @return generation
+     */
+    private synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Index entry of a folder.
+     */
+    public static class ScriptFolder {
+
+        private final String path;
+        private final String name;
+        private final Map<String, Boolean> children = new TreeMap<>();
+
+        /**
+         * Constructor
+         *
+         * @param path     folder path
+         * @param resource folder resource
+         */
+        ScriptFolder(String path, Resource resource) {
+            this.path = path;
+            this.name = resource.getName();
+            for (Resource child : resource.getChildren()) {
+                children.put(child.getName(), isFolder(child));
+            }
+        }
+
+        /**
+         * Returns the folder path.
+         *
+         * @return path
+         */
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * Returns the folder name.
+         *
+         * @return name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the child names sorted by name. The value is true for sub folders.
+         *
+         * @return child names
+         */
+        public Map<String, Boolean> getChildren() {
+            return Collections.unmodifiableMap(children);
+        }
+
+        /**
+         * Checks if the folder has a child with the given name.
+         *
+         * @param childName child name
+         * @return child exists
+         */
+        public boolean contains(String childName) {
+            return children.containsKey(childName);
+        }
+
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adds Groovy's interrupt transformations to a script before it is compiled. The script then checks
+ * at each loop iteration and method call if it was cancelled or exceeded its time limit.
+ * <p>
+ * The transformations are added in front of the first line of the script to keep the line numbers of
+ * error messages.
+ *
+ * @author agent
+ */
+public class ScriptInterrupts {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScriptInterrupts.class);
+
+    private static final String SHEBANG = "#!";
+    private static final String PACKAGE = "package ";
+
+    private static final String CANCELLATION_CHECK =
+            "@groovy.transform.ConditionalInterrupt(value = { aecu.isCancelled() }, applyToAllClasses = false) ";
+    private static final String TIME_LIMIT = "@groovy.transform.TimedInterrupt(value = %dL, applyToAllClasses = false) ";
+    private static final String IMPORT = "import groovy.transform.ConditionalInterrupt; ";
+
+    private ScriptInterrupts() {
+        // static methods only
+    }
+
+    /**
+     * Adds the interrupt checks to the script.
+     *
+     * @param script  script content
+     * @param timeout time limit in seconds or {@link ScriptTimeouts#UNLIMITED}
+     * @return script with interrupt checks
+     */
+    public static String decorate(String script, long timeout) {
+        if (script == null) {
+            return null;
+        }
+        int start = 0;
+        if (script.startsWith(SHEBANG)) {
+            int lineEnd = script.indexOf('\n');
+            if (lineEnd < 0) {
+                return script;
+            }
+            start = lineEnd + 1;
+        }
+        if (StringUtils.stripStart(script.substring(start), null).startsWith(PACKAGE)) {
+            LOG.warn("Unable to add cancellation checks to script with package declaration");
+            return script;
+        }
+        StringBuilder prefix = new StringBuilder(CANCELLATION_CHECK);
+        if (timeout > ScriptTimeouts.UNLIMITED) {
+            prefix.append(String.format(TIME_LIMIT, timeout));
+        }
+        prefix.append(IMPORT);
+        return script.substring(0, start) + prefix + script.substring(start);
+    }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live progress of a running script. The values may be updated by multiple threads.
+ *
+ * @author agent
+ */
+public class ScriptProgress {
+
+    /**
+     * Value for unknown expected count and ETA.
+     */
+    public static final long UNKNOWN = -1;
+
+    private final String script;
+    private final long start;
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong matched = new AtomicLong();
+    private final AtomicLong expected = new AtomicLong();
+    private volatile String currentPath;
+    private volatile long lastProgress;
+
+    /**
+     * Constructor
+     *
+     * @param script script path
+     */
+    public ScriptProgress(String script) {
+        this(script, System.currentTimeMillis());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param script script path
+     * @param start  start time in ms
+     */
+    protected ScriptProgress(String script, long start) {
+        this.script = script;
+        this.start = start;
+        this.lastProgress = start;
+    }
+
+    /**
+     * A resource was processed.
+     *
+     * @param path    resource path
+     * @param matches resource matched the filter
+     */
+    public void resourceProcessed(String path, boolean matches) {
+        currentPath = path;
+        processed.incrementAndGet();
+        if (matches) {
+            matched.incrementAndGet();
+        }
+        lastProgress = System.currentTimeMillis();
+    }
+
+    /**
+     * Adds resources that are known to be processed.
+     *
+     * @param count number of resources
+     */
+    public void addExpected(long count) {
+        expected.addAndGet(count);
+    }
+
+    /**
+     * Returns the script path.
+     *
+     * @return path
+     */
+    public String getScript() {
+        return script;
+    }
+
+    /**
+     * Returns the start time.
+     *
+     * @return start time in ms
+     */
+    public long getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the path of the last processed resource.
+     *
+     * @return path, null if no resource was processed yet
+     */
+    public String getCurrentPath() {
+        return currentPath;
+    }
+
+    /**
+     * Returns the number of processed resources.
+     *
+     * @return count
+     */
+    public long getProcessed() {
+        return processed.get();
+    }
+
+    /**
+     * Returns the number of resources that matched the filter.
+     *
+     * @return count
+     */
+    public long getMatched() {
+        return matched.get();
+    }
+
+    /**
+     * Returns the number of resources that are known to be processed.
+     *
+     * @return count or {@link #UNKNOWN}
+     */
+    public long getExpected() {
+        long value = expected.get();
+        return (value > 0) ? value : UNKNOWN;
+    }
+
+    /**
+     * Returns the time of the last progress (or the start time if there was none).
+     *
+     * @return time in ms
+     */
+    public long getLastProgress() {
+        return lastProgress;
+    }
+
+    /**
+     * Returns the time since the last progress.
+     *
+     * @param now current time in ms
+     * @return time in ms
+     */
+    public long getIdleTime(long now) {
+        return Math.max(0, now - lastProgress);
+    }
+
+    /**
+     * Returns the processing rate.
+     *
+     * @param now current time in ms
+     * @return resources per second
+     */
+    public double getRate(long now) {
+        long elapsed = now - start;
+        if (elapsed <= 0) {
+            return 0;
+        }
+        return processed.get() * 1000d / elapsed;
+    }
+
+    /**
+     * Returns the estimated remaining time based on the current rate.
+     *
+     * @param now current time in ms
+     * @return remaining time in ms or {@link #UNKNOWN}
+     */
+    public long getEta(long now) {
+        long total = getExpected();
+        double rate = getRate(now);
+        if ((total == UNKNOWN) || (rate <= 0)) {
+            return UNKNOWN;
+        }
+        long remaining = Math.max(0, total - processed.get());
+        return Math.round(remaining * 1000d / rate);
+    }
+
+    @Override
+    public String toString() {
+        long now = System.currentTimeMillis();
+        StringBuilder output = new StringBuilder(script);
+        output.append(": processed " + getProcessed() + ", matched " + getMatched());
+        if (getExpected() != UNKNOWN) {
+            output.append(" of " + getExpected());
+        }
+        output.append(String.format(", %.1f/s", getRate(now)));
+        long eta = getEta(now);
+        if (eta != UNKNOWN) {
+            output.append(", ETA " + (eta / 1000) + "s");
+        }
+        output.append(", idle " + (getIdleTime(now) / 1000) + "s");
+        if (currentPath != null) {
+            output.append(", current " + currentPath);
+        }
+        return output.toString();
+    }
+
+}
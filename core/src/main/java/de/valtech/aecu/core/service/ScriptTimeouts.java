@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import de.valtech.aecu.api.service.AecuException;
+
+/**
+ * Time limits for the scripts of a folder. A folder opts in by containing a file named
+ * "timeout.json". All values are in seconds:
+ * 
+ * <pre>
+ * {
+ *     "timeout": 600,
+ *     "folderTimeout": 3600,
+ *     "scripts": {
+ *         "long.groovy": 1800
+ *     }
+ * }
+ * </pre>
+ * 
+ * "timeout" limits each script of the folder and may be overridden for single scripts in "scripts".
+ * "folderTimeout" limits the total time of all scripts of the folder within one execution run.
+ *
+ * @author agent
+ */
+public class ScriptTimeouts {
+
+    /**
+     * Name of the file that sets the time limits of a folder.
+     */
+    public static final String MARKER = "timeout.json";
+
+    /**
+     * No time limit.
+     */
+    public static final long UNLIMITED = 0;
+
+    private static final String ATTR_TIMEOUT = "timeout";
+    private static final String ATTR_FOLDER_TIMEOUT = "folderTimeout";
+    private static final String ATTR_SCRIPTS = "scripts";
+
+    private final long timeout;
+    private final long folderTimeout;
+    private final Map<String, Long> scriptTimeouts;
+
+    /**
+     * Constructor
+     *
+     * @param timeout        time limit in seconds for each script
+     * @param folderTimeout  time limit in seconds for all scripts of the folder
+     * @param scriptTimeouts time limits in seconds by script name
+     */
+    public ScriptTimeouts(long timeout, long folderTimeout, Map<String, Long> scriptTimeouts) {
+        this.timeout = timeout;
+        this.folderTimeout = folderTimeout;
+        this.scriptTimeouts = scriptTimeouts;
+    }
+
+    /**
+     * Reads the time limits of the given folder.
+     *
+     * @param resolver   resource resolver
+     * @param folderPath folder path
+     * @return time limits or null if the folder has no limits
+     * @throws AecuException invalid marker file
+     */
+    public static ScriptTimeouts load(ResourceResolver resolver, String folderPath) throws AecuException {
+        Resource marker = resolver.getResource(folderPath + "/" + MARKER);
+        if (marker == null) {
+            return null;
+        }
+        String json;
+        try (InputStream inputStream = marker.adaptTo(InputStream.class)) {
+            json = (inputStream != null) ? IOUtils.toString(inputStream, StandardCharsets.UTF_8) : null;
+        } catch (IOException e) {
+            throw new AecuException("Unable to read " + marker.getPath(), e);
+        }
+        return parse(folderPath, json);
+    }
+
+    /**
+     * Parses the content of the marker file.
+     *
+     * @param folderPath folder path
+     * @param json       content of marker file
+     * @return time limits
+     * @throws AecuException invalid content
+     */
+    protected static ScriptTimeouts parse(String folderPath, String json) throws AecuException {
+        long timeout = UNLIMITED;
+        long folderTimeout = UNLIMITED;
+        Map<String, Long> scriptTimeouts = new HashMap<>();
+        if (StringUtils.isBlank(json)) {
+            return new ScriptTimeouts(timeout, folderTimeout, scriptTimeouts);
+        }
+        try {
+            JsonObject root = JsonParser.parseString(json).getAsJsonObject();
+            if (root.has(ATTR_TIMEOUT)) {
+                timeout = root.get(ATTR_TIMEOUT).getAsLong();
+            }
+            if (root.has(ATTR_FOLDER_TIMEOUT)) {
+                folderTimeout = root.get(ATTR_FOLDER_TIMEOUT).getAsLong();
+            }
+            if (root.has(ATTR_SCRIPTS)) {
+                for (Entry<String, JsonElement> entry : root.getAsJsonObject(ATTR_SCRIPTS).entrySet()) {
+                    scriptTimeouts.put(entry.getKey(), entry.getValue().getAsLong());
+                }
+            }
+        } catch (JsonParseException | IllegalStateException | UnsupportedOperationException | ClassCastException
+                | NumberFormatException e) {
+            throw new AecuException("Invalid " + MARKER + " in " + folderPath, e);
+        }
+        return new ScriptTimeouts(timeout, folderTimeout, scriptTimeouts);
+    }
+
+    /**
+     * Returns the time limit of the given script.
+     *
+     * @param name script name
+     * @return time limit in seconds or {@link #UNLIMITED}
+     */
+    public long getTimeout(String name) {
+        return Math.max(UNLIMITED, scriptTimeouts.getOrDefault(name, timeout));
+    }
+
+    /**
+     * Returns the time limit for all scripts of the folder.
+     *
+     * @return time limit in seconds or {@link #UNLIMITED}
+     */
+    public long getFolderTimeout() {
+        return Math.max(UNLIMITED, folderTimeout);
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import java.util.List;
+
+import de.valtech.aecu.api.service.AecuException;
+import de.valtech.aecu.api.service.ExecutionResult;
+import de.valtech.aecu.api.service.HistoryEntry;
+
+/**
+ * Internal service to execute scripts in stages. Used by background jobs, the install hook and JMX.
+ *
+ * @author agent
+ */
+public interface StagedExecutionService {
+
+    /**
+     * Groups the scripts into execution stages. Consecutive scripts of a folder that is marked for
+     * parallel execution form one stage. All other scripts get a stage of their own.
+     *
+     * @param paths script paths in execution order
+     * @return stages in execution order
+     * @throws AecuException invalid parallel execution setup
+     */
+    List<List<String>> getExecutionStages(List<String> paths) throws AecuException;
+
+    /**
+     * Executes the scripts of a stage. Scripts of a folder that is marked for parallel execution
+     * run concurrently while respecting their declared dependencies. Scripts whose dependencies did
+     * not succeed are skipped. Directory level prechecks scripts run only once per history entry.
+     *
+     * @param paths   script paths of the stage
+     * @param data    json object of script
+     * @param history history entry of the current run, may be null
+     * @return execution results in the order of the paths
+     * @throws AecuException error during execution
+     */
+    List<ExecutionResult> executeStage(List<String> paths, String data, HistoryEntry history) throws AecuException;
+
+}
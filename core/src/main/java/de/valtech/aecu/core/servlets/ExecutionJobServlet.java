@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.servlets;
+
+import java.io.IOException;
+import java.util.Map;
+
+import javax.servlet.Servlet;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.sling.api.SlingHttpServletRequest;
+import org.apache.sling.api.SlingHttpServletResponse;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import de.valtech.aecu.api.service.AecuException;
+import de.valtech.aecu.api.service.ExecutionState;
+import de.valtech.aecu.core.security.AccessValidationService;
+import de.valtech.aecu.core.service.AsyncExecutionService;
+import de.valtech.aecu.core.service.ExecutionJobStatus;
+
+/**
+ * Starts background executions and provides their status.
+ *
+ * <ul>
+ * <li>POST with aecuScriptPath (and optional data): starts the execution and returns the job id</li>
+ * <li>GET with jobId: returns state, counters and output of finished scripts</li>
+ * <li>POST with jobId and action=cancel: cancels the execution</li>
+ * </ul>
+ *
+ * @author agent
+ */
+@Component(immediate = true, service = {Servlet.class}, property = {"sling.servlet.paths=/bin/public/valtech/aecu/executeJob",
+        "sling.servlet.extensions=json", "sling.servlet.methods=GET", "sling.servlet.methods=POST"})
+public class ExecutionJobServlet extends BaseServlet {
+
+    private static final long serialVersionUID = 1L;
+
+    protected static final String ERROR_MESSAGE_MANDATORY =
+            "ExecutionJobServlet :: Make sure your are sending the correct parameters.";
+
+    private static final String PARAM_JOB_ID = "jobId";
+    private static final String PARAM_ACTION = "action";
+    private static final String ACTION_CANCEL = "cancel";
+
+    @Reference
+    private transient AsyncExecutionService asyncExecutionService;
+
+    @Reference
+    private transient AccessValidationService accessValidationService;
+
+    @Override
+    protected void doGet(SlingHttpServletRequest request, SlingHttpServletResponse response)
+            throws ServletException, IOException {
+        if (!accessValidationService.canExecute(request)) {
+            return;
+        }
+        this.setNoCache(response);
+        String jobId = request.getParameter(PARAM_JOB_ID);
+        if (!this.validateParameter(jobId)) {
+            writeResult(response, ERROR_MESSAGE_MANDATORY, HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        try {
+            ExecutionJobStatus status = asyncExecutionService.getStatus(jobId);
+            boolean found = status.getState() != ExecutionJobStatus.STATE.NOT_FOUND;
+            writeResult(response, prepareJson(status), found ? HttpServletResponse.SC_OK : HttpServletResponse.SC_NOT_FOUND);
+        } catch (AecuException e) {
+            this.sendInternalServerError(response);
+        }
+    }
+
+    @Override
+    protected void doPost(SlingHttpServletRequest request, SlingHttpServletResponse response)
+            throws ServletException, IOException {
+        if (!accessValidationService.canExecute(request)) {
+            return;
+        }
+        this.setNoCache(response);
+        try {
+            String jobId = request.getParameter(PARAM_JOB_ID);
+            if (ACTION_CANCEL.equals(request.getParameter(PARAM_ACTION)) && this.validateParameter(jobId)) {
+                boolean found = asyncExecutionService.cancel(jobId);
+                JsonObject json = new JsonObject();
+                json.addProperty(PARAM_JOB_ID, jobId);
+                json.addProperty("cancelled", found);
+                writeResult(response, json.toString(), found ? HttpServletResponse.SC_OK : HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            String aecuScriptPath = request.getParameter("aecuScriptPath");
+            if (!this.validateParameter(aecuScriptPath)) {
+                writeResult(response, ERROR_MESSAGE_MANDATORY, HttpServletResponse.SC_BAD_REQUEST);
+                return;
+            }
+            ExecutionJobStatus status = asyncExecutionService.submit(aecuScriptPath, request.getParameter("data"));
+            writeResult(response, prepareJson(status), HttpServletResponse.SC_ACCEPTED);
+        } catch (AecuException e) {
+            this.sendInternalServerError(response);
+        }
+    }
+
+    /**
+     * Builds the JSON response for the job status.
+     *
+     * @param status job status
+     * @return json String
+     */
+    protected String prepareJson(ExecutionJobStatus status) {
+        JsonObject json = new JsonObject();
+        json.addProperty(PARAM_JOB_ID, status.getJobId());
+        json.addProperty("state", status.getState().name());
+        json.addProperty("historyEntryPath", status.getHistoryEntryPath());
+        json.addProperty("total", status.getTotal());
+        json.addProperty("finished", status.getFinished());
+        JsonObject counters = new JsonObject();
+        for (Map.Entry<ExecutionState, Integer> counter : status.getCounters().entrySet()) {
+            counters.addProperty(counter.getKey().name(), counter.getValue());
+        }
+        json.add("counters", counters);
+        JsonArray output = new JsonArray();
+        for (String line : status.getOutput()) {
+            output.add(line);
+        }
+        json.add("output", output);
+        return json.toString();
+    }
+
+}
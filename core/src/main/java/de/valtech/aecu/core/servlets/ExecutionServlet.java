@@ -24,6 +24,7 @@ import java.io.IOException;
 import javax.servlet.Servlet;
 import javax.servlet.ServletException;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.sling.api.SlingHttpServletRequest;
 import org.apache.sling.api.SlingHttpServletResponse;
 import org.apache.sling.api.resource.ResourceResolver;
@@ -45,7 +46,7 @@ import de.valtech.aecu.core.security.AccessValidationService;
  */
 
 @Component(immediate = true, service = {Servlet.class}, property = {"sling.servlet.paths=/bin/public/valtech/aecu/execute",
-        "sling.servlet.extensions=json", "sling.servlet.methods=GET"})
+        "sling.servlet.extensions=json", "sling.servlet.methods=GET", "sling.servlet.methods=POST"})
 public class ExecutionServlet extends BaseServlet {
 
     private static final long serialVersionUID = 1L;
@@ -53,6 +54,11 @@ public class ExecutionServlet extends BaseServlet {
     protected static final String ERROR_MESSAGE_MANDATORY =
             "ExecutionServlet :: Make sure your are sending the correct parameters.";
 
+    protected static final String EVENT_RESULT = "result";
+    protected static final String EVENT_ERROR = "error";
+
+    protected static final String ACTION_CANCEL = "cancel";
+
     @Reference
     private transient AecuService aecuService;
 
@@ -81,6 +87,11 @@ public class ExecutionServlet extends BaseServlet {
             return;
         }
 
+        if (StringUtils.contains(request.getHeader("Accept"), ServerSentEventsOutputStream.CONTENT_TYPE)) {
+            executeWithEvents(request, response, aecuScriptPath, historyEntryAction, skip);
+            return;
+        }
+
         try {
             HistoryEntry historyEntry = this.getHistoryEntry(request, response, historyEntryAction);
             ExecutionResult executionResult;
@@ -99,6 +110,71 @@ public class ExecutionServlet extends BaseServlet {
 
     }
 
+    /**
+     * Cancels the running scripts of a script or folder path. Returns the number of cancelled scripts.
+     * Eg: {"aecuScriptPath":"/conf/groovyconsole/scripts/aecu/test.groovy","cancelled":1}
+     */
+    @Override
+    protected void doPost(SlingHttpServletRequest request, SlingHttpServletResponse response)
+            throws ServletException, IOException {
+        if (!accessValidationService.canExecute(request)) {
+            return;
+        }
+
+        this.setNoCache(response);
+
+        String action = request.getParameter("action");
+        String aecuScriptPath = request.getParameter("aecuScriptPath");
+        if (!ACTION_CANCEL.equals(action) || !this.validateParameter(aecuScriptPath)) {
+            writeResult(response, ERROR_MESSAGE_MANDATORY);
+            return;
+        }
+        int cancelled = aecuService.cancel(aecuScriptPath);
+        JsonObject json = new JsonObject();
+        json.addProperty("aecuScriptPath", aecuScriptPath);
+        json.addProperty("cancelled", cancelled);
+        writeResult(response, json.toString());
+    }
+
+    /**
+     * Executes the script and sends its output as server-sent events while it runs. The final
+     * "result" event contains the same JSON as the non-streaming response.
+     *
+     * @param request            request
+     * @param response           response
+     * @param aecuScriptPath     script path
+     * @param historyEntryAction history action
+     * @param skip               skip execution
+     * @throws IOException error writing response
+     */
+    protected void executeWithEvents(SlingHttpServletRequest request, SlingHttpServletResponse response, String aecuScriptPath,
+            String historyEntryAction, boolean skip) throws IOException {
+        try {
+            HistoryEntry historyEntry = this.getHistoryEntry(request, response, historyEntryAction);
+            response.setContentType(ServerSentEventsOutputStream.CONTENT_TYPE);
+            response.setCharacterEncoding("utf-8");
+            // disable response buffering in reverse proxies
+            response.setHeader("X-Accel-Buffering", "no");
+            ServerSentEventsOutputStream events = new ServerSentEventsOutputStream(response.getWriter());
+            ExecutionResult executionResult;
+            if (skip) {
+                executionResult = new ExecutionResult(ExecutionState.SKIPPED, null, null, null, null, aecuScriptPath);
+            } else {
+                executionResult = aecuService.executeWithLiveOutput(aecuScriptPath, null, events);
+            }
+            aecuService.storeExecutionInHistory(historyEntry, executionResult);
+            this.finishHistoryEntry(historyEntry, historyEntryAction);
+            events.close();
+            events.sendEvent(EVENT_RESULT, this.prepareJson(executionResult, historyEntry.getRepositoryPath()));
+        } catch (AecuException e) {
+            if (response.isCommitted()) {
+                new ServerSentEventsOutputStream(response.getWriter()).sendEvent(EVENT_ERROR, ERROR_MESSAGE_INTERNAL_SERVER);
+            } else {
+                this.sendInternalServerError(response);
+            }
+        }
+    }
+
     protected HistoryEntry getHistoryEntry(SlingHttpServletRequest request, SlingHttpServletResponse response,
             String historyEntryAction) throws AecuException, IOException {
 
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.servlets;
+
+import java.io.IOException;
+
+import javax.servlet.Servlet;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.sling.api.SlingHttpServletRequest;
+import org.apache.sling.api.SlingHttpServletResponse;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceUtil;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+import com.google.gson.JsonObject;
+
+import de.valtech.aecu.api.service.AecuException;
+import de.valtech.aecu.core.history.HistoryUtil;
+import de.valtech.aecu.core.security.AccessValidationService;
+
+/**
+ * Reads the output of a script run from history in pages. This allows to show outputs that were too
+ * large to be stored inline.
+ *
+ * <ul>
+ * <li>path: path of the script run in history</li>
+ * <li>offset: start position in characters (default 0)</li>
+ * <li>length: maximum number of characters (default {@link #DEFAULT_LENGTH})</li>
+ * </ul>
+ *
+ * @author agent
+ */
+@Component(immediate = true, service = {Servlet.class}, property = {"sling.servlet.paths=/bin/public/valtech/aecu/historyOutput",
+        "sling.servlet.extensions=json", "sling.servlet.methods=GET"})
+public class HistoryOutputServlet extends BaseServlet {
+
+    private static final long serialVersionUID = 1L;
+
+    protected static final String ERROR_MESSAGE_MANDATORY =
+            "HistoryOutputServlet :: Make sure your are sending the correct parameters.";
+
+    protected static final int DEFAULT_LENGTH = 64 * 1024;
+    protected static final int MAX_LENGTH = 1024 * 1024;
+
+    private static final String PARAM_PATH = "path";
+    private static final String PARAM_OFFSET = "offset";
+    private static final String PARAM_LENGTH = "length";
+
+    @Reference
+    private transient HistoryUtil historyUtil;
+
+    @Reference
+    private transient AccessValidationService accessValidationService;
+
+    @Override
+    protected void doGet(SlingHttpServletRequest request, SlingHttpServletResponse response)
+            throws ServletException, IOException {
+        if (!accessValidationService.canReadHistory(request)) {
+            return;
+        }
+        this.setNoCache(response);
+        String path = request.getParameter(PARAM_PATH);
+        long offset;
+        int length;
+        try {
+            offset = Long.parseLong(StringUtils.defaultIfBlank(request.getParameter(PARAM_OFFSET), "0"));
+            length = Integer.parseInt(StringUtils.defaultIfBlank(request.getParameter(PARAM_LENGTH), "" + DEFAULT_LENGTH));
+        } catch (NumberFormatException e) {
+            writeResult(response, ERROR_MESSAGE_MANDATORY, HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        if (this.validateParameter(path)) {
+            path = ResourceUtil.normalize(path);
+        }
+        if ((path == null) || !path.startsWith(HistoryUtil.HISTORY_BASE + "/") || (offset < 0) || (length < 1)) {
+            writeResult(response, ERROR_MESSAGE_MANDATORY, HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        length = Math.min(length, MAX_LENGTH);
+        Resource resource = request.getResourceResolver().getResource(path);
+        if (resource == null) {
+            writeResult(response, ERROR_MESSAGE_MANDATORY, HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        try {
+            // read one more character to detect the end of the output
+            String output = historyUtil.readOutput(resource, offset, length + 1);
+            boolean complete = output.length() <= length;
+            if (!complete) {
+                output = output.substring(0, length);
+            }
+            writeResult(response, prepareJson(path, offset, output, complete));
+        } catch (AecuException e) {
+            this.sendInternalServerError(response);
+        }
+    }
+
+    /**
+     * Builds the JSON response.
+     *
+     * @param path     path of script run
+     * @param offset   start position
+     * @param output   output part
+     * @param complete end of output reached
+     * @return json String
+     */
+    protected String prepareJson(String path, long offset, String output, boolean complete) {
+        JsonObject json = new JsonObject();
+        json.addProperty(PARAM_PATH, path);
+        json.addProperty(PARAM_OFFSET, offset);
+        json.addProperty("nextOffset", offset + output.length());
+        json.addProperty("complete", complete);
+        json.addProperty("output", output);
+        return json.toString();
+    }
+
+}
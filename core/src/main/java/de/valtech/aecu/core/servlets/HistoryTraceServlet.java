@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.servlets;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.servlet.Servlet;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.sling.api.SlingHttpServletRequest;
+import org.apache.sling.api.SlingHttpServletResponse;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceUtil;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+import de.valtech.aecu.api.service.AecuException;
+import de.valtech.aecu.core.history.HistoryUtil;
+import de.valtech.aecu.core.security.AccessValidationService;
+
+/**
+ * Downloads the execution trace of a history entry in Chrome trace-event format. The file can be
+ * opened offline e.g. with Perfetto (ui.perfetto.dev) or chrome://tracing.
+ *
+ * <ul>
+ * <li>path: path of the history entry</li>
+ * </ul>
+ *
+ * @author agent
+ */
+@Component(immediate = true, service = {Servlet.class}, property = {"sling.servlet.paths=/bin/public/valtech/aecu/historyTrace",
+        "sling.servlet.extensions=json", "sling.servlet.methods=GET"})
+public class HistoryTraceServlet extends BaseServlet {
+
+    private static final long serialVersionUID = 1L;
+
+    protected static final String ERROR_MESSAGE_MANDATORY =
+            "HistoryTraceServlet :: Make sure your are sending the correct parameters.";
+
+    private static final String PARAM_PATH = "path";
+
+    @Reference
+    private transient HistoryUtil historyUtil;
+
+    @Reference
+    private transient AccessValidationService accessValidationService;
+
+    @Override
+    protected void doGet(SlingHttpServletRequest request, SlingHttpServletResponse response)
+            throws ServletException, IOException {
+        if (!accessValidationService.canReadHistory(request)) {
+            return;
+        }
+        this.setNoCache(response);
+        String path = request.getParameter(PARAM_PATH);
+        if (this.validateParameter(path)) {
+            path = ResourceUtil.normalize(path);
+        }
+        if ((path == null) || !path.startsWith(HistoryUtil.HISTORY_BASE + "/")) {
+            writeResult(response, ERROR_MESSAGE_MANDATORY, HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        Resource resource = request.getResourceResolver().getResource(path);
+        if (resource == null) {
+            writeResult(response, ERROR_MESSAGE_MANDATORY, HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        try (InputStream trace = historyUtil.openTrace(resource)) {
+            if (trace == null) {
+                writeResult(response, ERROR_MESSAGE_MANDATORY, HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            response.setContentType("application/json");
+            response.setCharacterEncoding("utf-8");
+            response.setHeader("Content-Disposition", "attachment; filename=\"aecu-trace-" + resource.getName() + ".json\"");
+            IOUtils.copy(trace, response.getOutputStream());
+        } catch (AecuException e) {
+            this.sendInternalServerError(response);
+        }
+    }
+
+}
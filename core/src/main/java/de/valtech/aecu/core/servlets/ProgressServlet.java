@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.servlets;
+
+import java.io.IOException;
+
+import javax.servlet.Servlet;
+import javax.servlet.ServletException;
+
+import org.apache.sling.api.SlingHttpServletRequest;
+import org.apache.sling.api.SlingHttpServletResponse;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import de.valtech.aecu.core.security.AccessValidationService;
+import de.valtech.aecu.core.service.ProgressRegistry;
+import de.valtech.aecu.core.service.ScriptProgress;
+
+/**
+ * Provides the live progress of the running scripts. Times are in ms, rate is in resources per
+ * second. Expected and ETA are -1 if unknown.
+ * Eg: {"running":[{"script":"/conf/groovyconsole/scripts/aecu/test.groovy","start":1700000000000,
+ * "currentPath":"/content/site/page","processed":120,"matched":80,"expected":-1,"rate":40.0,"eta":-1,"idle":25}]}
+ *
+ * @author agent
+ */
+@Component(immediate = true, service = {Servlet.class}, property = {"sling.servlet.paths=/bin/public/valtech/aecu/progress",
+        "sling.servlet.extensions=json", "sling.servlet.methods=GET"})
+public class ProgressServlet extends BaseServlet {
+
+    private static final long serialVersionUID = 1L;
+
+    @Reference
+    private transient ProgressRegistry progressRegistry;
+
+    @Reference
+    private transient AccessValidationService accessValidationService;
+
+    @Override
+    protected void doGet(SlingHttpServletRequest request, SlingHttpServletResponse response)
+            throws ServletException, IOException {
+        if (!accessValidationService.canReadHistory(request)) {
+            return;
+        }
+        this.setNoCache(response);
+        writeResult(response, prepareJson(System.currentTimeMillis()));
+    }
+
+    /**
+     * Builds the JSON response with the progress of all running scripts.
+     *
+     * @param now current time in ms
+     * @return json String
+     */
+    protected String prepareJson(long now) {
+        JsonArray running = new JsonArray();
+        for (ScriptProgress progress : progressRegistry.getRunning()) {
+            JsonObject json = new JsonObject();
+            json.addProperty("script", progress.getScript());
+            json.addProperty("start", progress.getStart());
+            json.addProperty("currentPath", progress.getCurrentPath());
+            json.addProperty("processed", progress.getProcessed());
+            json.addProperty("matched", progress.getMatched());
+            json.addProperty("expected", progress.getExpected());
+            json.addProperty("rate", progress.getRate(now));
+            json.addProperty("eta", progress.getEta(now));
+            json.addProperty("idle", progress.getIdleTime(now));
+            running.add(json);
+        }
+        JsonObject json = new JsonObject();
+        json.add("running", running);
+        return json.toString();
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.servlets;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Sends the written text line by line as server-sent events. Each line is sent as "output" event
+ * with the line encoded as JSON string.
+ *
+ * @author agent
+ */
+public class ServerSentEventsOutputStream extends OutputStream {
+
+    public static final String CONTENT_TYPE = "text/event-stream";
+
+    public static final String EVENT_OUTPUT = "output";
+
+    private final PrintWriter writer;
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+    /**
+     * Constructor
+     *
+     * @param writer response writer
+     */
+    public ServerSentEventsOutputStream(PrintWriter writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public synchronized void write(int b) throws IOException {
+        if (b == '\n') {
+            sendLine();
+        } else {
+            line.write(b);
+        }
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        // incomplete lines are kept as they may end in the middle of a multi-byte character
+        writer.flush();
+        checkError();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (line.size() > 0) {
+            sendLine();
+        }
+        writer.flush();
+    }
+
+    /**
+     * Sends an event.
+     *
+     * @param event event name
+     * @param data  event data
+     * @throws IOException client disconnected
+     */
+    public synchronized void sendEvent(String event, String data) throws IOException {
+        writer.write("event: " + event + "\n");
+        for (String dataLine : data.split("\n", -1)) {
+            writer.write("data: " + dataLine + "\n");
+        }
+        writer.write("\n");
+        writer.flush();
+        checkError();
+    }
+
+    /**
+     * Sends the buffered line as output event.
+     *
+     * @throws IOException client disconnected
+     */
+    private void sendLine() throws IOException {
+        String text = new String(line.toByteArray(), StandardCharsets.UTF_8);
+        line.reset();
+        if (text.endsWith("\r")) {
+            text = text.substring(0, text.length() - 1);
+        }
+        sendEvent(EVENT_OUTPUT, new JsonPrimitive(text).toString());
+    }
+
+    /**
+     * Checks if the writer is still usable.
+     *
+     * @throws IOException client disconnected
+     */
+    private void checkError() throws IOException {
+        if (writer.checkError()) {
+            throw new IOException("Unable to send event, client disconnected");
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.events;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import de.valtech.aecu.api.service.ExecutionState;
+import de.valtech.aecu.api.service.ResourceUsage;
+
+/**
+ * Tests AecuEvents
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class AecuEventsTest {
+
+    private static final String SCRIPT = "/conf/groovyconsole/scripts/aecu/test.groovy";
+    private static final String PATH = "/content/test";
+
+    @Mock
+    private AecuEventListener failingListener;
+
+    @Mock
+    private AecuEventListener listener;
+
+    @Mock
+    private ResourceUsage usage;
+
+    private AecuEvents events;
+
+    @BeforeEach
+    public void setup() {
+        doThrow(IllegalStateException.class).when(failingListener).batchCommitted(SCRIPT, 10, 5);
+        events = new AecuEvents(Arrays.asList(failingListener, listener));
+    }
+
+    @Test
+    public void isActive() {
+        assertTrue(events.isActive());
+        assertFalse(AecuEvents.NOOP.isActive());
+    }
+
+    @Test
+    public void forward() {
+        events.scriptExecuted(SCRIPT, ExecutionState.SUCCESS, 100, usage);
+        events.batchCommitted(SCRIPT, 10, 5);
+        events.resourceProcessed(SCRIPT, PATH, 7);
+        events.replicated(SCRIPT, PATH, "activate", 3);
+        events.historyWritten("/var/aecu/2026/1/1/1", SCRIPT, 2);
+
+        verify(listener).scriptExecuted(SCRIPT, ExecutionState.SUCCESS, 100, usage);
+        verify(listener).batchCommitted(SCRIPT, 10, 5);
+        verify(listener).resourceProcessed(SCRIPT, PATH, 7);
+        verify(listener).replicated(SCRIPT, PATH, "activate", 3);
+        verify(listener).historyWritten("/var/aecu/2026/1/1/1", SCRIPT, 2);
+    }
+
+    @Test
+    public void noop() {
+        AecuEvents.NOOP.scriptExecuted(SCRIPT, ExecutionState.SUCCESS, 100, usage);
+        AecuEvents.NOOP.batchCommitted(SCRIPT, 10, 5);
+    }
+
+}
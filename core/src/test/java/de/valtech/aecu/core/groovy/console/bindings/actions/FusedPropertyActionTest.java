@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.groovy.console.bindings.actions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.sling.api.resource.ModifiableValueMap;
+import org.apache.sling.api.resource.PersistenceException;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import de.valtech.aecu.api.service.AecuException;
+import de.valtech.aecu.core.groovy.console.bindings.actions.print.PrintPath;
+import de.valtech.aecu.core.groovy.console.bindings.actions.properties.DeleteProperty;
+import de.valtech.aecu.core.groovy.console.bindings.actions.properties.RenameProperty;
+import de.valtech.aecu.core.groovy.console.bindings.actions.properties.SetProperty;
+import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
+
+/**
+ * Tests FusedPropertyAction
+ * 
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class FusedPropertyActionTest {
+
+    private static final String PATH = "/content/resource";
+    private static final String SUBNODE_PATH = "some/path";
+
+    @Mock
+    private Resource resource;
+
+    @Mock
+    private Resource subNode;
+
+    @Mock
+    private ResourceResolver resolver;
+
+    @Mock
+    private ModifiableValueMap valueMap;
+
+    @Mock
+    private ModifiableValueMap valueMapSubnode;
+
+    private BindingContext context;
+
+    @BeforeEach
+    public void setup() {
+        context = new BindingContext(resolver);
+        when(resource.getPath()).thenReturn(PATH);
+        when(resource.adaptTo(ModifiableValueMap.class)).thenReturn(valueMap);
+        when(subNode.adaptTo(ModifiableValueMap.class)).thenReturn(valueMapSubnode);
+        when(resource.getChild(SUBNODE_PATH)).thenReturn(subNode);
+    }
+
+    @Test
+    public void fuse() {
+        Action set1 = new SetProperty("a", "1", null, "nt:unstructured", context);
+        Action set2 = new SetProperty("b", "2", null, "nt:unstructured", context);
+        Action setSub = new SetProperty("c", "3", SUBNODE_PATH, "nt:unstructured", context);
+        Action print = new PrintPath();
+        Action delete = new DeleteProperty("d", null, context);
+
+        List<Action> plan = FusedPropertyAction.fuse(Arrays.asList(set1, set2, setSub, print, delete));
+
+        assertEquals(4, plan.size());
+        assertTrue(plan.get(0) instanceof FusedPropertyAction);
+        assertEquals(Arrays.asList(set1, set2), ((FusedPropertyAction) plan.get(0)).getActions());
+        assertSame(setSub, plan.get(1));
+        assertSame(print, plan.get(2));
+        assertSame(delete, plan.get(3));
+    }
+
+    @Test
+    public void doAction() throws PersistenceException, AecuException {
+        when(valueMap.containsKey("old")).thenReturn(true);
+        when(valueMap.containsKey("d")).thenReturn(true);
+        when(valueMap.remove("old")).thenReturn("value");
+        List<Action> actions = Arrays.asList(new SetProperty("a", "1", null, "nt:unstructured", context),
+                new RenameProperty("old", "new", null, context), new DeleteProperty("d", null, context));
+        List<Action> plan = FusedPropertyAction.fuse(actions);
+
+        String output = plan.get(0).doAction(resource);
+
+        verify(resource, times(1)).adaptTo(ModifiableValueMap.class);
+        verify(valueMap, times(1)).put("a", "1");
+        verify(valueMap, times(1)).put("new", "value");
+        verify(valueMap, times(1)).remove("d");
+        assertEquals("Setting String property a=1 for resource " + PATH + "\nRenaming property old to new for resource " + PATH
+                + "\nDeleting property d for resource " + PATH, output);
+    }
+
+    @Test
+    public void doAction_subnode() throws PersistenceException, AecuException {
+        List<Action> actions = Arrays.asList(new SetProperty("a", "1", SUBNODE_PATH, "nt:unstructured", context),
+                new SetProperty("b", "2", SUBNODE_PATH, "nt:unstructured", context));
+        List<Action> plan = FusedPropertyAction.fuse(actions);
+
+        plan.get(0).doAction(resource);
+
+        verify(subNode, times(1)).adaptTo(ModifiableValueMap.class);
+        verify(valueMapSubnode, times(1)).put("a", "1");
+        verify(valueMapSubnode, times(1)).put("b", "2");
+    }
+
+    @Test
+    public void doAction_missingSubnode() throws PersistenceException, AecuException {
+        when(resource.getChild(SUBNODE_PATH)).thenReturn(null);
+        List<Action> plan = FusedPropertyAction.fuse(
+                Arrays.asList(new DeleteProperty("a", SUBNODE_PATH, context), new DeleteProperty("b", SUBNODE_PATH, context)));
+
+        String output = plan.get(0).doAction(resource);
+
+        assertEquals("WARNING: Resource " + PATH + "/" + SUBNODE_PATH + " not found.\nWARNING: Resource " + PATH + "/"
+                + SUBNODE_PATH + " not found.", output);
+    }
+
+}
@@ -18,6 +18,10 @@
  */
 package de.valtech.aecu.core.groovy.console.bindings.actions.multivalue;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -25,6 +29,7 @@ import static org.mockito.Mockito.when;
 import org.apache.sling.api.resource.ModifiableValueMap;
 import org.apache.sling.api.resource.PersistenceException;
 import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,6 +38,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
+
 /**
  * Tests ReplaceMultiValues
  * 
@@ -53,17 +60,23 @@ public class ReplaceMultiValuesTest {
     @Mock
     private Resource resource;
 
+    @Mock
+    private ResourceResolver resolver;
+
+    private BindingContext context;
+
     @Mock
     private ModifiableValueMap valueMap;
 
     @BeforeEach
     public void setup() {
+        context = new BindingContext(resolver);
         when(resource.adaptTo(ModifiableValueMap.class)).thenReturn(valueMap);
     }
 
     @Test
     public void doAction() throws PersistenceException {
-        ReplaceMultiValues action = new ReplaceMultiValues(ATTR, new String[] {VAL1, VAL2}, new String[] {VAL3, VAL4});
+        ReplaceMultiValues action = new ReplaceMultiValues(ATTR, new String[] {VAL1, VAL2}, new String[] {VAL3, VAL4}, context);
 
         action.doAction(resource);
 
@@ -73,7 +86,7 @@ public class ReplaceMultiValuesTest {
     @Test
     public void doAction_existingAttribute() throws PersistenceException {
         when(valueMap.get(ATTR, String[].class)).thenReturn(new String[] {VAL5, VAL2});
-        ReplaceMultiValues action = new ReplaceMultiValues(ATTR, new String[] {VAL1, VAL2}, new String[] {VAL3, VAL4});
+        ReplaceMultiValues action = new ReplaceMultiValues(ATTR, new String[] {VAL1, VAL2}, new String[] {VAL3, VAL4}, context);
 
         action.doAction(resource);
 
@@ -83,11 +96,25 @@ public class ReplaceMultiValuesTest {
     @Test
     public void doAction_existingAttribute2() throws PersistenceException {
         when(valueMap.get(ATTR, String[].class)).thenReturn(new String[] {VAL1, VAL2, VAL5});
-        ReplaceMultiValues action = new ReplaceMultiValues(ATTR, new String[] {VAL1, VAL2}, new String[] {VAL3, VAL4});
+        ReplaceMultiValues action = new ReplaceMultiValues(ATTR, new String[] {VAL1, VAL2}, new String[] {VAL3, VAL4}, context);
 
         action.doAction(resource);
 
         verify(valueMap, times(1)).put(ATTR, new String[] {VAL3, VAL4, VAL5});
     }
 
+    @Test
+    public void doAction_unchanged() throws PersistenceException {
+        String[] current = new String[] {VAL5};
+        when(valueMap.get(ATTR, String[].class)).thenReturn(current);
+        when(valueMap.containsKey(ATTR)).thenReturn(true);
+        when(valueMap.get(ATTR)).thenReturn(current);
+        ReplaceMultiValues action = new ReplaceMultiValues(ATTR, new String[] {VAL1, VAL2}, new String[] {VAL3, VAL4}, context);
+
+        action.doAction(resource);
+
+        verify(valueMap, never()).put(anyString(), any());
+        assertEquals(1, context.getStatistics().getSkippedWrites());
+    }
+
 }
@@ -19,6 +19,7 @@
 package de.valtech.aecu.core.groovy.console.bindings.actions.page;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -29,6 +30,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -38,7 +40,10 @@ import com.day.cq.tagging.TagManager;
 import com.day.cq.wcm.api.Page;
 import com.day.cq.wcm.api.PageManager;
 
+import de.valtech.aecu.core.groovy.console.bindings.actions.util.PageCache;
+import de.valtech.aecu.core.groovy.console.bindings.actions.util.TagCache;
 import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
+import de.valtech.aecu.core.groovy.console.bindings.impl.RunStatistics;
 
 /**
  * Tests AddPageTagsAction
@@ -78,7 +83,11 @@ public class AddPageTagsActionTest {
     @BeforeEach
     public void setup() {
         when(context.getTagManager()).thenReturn(tagManager);
+        when(context.getTagCache()).thenReturn(new TagCache(tagManager));
         when(context.getPageManager()).thenReturn(pageManager);
+        when(context.getPageCache()).thenReturn(new PageCache(pageManager));
+        when(context.getStatistics()).thenReturn(new RunStatistics());
+        when(resource.getPath()).thenReturn("/content/page/jcr:content/resource");
         when(pageManager.getContainingPage(resource)).thenReturn(page);
         action = new AddPageTagsAction(context, TAG1, TAG2);
         when(page.getTags()).thenReturn(new Tag[] {tag1});
@@ -103,4 +112,29 @@ public class AddPageTagsActionTest {
         verify(tagManager, times(1)).setTags(resource, new Tag[] {tag2, tag1});
     }
 
+    @Test
+    public void prepare_invalidTag() {
+        action = new AddPageTagsAction(context, "invalid");
+
+        assertThrows(PersistenceException.class, () -> action.prepare());
+    }
+
+    @Test
+    public void doAction_tagsResolvedOnce() throws PersistenceException {
+        action.doAction(resource);
+        action.doAction(resource);
+
+        verify(tagManager, times(1)).resolve(TAG1);
+        verify(tagManager, times(1)).resolve(TAG2);
+    }
+
+    @Test
+    public void doAction_noChange() throws PersistenceException {
+        when(page.getTags()).thenReturn(new Tag[] {tag1, tag2});
+
+        action.doAction(resource);
+
+        verify(tagManager, never()).setTags(Mockito.any(), Mockito.any());
+    }
+
 }
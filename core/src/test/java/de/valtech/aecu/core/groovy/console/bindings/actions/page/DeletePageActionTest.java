@@ -37,7 +37,9 @@ import com.day.cq.wcm.api.Page;
 import com.day.cq.wcm.api.PageManager;
 import com.day.cq.wcm.api.WCMException;
 
+import de.valtech.aecu.core.groovy.console.bindings.actions.util.PageCache;
 import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
+import de.valtech.aecu.core.groovy.console.bindings.impl.RunStatistics;
 
 /**
  * Tests DeletePageAction
@@ -65,6 +67,8 @@ public class DeletePageActionTest {
     @BeforeEach
     public void setup() {
         when(context.getPageManager()).thenReturn(pageManager);
+        when(context.getPageCache()).thenReturn(new PageCache(pageManager));
+        when(context.getStatistics()).thenReturn(new RunStatistics());
         this.action = new DeletePageAction(context);
         when(pageManager.getContainingPage(resource)).thenReturn(page);
         when(resource.getPath()).thenReturn("path");
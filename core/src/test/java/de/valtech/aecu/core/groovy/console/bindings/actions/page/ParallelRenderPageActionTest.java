@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.groovy.console.bindings.actions.page;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.sling.api.resource.LoginException;
+import org.apache.sling.api.resource.PersistenceException;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.engine.SlingRequestProcessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.day.cq.contentsync.handler.util.RequestResponseFactory;
+import com.day.cq.wcm.api.Page;
+import com.day.cq.wcm.api.PageManager;
+
+import de.valtech.aecu.api.service.AecuException;
+import de.valtech.aecu.core.groovy.console.bindings.actions.util.PageCache;
+import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
+import de.valtech.aecu.core.groovy.console.bindings.impl.RunStatistics;
+
+/**
+ * Tests ParallelRenderPageAction
+ * 
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ParallelRenderPageActionTest {
+
+    @Mock
+    private BindingContext context;
+
+    @Mock
+    private PageManager pageManager;
+
+    @Mock
+    private ResourceResolver resolver;
+
+    @Mock
+    private ResourceResolver workerResolver;
+
+    @Mock
+    private RequestResponseFactory requestResponseFactory;
+
+    @Mock
+    private SlingRequestProcessor requestProcessor;
+
+    @Mock
+    private Page page;
+
+    @Mock
+    private Resource resource;
+
+    @Mock
+    private Page page2;
+
+    @Mock
+    private Resource resource2;
+
+    @Mock
+    private HttpServletRequest request;
+
+    private String html = "test123";
+
+    @BeforeEach
+    public void setup() throws ServletException, IOException, LoginException {
+        when(context.getPageManager()).thenReturn(pageManager);
+        when(context.getPageCache()).thenReturn(new PageCache(pageManager));
+        when(context.getStatistics()).thenReturn(new RunStatistics());
+        when(resource.getPath()).thenReturn("/content/page/jcr:content/resource");
+        when(context.getResolver()).thenReturn(resolver);
+        when(resolver.clone(null)).thenReturn(workerResolver);
+        when(context.getRequestResponseFactory()).thenReturn(requestResponseFactory);
+        when(context.getSlingRequestProcessor()).thenReturn(requestProcessor);
+        when(pageManager.getContainingPage(resource)).thenReturn(page);
+        when(page.getPath()).thenReturn("/content/page");
+        when(resource2.getPath()).thenReturn("/content/page2/jcr:content/resource");
+        when(pageManager.getContainingPage(resource2)).thenReturn(page2);
+        when(page2.getPath()).thenReturn("/content/page2");
+        when(requestResponseFactory.createRequest(Mockito.anyString(), Mockito.anyString())).thenReturn(request);
+        doAnswer(invocation -> {
+            HttpServletResponse response = invocation.getArgument(1);
+            response.getWriter().write(html);
+            return null;
+        }).when(requestProcessor).processRequest(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void finish_noPages() throws PersistenceException, AecuException {
+        ParallelRenderPageAction action = new ParallelRenderPageAction(context, 2, 200, null, null);
+
+        assertNull(action.finish());
+    }
+
+    @Test
+    public void doAction() throws PersistenceException, AecuException, ServletException, IOException {
+        ParallelRenderPageAction action = new ParallelRenderPageAction(context, 2, 200, "test", "789");
+        action.doAction(resource);
+        action.doAction(resource2);
+        String report = action.finish();
+
+        assertTrue(report.contains("finished for 2 pages (0 failed)"));
+        assertTrue(report.contains("Slowest pages"));
+        verify(requestProcessor, times(2)).processRequest(Mockito.any(), Mockito.any(), Mockito.eq(workerResolver));
+        verify(workerResolver, Mockito.atLeastOnce()).close();
+    }
+
+    @Test
+    public void doAction_samePage() throws PersistenceException, AecuException, ServletException, IOException {
+        ParallelRenderPageAction action = new ParallelRenderPageAction(context, 2, 200, null, null);
+        action.doAction(resource);
+        action.doAction(resource);
+        String report = action.finish();
+
+        assertTrue(report.contains("finished for 1 pages (0 failed)"));
+        verify(requestProcessor, times(1)).processRequest(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void doAction_textNotPresentDoesNotMatch() throws PersistenceException, AecuException {
+        html = "test789";
+        ParallelRenderPageAction action = new ParallelRenderPageAction(context, 2, 200, "test", "789");
+        action.doAction(resource);
+
+        AecuException e = assertThrows(AecuException.class, () -> action.finish());
+        assertTrue(e.getMessage().contains("did include 789"));
+    }
+
+    @Test
+    public void doAction_noPage() {
+        when(pageManager.getContainingPage(resource)).thenReturn(null);
+        ParallelRenderPageAction action = new ParallelRenderPageAction(context, 2, 200, null, null);
+
+        assertThrows(AecuException.class, () -> action.doAction(resource));
+    }
+
+}
@@ -19,6 +19,7 @@
 package de.valtech.aecu.core.groovy.console.bindings.actions.page;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -29,6 +30,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -38,7 +40,10 @@ import com.day.cq.tagging.TagManager;
 import com.day.cq.wcm.api.Page;
 import com.day.cq.wcm.api.PageManager;
 
+import de.valtech.aecu.core.groovy.console.bindings.actions.util.PageCache;
+import de.valtech.aecu.core.groovy.console.bindings.actions.util.TagCache;
 import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
+import de.valtech.aecu.core.groovy.console.bindings.impl.RunStatistics;
 
 /**
  * Tests RemovePageTagsAction
@@ -82,7 +87,11 @@ public class RemovePageTagsActionTest {
     @BeforeEach
     public void setup() {
         when(context.getTagManager()).thenReturn(tagManager);
+        when(context.getTagCache()).thenReturn(new TagCache(tagManager));
         when(context.getPageManager()).thenReturn(pageManager);
+        when(context.getPageCache()).thenReturn(new PageCache(pageManager));
+        when(context.getStatistics()).thenReturn(new RunStatistics());
+        when(resource.getPath()).thenReturn("/content/page/jcr:content/resource");
         when(pageManager.getContainingPage(resource)).thenReturn(page);
         action = new RemovePageTagsAction(context, TAG1, TAG2);
         when(page.getTags()).thenReturn(new Tag[] {tag2, tag3});
@@ -108,4 +117,20 @@ public class RemovePageTagsActionTest {
         verify(tagManager, times(1)).setTags(resource, new Tag[] {tag3});
     }
 
+    @Test
+    public void prepare_invalidTag() {
+        action = new RemovePageTagsAction(context, "invalid");
+
+        assertThrows(PersistenceException.class, () -> action.prepare());
+    }
+
+    @Test
+    public void doAction_noChange() throws PersistenceException {
+        when(page.getTags()).thenReturn(new Tag[] {tag3});
+
+        action.doAction(resource);
+
+        verify(tagManager, never()).setTags(Mockito.any(), Mockito.any());
+    }
+
 }
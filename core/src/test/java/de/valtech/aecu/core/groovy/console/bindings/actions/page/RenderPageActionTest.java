@@ -20,13 +20,15 @@ package de.valtech.aecu.core.groovy.console.bindings.actions.page;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 
+import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import org.apache.sling.api.resource.PersistenceException;
 import org.apache.sling.api.resource.Resource;
@@ -47,7 +49,9 @@ import com.day.cq.wcm.api.PageManager;
 
 import de.valtech.aecu.api.service.AecuException;
 import de.valtech.aecu.core.groovy.console.bindings.actions.util.MockHttpServletResponse;
+import de.valtech.aecu.core.groovy.console.bindings.actions.util.PageCache;
 import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
+import de.valtech.aecu.core.groovy.console.bindings.impl.RunStatistics;
 
 /**
  * Tests RenderPageAction
@@ -82,24 +86,27 @@ public class RenderPageActionTest {
     @Mock
     private HttpServletRequest request;
 
-    @Mock
-    private ByteArrayOutputStream out;
+    private String html = "test123";
 
     private RenderPageAction actionSpy;
 
     @BeforeEach
-    public void setup() {
+    public void setup() throws ServletException, IOException {
         when(context.getPageManager()).thenReturn(pageManager);
+        when(context.getPageCache()).thenReturn(new PageCache(pageManager));
+        when(context.getStatistics()).thenReturn(new RunStatistics());
+        when(resource.getPath()).thenReturn("/content/page/jcr:content/resource");
         when(context.getResolver()).thenReturn(resolver);
         when(context.getRequestResponseFactory()).thenReturn(requestResponseFactory);
         when(context.getSlingRequestProcessor()).thenReturn(requestProcessor);
         when(pageManager.getContainingPage(resource)).thenReturn(page);
         when(requestResponseFactory.createRequest(Mockito.anyString(), Mockito.anyString())).thenReturn(request);
+        doAnswer(invocation -> {
+            HttpServletResponse response = invocation.getArgument(1);
+            response.getWriter().write(html);
+            return null;
+        }).when(requestProcessor).processRequest(Mockito.any(), Mockito.any(), Mockito.any());
         actionSpy = spy(new RenderPageAction(context, 200, "test", "789"));
-        MockHttpServletResponse response = spy(new MockHttpServletResponse());
-        when(actionSpy.createResponse()).thenReturn(response);
-        when(response.getOutput()).thenReturn(out);
-        when(out.toString()).thenReturn("test123");
     }
 
     @Test
@@ -123,7 +130,7 @@ public class RenderPageActionTest {
     public void doAction_wrongStatus() throws PersistenceException, AecuException {
         MockHttpServletResponse response = new MockHttpServletResponse();
         response.setStatus(500);
-        when(actionSpy.createResponse()).thenReturn(response);
+        when(actionSpy.createResponse(Mockito.any())).thenReturn(response);
 
         assertThrows(AecuException.class, () -> actionSpy.doAction(resource));
     }
@@ -135,14 +142,14 @@ public class RenderPageActionTest {
 
     @Test
     public void doAction_textPresentDoesNotMatch() throws AecuException, IOException {
-        when(out.toString()).thenReturn("1111");
+        html = "1111";
 
         assertThrows(AecuException.class, () -> actionSpy.doAction(resource));
     }
 
     @Test
     public void doAction_textNotPresentDoesNotMatch() throws AecuException, IOException {
-        when(out.toString()).thenReturn("test789");
+        html = "test789";
 
         assertThrows(AecuException.class, () -> actionSpy.doAction(resource));
     }
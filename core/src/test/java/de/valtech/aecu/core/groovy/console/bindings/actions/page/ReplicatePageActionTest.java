@@ -18,8 +18,11 @@
  */
 package de.valtech.aecu.core.groovy.console.bindings.actions.page;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -28,6 +31,7 @@ import static org.mockito.Mockito.when;
 
 import javax.jcr.Session;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.sling.api.resource.PersistenceException;
 import org.apache.sling.api.resource.Resource;
 import org.apache.sling.api.resource.ResourceResolver;
@@ -45,7 +49,13 @@ import com.day.cq.replication.Replicator;
 import com.day.cq.wcm.api.Page;
 import com.day.cq.wcm.api.PageManager;
 
+import de.valtech.aecu.core.events.AecuEvents;
+import de.valtech.aecu.core.groovy.console.bindings.actions.util.PageCache;
 import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
+import de.valtech.aecu.core.groovy.console.bindings.impl.RunStatistics;
+import de.valtech.aecu.core.metrics.AecuMetrics;
+import de.valtech.aecu.core.service.ExecutionTrace;
+import de.valtech.aecu.core.service.ScriptProgress;
 
 /**
  * Tests ReplicatePageAction
@@ -65,6 +75,12 @@ public class ReplicatePageActionTest {
     @Mock
     private BindingContext context;
 
+    @Mock
+    private AecuMetrics metrics;
+
+    @Mock
+    private AecuEvents events;
+
     @Mock
     private Resource resource;
 
@@ -79,10 +95,19 @@ public class ReplicatePageActionTest {
 
     private ReplicatePageAction action;
 
+    private RunStatistics statistics;
+
     @BeforeEach
     public void setup() {
         when(context.getPageManager()).thenReturn(pageManager);
+        when(context.getPageCache()).thenReturn(new PageCache(pageManager));
+        statistics = new RunStatistics();
+        when(context.getStatistics()).thenReturn(statistics);
         when(context.getReplicator()).thenReturn(replicator);
+        when(context.getMetrics()).thenReturn(metrics);
+        when(context.getTrace()).thenReturn(ExecutionTrace.NONE);
+        when(context.getEvents()).thenReturn(events);
+        when(context.getProgress()).thenReturn(new ScriptProgress("/script"));
         when(context.getResolver()).thenReturn(resolver);
         when(resolver.adaptTo(Session.class)).thenReturn(session);
         this.action = new ReplicatePageAction(true, context);
@@ -113,6 +138,8 @@ public class ReplicatePageActionTest {
 
         assertTrue(result.contains("Replicated page"));
         verify(replicator, times(1)).replicate(session, ReplicationActionType.ACTIVATE, "path");
+        verify(metrics, times(1)).replicated();
+        verify(events, times(1)).replicated(eq("/script"), eq("path"), eq("activate"), anyLong());
     }
 
     @Test
@@ -135,4 +162,14 @@ public class ReplicatePageActionTest {
         verify(replicator, never()).replicate(session, ReplicationActionType.ACTIVATE, "path");
     }
 
+    @Test
+    public void doAction_samePage() throws PersistenceException, ReplicationException {
+        action.doAction(resource);
+        String result = action.doAction(resource);
+
+        assertEquals(StringUtils.EMPTY, result);
+        assertEquals(1, statistics.getSkippedPageActions());
+        verify(replicator, times(1)).replicate(session, ReplicationActionType.ACTIVATE, "path");
+    }
+
 }
@@ -19,6 +19,7 @@
 package de.valtech.aecu.core.groovy.console.bindings.actions.page;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -29,6 +30,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -38,7 +40,10 @@ import com.day.cq.tagging.TagManager;
 import com.day.cq.wcm.api.Page;
 import com.day.cq.wcm.api.PageManager;
 
+import de.valtech.aecu.core.groovy.console.bindings.actions.util.PageCache;
+import de.valtech.aecu.core.groovy.console.bindings.actions.util.TagCache;
 import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
+import de.valtech.aecu.core.groovy.console.bindings.impl.RunStatistics;
 
 /**
  * Tests SetPageTagsAction
@@ -78,7 +83,11 @@ public class SetPageTagsActionTest {
     @BeforeEach
     public void setup() {
         when(context.getTagManager()).thenReturn(tagManager);
+        when(context.getTagCache()).thenReturn(new TagCache(tagManager));
         when(context.getPageManager()).thenReturn(pageManager);
+        when(context.getPageCache()).thenReturn(new PageCache(pageManager));
+        when(context.getStatistics()).thenReturn(new RunStatistics());
+        when(resource.getPath()).thenReturn("/content/page/jcr:content/resource");
         when(pageManager.getContainingPage(resource)).thenReturn(page);
         action = new SetPageTagsAction(context, TAG1, TAG2);
         when(tagManager.resolve(TAG1)).thenReturn(tag1);
@@ -100,4 +109,22 @@ public class SetPageTagsActionTest {
         verify(tagManager, times(1)).setTags(resource, new Tag[] {tag1, tag2});
     }
 
+    @Test
+    public void prepare_invalidTag() {
+        action = new SetPageTagsAction(context, "invalid");
+
+        assertThrows(PersistenceException.class, () -> action.prepare());
+    }
+
+    @Test
+    public void doAction_noChange() throws PersistenceException {
+        when(tag1.getPath()).thenReturn(TAG1);
+        when(tag2.getPath()).thenReturn(TAG2);
+        when(page.getTags()).thenReturn(new Tag[] {tag2, tag1});
+
+        action.doAction(resource);
+
+        verify(tagManager, never()).setTags(Mockito.any(), Mockito.any());
+    }
+
 }
@@ -20,6 +20,8 @@ package de.valtech.aecu.core.groovy.console.bindings.actions.page;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -51,7 +53,13 @@ import com.day.cq.wcm.api.Page;
 import com.day.cq.wcm.api.PageManager;
 
 import de.valtech.aecu.api.service.AecuException;
+import de.valtech.aecu.core.events.AecuEvents;
+import de.valtech.aecu.core.groovy.console.bindings.actions.util.PageCache;
 import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
+import de.valtech.aecu.core.groovy.console.bindings.impl.RunStatistics;
+import de.valtech.aecu.core.metrics.AecuMetrics;
+import de.valtech.aecu.core.service.ExecutionTrace;
+import de.valtech.aecu.core.service.ScriptProgress;
 
 /**
  * Tests TreeActivatePageAction
@@ -74,6 +82,12 @@ public class TreeActivatePageActionTest {
     @Mock
     private BindingContext context;
 
+    @Mock
+    private AecuMetrics metrics;
+
+    @Mock
+    private AecuEvents events;
+
     @Mock
     private Resource resource;
 
@@ -94,7 +108,13 @@ public class TreeActivatePageActionTest {
     @BeforeEach
     public void setup() {
         when(context.getPageManager()).thenReturn(pageManager);
+        when(context.getPageCache()).thenReturn(new PageCache(pageManager));
+        when(context.getStatistics()).thenReturn(new RunStatistics());
         when(context.getReplicator()).thenReturn(replicator);
+        when(context.getMetrics()).thenReturn(metrics);
+        when(context.getTrace()).thenReturn(ExecutionTrace.NONE);
+        when(context.getEvents()).thenReturn(events);
+        when(context.getProgress()).thenReturn(new ScriptProgress("/script"));
         when(context.getResolver()).thenReturn(resolver);
         when(resolver.adaptTo(Session.class)).thenReturn(session);
         when(pageManager.getContainingPage(resource)).thenReturn(page);
@@ -132,6 +152,8 @@ public class TreeActivatePageActionTest {
         assertTrue(result.contains("2 pages"));
         verify(replicator, times(1)).replicate(session, ReplicationActionType.ACTIVATE, PATH);
         verify(replicator, times(1)).replicate(session, ReplicationActionType.ACTIVATE, SUBPATH);
+        verify(metrics, times(2)).replicated();
+        verify(events, times(1)).replicated(eq("/script"), eq(SUBPATH), eq("activate"), anyLong());
     }
 
     @Test
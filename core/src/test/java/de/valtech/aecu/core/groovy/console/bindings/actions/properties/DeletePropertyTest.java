@@ -18,6 +18,8 @@
  */
 package de.valtech.aecu.core.groovy.console.bindings.actions.properties;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -25,6 +27,7 @@ import static org.mockito.Mockito.when;
 import org.apache.sling.api.resource.ModifiableValueMap;
 import org.apache.sling.api.resource.PersistenceException;
 import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,6 +36,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
+
 /**
  * Tests DeleteProperty
  * 
@@ -49,6 +54,11 @@ public class DeletePropertyTest {
     @Mock
     private Resource resource;
 
+    @Mock
+    private ResourceResolver resolver;
+
+    private BindingContext context;
+
     @Mock
     private Resource subNode;
 
@@ -60,6 +70,7 @@ public class DeletePropertyTest {
 
     @BeforeEach
     public void setup() {
+        context = new BindingContext(resolver);
         when(resource.adaptTo(ModifiableValueMap.class)).thenReturn(valueMap);
         when(subNode.adaptTo(ModifiableValueMap.class)).thenReturn(valueMapSubnode);
         when(resource.getChild(SUBNODE_PATH)).thenReturn(subNode);
@@ -67,8 +78,9 @@ public class DeletePropertyTest {
 
     @Test
     public void doAction() throws PersistenceException {
+        when(valueMap.containsKey(ATTR)).thenReturn(true);
         when(valueMap.remove(ATTR)).thenReturn("val");
-        DeleteProperty action = new DeleteProperty(ATTR, null);
+        DeleteProperty action = new DeleteProperty(ATTR, null, context);
 
         action.doAction(resource);
 
@@ -77,12 +89,23 @@ public class DeletePropertyTest {
 
     @Test
     public void doAction_subnode() throws PersistenceException {
+        when(valueMapSubnode.containsKey(ATTR)).thenReturn(true);
         when(valueMapSubnode.remove(ATTR)).thenReturn("val");
-        DeleteProperty action = new DeleteProperty(ATTR, SUBNODE_PATH);
+        DeleteProperty action = new DeleteProperty(ATTR, SUBNODE_PATH, context);
 
         action.doAction(resource);
 
         verify(valueMapSubnode, times(1)).remove(ATTR);
     }
 
+    @Test
+    public void doAction_missing() throws PersistenceException {
+        DeleteProperty action = new DeleteProperty(ATTR, null, context);
+
+        action.doAction(resource);
+
+        verify(valueMap, never()).remove(ATTR);
+        assertEquals(1, context.getStatistics().getSkippedWrites());
+    }
+
 }
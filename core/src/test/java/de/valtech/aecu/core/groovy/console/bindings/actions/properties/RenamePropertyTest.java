@@ -25,6 +25,7 @@ import static org.mockito.Mockito.when;
 import org.apache.sling.api.resource.ModifiableValueMap;
 import org.apache.sling.api.resource.PersistenceException;
 import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,6 +34,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
+
 /**
  * Tests RenameProperty
  * 
@@ -53,6 +56,11 @@ public class RenamePropertyTest {
     @Mock
     private Resource resource;
 
+    @Mock
+    private ResourceResolver resolver;
+
+    private BindingContext context;
+
     @Mock
     private Resource subNode;
 
@@ -64,6 +72,7 @@ public class RenamePropertyTest {
 
     @BeforeEach
     public void setup() {
+        context = new BindingContext(resolver);
         when(resource.adaptTo(ModifiableValueMap.class)).thenReturn(valueMap);
         when(subNode.adaptTo(ModifiableValueMap.class)).thenReturn(valueMapSubnode);
         when(resource.getChild(SUBNODE_PATH)).thenReturn(subNode);
@@ -73,7 +82,7 @@ public class RenamePropertyTest {
     public void doAction() throws PersistenceException {
         when(valueMap.containsKey(ATTR_OLD)).thenReturn(true);
         when(valueMap.remove(ATTR_OLD)).thenReturn(VAL1);
-        RenameProperty action = new RenameProperty(ATTR_OLD, ATTR_NEW, null);
+        RenameProperty action = new RenameProperty(ATTR_OLD, ATTR_NEW, null, context);
 
         action.doAction(resource);
 
@@ -85,7 +94,7 @@ public class RenamePropertyTest {
     public void doAction_subnode() throws PersistenceException {
         when(valueMapSubnode.containsKey(ATTR_OLD)).thenReturn(true);
         when(valueMapSubnode.remove(ATTR_OLD)).thenReturn(VAL1);
-        RenameProperty action = new RenameProperty(ATTR_OLD, ATTR_NEW, SUBNODE_PATH);
+        RenameProperty action = new RenameProperty(ATTR_OLD, ATTR_NEW, SUBNODE_PATH, context);
 
         action.doAction(resource);
 
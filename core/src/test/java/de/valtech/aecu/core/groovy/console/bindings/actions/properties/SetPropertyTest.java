@@ -18,6 +18,8 @@
  */
 package de.valtech.aecu.core.groovy.console.bindings.actions.properties;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -25,6 +27,7 @@ import static org.mockito.Mockito.when;
 import org.apache.sling.api.resource.ModifiableValueMap;
 import org.apache.sling.api.resource.PersistenceException;
 import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
 import org.codehaus.groovy.runtime.GStringImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,6 +37,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
+
 import groovy.lang.GString;
 
 /**
@@ -56,6 +61,11 @@ public class SetPropertyTest {
     @Mock
     private Resource resource;
 
+    @Mock
+    private ResourceResolver resolver;
+
+    private BindingContext context;
+
     @Mock
     private Resource subNode;
 
@@ -67,6 +77,7 @@ public class SetPropertyTest {
 
     @BeforeEach
     public void setup() {
+        context = new BindingContext(resolver);
         when(resource.adaptTo(ModifiableValueMap.class)).thenReturn(valueMap);
         when(subNode.adaptTo(ModifiableValueMap.class)).thenReturn(valueMapSubnode);
         when(resource.getChild(SUBNODE_PATH)).thenReturn(subNode);
@@ -74,7 +85,7 @@ public class SetPropertyTest {
 
     @Test
     public void doAction() throws PersistenceException {
-        SetProperty action = new SetProperty(ATTR, VAL1, null, "nt:unstructured");
+        SetProperty action = new SetProperty(ATTR, VAL1, null, "nt:unstructured", context);
 
         action.doAction(resource);
 
@@ -83,7 +94,7 @@ public class SetPropertyTest {
 
     @Test
     public void doAction_gString() throws PersistenceException {
-        SetProperty action = new SetProperty(ATTR, VALUE_G, null, "nt:unstructured");
+        SetProperty action = new SetProperty(ATTR, VALUE_G, null, "nt:unstructured", context);
 
         action.doAction(resource);
 
@@ -92,11 +103,35 @@ public class SetPropertyTest {
 
     @Test
     public void doAction_subnode() throws PersistenceException {
-        SetProperty action = new SetProperty(ATTR, VAL1, SUBNODE_PATH, "nt:unstructured");
+        SetProperty action = new SetProperty(ATTR, VAL1, SUBNODE_PATH, "nt:unstructured", context);
 
         action.doAction(resource);
 
         verify(valueMapSubnode, times(1)).put(ATTR, VAL1);
     }
 
+    @Test
+    public void doAction_unchanged() throws PersistenceException {
+        when(valueMap.containsKey(ATTR)).thenReturn(true);
+        when(valueMap.get(ATTR)).thenReturn(VAL1);
+        SetProperty action = new SetProperty(ATTR, VAL1, null, "nt:unstructured", context);
+
+        action.doAction(resource);
+
+        verify(valueMap, never()).put(ATTR, VAL1);
+        assertEquals(1, context.getStatistics().getSkippedWrites());
+    }
+
+    @Test
+    public void doAction_unchangedNumber() throws PersistenceException {
+        when(valueMap.containsKey(ATTR)).thenReturn(true);
+        when(valueMap.get(ATTR)).thenReturn(5L);
+        SetProperty action = new SetProperty(ATTR, 5, null, "nt:unstructured", context);
+
+        action.doAction(resource);
+
+        verify(valueMap, never()).put(ATTR, 5);
+        assertEquals(1, context.getStatistics().getSkippedWrites());
+    }
+
 }
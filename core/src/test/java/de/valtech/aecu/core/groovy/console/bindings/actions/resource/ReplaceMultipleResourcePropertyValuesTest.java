@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.groovy.console.bindings.actions.resource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.jcr.Node;
+import javax.jcr.Property;
+import javax.jcr.PropertyIterator;
+import javax.jcr.PropertyType;
+import javax.jcr.RepositoryException;
+import javax.jcr.Value;
+
+import org.apache.jackrabbit.value.StringValue;
+import org.apache.sling.api.resource.PersistenceException;
+import org.apache.sling.api.resource.Resource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * Tests ReplaceMultipleResourcePropertyValues
+ * 
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ReplaceMultipleResourcePropertyValuesTest {
+
+    private static final String PROP3 = "prop3";
+    private static final String PROP2 = "prop2";
+    private static final String PROP1 = "prop1";
+    private static final String PATH = "/content/path";
+
+    @Mock
+    private Resource resource;
+
+    @Mock
+    private Node node;
+
+    @Mock
+    private PropertyIterator propertyIterator;
+
+    private Value val31 = new StringValue("/content/old/page");
+    private Value val32 = new StringValue("val3_test1_suffix");
+
+    @Mock
+    private Property prop1;
+
+    @Mock
+    private Property prop2;
+
+    @Mock
+    private Property prop3;
+
+    private Map<String, String> replacements = new LinkedHashMap<>();
+
+    @BeforeEach
+    public void setup() throws RepositoryException {
+        when(resource.getPath()).thenReturn(PATH);
+        when(resource.adaptTo(Node.class)).thenReturn(node);
+        when(node.getProperties()).thenReturn(propertyIterator);
+        when(propertyIterator.hasNext()).thenReturn(true, true, true, false);
+        when(propertyIterator.nextProperty()).thenReturn(prop1, prop2, prop3);
+        when(node.hasProperty(PROP1)).thenReturn(true);
+        when(node.getProperty(PROP1)).thenReturn(prop1);
+        when(prop1.getString()).thenReturn("https://old.example.com/content/old");
+        when(prop2.getString()).thenReturn("val2_test2_suffix");
+        when(prop3.isMultiple()).thenReturn(true);
+        when(prop3.getValues()).thenReturn(new Value[] {val31, val32});
+        when(prop1.getName()).thenReturn(PROP1);
+        when(prop2.getName()).thenReturn(PROP2);
+        when(prop3.getName()).thenReturn(PROP3);
+        when(prop1.getType()).thenReturn(PropertyType.STRING);
+        when(prop2.getType()).thenReturn(PropertyType.STRING);
+        when(prop3.getType()).thenReturn(PropertyType.STRING);
+        replacements.put("old.example.com", "new.example.com");
+        replacements.put("/content/old", "/content/new");
+    }
+
+    @Test
+    public void doAction_allProperties() throws PersistenceException, RepositoryException {
+        ReplaceMultipleResourcePropertyValues action = new ReplaceMultipleResourcePropertyValues(replacements, Arrays.asList());
+
+        String result = action.doAction(resource);
+
+        assertEquals("Updated values in " + PATH, result);
+        verify(prop1, times(1)).setValue("https://new.example.com/content/new");
+        verify(prop2, never()).setValue(Mockito.anyString());
+        ArgumentCaptor<Value[]> values = ArgumentCaptor.forClass(Value[].class);
+        verify(prop3, times(1)).setValue(values.capture());
+        assertEquals("/content/new/page", values.getValue()[0].getString());
+        assertEquals("val3_test1_suffix", values.getValue()[1].getString());
+    }
+
+    @Test
+    public void doAction_prop1Only() throws PersistenceException, RepositoryException {
+        ReplaceMultipleResourcePropertyValues action =
+                new ReplaceMultipleResourcePropertyValues(replacements, Arrays.asList(PROP1));
+
+        String result = action.doAction(resource);
+
+        assertEquals("Updated values in " + PATH, result);
+        verify(prop1, times(1)).setValue("https://new.example.com/content/new");
+        verify(prop3, never()).setValue(Mockito.any(Value[].class));
+        verify(node, never()).getProperties();
+    }
+
+    @Test
+    public void doAction_longestMatchWins() throws PersistenceException, RepositoryException {
+        replacements.put("/content/old/page", "/content/moved");
+        ReplaceMultipleResourcePropertyValues action = new ReplaceMultipleResourcePropertyValues(replacements, Arrays.asList());
+
+        action.doAction(resource);
+
+        ArgumentCaptor<Value[]> values = ArgumentCaptor.forClass(Value[].class);
+        verify(prop3, times(1)).setValue(values.capture());
+        assertEquals("/content/moved", values.getValue()[0].getString());
+    }
+
+    @Test
+    public void doAction_noMatch() throws PersistenceException, RepositoryException {
+        replacements.clear();
+        replacements.put("nomatch", "new");
+        ReplaceMultipleResourcePropertyValues action = new ReplaceMultipleResourcePropertyValues(replacements, Arrays.asList());
+
+        String result = action.doAction(resource);
+
+        assertEquals("", result);
+        verify(prop1, never()).setValue(Mockito.anyString());
+        verify(prop3, never()).setValue(Mockito.any(Value[].class));
+    }
+
+}
@@ -98,6 +98,8 @@ public class ReplaceResourcePropertyValuesRegexTest {
         when(node.getProperties()).thenReturn(propertyIterator);
         when(propertyIterator.hasNext()).thenReturn(true, true, true, true, false);
         when(propertyIterator.nextProperty()).thenReturn(prop1, prop2, prop3, prop4);
+        when(node.hasProperty(PROP1)).thenReturn(true);
+        when(node.getProperty(PROP1)).thenReturn(prop1);
         when(prop1.getString()).thenReturn("val1_oldVal_suffix");
         when(prop2.getString()).thenReturn("val2_test2_suffix");
         when(prop3.isMultiple()).thenReturn(true);
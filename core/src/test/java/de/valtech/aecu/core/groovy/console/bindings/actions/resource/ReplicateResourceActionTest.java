@@ -20,6 +20,8 @@ package de.valtech.aecu.core.groovy.console.bindings.actions.resource;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -43,7 +45,11 @@ import com.day.cq.replication.ReplicationActionType;
 import com.day.cq.replication.ReplicationException;
 import com.day.cq.replication.Replicator;
 
+import de.valtech.aecu.core.events.AecuEvents;
 import de.valtech.aecu.core.groovy.console.bindings.impl.BindingContext;
+import de.valtech.aecu.core.metrics.AecuMetrics;
+import de.valtech.aecu.core.service.ExecutionTrace;
+import de.valtech.aecu.core.service.ScriptProgress;
 
 /**
  * Tests ReplicateResourceAction
@@ -62,6 +68,12 @@ public class ReplicateResourceActionTest {
     @Mock
     private BindingContext context;
 
+    @Mock
+    private AecuMetrics metrics;
+
+    @Mock
+    private AecuEvents events;
+
     @Mock
     private Resource resource;
 
@@ -76,6 +88,10 @@ public class ReplicateResourceActionTest {
     @BeforeEach
     public void setup() {
         when(context.getReplicator()).thenReturn(replicator);
+        when(context.getMetrics()).thenReturn(metrics);
+        when(context.getTrace()).thenReturn(ExecutionTrace.NONE);
+        when(context.getEvents()).thenReturn(events);
+        when(context.getProgress()).thenReturn(new ScriptProgress("/script"));
         when(context.getResolver()).thenReturn(resolver);
         when(resolver.adaptTo(Session.class)).thenReturn(session);
         this.action = new ReplicateResourceAction(true, context);
@@ -95,6 +111,8 @@ public class ReplicateResourceActionTest {
 
         assertTrue(result.contains("Replicated resource"));
         verify(replicator, times(1)).replicate(session, ReplicationActionType.ACTIVATE, PATH);
+        verify(metrics, times(1)).replicated();
+        verify(events, times(1)).replicated(eq("/script"), eq(PATH), eq("activate"), anyLong());
     }
 
     @Test
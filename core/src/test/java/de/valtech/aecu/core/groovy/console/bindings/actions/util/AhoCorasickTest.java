@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.groovy.console.bindings.actions.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests AhoCorasick and TextMatchingWriter
+ * 
+ * @author agent
+ */
+public class AhoCorasickTest {
+
+    @Test
+    public void matches() {
+        AhoCorasick automaton = new AhoCorasick(Arrays.asList("he", "she", "his", "hers", ""));
+        TextMatchingWriter writer = new TextMatchingWriter(automaton);
+        writer.write("ushers".toCharArray(), 0, 6);
+
+        assertTrue(writer.isFound(0));
+        assertTrue(writer.isFound(1));
+        assertFalse(writer.isFound(2));
+        assertTrue(writer.isFound(3));
+        assertFalse(writer.isFound(4));
+        assertEquals(6, writer.getSize());
+    }
+
+    @Test
+    public void matches_splitWrites() {
+        AhoCorasick automaton = new AhoCorasick(Arrays.asList("exception"));
+        TextMatchingWriter writer = new TextMatchingWriter(automaton);
+        writer.write("an excep".toCharArray(), 0, 8);
+
+        assertFalse(writer.isFound(0));
+
+        writer.write("tion".toCharArray(), 0, 4);
+
+        assertTrue(writer.isFound(0));
+    }
+
+    @Test
+    public void size_utf8() {
+        TextMatchingWriter writer = new TextMatchingWriter(new AhoCorasick(Arrays.asList("x")));
+        String text = "a\u00e4\u20ac\ud83d\ude00";
+        writer.write(text.toCharArray(), 0, text.length());
+
+        assertEquals(1 + 2 + 3 + 4, writer.getSize());
+    }
+
+    @Test
+    public void replaceAll() {
+        AhoCorasick automaton = new AhoCorasick(Arrays.asList("a", "ab", "bc", "x"));
+        List<String> replacements = Arrays.asList("1", "2", "3", "4");
+
+        assertEquals("2c", automaton.replaceAll("abc", replacements));
+        assertEquals("1-3-4", automaton.replaceAll("a-bc-x", replacements));
+        assertEquals("22", automaton.replaceAll("abab", replacements));
+    }
+
+    @Test
+    public void replaceAll_noMatch() {
+        AhoCorasick automaton = new AhoCorasick(Arrays.asList("a", "b"));
+        String text = "xyz";
+
+        assertSame(text, automaton.replaceAll(text, Arrays.asList("1", "2")));
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.groovy.console.bindings.actions.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.sling.api.resource.Resource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.day.cq.wcm.api.Page;
+import com.day.cq.wcm.api.PageManager;
+
+import de.valtech.aecu.core.groovy.console.bindings.actions.Action;
+import de.valtech.aecu.core.groovy.console.bindings.actions.print.PrintPath;
+
+/**
+ * Tests PageCache
+ * 
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class PageCacheTest {
+
+    private static final String PAGE_PATH = "/content/page";
+
+    @Mock
+    private PageManager pageManager;
+
+    @Mock
+    private Page page;
+
+    @Mock
+    private Resource resource1;
+
+    @Mock
+    private Resource resource2;
+
+    @Mock
+    private Resource content;
+
+    private PageCache cache;
+
+    @BeforeEach
+    public void setup() {
+        cache = new PageCache(pageManager);
+        when(page.getPath()).thenReturn(PAGE_PATH);
+        when(resource1.getPath()).thenReturn(PAGE_PATH + "/jcr:content/par/text1");
+        when(resource2.getPath()).thenReturn(PAGE_PATH + "/jcr:content/par/text2");
+        when(content.getPath()).thenReturn(PAGE_PATH + "/jcr:content");
+        when(pageManager.getContainingPage(Mockito.any(Resource.class))).thenReturn(page);
+    }
+
+    @Test
+    public void getContainingPage() {
+        assertSame(page, cache.getContainingPage(resource1));
+        assertSame(page, cache.getContainingPage(resource2));
+        assertSame(page, cache.getContainingPage(content));
+
+        verify(pageManager, times(1)).getContainingPage(Mockito.any(Resource.class));
+    }
+
+    @Test
+    public void getContainingPage_noPage() {
+        when(pageManager.getContainingPage(Mockito.any(Resource.class))).thenReturn(null);
+
+        assertNull(cache.getContainingPage(resource1));
+        assertNull(cache.getContainingPage(resource2));
+
+        verify(pageManager, times(1)).getContainingPage(Mockito.any(Resource.class));
+    }
+
+    @Test
+    public void invalidate() {
+        cache.getContainingPage(resource1);
+        cache.invalidate(PAGE_PATH);
+        cache.getContainingPage(resource1);
+
+        verify(pageManager, times(2)).getContainingPage(Mockito.any(Resource.class));
+    }
+
+    @Test
+    public void markProcessed() {
+        Action action1 = new PrintPath();
+        Action action2 = new PrintPath();
+
+        assertTrue(cache.markProcessed(action1, page));
+        assertFalse(cache.markProcessed(action1, page));
+        assertTrue(cache.markProcessed(action2, page));
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.groovy.console.bindings.actions.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import org.apache.sling.api.resource.ValueMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * Tests PropertyValueUtil
+ * 
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class PropertyValueUtilTest {
+
+    private static final String NAME = "name";
+
+    @Mock
+    private ValueMap valueMap;
+
+    @Test
+    public void hasValue_string() {
+        when(valueMap.get(NAME)).thenReturn("value");
+
+        assertTrue(PropertyValueUtil.hasValue(valueMap, NAME, "value"));
+        assertFalse(PropertyValueUtil.hasValue(valueMap, NAME, "other"));
+    }
+
+    @Test
+    public void hasValue_missing() {
+        assertFalse(PropertyValueUtil.hasValue(valueMap, NAME, "value"));
+        assertTrue(PropertyValueUtil.hasValue(valueMap, NAME, null));
+    }
+
+    @Test
+    public void hasValue_number() {
+        when(valueMap.get(NAME)).thenReturn(5L);
+
+        assertTrue(PropertyValueUtil.hasValue(valueMap, NAME, 5));
+        assertFalse(PropertyValueUtil.hasValue(valueMap, NAME, 6));
+        assertFalse(PropertyValueUtil.hasValue(valueMap, NAME, "5"));
+    }
+
+    @Test
+    public void hasValue_array() {
+        when(valueMap.get(NAME)).thenReturn(new String[] {"a", "b"});
+
+        assertTrue(PropertyValueUtil.hasValue(valueMap, NAME, new String[] {"a", "b"}));
+        assertFalse(PropertyValueUtil.hasValue(valueMap, NAME, new String[] {"b", "a"}));
+        assertFalse(PropertyValueUtil.hasValue(valueMap, NAME, "a"));
+    }
+
+    @Test
+    public void hasValue_singleToMulti() {
+        when(valueMap.get(NAME)).thenReturn("a");
+
+        assertFalse(PropertyValueUtil.hasValue(valueMap, NAME, new String[] {"a"}));
+    }
+
+}
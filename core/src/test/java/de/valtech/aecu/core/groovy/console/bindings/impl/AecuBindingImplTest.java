@@ -18,7 +18,14 @@
  */
 package de.valtech.aecu.core.groovy.console.bindings.impl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import javax.jcr.RepositoryException;
@@ -27,6 +34,7 @@ import javax.jcr.UnsupportedRepositoryOperationException;
 import javax.jcr.security.AccessControlManager;
 import javax.jcr.security.Privilege;
 
+import org.apache.sling.api.resource.LoginException;
 import org.apache.sling.api.resource.ResourceResolver;
 import org.apache.sling.api.resource.ResourceResolverFactory;
 import org.junit.jupiter.api.BeforeEach;
@@ -41,6 +49,9 @@ import org.mockito.quality.Strictness;
 import com.day.cq.replication.Replicator;
 import be.orbinson.aem.groovy.console.api.context.ScriptContext;
 
+import de.valtech.aecu.core.service.AecuScriptContext;
+import de.valtech.aecu.core.serviceuser.ServiceResourceResolverService;
+
 /**
  * Tests AecuBindingImpl
  * 
@@ -74,25 +85,78 @@ public class AecuBindingImplTest {
     @Mock
     private ScriptContext scriptContext;
 
+    @Mock
+    private ServiceResourceResolverService resolverService;
+
+    private BindingResolvers resolvers;
+
     private AecuBindingImpl binding;
 
     @BeforeEach
-    public void setup() throws UnsupportedRepositoryOperationException, RepositoryException {
+    public void setup() throws UnsupportedRepositoryOperationException, RepositoryException, LoginException {
+        when(resolverService.getContentMigratorResourceResolver()).thenReturn(resourceResolver);
+        when(resolverService.getAdminResourceResolver()).thenReturn(adminResourceResolver);
+        when(resourceResolver.isLive()).thenReturn(true);
+        when(adminResourceResolver.isLive()).thenReturn(true);
         when(adminResourceResolver.adaptTo(Session.class)).thenReturn(adminSession);
         when(adminSession.getAccessControlManager()).thenReturn(aclManager);
         when(aclManager.privilegeFromName(Mockito.anyString())).thenReturn(privilege);
-        binding =
-                new AecuBindingImpl(resourceResolver, adminResourceResolver, resourceResolverFactory, replicator, scriptContext);
+        resolvers = new BindingResolvers(resolverService);
+        binding = new AecuBindingImpl(resolvers, resourceResolverFactory, replicator, scriptContext);
     }
 
     @Test
-    public void contentUpgradeBuilder() {
+    public void contentUpgradeBuilder() throws LoginException {
+        verify(resolverService, never()).getContentMigratorResourceResolver();
+
+        assertNotNull(binding.contentUpgradeBuilder());
         assertNotNull(binding.contentUpgradeBuilder());
+
+        verify(resolverService, times(1)).getContentMigratorResourceResolver();
+        verify(resolverService, never()).getAdminResourceResolver();
     }
 
     @Test
-    public void validateAccessRights() {
+    public void validateAccessRights() throws LoginException {
+        verify(resolverService, never()).getAdminResourceResolver();
+
         assertNotNull(binding.validateAccessRights());
+
+        verify(resolverService, times(1)).getAdminResourceResolver();
+        verify(resolverService, never()).getContentMigratorResourceResolver();
+    }
+
+    @Test
+    public void contentUpgradeBuilder_loginError() throws LoginException {
+        when(resolverService.getContentMigratorResourceResolver()).thenThrow(new LoginException());
+
+        assertNull(binding.contentUpgradeBuilder());
+    }
+
+    @Test
+    public void close() {
+        binding.contentUpgradeBuilder();
+        binding.validateAccessRights();
+
+        resolvers.close();
+
+        verify(resourceResolver, times(1)).close();
+        verify(adminResourceResolver, times(1)).close();
+    }
+
+    @Test
+    public void isCancelled() {
+        assertFalse(binding.isCancelled());
+
+        AecuScriptContext aecuContext = new AecuScriptContext("script", resourceResolver);
+        AecuBindingImpl aecuBinding = new AecuBindingImpl(resolvers, resourceResolverFactory, replicator, aecuContext);
+        assertEquals(0, aecuContext.getRunStart());
+        assertFalse(aecuBinding.isCancelled());
+        assertTrue(aecuContext.getRunStart() != 0);
+
+        aecuContext.cancel();
+
+        assertTrue(aecuBinding.isCancelled());
     }
 
 }
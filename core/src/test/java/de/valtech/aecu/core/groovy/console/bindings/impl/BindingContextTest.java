@@ -23,6 +23,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+
 import org.apache.sling.api.resource.ResourceResolver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -93,4 +98,27 @@ public class BindingContextTest {
         assertFalse(context.isDryRun());
     }
 
+    @Test
+    public void flushOutput() throws UnsupportedEncodingException {
+        StringBuilder output = new StringBuilder("line\n");
+        context.flushOutput(output);
+        assertEquals("line\n", output.toString());
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        context.setOutputStream(new PrintStream(stream, true, StandardCharsets.UTF_8.name()));
+        context.flushOutput(output);
+
+        assertEquals(0, output.length());
+        assertEquals("line\n", new String(stream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void isCancelled() {
+        assertFalse(context.isCancelled());
+
+        context.setCancellationCheck(() -> true);
+
+        assertTrue(context.isCancelled());
+    }
+
 }
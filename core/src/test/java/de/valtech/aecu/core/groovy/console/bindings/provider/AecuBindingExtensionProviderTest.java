@@ -20,9 +20,15 @@ package de.valtech.aecu.core.groovy.console.bindings.provider;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.Map;
 
+import org.apache.sling.api.resource.LoginException;
+import org.apache.sling.api.resource.ResourceResolver;
 import org.apache.sling.api.resource.ResourceResolverFactory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -38,6 +44,7 @@ import be.orbinson.aem.groovy.console.api.BindingVariable;
 import be.orbinson.aem.groovy.console.api.context.ScriptContext;
 
 import de.valtech.aecu.api.groovy.console.bindings.AecuBinding;
+import de.valtech.aecu.core.service.AecuScriptContext;
 import de.valtech.aecu.core.serviceuser.ServiceResourceResolverService;
 
 /**
@@ -67,8 +74,11 @@ public class AecuBindingExtensionProviderTest {
     @Mock
     private ScriptContext scriptContext;
 
+    @Mock
+    private ResourceResolver resolver;
+
     @Test
-    public void getBindingVariables() {
+    public void getBindingVariables() throws LoginException {
         Map<String, BindingVariable> variables = provider.getBindingVariables(scriptContext);
 
         assertEquals(1, variables.size());
@@ -76,5 +86,32 @@ public class AecuBindingExtensionProviderTest {
         assertNotNull(variable);
         AecuBinding binding = (AecuBinding) variable.getValue();
         assertNotNull(binding);
+        verify(resourceResolverService, never()).getContentMigratorResourceResolver();
+        verify(resourceResolverService, never()).getAdminResourceResolver();
+    }
+
+    @Test
+    public void getBindingVariables_closedWithAecuContext() throws LoginException {
+        when(resourceResolverService.getContentMigratorResourceResolver()).thenReturn(resolver);
+        when(resolver.isLive()).thenReturn(true);
+        AecuScriptContext context = new AecuScriptContext("script", resolver);
+
+        AecuBinding binding = (AecuBinding) provider.getBindingVariables(context).get("aecu").getValue();
+        binding.contentUpgradeBuilder();
+        context.close();
+
+        verify(resolver, times(1)).close();
+    }
+
+    @Test
+    public void deactivate() throws LoginException {
+        when(resourceResolverService.getContentMigratorResourceResolver()).thenReturn(resolver);
+        when(resolver.isLive()).thenReturn(true);
+
+        AecuBinding binding = (AecuBinding) provider.getBindingVariables(scriptContext).get("aecu").getValue();
+        binding.contentUpgradeBuilder();
+        provider.deactivate();
+
+        verify(resolver, times(1)).close();
     }
 }
@@ -19,9 +19,11 @@
 package de.valtech.aecu.core.healthcheck;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.apache.sling.hc.api.Result;
@@ -30,17 +32,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import de.valtech.aecu.api.service.AecuException;
 import de.valtech.aecu.api.service.AecuService;
-import de.valtech.aecu.api.service.ExecutionResult;
 import de.valtech.aecu.api.service.ExecutionState;
-import de.valtech.aecu.api.service.HistoryEntry;
 import de.valtech.aecu.api.service.HistoryEntry.STATE;
-import de.valtech.aecu.core.service.HistoryEntryImpl;
+import de.valtech.aecu.api.service.HistorySummary;
+import de.valtech.aecu.core.service.ProgressRegistry;
+import de.valtech.aecu.core.service.ScriptProgress;
 
 /**
  * Tests LastRunHealthCheck
@@ -54,14 +57,25 @@ public class LastRunHealthCheckTest {
     @Mock
     private AecuService service;
 
+    @Mock
+    private ProgressRegistry progressRegistry;
+
+    @Mock
+    private LastRunHealthCheckConfiguration config;
+
     @InjectMocks
     private LastRunHealthCheck check = new LastRunHealthCheck();
 
-    private List<HistoryEntry> history = new ArrayList<>();
+    private HistorySummary lastRun;
+
+    private List<ScriptProgress> running = new ArrayList<>();
 
     @BeforeEach
     public void setup() throws AecuException {
-        when(service.getHistory(0, 1)).thenReturn(history);
+        when(service.getLastRun()).thenAnswer(invocation -> lastRun);
+        when(progressRegistry.getRunning()).thenReturn(running);
+        when(config.stallMinutes()).thenReturn(10);
+        check.activate(config);
     }
 
     @Test
@@ -73,22 +87,55 @@ public class LastRunHealthCheckTest {
 
     @Test
     public void execute_unknown() {
-        HistoryEntryImpl entry = new HistoryEntryImpl();
-        entry.setState(STATE.RUNNING);
-        history.add(entry);
+        lastRun = new HistorySummary("/var/aecu/1", null, null, STATE.RUNNING, null, null);
+
+        Result result = check.execute();
+
+        assertEquals(Result.Status.WARN, result.getStatus());
+    }
+
+    @Test
+    public void execute_unknownWithProgress() {
+        lastRun = new HistorySummary("/var/aecu/1", null, null, STATE.RUNNING, null, null);
+        ScriptProgress progress = mock(ScriptProgress.class);
+        when(progress.getIdleTime(Mockito.anyLong())).thenReturn(60000L);
+        running.add(progress);
+
+        Result result = check.execute();
+
+        assertEquals(Result.Status.OK, result.getStatus());
+    }
+
+    @Test
+    public void execute_unknownStalled() {
+        lastRun = new HistorySummary("/var/aecu/1", null, null, STATE.RUNNING, null, null);
+        ScriptProgress progress = mock(ScriptProgress.class);
+        when(progress.getIdleTime(Mockito.anyLong())).thenReturn(11 * 60000L);
+        running.add(progress);
 
         Result result = check.execute();
 
         assertEquals(Result.Status.WARN, result.getStatus());
     }
 
+    @Test
+    public void execute_stallCheckDisabled() {
+        when(config.stallMinutes()).thenReturn(0);
+        check.activate(config);
+        lastRun = new HistorySummary("/var/aecu/1", null, null, STATE.RUNNING, null, null);
+        ScriptProgress progress = mock(ScriptProgress.class);
+        when(progress.getIdleTime(Mockito.anyLong())).thenReturn(11 * 60000L);
+        running.add(progress);
+
+        Result result = check.execute();
+
+        assertEquals(Result.Status.OK, result.getStatus());
+    }
+
     @Test
     public void execute_ok() {
-        HistoryEntryImpl entry = new HistoryEntryImpl();
-        entry.setState(STATE.FINISHED);
-        ExecutionResult singleResult = new ExecutionResult(ExecutionState.SUCCESS, "", "", "", null, "");
-        entry.addSingleResult(singleResult);
-        history.add(entry);
+        lastRun = new HistorySummary("/var/aecu/1", null, null, STATE.FINISHED,
+                Collections.singletonMap(ExecutionState.SUCCESS, 1), null);
 
         Result result = check.execute();
 
@@ -97,11 +144,8 @@ public class LastRunHealthCheckTest {
 
     @Test
     public void execute_fail() {
-        HistoryEntryImpl entry = new HistoryEntryImpl();
-        entry.setState(STATE.FINISHED);
-        ExecutionResult singleResult = new ExecutionResult(ExecutionState.FAILED, "", "", "", null, "");
-        entry.addSingleResult(singleResult);
-        history.add(entry);
+        lastRun = new HistorySummary("/var/aecu/1", null, null, STATE.FINISHED,
+                Collections.singletonMap(ExecutionState.FAILED, 1), null);
 
         Result result = check.execute();
 
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.sling.api.resource.ModifiableValueMap;
+import org.apache.sling.api.resource.PersistenceException;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.api.resource.ValueMap;
+import org.apache.sling.api.wrappers.ModifiableValueMapDecorator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import de.valtech.aecu.api.service.AecuException;
+
+/**
+ * Tests HistoryIndex
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class HistoryIndexTest {
+
+    private static final String ENTRY = HistoryUtil.HISTORY_BASE + "/2026/10/19/";
+
+    @Mock
+    private ResourceResolver resolver;
+
+    private Map<String, Resource> resources = new TreeMap<>();
+
+    @BeforeEach
+    public void setup() throws PersistenceException {
+        createResource(HistoryUtil.HISTORY_BASE);
+        when(resolver.getResource(anyString())).thenAnswer(i -> resources.get(i.getArgument(0, String.class)));
+        when(resolver.create(any(Resource.class), anyString(), anyMap()))
+                .thenAnswer(i -> createResource(i.getArgument(0, Resource.class).getPath() + "/" + i.getArgument(1)));
+        doAnswer(i -> resources.remove(i.getArgument(0, Resource.class).getPath())).when(resolver).delete(any(Resource.class));
+    }
+
+    @Test
+    public void empty() {
+        HistoryIndex index = new HistoryIndex(resolver);
+
+        assertTrue(index.isEmpty());
+        assertEquals(0, index.size());
+        assertFalse(index.isPurged());
+        assertNull(index.getEntry(0));
+    }
+
+    @Test
+    public void add() throws AecuException {
+        addEntries(3);
+
+        HistoryIndex index = new HistoryIndex(resolver);
+        assertEquals(3, index.size());
+        assertEquals(0, index.getFirst());
+        assertEquals(2, index.getLast());
+        assertEquals(ENTRY + "0", index.getEntry(0).getPath());
+        assertEquals(ENTRY + "2", index.getEntry(2).getPath());
+        assertNull(index.getEntry(3));
+    }
+
+    @Test
+    public void add_nextBucket() throws AecuException {
+        addEntries(HistoryIndex.BUCKET_SIZE + 1);
+
+        HistoryIndex index = new HistoryIndex(resolver);
+        assertEquals(HistoryIndex.BUCKET_SIZE + 1, index.size());
+        assertTrue(resources.containsKey(HistoryIndex.PATH + "/1"));
+        assertEquals(ENTRY + HistoryIndex.BUCKET_SIZE, index.getEntry(HistoryIndex.BUCKET_SIZE).getPath());
+    }
+
+    @Test
+    public void getEntry_deleted() throws AecuException {
+        addEntries(2);
+        resources.remove(ENTRY + "1");
+
+        HistoryIndex index = new HistoryIndex(resolver);
+        assertNull(index.getEntry(1));
+        assertEquals(ENTRY + "0", index.getEntry(0).getPath());
+    }
+
+    @Test
+    public void prune() throws AecuException, PersistenceException {
+        addEntries(HistoryIndex.BUCKET_SIZE + 2);
+        for (int i = 0; i <= HistoryIndex.BUCKET_SIZE; i++) {
+            resources.remove(ENTRY + i);
+        }
+
+        new HistoryIndex(resolver).prune();
+
+        HistoryIndex index = new HistoryIndex(resolver);
+        assertTrue(index.isPurged());
+        assertEquals(HistoryIndex.BUCKET_SIZE + 1, index.getFirst());
+        assertEquals(1, index.size());
+        assertFalse(resources.containsKey(HistoryIndex.PATH + "/0"));
+        assertTrue(resources.containsKey(HistoryIndex.PATH + "/1"));
+    }
+
+    @Test
+    public void prune_nothingPurged() throws AecuException, PersistenceException {
+        addEntries(2);
+
+        new HistoryIndex(resolver).prune();
+
+        HistoryIndex index = new HistoryIndex(resolver);
+        assertFalse(index.isPurged());
+        assertEquals(2, index.size());
+    }
+
+    /**
+     * Creates history entries and adds them to the index.
+     *
+     * @param count number of entries
+     * @throws AecuException error adding entry
+     */
+    private void addEntries(int count) throws AecuException {
+        for (int i = 0; i < count; i++) {
+            createResource(ENTRY + i);
+            new HistoryIndex(resolver).add(ENTRY + i);
+        }
+    }
+
+    /**
+     * Creates a resource with a modifiable value map.
+     *
+     * @param path path
+     * @return resource
+     */
+    private Resource createResource(String path) {
+        Resource resource = mock(Resource.class);
+        when(resource.getPath()).thenReturn(path);
+        when(resource.getName()).thenReturn(path.substring(path.lastIndexOf('/') + 1));
+        ModifiableValueMap values = new ModifiableValueMapDecorator(new HashMap<>());
+        when(resource.adaptTo(ValueMap.class)).thenReturn(values);
+        when(resource.adaptTo(ModifiableValueMap.class)).thenReturn(values);
+        when(resource.listChildren()).thenAnswer(i -> getChildren(path).iterator());
+        resources.put(path, resource);
+        return resource;
+    }
+
+    /**
+     * Returns the direct children of the given path.
+     *
+     * @param path path
+     * @return children
+     */
+    private List<Resource> getChildren(String path) {
+        List<Resource> children = new ArrayList<>();
+        for (Map.Entry<String, Resource> entry : resources.entrySet()) {
+            String key = entry.getKey();
+            if (key.startsWith(path + "/") && (key.indexOf('/', path.length() + 1) < 0)) {
+                children.add(entry.getValue());
+            }
+        }
+        return children;
+    }
+
+}
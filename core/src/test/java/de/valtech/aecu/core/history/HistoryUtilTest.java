@@ -19,28 +19,50 @@
 package de.valtech.aecu.core.history;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.jackrabbit.JcrConstants;
+import org.apache.sling.api.resource.LoginException;
 import org.apache.sling.api.resource.ModifiableValueMap;
 import org.apache.sling.api.resource.PersistenceException;
 import org.apache.sling.api.resource.Resource;
 import org.apache.sling.api.resource.ResourceResolver;
 import org.apache.sling.api.resource.ValueMap;
+import org.apache.sling.api.wrappers.ValueMapDecorator;
 import org.apache.sling.jcr.resource.api.JcrResourceConstants;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.Spy;
@@ -54,7 +76,10 @@ import de.valtech.aecu.api.service.ExecutionState;
 import de.valtech.aecu.api.service.HistoryEntry;
 import de.valtech.aecu.api.service.HistoryEntry.RESULT;
 import de.valtech.aecu.api.service.HistoryEntry.STATE;
+import de.valtech.aecu.api.service.HistorySummary;
+import de.valtech.aecu.api.service.ResourceUsage;
 import de.valtech.aecu.core.service.HistoryEntryImpl;
+import de.valtech.aecu.core.serviceuser.ServiceResourceResolverService;
 
 /**
  * Tests HistoryUtil
@@ -65,9 +90,13 @@ import de.valtech.aecu.core.service.HistoryEntryImpl;
 @MockitoSettings(strictness = Strictness.LENIENT)
 public class HistoryUtilTest {
 
+    @InjectMocks
     @Spy
     private HistoryUtil historyUtil;
 
+    @Mock
+    private ServiceResourceResolverService resolverService;
+
     @Mock
     private ResourceResolver resolver;
 
@@ -177,6 +206,16 @@ public class HistoryUtilTest {
         assertEquals(STATE.RUNNING, entry.getState());
     }
 
+    @Test
+    public void createHistoryEntry_index() throws AecuException {
+        when(resolver.getResource(Mockito.anyString())).thenReturn(resource);
+
+        HistoryEntry entry = historyUtil.createHistoryEntry(resolver);
+
+        verify(valueMap, times(1)).put("0", entry.getRepositoryPath());
+        verify(valueMap, times(1)).put(HistoryIndex.ATTR_NEXT, 1L);
+    }
+
     @Test
     public void storeExecutionInHistory() throws AecuException {
         when(resolver.getResource(Mockito.anyString())).thenReturn(resource);
@@ -192,6 +231,224 @@ public class HistoryUtilTest {
         verify(valueMap, times(1)).put("runState", ExecutionState.SUCCESS.name());
     }
 
+    @Test
+    public void storeExecutionInHistory_resourceUsage() throws AecuException {
+        when(resolver.getResource(Mockito.anyString())).thenReturn(resource);
+        HistoryEntry history = mock(HistoryEntry.class);
+        ResourceUsage usage = new ResourceUsage(10, 5, 2, 7, 1, 30);
+        ExecutionResult result = new ExecutionResult(ExecutionState.SUCCESS, null, null, "out", null, "path", usage);
+
+        historyUtil.storeExecutionInHistory(history, result, resolver);
+
+        verify(valueMap, times(1)).put(HistoryUtil.ATTR_RUN_NODES_READ, 10L);
+        verify(valueMap, times(1)).put(HistoryUtil.ATTR_RUN_PROPERTIES_WRITTEN, 5L);
+        verify(valueMap, times(1)).put(HistoryUtil.ATTR_RUN_QUERIES, 2L);
+        verify(valueMap, times(1)).put(HistoryUtil.ATTR_RUN_QUERY_RESULTS, 7L);
+        verify(valueMap, times(1)).put(HistoryUtil.ATTR_RUN_COMMITS, 1L);
+        verify(valueMap, times(1)).put(HistoryUtil.ATTR_RUN_COMMIT_TIME, 30L);
+    }
+
+    @Test
+    public void storeExecutionInHistory_largeOutput() throws AecuException, PersistenceException {
+        when(resolver.getResource(Mockito.anyString())).thenReturn(resource);
+        when(resolver.getResource(Mockito.startsWith(OutputStore.PATH + "/"))).thenReturn(null);
+        when(resolver.create(any(), anyString(), any())).thenReturn(resource);
+        HistoryEntry history = mock(HistoryEntry.class);
+        ExecutionResult result = mock(ExecutionResult.class);
+        when(result.getState()).thenReturn(ExecutionState.SUCCESS);
+        String largeOutput = StringUtils.repeat('a', HistoryUtil.MAX_INLINE_OUTPUT + 1);
+        when(result.getOutput()).thenReturn(largeOutput);
+
+        historyUtil.storeExecutionInHistory(history, result, resolver);
+
+        String hash = OutputStore.getHash(largeOutput.getBytes(StandardCharsets.UTF_8));
+        verify(resolver, times(1)).create(eq(resource), eq(hash), any());
+        verify(valueMap, times(1)).put(HistoryUtil.ATTR_RUN_OUTPUT_HASH, hash);
+        verify(valueMap, times(1)).put(HistoryUtil.ATTR_RUN_OUTPUT_SIZE, (long) HistoryUtil.MAX_INLINE_OUTPUT + 1);
+        ArgumentCaptor<Object> output = ArgumentCaptor.forClass(Object.class);
+        verify(valueMap, times(1)).put(eq(HistoryUtil.ATTR_RUN_OUTPUT), output.capture());
+        assertTrue(((String) output.getValue()).length() < HistoryUtil.MAX_INLINE_OUTPUT + 200);
+    }
+
+    @Test
+    public void storeExecutionInHistory_duplicateOutput() throws AecuException, PersistenceException {
+        when(resolver.getResource(Mockito.anyString())).thenReturn(resource);
+        HistoryEntry history = mock(HistoryEntry.class);
+        ExecutionResult result = mock(ExecutionResult.class);
+        when(result.getState()).thenReturn(ExecutionState.SUCCESS);
+        String largeOutput = StringUtils.repeat('a', HistoryUtil.MAX_INLINE_OUTPUT + 1);
+        when(result.getOutput()).thenReturn(largeOutput);
+
+        historyUtil.storeExecutionInHistory(history, result, resolver);
+
+        verify(resolver, Mockito.never()).create(any(), eq(OutputStore.getHash(largeOutput.getBytes(StandardCharsets.UTF_8))),
+                any());
+        verify(valueMap, times(1)).put(eq(OutputStore.ATTR_LAST_USED), any(Calendar.class));
+        verify(valueMap, times(1)).put(HistoryUtil.ATTR_RUN_OUTPUT_HASH,
+                OutputStore.getHash(largeOutput.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void storeExecutionInHistory_truncatedResult() throws AecuException, PersistenceException, IOException {
+        when(resolver.getResource(Mockito.anyString())).thenReturn(resource);
+        when(resolver.getResource(Mockito.startsWith(OutputStore.PATH + "/"))).thenReturn(null);
+        when(resolver.create(any(), anyString(), any())).thenReturn(resource);
+        HistoryEntry history = mock(HistoryEntry.class);
+        Path file = Files.createTempFile("aecu-test", ".gz");
+        try (OutputStream gzip = new GZIPOutputStream(Files.newOutputStream(file))) {
+            gzip.write("full output".getBytes(StandardCharsets.UTF_8));
+        }
+        ExecutionResult result = new TruncatedExecutionResult(ExecutionState.SUCCESS, null, null, "summary", null, "path", null,
+                1000L, file, null);
+
+        historyUtil.storeExecutionInHistory(history, result, resolver);
+
+        String hash = OutputStore.getHash("full output".getBytes(StandardCharsets.UTF_8));
+        verify(resolver, times(1)).create(eq(resource), eq(hash), any());
+        verify(valueMap, times(1)).put(HistoryUtil.ATTR_RUN_OUTPUT_HASH, hash);
+        verify(valueMap, times(1)).put(HistoryUtil.ATTR_RUN_OUTPUT, "summary");
+        verify(valueMap, times(1)).put(HistoryUtil.ATTR_RUN_OUTPUT_SIZE, 1000L);
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void readOutput_inline() throws AecuException {
+        ValueMap values = mock(ValueMap.class);
+        when(values.get(HistoryUtil.ATTR_RUN_OUTPUT, "")).thenReturn("output");
+        when(resource.adaptTo(ValueMap.class)).thenReturn(values);
+
+        assertEquals("tp", historyUtil.readOutput(resource, 2, 2));
+        assertEquals("ut", historyUtil.readOutput(resource, 4, 10));
+        assertEquals("", historyUtil.readOutput(resource, 10, 10));
+    }
+
+    @Test
+    public void readOutput_full() throws AecuException, IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write("full \u00e4output".getBytes(StandardCharsets.UTF_8));
+        }
+        Resource fullOutput = mock(Resource.class);
+        ValueMap values = mock(ValueMap.class);
+        when(values.get(JcrConstants.JCR_DATA, InputStream.class))
+                .thenAnswer(invocation -> new ByteArrayInputStream(compressed.toByteArray()));
+        when(fullOutput.adaptTo(ValueMap.class)).thenReturn(values);
+        when(resource.getChild(HistoryUtil.NODE_FULL_OUTPUT)).thenReturn(fullOutput);
+
+        assertEquals("\u00e4out", historyUtil.readOutput(resource, 5, 4));
+        assertEquals("put", historyUtil.readOutput(resource, 9, 10));
+        assertEquals("", historyUtil.readOutput(resource, 20, 10));
+    }
+
+    @Test
+    public void readOutput_store() throws AecuException, IOException {
+        byte[] compressed = compress("stored output");
+        ValueMap values = mock(ValueMap.class);
+        when(values.get(HistoryUtil.ATTR_RUN_OUTPUT_HASH, String.class)).thenReturn("abcdef");
+        when(resource.adaptTo(ValueMap.class)).thenReturn(values);
+        when(resource.getResourceResolver()).thenReturn(resolver);
+        Resource storedOutput = mock(Resource.class);
+        ValueMap storedValues = mock(ValueMap.class);
+        when(storedValues.get(JcrConstants.JCR_DATA, InputStream.class))
+                .thenAnswer(invocation -> new ByteArrayInputStream(compressed));
+        when(storedOutput.adaptTo(ValueMap.class)).thenReturn(storedValues);
+        when(resolver.getResource(OutputStore.PATH + "/ab/abcdef")).thenReturn(storedOutput);
+
+        assertEquals("output", historyUtil.readOutput(resource, 7, 10));
+    }
+
+    @Test
+    public void readHistorySingleResult_storedOutput() throws IOException {
+        byte[] compressed = compress("stored output");
+        ValueMap values = mock(ValueMap.class);
+        when(values.get(HistoryUtil.ATTR_RUN_STATE, ExecutionState.FAILED.name())).thenReturn(ExecutionState.SUCCESS.name());
+        when(values.get(anyString(), eq(""))).thenReturn("");
+        when(values.get(HistoryUtil.ATTR_RUN_OUTPUT_HASH, String.class)).thenReturn("abcdef");
+        when(values.get(HistoryUtil.ATTR_RUN_OUTPUT_SIZE, 0L)).thenReturn(20000L);
+        when(resource.adaptTo(ValueMap.class)).thenReturn(values);
+        when(resource.getResourceResolver()).thenReturn(resolver);
+        when(resolver.isLive()).thenReturn(true);
+        Resource storedOutput = mock(Resource.class);
+        ValueMap storedValues = mock(ValueMap.class);
+        when(storedValues.get(JcrConstants.JCR_DATA, InputStream.class))
+                .thenAnswer(invocation -> new ByteArrayInputStream(compressed));
+        when(storedOutput.adaptTo(ValueMap.class)).thenReturn(storedValues);
+        when(resolver.getResource(OutputStore.PATH + "/ab/abcdef")).thenReturn(storedOutput);
+
+        ExecutionResult result = historyUtil.readHistorySingleResult(resource);
+
+        assertFalse(result instanceof TruncatedExecutionResult);
+        assertEquals("stored output", result.getOutput());
+    }
+
+    @Test
+    public void storeTrace() throws AecuException, IOException {
+        when(resolver.getResource("path")).thenReturn(resource);
+        HistoryEntry history = mock(HistoryEntry.class);
+        when(history.getRepositoryPath()).thenReturn("path");
+
+        historyUtil.storeTrace(history, "{\"traceEvents\":[]}", resolver);
+
+        ArgumentCaptor<Object> data = ArgumentCaptor.forClass(Object.class);
+        verify(valueMap, times(1)).put(eq(HistoryUtil.ATTR_TRACE), data.capture());
+        ValueMap values = mock(ValueMap.class);
+        when(values.containsKey(HistoryUtil.ATTR_TRACE)).thenReturn(true);
+        when(values.get(HistoryUtil.ATTR_TRACE, InputStream.class)).thenReturn((InputStream) data.getValue());
+        when(resource.adaptTo(ValueMap.class)).thenReturn(values);
+        assertTrue(historyUtil.hasTrace(resource));
+        try (InputStream trace = historyUtil.openTrace(resource)) {
+            assertEquals("{\"traceEvents\":[]}", IOUtils.toString(trace, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void openTrace_noTrace() throws AecuException {
+        when(resource.adaptTo(ValueMap.class)).thenReturn(mock(ValueMap.class));
+
+        assertFalse(historyUtil.hasTrace(resource));
+        assertNull(historyUtil.openTrace(resource));
+    }
+
+    @Test
+    public void readHistorySingleResult_truncated() {
+        ValueMap values = mock(ValueMap.class);
+        when(values.get(HistoryUtil.ATTR_RUN_STATE, ExecutionState.FAILED.name())).thenReturn(ExecutionState.SUCCESS.name());
+        when(values.get(HistoryUtil.ATTR_RUN_OUTPUT_SIZE, 0L)).thenReturn(1000L);
+        when(values.get(anyString(), eq(""))).thenReturn("");
+        when(resource.adaptTo(ValueMap.class)).thenReturn(values);
+        when(resource.getPath()).thenReturn("/var/aecu/2000/3/5/123/0");
+        when(resource.getChild(HistoryUtil.NODE_FULL_OUTPUT)).thenReturn(mock(Resource.class));
+
+        TruncatedExecutionResult result = (TruncatedExecutionResult) historyUtil.readHistorySingleResult(resource);
+
+        assertEquals(1000L, result.getOutputSize());
+        assertEquals("/var/aecu/2000/3/5/123/0", result.getHistoryPath());
+    }
+
+    @Test
+    public void readHistorySingleResult_resourceUsage() {
+        ValueMap values = mock(ValueMap.class);
+        when(values.get(HistoryUtil.ATTR_RUN_STATE, ExecutionState.FAILED.name())).thenReturn(ExecutionState.SUCCESS.name());
+        when(values.get(anyString(), eq(""))).thenReturn("");
+        when(values.containsKey(HistoryUtil.ATTR_RUN_NODES_READ)).thenReturn(true);
+        when(values.get(HistoryUtil.ATTR_RUN_NODES_READ, 0L)).thenReturn(10L);
+        when(values.get(HistoryUtil.ATTR_RUN_PROPERTIES_WRITTEN, 0L)).thenReturn(5L);
+        when(values.get(HistoryUtil.ATTR_RUN_QUERIES, 0L)).thenReturn(2L);
+        when(values.get(HistoryUtil.ATTR_RUN_QUERY_RESULTS, 0L)).thenReturn(7L);
+        when(values.get(HistoryUtil.ATTR_RUN_COMMITS, 0L)).thenReturn(1L);
+        when(values.get(HistoryUtil.ATTR_RUN_COMMIT_TIME, 0L)).thenReturn(30L);
+        when(resource.adaptTo(ValueMap.class)).thenReturn(values);
+
+        ResourceUsage usage = historyUtil.readHistorySingleResult(resource).getResourceUsage();
+
+        assertEquals(10L, usage.getNodesRead());
+        assertEquals(5L, usage.getPropertiesWritten());
+        assertEquals(2L, usage.getQueries());
+        assertEquals(7L, usage.getQueryResults());
+        assertEquals(1L, usage.getCommits());
+        assertEquals(30L, usage.getCommitTime());
+    }
+
     @Test
     public void finishHistoryEntry() {
         when(resolver.getResource(Mockito.anyString())).thenReturn(resource);
@@ -204,6 +461,98 @@ public class HistoryUtilTest {
         verify(valueMap, times(1)).put("state", STATE.FINISHED.name());
     }
 
+    @Test
+    public void finishHistoryEntry_summary() {
+        when(resolver.getResource(Mockito.anyString())).thenReturn(resource);
+        HistoryEntry history = mock(HistoryEntryImpl.class);
+        when(history.getRepositoryPath()).thenReturn("path");
+        when(history.getResult()).thenReturn(RESULT.FAILURE);
+        ExecutionResult success = new ExecutionResult(ExecutionState.SUCCESS, "1", "", "", null, "/ok", null);
+        ExecutionResult failed = new ExecutionResult(ExecutionState.FAILED, "1", "", "", null, "/failed", null);
+        when(history.getSingleResults()).thenReturn(Arrays.asList(success, failed, success));
+
+        historyUtil.finishHistoryEntry(history, resolver);
+
+        verify(valueMap, times(1)).put("countSuccess", 2L);
+        verify(valueMap, times(1)).put("countFailed", 1L);
+        verify(valueMap, times(1)).put("countSkipped", 0L);
+        ArgumentCaptor<Object> failedScripts = ArgumentCaptor.forClass(Object.class);
+        verify(valueMap, times(1)).put(eq(HistoryUtil.ATTR_FAILED_SCRIPTS), failedScripts.capture());
+        assertTrue(Arrays.equals(new String[] {"/failed"}, (String[]) failedScripts.getValue()));
+    }
+
+    @Test
+    public void readHistorySummary_properties() {
+        Calendar start = Calendar.getInstance();
+        Calendar end = (Calendar) start.clone();
+        end.add(Calendar.SECOND, 5);
+        Map<String, Object> values = new HashMap<>();
+        values.put(HistoryUtil.ATTR_STATE, STATE.FINISHED.name());
+        values.put(HistoryUtil.ATTR_START, start);
+        values.put(HistoryUtil.ATTR_END, end);
+        values.put(HistoryUtil.getCountAttribute(ExecutionState.SUCCESS), 2L);
+        values.put(HistoryUtil.getCountAttribute(ExecutionState.FAILED), 1L);
+        values.put(HistoryUtil.ATTR_FAILED_SCRIPTS, new String[] {"/failed"});
+        when(resource.getPath()).thenReturn("/var/aecu/2026/10/19/1");
+        when(resource.adaptTo(ValueMap.class)).thenReturn(new ValueMapDecorator(values));
+
+        HistorySummary summary = historyUtil.readHistorySummary(resource);
+
+        assertEquals(STATE.FINISHED, summary.getState());
+        assertEquals(RESULT.FAILURE, summary.getResult());
+        assertEquals(3, summary.getScriptCount());
+        assertEquals(5000L, summary.getDuration());
+        assertEquals(Arrays.asList("/failed"), summary.getFailedScripts());
+        verify(resource, Mockito.never()).getChildren();
+
+        // finished summaries are cached
+        assertEquals(summary, historyUtil.readHistorySummary(resource));
+        verify(resource, times(1)).adaptTo(ValueMap.class);
+    }
+
+    @Test
+    public void readHistorySummary_running() {
+        Map<String, Object> values = new HashMap<>();
+        values.put(HistoryUtil.ATTR_STATE, STATE.RUNNING.name());
+        when(resource.getPath()).thenReturn("/var/aecu/2026/10/19/2");
+        when(resource.adaptTo(ValueMap.class)).thenReturn(new ValueMapDecorator(values));
+        Resource child = mock(Resource.class);
+        Map<String, Object> childValues = new HashMap<>();
+        childValues.put(HistoryUtil.ATTR_RUN_STATE, ExecutionState.SUCCESS.name());
+        childValues.put(HistoryUtil.ATTR_PATH, "/ok");
+        when(child.adaptTo(ValueMap.class)).thenReturn(new ValueMapDecorator(childValues));
+        when(resource.getChildren()).thenReturn(Arrays.asList(child));
+
+        HistorySummary summary = historyUtil.readHistorySummary(resource);
+
+        assertEquals(STATE.RUNNING, summary.getState());
+        assertEquals(RESULT.SUCCESS, summary.getResult());
+        assertEquals(1, summary.getCount(ExecutionState.SUCCESS));
+        assertEquals(-1L, summary.getDuration());
+
+        // running entries are not cached
+        historyUtil.readHistorySummary(resource);
+        verify(resource, times(2)).adaptTo(ValueMap.class);
+    }
+
+    @Test
+    public void readHistorySingleResult_lazyOutput() {
+        ValueMap values = mock(ValueMap.class);
+        when(values.get(HistoryUtil.ATTR_RUN_STATE, ExecutionState.FAILED.name())).thenReturn(ExecutionState.SUCCESS.name());
+        when(values.get(anyString(), eq(""))).thenReturn("");
+        when(values.get(HistoryUtil.ATTR_RUN_OUTPUT, "")).thenReturn("output");
+        when(resource.adaptTo(ValueMap.class)).thenReturn(values);
+        when(resource.getResourceResolver()).thenReturn(resolver);
+        when(resolver.isLive()).thenReturn(true);
+
+        ExecutionResult result = historyUtil.readHistorySingleResult(resource);
+
+        verify(values, Mockito.never()).get(HistoryUtil.ATTR_RUN_OUTPUT, "");
+        assertEquals("output", result.getOutput());
+        assertEquals("output", result.getOutput());
+        verify(values, times(1)).get(HistoryUtil.ATTR_RUN_OUTPUT, "");
+    }
+
     @Test
     public void getHistory() {
         List<HistoryEntry> entries = historyUtil.getHistory(0, 1, resolver);
@@ -211,6 +560,131 @@ public class HistoryUtilTest {
         assertEquals(1, entries.size());
     }
 
+    @Test
+    public void getHistory_index() {
+        setupHistoryIndex(1, 4);
+
+        List<HistoryEntry> entries = historyUtil.getHistory(1, 5, resolver);
+
+        assertEquals(2, entries.size());
+        assertEquals("/var/aecu/2026/10/19/2", entries.get(0).getRepositoryPath());
+        assertEquals("/var/aecu/2026/10/19/1", entries.get(1).getRepositoryPath());
+    }
+
+    @Test
+    public void getHistory_indexMissingEntries() {
+        setupHistoryIndex(0, 6, 0, 4);
+
+        List<HistoryEntry> entries = historyUtil.getHistory(2, 2, resolver);
+
+        assertEquals(2, entries.size());
+        assertEquals("/var/aecu/2026/10/19/2", entries.get(0).getRepositoryPath());
+        assertEquals("/var/aecu/2026/10/19/1", entries.get(1).getRepositoryPath());
+        assertEquals(0, historyUtil.getHistory(4, 2, resolver).size());
+    }
+
+    /**
+     * Sets up the history index with the given positions. Each position refers to a history entry
+     * with the position as name.
+     *
+     * @param first   first position
+     * @param next    next free position
+     * @param missing positions whose history entries were deleted
+     */
+    private void setupHistoryIndex(long first, long next, long... missing) {
+        Map<String, Object> indexValues = new HashMap<>();
+        indexValues.put(HistoryIndex.ATTR_FIRST, first);
+        indexValues.put(HistoryIndex.ATTR_NEXT, next);
+        Resource index = mock(Resource.class);
+        when(index.adaptTo(ValueMap.class)).thenReturn(new ValueMapDecorator(indexValues));
+        when(resolver.getResource(HistoryIndex.PATH)).thenReturn(index);
+        Map<String, Object> bucketValues = new HashMap<>();
+        Resource bucket = mock(Resource.class);
+        when(bucket.adaptTo(ValueMap.class)).thenReturn(new ValueMapDecorator(bucketValues));
+        when(resolver.getResource(HistoryIndex.PATH + "/0")).thenReturn(bucket);
+        for (long i = first; i < next; i++) {
+            String path = "/var/aecu/2026/10/19/" + i;
+            bucketValues.put(String.valueOf(i), path);
+            long position = i;
+            if (Arrays.stream(missing).anyMatch(m -> m == position)) {
+                continue;
+            }
+            Resource entry = mock(Resource.class);
+            when(entry.getPath()).thenReturn(path);
+            when(entry.adaptTo(ValueMap.class)).thenReturn(ValueMap.EMPTY);
+            when(entry.getChildren()).thenReturn(Collections.emptyList());
+            when(resolver.getResource(path)).thenReturn(entry);
+        }
+    }
+
+    @Test
+    public void getLastRun_seed() throws AecuException, LoginException {
+        when(resolverService.getServiceResourceResolver()).thenReturn(resolver);
+        HistorySummary summary = new HistorySummary("/var/aecu/1", null, null, STATE.FINISHED, null, null);
+        doReturn(Arrays.asList(summary)).when(historyUtil).getHistorySummaries(0, 1, resolver);
+
+        assertEquals(summary, historyUtil.getLastRun());
+        assertEquals(summary, historyUtil.getLastRun());
+
+        verify(resolverService, times(1)).getServiceResourceResolver();
+    }
+
+    @Test
+    public void getLastRun_noRuns() throws AecuException, LoginException {
+        when(resolverService.getServiceResourceResolver()).thenReturn(resolver);
+        doReturn(Collections.emptyList()).when(historyUtil).getHistorySummaries(0, 1, resolver);
+
+        assertNull(historyUtil.getLastRun());
+        assertNull(historyUtil.getLastRun());
+
+        verify(resolverService, times(1)).getServiceResourceResolver();
+    }
+
+    @Test
+    public void getLastRun_reloadAfterMaxAge() throws AecuException, LoginException {
+        when(resolverService.getServiceResourceResolver()).thenReturn(resolver);
+        HistorySummary summary = new HistorySummary("/var/aecu/1", null, null, STATE.FINISHED, null, null);
+        HistorySummary otherNode = new HistorySummary("/var/aecu/2", null, null, STATE.RUNNING, null, null);
+        doReturn(Arrays.asList(summary), Arrays.asList(otherNode)).when(historyUtil).getHistorySummaries(0, 1, resolver);
+        doReturn(1000L).when(historyUtil).currentTimeMillis();
+
+        assertEquals(summary, historyUtil.getLastRun());
+        doReturn(1000L + HistoryUtil.LAST_RUN_MAX_AGE - 1).when(historyUtil).currentTimeMillis();
+        assertEquals(summary, historyUtil.getLastRun());
+        doReturn(1000L + HistoryUtil.LAST_RUN_MAX_AGE).when(historyUtil).currentTimeMillis();
+        assertEquals(otherNode, historyUtil.getLastRun());
+
+        verify(resolverService, times(2)).getServiceResourceResolver();
+    }
+
+    @Test
+    public void getLastRun_updated() throws AecuException, LoginException {
+        when(resolver.getResource(Mockito.anyString())).thenReturn(resource);
+
+        HistoryEntry history = historyUtil.createHistoryEntry(resolver);
+
+        HistorySummary lastRun = historyUtil.getLastRun();
+        assertEquals(history.getRepositoryPath(), lastRun.getRepositoryPath());
+        assertEquals(STATE.RUNNING, lastRun.getState());
+        assertEquals(RESULT.UNKNOWN, lastRun.getResult());
+
+        ExecutionResult result = new ExecutionResult(ExecutionState.FAILED, "1", "", "", null, "/failed", null);
+        historyUtil.storeExecutionInHistory(history, result, resolver);
+        ((HistoryEntryImpl) history).addSingleResult(result);
+
+        lastRun = historyUtil.getLastRun();
+        assertEquals(STATE.RUNNING, lastRun.getState());
+        assertEquals(RESULT.FAILURE, lastRun.getResult());
+        assertEquals(Arrays.asList("/failed"), lastRun.getFailedScripts());
+
+        historyUtil.finishHistoryEntry(history, resolver);
+
+        lastRun = historyUtil.getLastRun();
+        assertEquals(STATE.FINISHED, lastRun.getState());
+        assertEquals(1, lastRun.getCount(ExecutionState.FAILED));
+        verify(resolverService, Mockito.never()).getServiceResourceResolver();
+    }
+
     @Test
     public void purgeHistory() throws PersistenceException {
         historyUtil.purgeHistory(resolver, 1);
@@ -218,4 +692,19 @@ public class HistoryUtilTest {
         verify(resolver, times(6)).delete(Mockito.any());
     }
 
+    /**
+     * Compresses the given text.
+     *
+     * @param text text
+     * @return GZIP data
+     * @throws IOException error compressing
+     */
+    private byte[] compress(String text) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return compressed.toByteArray();
+    }
+
 }
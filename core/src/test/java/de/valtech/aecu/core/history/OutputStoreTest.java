@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.sling.api.resource.ModifiableValueMap;
+import org.apache.sling.api.resource.PersistenceException;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.api.resource.ValueMap;
+import org.apache.sling.api.wrappers.ModifiableValueMapDecorator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import de.valtech.aecu.api.service.AecuException;
+
+/**
+ * Tests OutputStore
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class OutputStoreTest {
+
+    private static final String HASH = OutputStore.getHash("output".getBytes(StandardCharsets.UTF_8));
+
+    @Mock
+    private ResourceResolver resolver;
+
+    private Map<String, Resource> resources = new TreeMap<>();
+
+    private OutputStore store;
+
+    @BeforeEach
+    public void setup() throws PersistenceException {
+        createResource(HistoryUtil.HISTORY_BASE, new HashMap<>());
+        when(resolver.getResource(anyString())).thenAnswer(i -> resources.get(i.getArgument(0, String.class)));
+        when(resolver.create(any(Resource.class), anyString(), anyMap()))
+                .thenAnswer(i -> createResource(i.getArgument(0, Resource.class).getPath() + "/" + i.getArgument(1),
+                        i.getArgument(2)));
+        doAnswer(i -> resources.remove(i.getArgument(0, Resource.class).getPath())).when(resolver).delete(any(Resource.class));
+        store = new OutputStore(resolver);
+    }
+
+    @Test
+    public void getHash() {
+        assertEquals("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855", OutputStore.getHash(new byte[0]));
+    }
+
+    @Test
+    public void add() throws AecuException {
+        assertFalse(store.touch(HASH));
+        assertNull(store.open(HASH));
+
+        store.add(HASH, new ByteArrayInputStream(new byte[] {1, 2}));
+
+        assertTrue(resources.containsKey(OutputStore.PATH + "/" + HASH.substring(0, 2) + "/" + HASH));
+        assertNotNull(store.open(HASH));
+        assertTrue(store.touch(HASH));
+    }
+
+    @Test
+    public void purge() throws AecuException, PersistenceException {
+        String otherHash = OutputStore.getHash("other".getBytes(StandardCharsets.UTF_8));
+        store.add(HASH, new ByteArrayInputStream(new byte[] {1}));
+        store.add(otherHash, new ByteArrayInputStream(new byte[] {2}));
+        Calendar old = new GregorianCalendar(2000, Calendar.JANUARY, 1);
+        resources.get(OutputStore.PATH + "/" + otherHash.substring(0, 2) + "/" + otherHash).adaptTo(ModifiableValueMap.class)
+                .put(OutputStore.ATTR_LAST_USED, old);
+
+        int deleted = store.purge(new GregorianCalendar(2001, Calendar.JANUARY, 1));
+
+        assertEquals(1, deleted);
+        assertNull(store.open(otherHash));
+        assertNotNull(store.open(HASH));
+    }
+
+    @Test
+    public void purge_noStore() throws PersistenceException {
+        assertEquals(0, store.purge(new GregorianCalendar()));
+    }
+
+    /**
+     * Creates a resource with a modifiable value map.
+     *
+     * @param path       path
+     * @param properties initial properties
+     * @return resource
+     */
+    private Resource createResource(String path, Map<String, Object> properties) {
+        Resource resource = mock(Resource.class);
+        when(resource.getPath()).thenReturn(path);
+        when(resource.getName()).thenReturn(path.substring(path.lastIndexOf('/') + 1));
+        ModifiableValueMap values = new ModifiableValueMapDecorator(new HashMap<>(properties));
+        when(resource.adaptTo(ValueMap.class)).thenReturn(values);
+        when(resource.adaptTo(ModifiableValueMap.class)).thenReturn(values);
+        when(resource.getChild(anyString())).thenAnswer(i -> resources.get(path + "/" + i.getArgument(0, String.class)));
+        when(resource.listChildren()).thenAnswer(i -> getChildren(path).iterator());
+        resources.put(path, resource);
+        return resource;
+    }
+
+    /**
+     * Returns the direct children of the given path.
+     *
+     * @param path path
+     * @return children
+     */
+    private List<Resource> getChildren(String path) {
+        List<Resource> children = new ArrayList<>();
+        for (Map.Entry<String, Resource> entry : resources.entrySet()) {
+            String candidate = entry.getKey();
+            if (candidate.startsWith(path + "/") && (candidate.indexOf('/', path.length() + 1) < 0)) {
+                children.add(entry.getValue());
+            }
+        }
+        return children;
+    }
+
+}
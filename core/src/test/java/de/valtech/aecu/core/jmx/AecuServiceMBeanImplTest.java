@@ -19,6 +19,7 @@
 package de.valtech.aecu.core.jmx;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -44,6 +45,9 @@ import de.valtech.aecu.api.service.AecuException;
 import de.valtech.aecu.api.service.AecuService;
 import de.valtech.aecu.api.service.ExecutionResult;
 import de.valtech.aecu.api.service.HistoryEntry;
+import de.valtech.aecu.core.service.ProgressRegistry;
+import de.valtech.aecu.core.service.ScriptProgress;
+import de.valtech.aecu.core.service.StagedExecutionService;
 
 /**
  * Tests AecuServiceMBeanImpl
@@ -61,6 +65,12 @@ public class AecuServiceMBeanImplTest {
     @Mock
     private AecuService service;
 
+    @Mock
+    private StagedExecutionService stagedExecutionService;
+
+    @Mock
+    private ProgressRegistry progressRegistry;
+
     @InjectMocks
     private AecuServiceMBeanImpl bean;
 
@@ -77,6 +87,18 @@ public class AecuServiceMBeanImplTest {
         assertEquals("1", version);
     }
 
+    @Test
+    public void getProgress() {
+        when(progressRegistry.getRunning()).thenReturn(Arrays.asList(new ScriptProgress(FILE1)));
+
+        assertEquals(FILE1, bean.getProgress().split(":")[0]);
+    }
+
+    @Test
+    public void getProgress_noScripts() {
+        assertEquals("No running scripts", bean.getProgress());
+    }
+
     @Test
     public void getFiles() throws AecuException {
         List<String> files = bean.getFiles(PATH);
@@ -87,16 +109,31 @@ public class AecuServiceMBeanImplTest {
 
     @Test
     public void execute() throws AecuException {
+        HistoryEntry history = mock(HistoryEntry.class);
+        when(service.createHistoryEntry()).thenReturn(history);
+        List<String> stage = Arrays.asList(FILE1);
+        when(stagedExecutionService.getExecutionStages(Arrays.asList(FILE1))).thenReturn(Arrays.asList(stage));
         ExecutionResult result = mock(ExecutionResult.class);
-        when(service.execute(FILE1)).thenReturn(result);
+        when(stagedExecutionService.executeStage(stage, null, history)).thenReturn(Arrays.asList(result));
 
         bean.execute(PATH);
 
         verify(service, times(1)).getFiles(PATH);
         verify(service, times(1)).createHistoryEntry();
-        verify(service, times(1)).execute(FILE1);
-        verify(service, times(1)).execute(FILE1);
-        verify(service, times(1)).finishHistoryEntry(Mockito.any());
+        verify(stagedExecutionService, times(1)).executeStage(stage, null, history);
+        verify(service, times(1)).storeExecutionInHistory(history, result);
+        verify(service, times(1)).finishHistoryEntry(history);
+    }
+
+    @Test
+    public void execute_error() throws AecuException {
+        HistoryEntry history = mock(HistoryEntry.class);
+        when(service.createHistoryEntry()).thenReturn(history);
+        when(stagedExecutionService.getExecutionStages(Mockito.any())).thenThrow(new AecuException("cycle"));
+
+        assertThrows(AecuException.class, () -> bean.execute(PATH));
+
+        verify(service, times(1)).finishHistoryEntry(history);
     }
 
     @Test
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.metrics;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sling.commons.metrics.Counter;
+import org.apache.sling.commons.metrics.Meter;
+import org.apache.sling.commons.metrics.MetricsService;
+import org.apache.sling.commons.metrics.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import de.valtech.aecu.api.service.ExecutionState;
+
+/**
+ * Tests AecuMetrics
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class AecuMetricsTest {
+
+    @Mock
+    private MetricsService metricsService;
+
+    @Mock
+    private Counter counter;
+
+    @Mock
+    private Timer timer;
+
+    @Mock
+    private Meter meter;
+
+    private AecuMetrics metrics;
+
+    @BeforeEach
+    public void setup() {
+        metrics = new AecuMetrics(metricsService);
+    }
+
+    @Test
+    public void scriptExecuted() {
+        when(metricsService.counter("aecu.script.executions.success")).thenReturn(counter);
+        when(metricsService.timer(AecuMetrics.SCRIPT_DURATION)).thenReturn(timer);
+
+        metrics.scriptExecuted(ExecutionState.SUCCESS, 12);
+
+        verify(counter, times(1)).increment();
+        verify(timer, times(1)).update(12, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void scriptNotExecuted() {
+        when(metricsService.counter("aecu.script.executions.skipped")).thenReturn(counter);
+
+        metrics.scriptNotExecuted(ExecutionState.SKIPPED);
+
+        verify(counter, times(1)).increment();
+        verify(metricsService, times(0)).timer(AecuMetrics.SCRIPT_DURATION);
+    }
+
+    @Test
+    public void resourcesProcessed() {
+        when(metricsService.meter(AecuMetrics.RESOURCES_PROCESSED)).thenReturn(meter);
+
+        metrics.resourcesProcessed(3);
+
+        verify(meter, times(1)).mark(3);
+    }
+
+    @Test
+    public void committed() {
+        when(metricsService.timer(AecuMetrics.COMMIT_DURATION)).thenReturn(timer);
+
+        metrics.committed(5);
+
+        verify(timer, times(1)).update(5, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void replicated() {
+        when(metricsService.counter(AecuMetrics.REPLICATIONS)).thenReturn(counter);
+
+        metrics.replicated();
+
+        verify(counter, times(1)).increment();
+    }
+
+    @Test
+    public void history() {
+        Timer purgeTimer = mock(Timer.class);
+        when(metricsService.timer(AecuMetrics.HISTORY_READ_DURATION)).thenReturn(timer);
+        when(metricsService.timer(AecuMetrics.HISTORY_PURGE_DURATION)).thenReturn(purgeTimer);
+
+        metrics.historyRead(7);
+        metrics.historyPurged(9);
+
+        verify(timer, times(1)).update(7, TimeUnit.MILLISECONDS);
+        verify(purgeTimer, times(1)).update(9, TimeUnit.MILLISECONDS);
+    }
+
+}
@@ -20,12 +20,9 @@ package de.valtech.aecu.core.model.history;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
-import java.util.Arrays;
 import java.util.Date;
-import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.sling.api.resource.Resource;
@@ -39,10 +36,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
-import de.valtech.aecu.api.service.ExecutionResult;
-import de.valtech.aecu.api.service.HistoryEntry;
 import de.valtech.aecu.api.service.HistoryEntry.RESULT;
 import de.valtech.aecu.api.service.HistoryEntry.STATE;
+import de.valtech.aecu.api.service.HistorySummary;
 
 /**
  * Tests HistoryDataItem
@@ -62,7 +58,7 @@ public class HistoryDataItemTest {
     private ValueMap valuemap;
 
     @Mock
-    private HistoryEntry history;
+    private HistorySummary history;
 
     @InjectMocks
     private HistoryDataItem item;
@@ -70,7 +66,7 @@ public class HistoryDataItemTest {
     @BeforeEach
     public void setup() {
         when(resource.getValueMap()).thenReturn(valuemap);
-        when(valuemap.get(HistoryDataSource.ATTR_HISTORY, HistoryEntry.class)).thenReturn(history);
+        when(valuemap.get(HistoryDataSource.ATTR_HISTORY, HistorySummary.class)).thenReturn(history);
         when(history.getRepositoryPath()).thenReturn(PATH);
         item.setup();
     }
@@ -183,9 +179,7 @@ public class HistoryDataItemTest {
 
     @Test
     public void getScriptCount_nonNull() {
-        ExecutionResult result = mock(ExecutionResult.class);
-        List<ExecutionResult> results = Arrays.asList(result);
-        when(history.getSingleResults()).thenReturn(results);
+        when(history.getScriptCount()).thenReturn(1);
 
         int count = item.getScriptCount();
 
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * Tests AecuScriptContext
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class AecuScriptContextTest {
+
+    @Mock
+    private ResourceResolver resolver;
+
+    @Test
+    public void getPrintStream() {
+        AecuScriptContext context = new AecuScriptContext("script", resolver, null);
+
+        context.getPrintStream().print("output");
+
+        assertEquals("output", new String(context.getOutputStream().toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void getPrintStream_liveOutput() {
+        ByteArrayOutputStream liveOutput = new ByteArrayOutputStream();
+        AecuScriptContext context = new AecuScriptContext("script", resolver, null, liveOutput);
+
+        context.getPrintStream().println("output");
+
+        assertEquals("output\n", new String(liveOutput.toByteArray(), StandardCharsets.UTF_8).replace("\r", ""));
+        assertEquals("output\n", new String(context.getOutputStream().toByteArray(), StandardCharsets.UTF_8).replace("\r", ""));
+    }
+
+    @Test
+    public void getPrintStream_liveOutputFailing() {
+        OutputStream liveOutput = new OutputStream() {
+
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("closed");
+            }
+
+        };
+        AecuScriptContext context = new AecuScriptContext("script", resolver, null, liveOutput);
+
+        context.getPrintStream().print("output");
+        context.getPrintStream().print(" more");
+
+        assertEquals("output more", new String(context.getOutputStream().toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void close() throws IOException {
+        AecuScriptContext context = new AecuScriptContext("script", resolver);
+        Closeable closeable = mock(Closeable.class);
+        context.addCloseable(closeable);
+
+        context.close();
+        context.close();
+
+        verify(closeable, times(1)).close();
+    }
+
+    @Test
+    public void cancel() {
+        AecuScriptContext context = new AecuScriptContext("script", resolver);
+        assertFalse(context.isCancelled());
+
+        context.cancel();
+
+        assertTrue(context.isCancelled());
+    }
+
+    @Test
+    public void getResourceUsage() {
+        when(resolver.getResource("/content")).thenReturn(mock(Resource.class));
+        AecuScriptContext context = new AecuScriptContext("script", resolver);
+
+        context.getResourceResolver().getResource("/content");
+        context.wrapResolver(resolver).getResource("/content");
+
+        assertEquals(2, context.getResourceUsage().getNodesRead());
+    }
+
+}
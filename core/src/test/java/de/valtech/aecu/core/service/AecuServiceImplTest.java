@@ -20,10 +20,12 @@ package de.valtech.aecu.core.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -32,6 +34,8 @@ import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -42,6 +46,7 @@ import javax.jcr.Session;
 
 import org.apache.jackrabbit.JcrConstants;
 import org.apache.sling.api.resource.LoginException;
+import org.apache.sling.api.resource.PersistenceException;
 import org.apache.sling.api.resource.Resource;
 import org.apache.sling.api.resource.ResourceResolver;
 import org.apache.sling.api.resource.ValueMap;
@@ -50,6 +55,7 @@ import org.apache.sling.settings.SlingSettingsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -68,9 +74,13 @@ import de.valtech.aecu.api.service.AecuService;
 import de.valtech.aecu.api.service.ExecutionResult;
 import de.valtech.aecu.api.service.ExecutionState;
 import de.valtech.aecu.api.service.HistoryEntry;
+import de.valtech.aecu.api.service.HistorySummary;
 import de.valtech.aecu.api.service.HistoryEntry.STATE;
+import de.valtech.aecu.core.events.AecuEvents;
 import de.valtech.aecu.core.history.HistoryUtil;
+import de.valtech.aecu.core.history.TruncatedExecutionResult;
 import de.valtech.aecu.core.installhook.HookExecutionHistory;
+import de.valtech.aecu.core.metrics.AecuMetrics;
 import de.valtech.aecu.core.serviceuser.ServiceResourceResolverService;
 
 /**
@@ -105,6 +115,18 @@ public class AecuServiceImplTest {
     @Mock
     private HistoryUtil historyUtil;
 
+    @Mock
+    private AecuMetrics metrics;
+
+    @Mock
+    private ProgressRegistry progressRegistry;
+
+    @Mock
+    private AecuEvents events;
+
+    @Spy
+    private ScriptIndex scriptIndex = new ScriptIndex();
+
     @Mock
     private ScriptContext scriptContext = mock(ScriptContext.class);
 
@@ -174,6 +196,7 @@ public class AecuServiceImplTest {
     public void isValidScriptName_prechecks() {
         assertFalse(service.isValidScriptName("test.prechecks.groovy"));
         assertFalse(service.isValidScriptName("prechecks.groovy"));
+        assertFalse(service.isValidScriptName("prechecks.always.groovy"));
     }
 
     @Test
@@ -315,6 +338,23 @@ public class AecuServiceImplTest {
         assertEquals(1, entries.size());
     }
 
+    @Test
+    public void getHistorySummaries() throws AecuException {
+        when(historyUtil.getHistorySummaries(0, 1, resolver)).thenReturn(Arrays.asList(mock(HistorySummary.class)));
+
+        List<HistorySummary> summaries = service.getHistorySummaries(0, 1);
+
+        assertEquals(1, summaries.size());
+    }
+
+    @Test
+    public void getLastRun() throws AecuException {
+        HistorySummary summary = mock(HistorySummary.class);
+        when(historyUtil.getLastRun()).thenReturn(summary);
+
+        assertEquals(summary, service.getLastRun());
+    }
+
     @Test
     public void storeExecutionInHistory_invalid() throws AecuException {
         assertThrows(AecuException.class, () -> service.storeExecutionInHistory(null, null));
@@ -328,6 +368,7 @@ public class AecuServiceImplTest {
         service.storeExecutionInHistory(history, null);
 
         verify(historyUtil, times(1)).storeExecutionInHistory(history, null, resolver);
+        verify(events, times(1)).historyWritten(Mockito.any(), Mockito.isNull(), Mockito.anyLong());
     }
 
     @Test
@@ -347,6 +388,25 @@ public class AecuServiceImplTest {
         verify(historyUtil, times(1)).createHistoryEntry(resolver);
     }
 
+    @Test
+    public void createHistoryEntry_conflict() throws AecuException, PersistenceException {
+        doThrow(new PersistenceException("conflict")).doNothing().when(resolver).commit();
+
+        service.createHistoryEntry();
+
+        verify(historyUtil, times(2)).createHistoryEntry(resolver);
+        verify(resolver, times(1)).revert();
+        verify(resolver, times(1)).refresh();
+    }
+
+    @Test
+    public void createHistoryEntry_conflictPersists() throws AecuException, PersistenceException {
+        doThrow(new PersistenceException("conflict")).when(resolver).commit();
+
+        assertThrows(AecuException.class, () -> service.createHistoryEntry());
+        verify(historyUtil, times(AecuServiceImpl.HISTORY_CREATE_ATTEMPTS)).createHistoryEntry(resolver);
+    }
+
     @Test
     public void execute_invalidResource() throws AecuException {
         assertThrows(AecuException.class, () -> service.execute("invalid"));
@@ -377,13 +437,18 @@ public class AecuServiceImplTest {
         ExecutionResult result = service.execute(DIR + "/" + FILE1);
 
         assertEquals(ExecutionState.SUCCESS, result.getState());
+        verify(metrics, times(1)).scriptExecuted(Mockito.eq(ExecutionState.SUCCESS), Mockito.anyLong());
+        verify(events, times(1)).scriptExecuted(Mockito.eq(DIR + "/" + FILE1), Mockito.eq(ExecutionState.SUCCESS),
+                Mockito.anyLong(), Mockito.any());
+        verify(progressRegistry, times(1)).start(DIR + "/" + FILE1);
+        verify(progressRegistry, times(1)).finish(Mockito.any());
     }
 
     @Test
     public void executeWithInstallHookHistory() throws AecuException, LoginException {
         ExecutionResult result = mock(ExecutionResult.class);
         when(result.getState()).thenReturn(ExecutionState.SUCCESS);
-        doReturn(result).when(service).execute(DIR + "/" + FILE1, null);
+        doReturn(result).when(service).execute(Mockito.eq(DIR + "/" + FILE1), Mockito.isNull(), Mockito.any());
         when(resolverService.getAdminResourceResolver()).thenReturn(resolver);
         when(resolver.adaptTo(Session.class)).thenReturn(session);
         doReturn(Arrays.asList(DIR + "/" + FILE1)).when(service).getFiles(DIR);
@@ -397,8 +462,240 @@ public class AecuServiceImplTest {
         verify(resolverService, times(1)).getAdminResourceResolver();
         verify(service, times(1)).getFiles(DIR);
         verify(service, times(1)).createHistoryEntry();
-        verify(service, times(1)).execute(DIR + "/" + FILE1, null);
+        verify(service, times(1)).execute(Mockito.eq(DIR + "/" + FILE1), Mockito.isNull(), Mockito.any());
         verify(service, times(1)).finishHistoryEntry(Mockito.any());
     }
 
+    @Test
+    public void executeWithInstallHookHistory_error() throws AecuException, LoginException {
+        when(resolverService.getAdminResourceResolver()).thenReturn(resolver);
+        doThrow(new AecuException("error")).when(service).getFiles(DIR);
+        HistoryEntryImpl history = new HistoryEntryImpl();
+        history.setState(STATE.RUNNING);
+        when(historyUtil.createHistoryEntry(resolver)).thenReturn(history);
+
+        assertThrows(AecuException.class, () -> service.executeWithInstallHookHistory(DIR));
+
+        verify(service, times(1)).finishHistoryEntry(history);
+    }
+
+    @Test
+    public void storeExecutionInHistory_failedCommitsImmediately() throws AecuException {
+        setupPrechecksScripts(AecuServiceImpl.DIR_PRECHECKS_ALWAYS_SCRIPT);
+        when(resolver.isLive()).thenReturn(true);
+        when(resolver.hasChanges()).thenReturn(true);
+        HistoryEntryImpl history = new HistoryEntryImpl();
+        history.setState(STATE.RUNNING);
+        service.executeStage(Arrays.asList(DIR + "/a.groovy"), null, history);
+        ExecutionResult result = mock(ExecutionResult.class);
+        when(result.getState()).thenReturn(ExecutionState.FAILED);
+
+        service.storeExecutionInHistory(history, result);
+
+        verify(resolver, times(1)).commit();
+    }
+
+    @Test
+    public void finishHistoryEntry_traceDisabled() throws AecuException {
+        HistoryEntryImpl history = new HistoryEntryImpl();
+        history.setState(STATE.RUNNING);
+        service.storeExecutionInHistory(history, new ExecutionResult(ExecutionState.SUCCESS, null, null, null, null, FILE1));
+
+        service.finishHistoryEntry(history);
+
+        verify(historyUtil, never()).storeTrace(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void finishHistoryEntry_traceEnabled() throws AecuException {
+        ExecutionTraceConfiguration config = mock(ExecutionTraceConfiguration.class);
+        when(config.enabled()).thenReturn(true);
+        service.activate(config);
+        HistoryEntryImpl history = new HistoryEntryImpl();
+        history.setState(STATE.RUNNING);
+        service.storeExecutionInHistory(history, new ExecutionResult(ExecutionState.SUCCESS, null, null, null, null, FILE1));
+
+        service.finishHistoryEntry(history);
+
+        verify(historyUtil, times(1)).storeTrace(Mockito.eq(history), Mockito.anyString(), Mockito.any());
+    }
+
+    @Test
+    public void getExecutionStages() throws AecuException {
+        String parallelDir = DIR + "/parallel";
+        when(resolver.getResource(parallelDir + "/" + ParallelExecution.MARKER)).thenReturn(mock(Resource.class));
+        List<String> paths = Arrays.asList(DIR + "/a.groovy", DIR + "/b.groovy", parallelDir + "/c.groovy",
+                parallelDir + "/d.groovy", DIR + "/e.groovy");
+
+        List<List<String>> stages = service.getExecutionStages(paths);
+
+        assertEquals(4, stages.size());
+        assertEquals(Arrays.asList(DIR + "/a.groovy"), stages.get(0));
+        assertEquals(Arrays.asList(DIR + "/b.groovy"), stages.get(1));
+        assertEquals(Arrays.asList(parallelDir + "/c.groovy", parallelDir + "/d.groovy"), stages.get(2));
+        assertEquals(Arrays.asList(DIR + "/e.groovy"), stages.get(3));
+    }
+
+    @Test
+    public void executeStage_sequential() throws AecuException {
+        ExecutionResult result1 = mock(ExecutionResult.class);
+        ExecutionResult result2 = mock(ExecutionResult.class);
+        doReturn(result1).when(service).execute(DIR + "/a.groovy", null, null);
+        doReturn(result2).when(service).execute(DIR + "/b.groovy", null, null);
+
+        List<ExecutionResult> results = service.executeStage(Arrays.asList(DIR + "/a.groovy", DIR + "/b.groovy"), null, null);
+
+        assertEquals(Arrays.asList(result1, result2), results);
+    }
+
+    @Test
+    public void executeStage_parallel() throws AecuException {
+        when(resolver.getResource(DIR + "/" + ParallelExecution.MARKER)).thenReturn(mock(Resource.class));
+        ExecutionResult result1 = mock(ExecutionResult.class);
+        ExecutionResult result2 = mock(ExecutionResult.class);
+        doReturn(result1).when(service).execute(DIR + "/a.groovy", null, null);
+        doReturn(result2).when(service).execute(DIR + "/b.groovy", null, null);
+
+        List<ExecutionResult> results = service.executeStage(Arrays.asList(DIR + "/a.groovy", DIR + "/b.groovy"), null, null);
+
+        assertEquals(Arrays.asList(result1, result2), results);
+    }
+
+    @Test
+    public void executeStage_directoryPrechecksOncePerRun() throws AecuException {
+        setupPrechecksScripts(AecuServiceImpl.DIR_PRECHECKS_SCRIPT);
+        HistoryEntryImpl history = new HistoryEntryImpl();
+
+        service.executeStage(Arrays.asList(DIR + "/a.groovy", DIR + "/b.groovy"), null, history);
+        service.executeStage(Arrays.asList(DIR + "/c.groovy"), null, history);
+
+        verify(groovyConsoleService, times(4)).runScript(Mockito.any());
+    }
+
+    @Test
+    public void executeStage_reuseResolvers() throws AecuException, LoginException {
+        setupPrechecksScripts(AecuServiceImpl.DIR_PRECHECKS_ALWAYS_SCRIPT);
+        when(resolver.isLive()).thenReturn(true);
+        HistoryEntryImpl history = new HistoryEntryImpl();
+        history.setState(STATE.RUNNING);
+
+        List<ExecutionResult> results =
+                service.executeStage(Arrays.asList(DIR + "/a.groovy", DIR + "/b.groovy", DIR + "/c.groovy"), null, history);
+        for (ExecutionResult result : results) {
+            service.storeExecutionInHistory(history, result);
+        }
+        service.finishHistoryEntry(history);
+
+        verify(resolverService, times(1)).getContentMigratorResourceResolver();
+        verify(resolverService, times(1)).getServiceResourceResolver();
+        verify(resolver, times(3)).refresh();
+        verify(resolver, times(1)).commit();
+        verify(historyUtil, times(3)).storeExecutionInHistory(Mockito.eq(history), Mockito.any(), Mockito.eq(resolver));
+    }
+
+    @Test
+    public void executeStage_directoryPrechecksWithoutHistory() throws AecuException {
+        setupPrechecksScripts(AecuServiceImpl.DIR_PRECHECKS_SCRIPT);
+
+        service.executeStage(Arrays.asList(DIR + "/a.groovy", DIR + "/b.groovy", DIR + "/c.groovy"), null, null);
+
+        verify(groovyConsoleService, times(6)).runScript(Mockito.any());
+    }
+
+    @Test
+    public void executeStage_directoryPrechecksFailedWithLargeOutput() throws Exception {
+        setupPrechecksScripts(AecuServiceImpl.DIR_PRECHECKS_SCRIPT);
+        RunScriptResponse response = mock(RunScriptResponse.class);
+        when(response.getOutput()).thenReturn("");
+        when(response.getExceptionStackTrace()).thenReturn("error");
+        byte[] output = new byte[BoundedOutputStream.HEAD_SIZE + BoundedOutputStream.TAIL_SIZE + 1];
+        when(groovyConsoleService.runScript(Mockito.any())).thenAnswer(invocation -> {
+            ((AecuScriptContext) invocation.getArgument(0)).getOutputStream().write(output, 0, output.length);
+            return response;
+        });
+        HistoryEntryImpl history = new HistoryEntryImpl();
+        history.setState(STATE.RUNNING);
+
+        List<ExecutionResult> results = service.executeStage(Arrays.asList(DIR + "/a.groovy", DIR + "/b.groovy"), null, history);
+
+        Path fileA = ((TruncatedExecutionResult) results.get(0)).getFullOutputFile();
+        Path fileB = ((TruncatedExecutionResult) results.get(1)).getFullOutputFile();
+        try {
+            assertEquals(ExecutionState.SKIPPED, results.get(0).getState());
+            assertEquals(ExecutionState.SKIPPED, results.get(1).getState());
+            assertNotEquals(fileA, fileB);
+            // storing the first result in history deletes its file
+            Files.delete(fileA);
+            assertTrue(Files.exists(fileB));
+            verify(groovyConsoleService, times(1)).runScript(Mockito.any());
+        } finally {
+            Files.deleteIfExists(fileA);
+            Files.deleteIfExists(fileB);
+            service.finishHistoryEntry(history);
+        }
+    }
+
+    @Test
+    public void executeStage_directoryPrechecksAlways() throws AecuException {
+        setupPrechecksScripts(AecuServiceImpl.DIR_PRECHECKS_ALWAYS_SCRIPT);
+        HistoryEntryImpl history = new HistoryEntryImpl();
+
+        service.executeStage(Arrays.asList(DIR + "/a.groovy", DIR + "/b.groovy", DIR + "/c.groovy"), null, history);
+
+        verify(groovyConsoleService, times(6)).runScript(Mockito.any());
+    }
+
+    @Test
+    public void execute_interruptChecks() throws AecuException {
+        setupPrechecksScripts(AecuServiceImpl.DIR_PRECHECKS_ALWAYS_SCRIPT);
+        doReturn(null).when(service).getPrechecksScript(Mockito.any(), Mockito.anyString());
+        ArgumentCaptor<ScriptContext> context = ArgumentCaptor.forClass(ScriptContext.class);
+
+        service.execute(DIR + "/a.groovy");
+
+        verify(groovyConsoleService).runScript(context.capture());
+        assertTrue(context.getValue().getScript().contains("ConditionalInterrupt"));
+        assertTrue(context.getValue().getScript().endsWith("script"));
+    }
+
+    @Test
+    public void execute_cancelled() throws AecuException {
+        setupPrechecksScripts(AecuServiceImpl.DIR_PRECHECKS_ALWAYS_SCRIPT);
+        doReturn(null).when(service).getPrechecksScript(Mockito.any(), Mockito.anyString());
+        RunScriptResponse response = mock(RunScriptResponse.class);
+        when(response.getOutput()).thenReturn("");
+        when(response.getExceptionStackTrace()).thenReturn("java.lang.InterruptedException");
+        when(groovyConsoleService.runScript(Mockito.any())).thenAnswer(invocation -> {
+            assertEquals(1, service.cancel(DIR));
+            return response;
+        });
+
+        ExecutionResult result = service.execute(DIR + "/a.groovy");
+
+        assertEquals(ExecutionState.CANCELLED, result.getState());
+        verify(service, never()).getFallbackScript(Mockito.any(), Mockito.anyString());
+    }
+
+    @Test
+    public void cancel_notRunning() {
+        assertEquals(0, service.cancel(DIR));
+    }
+
+    /**
+     * Sets up the scripts a, b and c with the given directory level prechecks script.
+     *
+     * @param prechecksName name of prechecks script
+     * @throws AecuException error setting up scripts
+     */
+    private void setupPrechecksScripts(String prechecksName) throws AecuException {
+        for (String name : Arrays.asList("a.groovy", "b.groovy", "c.groovy", prechecksName)) {
+            Resource resource = mock(Resource.class);
+            when(resource.getName()).thenReturn(name);
+            when(resolver.getResource(DIR + "/" + name)).thenReturn(resource);
+        }
+        doReturn("script").when(service).loadScript(Mockito.anyString(), Mockito.any());
+        RunScriptResponse response = DefaultRunScriptResponse.fromResult(scriptContext, null, null, null);
+        when(groovyConsoleService.runScript(Mockito.any())).thenReturn(response);
+    }
+
 }
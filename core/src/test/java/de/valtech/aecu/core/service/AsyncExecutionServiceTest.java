@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+
+import org.apache.sling.api.resource.LoginException;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.event.jobs.Job;
+import org.apache.sling.event.jobs.JobManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import de.valtech.aecu.api.service.AecuException;
+import de.valtech.aecu.api.service.AecuService;
+import de.valtech.aecu.api.service.ExecutionResult;
+import de.valtech.aecu.api.service.ExecutionState;
+import de.valtech.aecu.api.service.HistoryEntry;
+import de.valtech.aecu.core.history.HistoryUtil;
+import de.valtech.aecu.core.service.ExecutionJobStatus.STATE;
+import de.valtech.aecu.core.serviceuser.ServiceResourceResolverService;
+
+/**
+ * Tests AsyncExecutionService
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class AsyncExecutionServiceTest {
+
+    private static final String PATH = "/conf/groovyconsole/scripts/aecu/dir";
+    private static final String HISTORY_PATH = "/var/aecu/2026/10/19/1";
+    private static final String JOB_ID = "job1";
+
+    @Mock
+    private JobManager jobManager;
+
+    @Mock
+    private AecuService aecuService;
+
+    @Mock
+    private HistoryUtil historyUtil;
+
+    @Mock
+    private ServiceResourceResolverService resolverService;
+
+    @Mock
+    private ResourceResolver resolver;
+
+    @Mock
+    private Resource historyResource;
+
+    @Mock
+    private HistoryEntry history;
+
+    @Mock
+    private Job job;
+
+    @InjectMocks
+    private AsyncExecutionService service;
+
+    @BeforeEach
+    public void setup() throws LoginException {
+        when(history.getRepositoryPath()).thenReturn(HISTORY_PATH);
+        when(resolverService.getServiceResourceResolver()).thenReturn(resolver);
+        when(resolver.getResource(HISTORY_PATH)).thenReturn(historyResource);
+        when(historyUtil.readHistoryEntry(historyResource)).thenReturn(history);
+        when(job.getId()).thenReturn(JOB_ID);
+        when(job.getTopic()).thenReturn(ExecutionJob.TOPIC);
+        when(job.getProperty(ExecutionJob.PROPERTY_HISTORY, String.class)).thenReturn(HISTORY_PATH);
+        when(job.getProperty(ExecutionJob.PROPERTY_PATH, String.class)).thenReturn(PATH);
+        when(jobManager.getJobById(JOB_ID)).thenReturn(job);
+    }
+
+    @Test
+    public void submit() throws AecuException {
+        when(aecuService.createHistoryEntry()).thenReturn(history);
+        when(jobManager.addJob(Mockito.eq(ExecutionJob.TOPIC), Mockito.anyMap())).thenReturn(job);
+
+        ExecutionJobStatus status = service.submit(PATH, null);
+
+        assertEquals(JOB_ID, status.getJobId());
+        assertEquals(STATE.QUEUED, status.getState());
+        assertEquals(HISTORY_PATH, status.getHistoryEntryPath());
+        verify(jobManager, times(1)).addJob(Mockito.eq(ExecutionJob.TOPIC),
+                Mockito.argThat(properties -> PATH.equals(properties.get(ExecutionJob.PROPERTY_PATH))
+                        && HISTORY_PATH.equals(properties.get(ExecutionJob.PROPERTY_HISTORY))
+                        && !properties.containsKey(ExecutionJob.PROPERTY_DATA)));
+    }
+
+    @Test
+    public void submit_invalidPath() throws AecuException {
+        when(aecuService.getFiles(PATH)).thenThrow(new AecuException("Path is invalid"));
+
+        assertThrows(AecuException.class, () -> service.submit(PATH, null));
+        verify(aecuService, never()).createHistoryEntry();
+    }
+
+    @Test
+    public void submit_noJob() throws AecuException {
+        when(aecuService.createHistoryEntry()).thenReturn(history);
+
+        assertThrows(AecuException.class, () -> service.submit(PATH, null));
+        verify(aecuService, times(1)).finishHistoryEntry(history);
+    }
+
+    @Test
+    public void getStatus() throws AecuException {
+        when(job.getJobState()).thenReturn(Job.JobState.ACTIVE);
+        when(job.getProgressStepCount()).thenReturn(3);
+        when(job.getFinishedProgressStep()).thenReturn(2);
+        when(job.getProgressLog()).thenReturn(new String[] {"a", "b"});
+        when(history.getSingleResults()).thenReturn(Arrays.asList(result(ExecutionState.SUCCESS), result(ExecutionState.FAILED),
+                result(ExecutionState.SUCCESS)));
+
+        ExecutionJobStatus status = service.getStatus(JOB_ID);
+
+        assertEquals(STATE.ACTIVE, status.getState());
+        assertEquals(HISTORY_PATH, status.getHistoryEntryPath());
+        assertEquals(3, status.getTotal());
+        assertEquals(2, status.getFinished());
+        assertEquals(Arrays.asList("a", "b"), status.getOutput());
+        assertEquals(Integer.valueOf(2), status.getCounters().get(ExecutionState.SUCCESS));
+        assertEquals(Integer.valueOf(1), status.getCounters().get(ExecutionState.FAILED));
+    }
+
+    @Test
+    public void getStatus_notFound() throws AecuException {
+        assertEquals(STATE.NOT_FOUND, service.getStatus("unknown").getState());
+
+        when(job.getTopic()).thenReturn("other/topic");
+        assertEquals(STATE.NOT_FOUND, service.getStatus(JOB_ID).getState());
+    }
+
+    @Test
+    public void cancel_queued() throws AecuException {
+        when(job.getJobState()).thenReturn(Job.JobState.QUEUED);
+        when(jobManager.removeJobById(JOB_ID)).thenReturn(true);
+
+        assertTrue(service.cancel(JOB_ID));
+
+        verify(aecuService, times(1)).finishHistoryEntry(history);
+        verify(jobManager, never()).stopJobById(JOB_ID);
+    }
+
+    @Test
+    public void cancel_active() throws AecuException {
+        when(job.getJobState()).thenReturn(Job.JobState.ACTIVE);
+
+        assertTrue(service.cancel(JOB_ID));
+
+        verify(jobManager, times(1)).stopJobById(JOB_ID);
+        verify(aecuService, times(1)).cancel(PATH);
+        verify(aecuService, never()).finishHistoryEntry(history);
+    }
+
+    @Test
+    public void cancel_notFound() throws AecuException {
+        assertFalse(service.cancel("unknown"));
+    }
+
+    private ExecutionResult result(ExecutionState state) {
+        return new ExecutionResult(state, null, null, null, null, PATH);
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests BoundedOutputStream
+ *
+ * @author agent
+ */
+public class BoundedOutputStreamTest {
+
+    @Test
+    public void write_small() throws IOException {
+        BoundedOutputStream out = new BoundedOutputStream(4, 4);
+
+        out.write("abc".getBytes(StandardCharsets.UTF_8));
+
+        assertFalse(out.isTruncated());
+        assertEquals("abc", out.toString(StandardCharsets.UTF_8.name()));
+        assertEquals(3, out.getTotalSize());
+        assertNull(out.getSpillFile());
+    }
+
+    @Test
+    public void write_headAndTail() throws IOException {
+        BoundedOutputStream out = new BoundedOutputStream(4, 4);
+
+        out.write("abcdefg".getBytes(StandardCharsets.UTF_8));
+
+        assertFalse(out.isTruncated());
+        assertEquals("abcdefg", out.toString(StandardCharsets.UTF_8.name()));
+        assertNull(out.getSpillFile());
+    }
+
+    @Test
+    public void write_truncated() throws IOException {
+        BoundedOutputStream out = new BoundedOutputStream(4, 4);
+
+        out.write("abcdef".getBytes(StandardCharsets.UTF_8));
+        for (byte b : "ghijkl".getBytes(StandardCharsets.UTF_8)) {
+            out.write(b);
+        }
+
+        assertTrue(out.isTruncated());
+        assertEquals(12, out.getTotalSize());
+        assertEquals("abcd" + BoundedOutputStream.getOmissionMarker(12) + "ijkl", out.toString(StandardCharsets.UTF_8.name()));
+        Path spillFile = out.getSpillFile();
+        assertNotNull(spillFile);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(spillFile))) {
+            assertEquals("abcdefghijkl", IOUtils.toString(in, StandardCharsets.UTF_8));
+        } finally {
+            Files.delete(spillFile);
+        }
+    }
+
+    @Test
+    public void write_noTail() throws IOException {
+        BoundedOutputStream out = new BoundedOutputStream(4, 0);
+
+        out.write("abcdef".getBytes(StandardCharsets.UTF_8));
+
+        assertTrue(out.isTruncated());
+        assertEquals("abcd" + BoundedOutputStream.getOmissionMarker(6), out.toString(StandardCharsets.UTF_8.name()));
+        Files.delete(out.getSpillFile());
+    }
+
+    @Test
+    public void reset() throws IOException {
+        BoundedOutputStream out = new BoundedOutputStream(2, 2);
+        out.write("abcdef".getBytes(StandardCharsets.UTF_8));
+
+        out.reset();
+
+        assertFalse(out.isTruncated());
+        assertEquals(0, out.size());
+        assertNull(out.getSpillFile());
+    }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.apache.sling.api.resource.ModifiableValueMap;
+import org.apache.sling.api.resource.PersistenceException;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import de.valtech.aecu.api.service.ResourceUsage;
+
+/**
+ * Tests CountingResourceResolver
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class CountingResourceResolverTest {
+
+    private static final String PATH = "/content/test";
+
+    @Mock
+    private ResourceResolver resolver;
+
+    @Mock
+    private Resource resource;
+
+    @Mock
+    private Resource child;
+
+    @Mock
+    private ModifiableValueMap values;
+
+    private ResourceUsageCounter counter = new ResourceUsageCounter();
+
+    private CountingResourceResolver countingResolver;
+
+    @BeforeEach
+    public void setup() {
+        when(resolver.getResource(PATH)).thenReturn(resource);
+        when(resource.getPath()).thenReturn(PATH);
+        when(resource.adaptTo(ModifiableValueMap.class)).thenReturn(values);
+        when(resolver.listChildren(Mockito.any())).thenAnswer(invocation -> Arrays.asList(child).iterator());
+        countingResolver = new CountingResourceResolver(resolver, counter);
+    }
+
+    @Test
+    public void getResource() {
+        Resource counted = countingResolver.getResource(PATH);
+
+        assertEquals(PATH, counted.getPath());
+        assertSame(countingResolver, counted.getResourceResolver());
+        assertNull(countingResolver.getResource("/invalid"));
+        assertEquals(1, counter.getUsage().getNodesRead());
+    }
+
+    @Test
+    public void listChildren() {
+        Resource counted = countingResolver.getResource(PATH);
+        Iterator<Resource> children = counted.listChildren();
+        while (children.hasNext()) {
+            assertSame(countingResolver, children.next().getResourceResolver());
+        }
+
+        assertEquals(2, counter.getUsage().getNodesRead());
+    }
+
+    @Test
+    public void findResources() {
+        when(resolver.findResources("query", "JCR-SQL2")).thenReturn(Arrays.asList(resource, child).iterator());
+
+        Iterator<Resource> results = countingResolver.findResources("query", "JCR-SQL2");
+        results.next();
+        results.next();
+
+        ResourceUsage usage = counter.getUsage();
+        assertEquals(1, usage.getQueries());
+        assertEquals(2, usage.getQueryResults());
+        assertEquals(2, usage.getNodesRead());
+    }
+
+    @Test
+    public void writeProperties() {
+        ModifiableValueMap counted = countingResolver.getResource(PATH).adaptTo(ModifiableValueMap.class);
+        counted.put("a", "b");
+        counted.remove("c");
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("d", "e");
+        properties.put("f", "g");
+        counted.putAll(properties);
+
+        verify(values).put("a", "b");
+        verify(values).remove("c");
+        assertEquals(4, counter.getUsage().getPropertiesWritten());
+    }
+
+    @Test
+    public void create() throws PersistenceException {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("a", "b");
+        when(resolver.create(resource, "name", properties)).thenReturn(child);
+
+        countingResolver.create(resource, "name", properties);
+
+        assertEquals(1, counter.getUsage().getPropertiesWritten());
+    }
+
+    @Test
+    public void commit() throws PersistenceException {
+        countingResolver.commit();
+        countingResolver.commit();
+
+        verify(resolver, Mockito.times(2)).commit();
+        assertEquals(2, counter.getUsage().getCommits());
+    }
+
+}
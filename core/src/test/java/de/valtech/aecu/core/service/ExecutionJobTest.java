@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.sling.api.resource.LoginException;
+import org.apache.sling.api.resource.PersistenceException;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.event.jobs.Job;
+import org.apache.sling.event.jobs.consumer.JobExecutionContext;
+import org.apache.sling.event.jobs.consumer.JobExecutionContext.ResultBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import de.valtech.aecu.api.service.AecuException;
+import de.valtech.aecu.api.service.AecuService;
+import de.valtech.aecu.api.service.ExecutionResult;
+import de.valtech.aecu.api.service.ExecutionState;
+import de.valtech.aecu.api.service.HistoryEntry;
+import de.valtech.aecu.core.history.HistoryUtil;
+import de.valtech.aecu.core.serviceuser.ServiceResourceResolverService;
+
+/**
+ * Tests ExecutionJob
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ExecutionJobTest {
+
+    private static final String PATH = "/conf/groovyconsole/scripts/aecu/dir";
+    private static final String SCRIPT1 = PATH + "/script1.groovy";
+    private static final String SCRIPT2 = PATH + "/script2.groovy";
+    private static final String HISTORY_PATH = "/var/aecu/2026/10/19/1";
+
+    @Mock
+    private AecuService aecuService;
+
+    @Mock
+    private StagedExecutionService stagedExecutionService;
+
+    @Mock
+    private HistoryUtil historyUtil;
+
+    @Mock
+    private ServiceResourceResolverService resolverService;
+
+    @Mock
+    private ResourceResolver resolver;
+
+    @Mock
+    private Resource historyResource;
+
+    @Mock
+    private HistoryEntry history;
+
+    @Mock
+    private Job job;
+
+    @Mock
+    private JobExecutionContext context;
+
+    @Mock
+    private ResultBuilder builder;
+
+    @InjectMocks
+    private ExecutionJob executionJob;
+
+    @BeforeEach
+    public void setup() throws LoginException, AecuException {
+        when(job.getProperty(ExecutionJob.PROPERTY_PATH, String.class)).thenReturn(PATH);
+        when(job.getProperty(ExecutionJob.PROPERTY_HISTORY, String.class)).thenReturn(HISTORY_PATH);
+        when(resolverService.getServiceResourceResolver()).thenReturn(resolver);
+        when(resolver.getResource(HISTORY_PATH)).thenReturn(historyResource);
+        when(historyUtil.readHistoryEntry(historyResource)).thenReturn(history);
+        when(history.getState()).thenReturn(HistoryEntry.STATE.RUNNING);
+        when(history.getRepositoryPath()).thenReturn(HISTORY_PATH);
+        List<String> files = Arrays.asList(SCRIPT1, SCRIPT2);
+        when(aecuService.getFiles(PATH)).thenReturn(files);
+        when(stagedExecutionService.getExecutionStages(files))
+                .thenReturn(Arrays.asList(Arrays.asList(SCRIPT1), Arrays.asList(SCRIPT2)));
+        when(context.result()).thenReturn(builder);
+        when(builder.message(Mockito.anyString())).thenReturn(builder);
+    }
+
+    @Test
+    public void process() throws AecuException, PersistenceException {
+        ExecutionResult result1 = new ExecutionResult(ExecutionState.SUCCESS, null, null, "output", null, SCRIPT1);
+        ExecutionResult result2 = new ExecutionResult(ExecutionState.FAILED, null, null, null, null, SCRIPT2);
+        when(stagedExecutionService.executeStage(Arrays.asList(SCRIPT1), null, history)).thenReturn(Arrays.asList(result1));
+        when(stagedExecutionService.executeStage(Arrays.asList(SCRIPT2), null, history)).thenReturn(Arrays.asList(result2));
+
+        executionJob.process(job, context);
+
+        InOrder order = Mockito.inOrder(historyUtil, resolver, stagedExecutionService);
+        order.verify(historyUtil).markJobStarted(historyResource);
+        order.verify(resolver).commit();
+        order.verify(stagedExecutionService).executeStage(Arrays.asList(SCRIPT1), null, history);
+        verify(context, times(1)).initProgress(2, -1);
+        verify(aecuService, times(1)).storeExecutionInHistory(history, result1);
+        verify(aecuService, times(1)).storeExecutionInHistory(history, result2);
+        verify(context, times(2)).incrementProgressCount(1);
+        verify(context, times(1)).log("{0}", SCRIPT1 + ": SUCCESS\noutput");
+        verify(aecuService, times(1)).finishHistoryEntry(history);
+        verify(builder, times(1)).succeeded();
+    }
+
+    @Test
+    public void process_stopped() throws AecuException {
+        ExecutionResult result1 = new ExecutionResult(ExecutionState.SUCCESS, null, null, null, null, SCRIPT1);
+        when(stagedExecutionService.executeStage(Arrays.asList(SCRIPT1), null, history)).thenReturn(Arrays.asList(result1));
+        when(context.isStopped()).thenReturn(false, true);
+
+        executionJob.process(job, context);
+
+        verify(stagedExecutionService, never()).executeStage(Arrays.asList(SCRIPT2), null, history);
+        verify(aecuService, times(1)).storeExecutionInHistory(Mockito.eq(history),
+                Mockito.argThat(result -> (result.getState() == ExecutionState.SKIPPED) && SCRIPT2.equals(result.getPath())));
+        verify(aecuService, times(1)).finishHistoryEntry(history);
+        verify(builder, times(1)).cancelled();
+    }
+
+    @Test
+    public void process_invalidHistory() throws AecuException {
+        when(resolver.getResource(HISTORY_PATH)).thenReturn(null);
+
+        executionJob.process(job, context);
+
+        verify(stagedExecutionService, never()).executeStage(Mockito.any(), Mockito.any(), Mockito.any());
+        verify(aecuService, never()).finishHistoryEntry(Mockito.any());
+        verify(builder, times(1)).cancelled();
+    }
+
+    @Test
+    public void process_restartedResultsNotCommitted() throws AecuException {
+        // results of the first run were not committed before the restart, only the marker is persisted
+        when(history.getSingleResults()).thenReturn(Collections.emptyList());
+        when(historyUtil.isJobStarted(historyResource)).thenReturn(true);
+
+        executionJob.process(job, context);
+
+        verify(stagedExecutionService, never()).executeStage(Mockito.any(), Mockito.any(), Mockito.any());
+        verify(aecuService, times(1)).finishHistoryEntry(history);
+        verify(builder, times(1)).cancelled();
+    }
+
+    @Test
+    public void process_restartedFinished() throws AecuException {
+        when(history.getState()).thenReturn(HistoryEntry.STATE.FINISHED);
+
+        executionJob.process(job, context);
+
+        verify(stagedExecutionService, never()).executeStage(Mockito.any(), Mockito.any(), Mockito.any());
+        verify(aecuService, never()).finishHistoryEntry(history);
+        verify(builder, times(1)).cancelled();
+    }
+
+    @Test
+    public void process_error() throws AecuException {
+        when(stagedExecutionService.executeStage(Arrays.asList(SCRIPT1), null, history)).thenThrow(new AecuException("error"));
+
+        executionJob.process(job, context);
+
+        verify(aecuService, times(1)).finishHistoryEntry(history);
+        verify(builder, times(1)).cancelled();
+    }
+
+}
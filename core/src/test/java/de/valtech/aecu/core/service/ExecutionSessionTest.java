@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.sling.api.resource.LoginException;
+import org.apache.sling.api.resource.PersistenceException;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import de.valtech.aecu.core.serviceuser.ServiceResourceResolverService;
+
+/**
+ * Tests ExecutionSession
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ExecutionSessionTest {
+
+    @Mock
+    private ServiceResourceResolverService resolverService;
+
+    @Mock
+    private ResourceResolver serviceResolver;
+
+    private ExecutionSession session;
+
+    @BeforeEach
+    public void setup() throws LoginException {
+        when(resolverService.getContentMigratorResourceResolver()).thenAnswer(invocation -> {
+            ResourceResolver resolver = mock(ResourceResolver.class);
+            when(resolver.isLive()).thenReturn(true);
+            return resolver;
+        });
+        when(resolverService.getServiceResourceResolver()).thenReturn(serviceResolver);
+        when(serviceResolver.isLive()).thenReturn(true);
+        session = new ExecutionSession(resolverService);
+    }
+
+    @Test
+    public void acquireMigratorResolver_reused() throws LoginException {
+        ResourceResolver resolver = session.acquireMigratorResolver();
+        when(resolver.hasChanges()).thenReturn(true);
+        session.releaseMigratorResolver(resolver);
+
+        assertSame(resolver, session.acquireMigratorResolver());
+        verify(resolver, times(1)).revert();
+        verify(resolver, times(1)).refresh();
+        verify(resolverService, times(1)).getContentMigratorResourceResolver();
+    }
+
+    @Test
+    public void acquireMigratorResolver_concurrent() throws LoginException {
+        ResourceResolver resolver1 = session.acquireMigratorResolver();
+        ResourceResolver resolver2 = session.acquireMigratorResolver();
+
+        assertNotSame(resolver1, resolver2);
+
+        session.releaseMigratorResolver(resolver1);
+        session.releaseMigratorResolver(resolver2);
+        session.close();
+
+        verify(resolver1, times(1)).close();
+        verify(resolver2, times(1)).close();
+    }
+
+    @Test
+    public void acquireMigratorResolver_closedResolver() throws LoginException {
+        ResourceResolver resolver = session.acquireMigratorResolver();
+        session.releaseMigratorResolver(resolver);
+        when(resolver.isLive()).thenReturn(false);
+
+        assertNotSame(resolver, session.acquireMigratorResolver());
+    }
+
+    @Test
+    public void historyChanged() throws LoginException, PersistenceException {
+        assertSame(serviceResolver, session.getServiceResolver());
+        when(serviceResolver.hasChanges()).thenReturn(true);
+
+        for (int i = 1; i < ExecutionSession.COMMIT_INTERVAL; i++) {
+            session.historyChanged();
+        }
+        verify(serviceResolver, never()).commit();
+
+        session.historyChanged();
+        verify(serviceResolver, times(1)).commit();
+    }
+
+    @Test
+    public void commitHistoryIfDue_notDue() throws LoginException, PersistenceException {
+        session.getServiceResolver();
+        when(serviceResolver.hasChanges()).thenReturn(true);
+        session.historyChanged();
+
+        session.commitHistoryIfDue();
+
+        verify(serviceResolver, never()).commit();
+    }
+
+    @Test
+    public void close() throws LoginException {
+        session.getServiceResolver();
+
+        session.close();
+
+        verify(serviceResolver, times(1)).close();
+    }
+
+}
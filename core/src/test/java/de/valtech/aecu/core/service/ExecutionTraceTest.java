@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Tests ExecutionTrace
+ *
+ * @author agent
+ */
+public class ExecutionTraceTest {
+
+    @Test
+    public void toJson() {
+        ExecutionTrace trace = new ExecutionTrace();
+        long start = ExecutionTrace.now();
+        trace.addSpan("run", ExecutionTrace.CATEGORY_SCRIPT, start, start + 5000000, "/script.groovy");
+        trace.addSpan("commit", ExecutionTrace.CATEGORY_CONTENT_UPGRADE, start);
+
+        JsonObject json = JsonParser.parseString(trace.toJson()).getAsJsonObject();
+        JsonArray events = json.getAsJsonArray("traceEvents");
+
+        // thread name + 2 spans
+        assertEquals(3, events.size());
+        JsonObject threadName = events.get(0).getAsJsonObject();
+        assertEquals("M", threadName.get("ph").getAsString());
+        assertEquals(Thread.currentThread().getName(), threadName.getAsJsonObject("args").get("name").getAsString());
+        JsonObject run = events.get(1).getAsJsonObject();
+        assertEquals("run", run.get("name").getAsString());
+        assertEquals("script", run.get("cat").getAsString());
+        assertEquals("X", run.get("ph").getAsString());
+        assertEquals(5000, run.get("dur").getAsLong());
+        assertEquals(Thread.currentThread().getId(), run.get("tid").getAsLong());
+        assertEquals("/script.groovy", run.getAsJsonObject("args").get("path").getAsString());
+        assertFalse(events.get(2).getAsJsonObject().has("args"));
+        assertEquals(0, json.getAsJsonObject("otherData").get("droppedSpans").getAsLong());
+    }
+
+    @Test
+    public void limit() {
+        ExecutionTrace trace = new ExecutionTrace(2);
+        for (int i = 0; i < 5; i++) {
+            trace.addSpan("span", ExecutionTrace.CATEGORY_SCRIPT, ExecutionTrace.now());
+        }
+
+        assertEquals(2, trace.size());
+        assertEquals(3, trace.getDropped());
+    }
+
+    @Test
+    public void limit_lifecycleReserve() {
+        ExecutionTrace trace = new ExecutionTrace(10);
+        for (int i = 0; i < 20; i++) {
+            trace.addSpan("batch", ExecutionTrace.CATEGORY_CONTENT_UPGRADE, ExecutionTrace.now());
+        }
+        trace.addSpan("history write", ExecutionTrace.CATEGORY_HISTORY, ExecutionTrace.now());
+
+        assertEquals(10, trace.size());
+        assertEquals(11, trace.getDropped());
+    }
+
+    @Test
+    public void addDetailSpan() {
+        ExecutionTrace trace = new ExecutionTrace();
+        ExecutionTrace detailedTrace = new ExecutionTrace(ExecutionTrace.MAX_SPANS, true);
+
+        trace.addDetailSpan("actions", ExecutionTrace.CATEGORY_CONTENT_UPGRADE, ExecutionTrace.now(), "/content");
+        detailedTrace.addDetailSpan("actions", ExecutionTrace.CATEGORY_CONTENT_UPGRADE, ExecutionTrace.now(), "/content");
+
+        assertTrue(trace.isEmpty());
+        assertEquals(1, detailedTrace.size());
+    }
+
+    @Test
+    public void none() {
+        ExecutionTrace.NONE.addSpan("span", ExecutionTrace.CATEGORY_SCRIPT, ExecutionTrace.now());
+
+        assertTrue(ExecutionTrace.NONE.isEmpty());
+    }
+
+    @Test
+    public void addAll() {
+        ExecutionTrace trace = new ExecutionTrace(3);
+        ExecutionTrace other = new ExecutionTrace(2);
+        trace.addSpan("first", ExecutionTrace.CATEGORY_SCRIPT, ExecutionTrace.now());
+        for (int i = 0; i < 3; i++) {
+            other.addSpan("other", ExecutionTrace.CATEGORY_SCRIPT, ExecutionTrace.now());
+        }
+
+        trace.addAll(other);
+        trace.addAll(trace);
+
+        assertEquals(3, trace.size());
+        assertEquals(1, trace.getDropped());
+        assertEquals(2, other.size());
+    }
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import de.valtech.aecu.api.service.AecuException;
+import de.valtech.aecu.api.service.ExecutionResult;
+import de.valtech.aecu.api.service.ExecutionState;
+
+/**
+ * Tests ParallelExecution
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ParallelExecutionTest {
+
+    private static final String DIR = "/conf/groovy/dir";
+    private static final String SCRIPT1 = DIR + "/script1.groovy";
+    private static final String SCRIPT2 = DIR + "/script2.groovy";
+    private static final String SCRIPT3 = DIR + "/script3.groovy";
+
+    @Mock
+    private ResourceResolver resolver;
+
+    @Mock
+    private Resource marker;
+
+    @Test
+    public void load_noMarker() throws AecuException {
+        assertNull(ParallelExecution.load(resolver, DIR));
+    }
+
+    @Test
+    public void load() throws AecuException {
+        when(resolver.getResource(DIR + "/" + ParallelExecution.MARKER)).thenReturn(marker);
+        InputStream stream = new ByteArrayInputStream("{\"threads\": 2}".getBytes(StandardCharsets.UTF_8));
+        when(marker.adaptTo(InputStream.class)).thenReturn(stream);
+
+        assertNotNull(ParallelExecution.load(resolver, DIR));
+    }
+
+    @Test
+    public void load_cycle() {
+        when(resolver.getResource(DIR + "/" + ParallelExecution.MARKER)).thenReturn(marker);
+        String json = "{\"dependencies\": {\"script1.groovy\": [\"script2.groovy\"], \"script2.groovy\": [\"script1.groovy\"]}}";
+        InputStream stream = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+        when(marker.adaptTo(InputStream.class)).thenReturn(stream);
+
+        assertThrows(AecuException.class, () -> ParallelExecution.load(resolver, DIR));
+    }
+
+    @Test
+    public void parse_empty() throws AecuException {
+        assertNotNull(ParallelExecution.parse(DIR, ""));
+        assertNotNull(ParallelExecution.parse(DIR, null));
+    }
+
+    @Test
+    public void parse_invalid() {
+        assertThrows(AecuException.class, () -> ParallelExecution.parse(DIR, "[1, 2]"));
+        assertThrows(AecuException.class, () -> ParallelExecution.parse(DIR, "{\"dependencies\": []}"));
+        assertThrows(AecuException.class, () -> ParallelExecution.parse(DIR, "{invalid"));
+    }
+
+    @Test
+    public void execute_order() {
+        ParallelExecution execution = new ParallelExecution(DIR, 3, Collections.emptyMap());
+
+        List<ExecutionResult> results = execution.execute(Arrays.asList(SCRIPT1, SCRIPT2, SCRIPT3), this::success);
+
+        assertEquals(3, results.size());
+        assertEquals(SCRIPT1, results.get(0).getPath());
+        assertEquals(SCRIPT2, results.get(1).getPath());
+        assertEquals(SCRIPT3, results.get(2).getPath());
+    }
+
+    @Test
+    public void execute_concurrent() throws InterruptedException {
+        ParallelExecution execution = new ParallelExecution(DIR, 2, Collections.emptyMap());
+        CountDownLatch latch = new CountDownLatch(2);
+
+        List<ExecutionResult> results = execution.execute(Arrays.asList(SCRIPT1, SCRIPT2), path -> {
+            latch.countDown();
+            try {
+                // both scripts must be running at the same time to pass the latch
+                if (!latch.await(10, TimeUnit.SECONDS)) {
+                    return failure(path);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return failure(path);
+            }
+            return success(path);
+        });
+
+        assertEquals(ExecutionState.SUCCESS, results.get(0).getState());
+        assertEquals(ExecutionState.SUCCESS, results.get(1).getState());
+    }
+
+    @Test
+    public void execute_dependencies() {
+        Map<String, List<String>> dependencies = new HashMap<>();
+        dependencies.put("script1.groovy", Arrays.asList("script2.groovy"));
+        dependencies.put("script2.groovy", Arrays.asList("script3.groovy"));
+        ParallelExecution execution = new ParallelExecution(DIR, 3, dependencies);
+        StringBuffer order = new StringBuffer();
+
+        execution.execute(Arrays.asList(SCRIPT1, SCRIPT2, SCRIPT3), path -> {
+            order.append(path).append(";");
+            return success(path);
+        });
+
+        assertEquals(SCRIPT3 + ";" + SCRIPT2 + ";" + SCRIPT1 + ";", order.toString());
+    }
+
+    @Test
+    public void execute_failedDependency() {
+        Map<String, List<String>> dependencies = new HashMap<>();
+        dependencies.put("script1.groovy", Arrays.asList("script2.groovy"));
+        ParallelExecution execution = new ParallelExecution(DIR, 3, dependencies);
+
+        List<ExecutionResult> results = execution.execute(Arrays.asList(SCRIPT1, SCRIPT2, SCRIPT3), path -> {
+            if (SCRIPT2.equals(path)) {
+                throw new AecuException("error");
+            }
+            return success(path);
+        });
+
+        assertEquals(ExecutionState.SKIPPED, results.get(0).getState());
+        assertTrue(results.get(0).getOutput().contains(SCRIPT2));
+        assertEquals(ExecutionState.FAILED, results.get(1).getState());
+        assertEquals("error", results.get(1).getOutput());
+        assertEquals(ExecutionState.SUCCESS, results.get(2).getState());
+    }
+
+    @Test
+    public void execute_missingDependency() {
+        Map<String, List<String>> dependencies = new HashMap<>();
+        dependencies.put("script1.groovy", Arrays.asList("other.groovy"));
+        ParallelExecution execution = new ParallelExecution(DIR, 3, dependencies);
+
+        List<ExecutionResult> results = execution.execute(Arrays.asList(SCRIPT1), this::success);
+
+        assertEquals(ExecutionState.SUCCESS, results.get(0).getState());
+    }
+
+    private ExecutionResult success(String path) {
+        return new ExecutionResult(ExecutionState.SUCCESS, null, null, null, null, path);
+    }
+
+    private ExecutionResult failure(String path) {
+        return new ExecutionResult(ExecutionState.FAILED, null, null, null, null, path);
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import de.valtech.aecu.api.service.AecuException;
+import de.valtech.aecu.api.service.ExecutionResult;
+import de.valtech.aecu.api.service.ExecutionState;
+import de.valtech.aecu.core.history.TruncatedExecutionResult;
+
+/**
+ * Tests PrechecksMemo
+ *
+ * @author agent
+ */
+public class PrechecksMemoTest {
+
+    private static final String PATH1 = "/conf/groovyconsole/scripts/aecu/dir1/prechecks.groovy";
+    private static final String PATH2 = "/conf/groovyconsole/scripts/aecu/dir2/prechecks.groovy";
+
+    private PrechecksMemo memo = new PrechecksMemo();
+
+    @Test
+    public void getResult() throws AecuException {
+        AtomicInteger runs = new AtomicInteger();
+        ParallelExecution.ScriptRunner runner = path -> {
+            runs.incrementAndGet();
+            return new ExecutionResult(ExecutionState.FAILED, null, null, null, null, path);
+        };
+
+        ExecutionResult result = memo.getResult(PATH1, runner);
+
+        assertSame(result, memo.getResult(PATH1, runner));
+        assertEquals(1, runs.get());
+        memo.getResult(PATH2, runner);
+        assertEquals(2, runs.get());
+        assertEquals(2, memo.size());
+    }
+
+    @Test
+    public void getResult_error() throws AecuException {
+        assertThrows(AecuException.class, () -> memo.getResult(PATH1, path -> {
+            throw new AecuException("error");
+        }));
+        assertEquals(0, memo.size());
+    }
+
+    @Test
+    public void getResult_retryAfterError() throws AecuException {
+        assertThrows(AecuException.class, () -> memo.getResult(PATH1, path -> {
+            throw new AecuException("error");
+        }));
+
+        ExecutionResult result = memo.getResult(PATH1, path -> new ExecutionResult(ExecutionState.SUCCESS, null, null,
+                null, null, path));
+
+        assertEquals(ExecutionState.SUCCESS, result.getState());
+    }
+
+    @Test
+    public void getResult_otherFolderNotBlocked() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<ExecutionResult> blocked = executor.submit(() -> memo.getResult(PATH1, path -> {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new ExecutionResult(ExecutionState.SUCCESS, null, null, null, null, path);
+            }));
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            ExecutionResult other = memo.getResult(PATH2, path -> new ExecutionResult(ExecutionState.FAILED, null, null,
+                    null, null, path));
+
+            assertEquals(ExecutionState.FAILED, other.getState());
+            assertFalse(blocked.isDone());
+            release.countDown();
+            assertEquals(ExecutionState.SUCCESS, blocked.get(10, TimeUnit.SECONDS).getState());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void close() throws AecuException, IOException {
+        Path file = Files.createTempFile("aecu-output-", ".gz");
+        memo.getResult(PATH1, path -> new TruncatedExecutionResult(ExecutionState.FAILED, null, null, null, null, path,
+                null, 100, file, null));
+
+        memo.close();
+
+        assertFalse(Files.exists(file));
+        assertEquals(0, memo.size());
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests ProgressRegistry
+ *
+ * @author agent
+ */
+public class ProgressRegistryTest {
+
+    @Test
+    public void startAndFinish() {
+        ProgressRegistry registry = new ProgressRegistry();
+
+        ScriptProgress first = registry.start("/first");
+        ScriptProgress second = registry.start("/second");
+        List<ScriptProgress> running = registry.getRunning();
+
+        assertEquals(2, running.size());
+        assertTrue(running.contains(first));
+        assertTrue(running.contains(second));
+
+        registry.finish(first);
+
+        assertEquals(1, registry.getRunning().size());
+        assertEquals(second, registry.getRunning().get(0));
+
+        registry.finish(second);
+
+        assertTrue(registry.getRunning().isEmpty());
+    }
+
+}
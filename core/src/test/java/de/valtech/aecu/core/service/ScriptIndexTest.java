@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.apache.jackrabbit.JcrConstants;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.api.resource.ValueMap;
+import org.apache.sling.api.resource.observation.ResourceChange;
+import org.apache.sling.api.resource.observation.ResourceChange.ChangeType;
+import org.apache.sling.jcr.resource.api.JcrResourceConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import de.valtech.aecu.core.service.ScriptIndex.ScriptFolder;
+
+/**
+ * Tests ScriptIndex
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ScriptIndexTest {
+
+    private static final String DIR = "/conf/groovyconsole/scripts/aecu/dir";
+    private static final String SUB_DIR = DIR + "/sub";
+    private static final String SCRIPT = DIR + "/script.groovy";
+
+    @Mock
+    private ResourceResolver resolver;
+
+    @Mock
+    private Resource folder;
+
+    @Mock
+    private Resource subFolder;
+
+    @Mock
+    private Resource script;
+
+    private ScriptIndex index = new ScriptIndex();
+
+    @BeforeEach
+    public void setup() {
+        setupResource(folder, DIR, JcrResourceConstants.NT_SLING_FOLDER);
+        setupResource(subFolder, SUB_DIR, JcrConstants.NT_FOLDER);
+        setupResource(script, SCRIPT, JcrConstants.NT_FILE);
+        when(folder.getChildren()).thenReturn(Arrays.asList(subFolder, script));
+        when(subFolder.getChildren()).thenReturn(Collections.emptyList());
+    }
+
+    private void setupResource(Resource resource, String path, String type) {
+        when(resolver.getResource(path)).thenReturn(resource);
+        when(resource.getName()).thenReturn(path.substring(path.lastIndexOf('/') + 1));
+        ValueMap values = mock(ValueMap.class);
+        when(values.get(JcrConstants.JCR_PRIMARYTYPE, String.class)).thenReturn(type);
+        when(resource.getValueMap()).thenReturn(values);
+    }
+
+    @Test
+    public void getFolder() {
+        ScriptFolder scriptFolder = index.getFolder(resolver, DIR);
+
+        assertEquals(DIR, scriptFolder.getPath());
+        assertEquals("dir", scriptFolder.getName());
+        assertEquals(Arrays.asList("script.groovy", "sub"), Arrays.asList(scriptFolder.getChildren().keySet().toArray()));
+        assertTrue(scriptFolder.getChildren().get("sub"));
+        assertFalse(scriptFolder.getChildren().get("script.groovy"));
+        assertSame(scriptFolder, index.getFolder(resolver, DIR));
+        verify(resolver, times(1)).getResource(DIR);
+    }
+
+    @Test
+    public void getFolder_noFolder() {
+        assertNull(index.getFolder(resolver, SCRIPT));
+        assertNull(index.getFolder(resolver, "/invalid"));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void exists() {
+        assertTrue(index.exists(resolver, SCRIPT));
+        assertFalse(index.exists(resolver, DIR + "/fallback.groovy"));
+        verify(resolver, never()).getResource(SCRIPT);
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void exists_addedAfterIndexing() {
+        index.getFolder(resolver, DIR);
+        // change event was not yet received
+        when(resolver.getResource(DIR + "/fallback.groovy")).thenReturn(mock(Resource.class));
+
+        assertTrue(index.exists(resolver, DIR + "/fallback.groovy"));
+
+        index.getFolder(resolver, DIR);
+        verify(resolver, times(2)).getResource(DIR);
+    }
+
+    @Test
+    public void exists_noParentFolder() {
+        when(resolver.getResource("/other/script.groovy")).thenReturn(script);
+
+        assertTrue(index.exists(resolver, "/other/script.groovy"));
+        assertFalse(index.exists(resolver, "/other/fallback.groovy"));
+    }
+
+    @Test
+    public void onChange_addedChild() {
+        index.getFolder(resolver, DIR);
+        index.getFolder(resolver, SUB_DIR);
+
+        index.onChange(Arrays.asList(new ResourceChange(ChangeType.ADDED, DIR + "/new.groovy", false)));
+
+        assertEquals(1, index.size());
+        assertNotNull(index.getFolder(resolver, SUB_DIR));
+        index.getFolder(resolver, DIR);
+        verify(resolver, times(2)).getResource(DIR);
+    }
+
+    @Test
+    public void onChange_removedFolder() {
+        index.getFolder(resolver, DIR);
+        index.getFolder(resolver, SUB_DIR);
+
+        index.onChange(Arrays.asList(new ResourceChange(ChangeType.REMOVED, DIR, false)));
+
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void onChange_scriptContent() {
+        index.getFolder(resolver, DIR);
+
+        index.onChange(
+                Arrays.asList(new ResourceChange(ChangeType.CHANGED, SCRIPT + "/" + JcrConstants.JCR_CONTENT, false)));
+
+        assertEquals(1, index.size());
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests ScriptInterrupts
+ *
+ * @author agent
+ */
+public class ScriptInterruptsTest {
+
+    private static final String SCRIPT = "println 'test'\nprintln 'line 2'";
+
+    @Test
+    public void decorate_null() {
+        assertNull(ScriptInterrupts.decorate(null, ScriptTimeouts.UNLIMITED));
+    }
+
+    @Test
+    public void decorate_noTimeout() {
+        String script = ScriptInterrupts.decorate(SCRIPT, ScriptTimeouts.UNLIMITED);
+
+        assertTrue(script.startsWith("@groovy.transform.ConditionalInterrupt("));
+        assertFalse(script.contains("TimedInterrupt"));
+        assertTrue(script.endsWith(SCRIPT));
+        assertEquals(SCRIPT.split("\n").length, script.split("\n").length);
+    }
+
+    @Test
+    public void decorate_timeout() {
+        String script = ScriptInterrupts.decorate(SCRIPT, 30);
+
+        assertTrue(script.contains("@groovy.transform.TimedInterrupt(value = 30L"));
+        assertTrue(script.endsWith(SCRIPT));
+        assertEquals(SCRIPT.split("\n").length, script.split("\n").length);
+    }
+
+    @Test
+    public void decorate_shebang() {
+        String script = ScriptInterrupts.decorate("#!/usr/bin/env groovy\n" + SCRIPT, ScriptTimeouts.UNLIMITED);
+
+        assertTrue(script.startsWith("#!/usr/bin/env groovy\n@groovy.transform.ConditionalInterrupt("));
+        assertTrue(script.endsWith(SCRIPT));
+    }
+
+    @Test
+    public void decorate_package() {
+        String source = "package test\n" + SCRIPT;
+
+        assertEquals(source, ScriptInterrupts.decorate(source, 30));
+    }
+
+}
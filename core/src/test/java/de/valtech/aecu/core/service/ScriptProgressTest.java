@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests ScriptProgress
+ *
+ * @author agent
+ */
+public class ScriptProgressTest {
+
+    private static final String SCRIPT = "/conf/groovyconsole/scripts/aecu/test.groovy";
+
+    @Test
+    public void initial() {
+        ScriptProgress progress = new ScriptProgress(SCRIPT, 1000);
+
+        assertEquals(SCRIPT, progress.getScript());
+        assertEquals(1000, progress.getStart());
+        assertEquals(1000, progress.getLastProgress());
+        assertNull(progress.getCurrentPath());
+        assertEquals(0, progress.getProcessed());
+        assertEquals(ScriptProgress.UNKNOWN, progress.getExpected());
+        assertEquals(ScriptProgress.UNKNOWN, progress.getEta(2000));
+        assertEquals(0, progress.getRate(1000), 0.001);
+        assertEquals(4000, progress.getIdleTime(5000));
+    }
+
+    @Test
+    public void resourceProcessed() {
+        ScriptProgress progress = new ScriptProgress(SCRIPT, 1000);
+
+        progress.resourceProcessed("/content/1", true);
+        progress.resourceProcessed("/content/2", false);
+
+        assertEquals("/content/2", progress.getCurrentPath());
+        assertEquals(2, progress.getProcessed());
+        assertEquals(1, progress.getMatched());
+        assertEquals(0, progress.getIdleTime(progress.getLastProgress()));
+    }
+
+    @Test
+    public void rateAndEta() {
+        ScriptProgress progress = new ScriptProgress(SCRIPT, 0);
+        progress.addExpected(10);
+        for (int i = 0; i < 4; i++) {
+            progress.resourceProcessed("/content/" + i, true);
+        }
+
+        assertEquals(10, progress.getExpected());
+        assertEquals(2, progress.getRate(2000), 0.001);
+        assertEquals(3000, progress.getEta(2000));
+    }
+
+    @Test
+    public void eta_expectedExceeded() {
+        ScriptProgress progress = new ScriptProgress(SCRIPT, 0);
+        progress.addExpected(1);
+        progress.resourceProcessed("/content/1", true);
+        progress.resourceProcessed("/content/2", true);
+
+        assertEquals(0, progress.getEta(1000));
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import de.valtech.aecu.api.service.AecuException;
+
+/**
+ * Tests ScriptTimeouts
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ScriptTimeoutsTest {
+
+    private static final String DIR = "/conf/groovy/dir";
+
+    @Mock
+    private ResourceResolver resolver;
+
+    @Mock
+    private Resource marker;
+
+    @Test
+    public void load_noMarker() throws AecuException {
+        assertNull(ScriptTimeouts.load(resolver, DIR));
+    }
+
+    @Test
+    public void load() throws AecuException {
+        when(resolver.getResource(DIR + "/" + ScriptTimeouts.MARKER)).thenReturn(marker);
+        InputStream stream = new ByteArrayInputStream("{\"timeout\": 60}".getBytes(StandardCharsets.UTF_8));
+        when(marker.adaptTo(InputStream.class)).thenReturn(stream);
+
+        ScriptTimeouts timeouts = ScriptTimeouts.load(resolver, DIR);
+
+        assertNotNull(timeouts);
+        assertEquals(60, timeouts.getTimeout("script.groovy"));
+    }
+
+    @Test
+    public void parse_empty() throws AecuException {
+        ScriptTimeouts timeouts = ScriptTimeouts.parse(DIR, "");
+
+        assertEquals(ScriptTimeouts.UNLIMITED, timeouts.getTimeout("script.groovy"));
+        assertEquals(ScriptTimeouts.UNLIMITED, timeouts.getFolderTimeout());
+    }
+
+    @Test
+    public void parse() throws AecuException {
+        String json = "{\"timeout\": 60, \"folderTimeout\": 600, \"scripts\": {\"long.groovy\": 300}}";
+
+        ScriptTimeouts timeouts = ScriptTimeouts.parse(DIR, json);
+
+        assertEquals(60, timeouts.getTimeout("script.groovy"));
+        assertEquals(300, timeouts.getTimeout("long.groovy"));
+        assertEquals(600, timeouts.getFolderTimeout());
+    }
+
+    @Test
+    public void parse_negative() throws AecuException {
+        ScriptTimeouts timeouts = ScriptTimeouts.parse(DIR, "{\"timeout\": -5}");
+
+        assertEquals(ScriptTimeouts.UNLIMITED, timeouts.getTimeout("script.groovy"));
+    }
+
+    @Test
+    public void parse_invalid() {
+        assertThrows(AecuException.class, () -> ScriptTimeouts.parse(DIR, "{\"timeout\": \"abc\"}"));
+        assertThrows(AecuException.class, () -> ScriptTimeouts.parse(DIR, "[1]"));
+    }
+
+}
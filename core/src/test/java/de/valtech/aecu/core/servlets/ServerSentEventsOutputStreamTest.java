@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.core.servlets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests ServerSentEventsOutputStream
+ *
+ * @author agent
+ */
+public class ServerSentEventsOutputStreamTest {
+
+    @Test
+    public void write() throws IOException {
+        StringWriter writer = new StringWriter();
+        ServerSentEventsOutputStream stream = new ServerSentEventsOutputStream(new PrintWriter(writer));
+
+        stream.write("line 1\r\nline \"2\"\n\u00e4".getBytes(StandardCharsets.UTF_8));
+        stream.flush();
+        assertEquals("event: output\ndata: \"line 1\"\n\nevent: output\ndata: \"line \\\"2\\\"\"\n\n", writer.toString());
+
+        stream.close();
+        assertEquals("event: output\ndata: \"line 1\"\n\nevent: output\ndata: \"line \\\"2\\\"\"\n\n"
+                + "event: output\ndata: \"\u00e4\"\n\n", writer.toString());
+    }
+
+    @Test
+    public void sendEvent() throws IOException {
+        StringWriter writer = new StringWriter();
+        ServerSentEventsOutputStream stream = new ServerSentEventsOutputStream(new PrintWriter(writer));
+
+        stream.sendEvent("result", "a\nb");
+
+        assertEquals("event: result\ndata: a\ndata: b\n\n", writer.toString());
+    }
+
+    @Test
+    public void sendEvent_disconnected() {
+        Writer failing = new Writer() {
+
+            @Override
+            public void write(char[] cbuf, int off, int len) throws IOException {
+                throw new IOException("closed");
+            }
+
+            @Override
+            public void flush() throws IOException {
+                throw new IOException("closed");
+            }
+
+            @Override
+            public void close() {
+                // nothing to close
+            }
+
+        };
+        ServerSentEventsOutputStream stream = new ServerSentEventsOutputStream(new PrintWriter(failing));
+
+        assertThrows(IOException.class, () -> stream.write('\n'));
+    }
+
+}
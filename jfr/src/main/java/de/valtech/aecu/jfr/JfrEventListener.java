@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.jfr;
+
+import java.util.concurrent.TimeUnit;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.metatype.annotations.Designate;
+
+import de.valtech.aecu.api.service.ExecutionState;
+import de.valtech.aecu.api.service.ResourceUsage;
+import de.valtech.aecu.core.events.AecuEventListener;
+
+/**
+ * Records AECU events in JDK Flight Recorder. The events are only created and committed if they
+ * are enabled in the running recording.
+ *
+ * @author agent
+ */
+@Component(service = AecuEventListener.class)
+@Designate(ocd = JfrEventListenerConfiguration.class)
+public class JfrEventListener implements AecuEventListener {
+
+    /**
+     * Category of all AECU events.
+     */
+    public static final String CATEGORY = "AECU";
+
+    protected static final long DEFAULT_SLOW_RESOURCE_THRESHOLD = 100;
+
+    private volatile long slowResourceThreshold = TimeUnit.MILLISECONDS.toNanos(DEFAULT_SLOW_RESOURCE_THRESHOLD);
+
+    /**
+     * Activates the listener.
+     *
+     * @param config configuration
+     */
+    @Activate
+    @Modified
+    public void activate(JfrEventListenerConfiguration config) {
+        slowResourceThreshold = TimeUnit.MILLISECONDS.toNanos(Math.max(0, config.slowResourceThreshold()));
+    }
+
+    @Override
+    public void scriptExecuted(String path, ExecutionState state, long duration, ResourceUsage usage) {
+        ScriptExecutionEvent event = new ScriptExecutionEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.script = path;
+        event.state = (state == null) ? null : state.name();
+        event.executionTime = duration;
+        if (usage != null) {
+            event.nodesRead = usage.getNodesRead();
+            event.propertiesWritten = usage.getPropertiesWritten();
+            event.queries = usage.getQueries();
+            event.queryResults = usage.getQueryResults();
+            event.commits = usage.getCommits();
+        }
+        event.commit();
+    }
+
+    @Override
+    public void batchCommitted(String script, long resources, long duration) {
+        BatchCommitEvent event = new BatchCommitEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.script = script;
+        event.resources = resources;
+        event.commitTime = duration;
+        event.commit();
+    }
+
+    @Override
+    public void resourceProcessed(String script, String path, long duration) {
+        if (duration < slowResourceThreshold) {
+            return;
+        }
+        SlowResourceEvent event = new SlowResourceEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.script = script;
+        event.path = path;
+        event.actionTime = duration;
+        event.commit();
+    }
+
+    @Override
+    public void replicated(String script, String path, String action, long duration) {
+        ReplicationEvent event = new ReplicationEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.script = script;
+        event.path = path;
+        event.action = action;
+        event.replicationTime = duration;
+        event.commit();
+    }
+
+    @Override
+    public void historyWritten(String history, String script, long duration) {
+        HistoryWriteEvent event = new HistoryWriteEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.history = history;
+        event.script = script;
+        event.writeTime = duration;
+        event.commit();
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A script was executed.
+ *
+ * @author agent
+ */
+@Name(ScriptExecutionEvent.NAME)
+@Label("Script Execution")
+@Description("AECU script was executed")
+@Category(JfrEventListener.CATEGORY)
+@StackTrace(false)
+public class ScriptExecutionEvent extends Event {
+
+    public static final String NAME = "de.valtech.aecu.ScriptExecution";
+
+    @Label("Script")
+    String script;
+
+    @Label("State")
+    String state;
+
+    @Label("Execution Time")
+    @Timespan(Timespan.MILLISECONDS)
+    long executionTime;
+
+    @Label("Nodes Read")
+    long nodesRead;
+
+    @Label("Properties Written")
+    long propertiesWritten;
+
+    @Label("Queries")
+    long queries;
+
+    @Label("Query Results")
+    long queryResults;
+
+    @Label("Commits")
+    long commits;
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 Valtech GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package de.valtech.aecu.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import de.valtech.aecu.api.service.ExecutionState;
+import de.valtech.aecu.api.service.ResourceUsage;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Tests JfrEventListener
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class JfrEventListenerTest {
+
+    private static final String SCRIPT = "/conf/groovyconsole/scripts/aecu/test.groovy";
+    private static final String PATH = "/content/test";
+
+    @Mock
+    private JfrEventListenerConfiguration config;
+
+    @Mock
+    private ResourceUsage usage;
+
+    private JfrEventListener listener;
+
+    private Recording recording;
+
+    @BeforeEach
+    public void setup() {
+        when(config.slowResourceThreshold()).thenReturn(10L);
+        when(usage.getNodesRead()).thenReturn(5L);
+        listener = new JfrEventListener();
+        listener.activate(config);
+        recording = new Recording();
+        recording.enable(ScriptExecutionEvent.NAME);
+        recording.enable(BatchCommitEvent.NAME);
+        recording.enable(SlowResourceEvent.NAME);
+        recording.enable(ReplicationEvent.NAME);
+        recording.enable(HistoryWriteEvent.NAME);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        recording.close();
+    }
+
+    @Test
+    public void events() throws IOException {
+        recording.start();
+        listener.scriptExecuted(SCRIPT, ExecutionState.SUCCESS, 100, usage);
+        listener.batchCommitted(SCRIPT, 1001, 5000);
+        listener.resourceProcessed(SCRIPT, PATH, TimeUnit.MILLISECONDS.toNanos(20));
+        listener.replicated(SCRIPT, PATH, "activate", 3000);
+        listener.historyWritten("/var/aecu/2026/1/1/1", SCRIPT, 2000);
+        List<RecordedEvent> events = stopAndRead();
+
+        assertEquals(5, events.size());
+        RecordedEvent execution = getEvent(events, ScriptExecutionEvent.NAME);
+        assertEquals(SCRIPT, execution.getString("script"));
+        assertEquals("SUCCESS", execution.getString("state"));
+        assertEquals(5, execution.getLong("nodesRead"));
+        assertEquals(1001, getEvent(events, BatchCommitEvent.NAME).getLong("resources"));
+        assertEquals(PATH, getEvent(events, SlowResourceEvent.NAME).getString("path"));
+        assertEquals("activate", getEvent(events, ReplicationEvent.NAME).getString("action"));
+        assertEquals(SCRIPT, getEvent(events, HistoryWriteEvent.NAME).getString("script"));
+    }
+
+    @Test
+    public void resourceProcessed_belowThreshold() throws IOException {
+        recording.start();
+        listener.resourceProcessed(SCRIPT, PATH, TimeUnit.MILLISECONDS.toNanos(5));
+        List<RecordedEvent> events = stopAndRead();
+
+        assertEquals(0, events.size());
+    }
+
+    @Test
+    public void disabled() throws IOException {
+        recording.disable(ScriptExecutionEvent.NAME);
+        recording.start();
+        listener.scriptExecuted(SCRIPT, ExecutionState.FAILED, 100, usage);
+        List<RecordedEvent> events = stopAndRead();
+
+        assertEquals(0, events.size());
+    }
+
+    /**
+     * Stops the recording and returns all AECU events.
+     *
+     * @return events
+     * @throws IOException error reading recording
+     */
+    private List<RecordedEvent> stopAndRead() throws IOException {
+        recording.stop();
+        Path file = Files.createTempFile("aecu", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().startsWith("de.valtech.aecu.")).collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private RecordedEvent getEvent(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).findFirst().orElse(null);
+    }
+
+}
@@ -27,6 +27,11 @@ AECU.Constants.Executor = {
     historyPath: "/apps/valtech/aecu/tools/history/details.html?entry={0}&aecuScriptPath={1}"
 }
 
+AECU.Constants.History = {
+    outputPath: "/bin/public/valtech/aecu/historyOutput.json?path={0}&offset={1}&length={2}",
+    outputPageSize: 65536
+}
+
 AECU.Constants.Executor.Status = {
     ready: {
         icon: "helpCircle",
@@ -48,6 +48,37 @@
         }
     };
 
+    /**
+     * Replaces the truncated output with the full output that is loaded page by page.
+     */
+    AECU.History.loadFullOutput = function (button) {
+        var container = $(button).closest('.aecu-full-output');
+        var output = container.prev('pre');
+        button.disabled = true;
+        output.text('');
+        AECU.History.loadOutputPage(output, button.dataset.aecuHistoryPath, 0, container);
+    };
+
+    /**
+     * Loads the next page of the full output.
+     */
+    AECU.History.loadOutputPage = function (output, path, offset, container) {
+        AECU.RequestHandler.GET({
+            url: AECU.Constants.History.outputPath.format(encodeURIComponent(path), offset, AECU.Constants.History.outputPageSize),
+            success: function (json) {
+                output.append(document.createTextNode(json.output));
+                if (json.complete) {
+                    container.remove();
+                } else {
+                    AECU.History.loadOutputPage(output, path, json.nextOffset, container);
+                }
+            },
+            error: function () {
+                container.find('span').text('Unable to load the full output.');
+            }
+        });
+    };
+
     /**
      * Initial actions
      */
@@ -55,6 +86,9 @@
       Coral.commons.ready(function () {
           AECU.History.selectAccordion();
       });
+      $(document).on('click', '.aecu-full-output-load', function () {
+          AECU.History.loadFullOutput(this);
+      });
     });
 
 })(window.jQuery, Granite.author, jQuery(document), this);
\ No newline at end of file